@@ -0,0 +1,217 @@
+package io.github.some_example_name;
+
+import java.util.Comparator;
+import java.util.function.LongSupplier;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * <code> AIScheduler </code> updates the game's agents, such as the dean and NPCs,
+ * within a time budget each frame, so adding agents lowers how often each one
+ * thinks instead of lowering the frame rate.
+ * <p>
+ * Every agent is registered with a priority and the rate it wants to be updated
+ * at. Each frame the agents that are due are updated one at a time until the
+ * budget is spent, and the rest are deferred to the next frame. Higher priorities
+ * always go first; within a priority, agents that are more overdue go first, and
+ * being near the camera counts as being more overdue, so agents on screen stay
+ * smooth while those far away still get their turn.
+ * <p>
+ * At least one agent is updated every frame, however small the budget. With
+ * {@link #UNLIMITED_BUDGET} every due agent is, so which agents are updated never
+ * depends on how fast the machine is.
+ */
+public class AIScheduler {
+	/** Rate for agents updated every frame, such as those reading input. */
+	public static final float EVERY_FRAME = 0f;
+	/** Priority of agents the player is interacting with or being chased by. */
+	public static final int PRIORITY_HIGH = 2;
+	/** Priority of ordinary agents. */
+	public static final int PRIORITY_NORMAL = 1;
+	/** Priority of agents whose updates are only cosmetic. */
+	public static final int PRIORITY_LOW = 0;
+	/** Budget for schedulers that update every due agent each frame, however long they take. */
+	public static final float UNLIMITED_BUDGET = Float.POSITIVE_INFINITY;
+	/** Distance in world units at which an agent's turn comes half as fast as one at the camera. */
+	public static final float NEAR_DISTANCE = 160f;
+
+	/**
+	 * Something updated by the scheduler.
+	 */
+	public interface Agent {
+		/**
+		 * Update the agent.
+		 * @param delta Time in seconds since this agent was last updated, which is
+		 * longer than a frame if it runs at a lower rate or was deferred.
+		 */
+		void update(float delta);
+	}
+
+	/**
+	 * An agent and its scheduling state.
+	 */
+	private static class Entry {
+		Agent agent;
+		Vector2 position;
+		int priority;
+		float period;
+		float lastUpdate;
+		float nextDue;
+		float urgency;
+	}
+
+	private static final Comparator<Entry> ORDER = new Comparator<Entry>() {
+		@Override
+		public int compare(Entry a, Entry b) {
+			if (a.priority != b.priority) {
+				return b.priority - a.priority;
+			}
+			return Float.compare(b.urgency, a.urgency);
+		}
+	};
+
+	private final long budgetNanos;
+	private final LongSupplier clock;
+	private final Array<Entry> entries = new Array<>(false, 16);
+	private final Array<Entry> due = new Array<>(false, 16);
+	private float time;
+	private int updatesRun;
+	private int updatesDeferred;
+	private float maxStaleness;
+
+	/**
+	 * Constructor for <code> AIScheduler </code>.
+	 * @param budgetMillis Time in milliseconds agent updates may take out of each frame.
+	 */
+	public AIScheduler(float budgetMillis) {
+		this(budgetMillis, System::nanoTime);
+	}
+
+	/**
+	 * Constructor for <code> AIScheduler </code> timing updates with a given clock.
+	 * @param budgetMillis Time in milliseconds agent updates may take out of each frame.
+	 * @param clock Clock in nanoseconds.
+	 */
+	AIScheduler(float budgetMillis, LongSupplier clock) {
+		this.budgetNanos = (long) (budgetMillis * 1000000L);
+		this.clock = clock;
+	}
+
+	/**
+	 * Register an agent, which is first updated on the next frame.
+	 * @param agent Agent to update.
+	 * @param position Position of agent in the world, read each frame to find its
+	 * distance from the camera.
+	 * @param priority Priority of agent, such as {@link #PRIORITY_NORMAL}.
+	 * @param rate Updates per second wanted, or {@link #EVERY_FRAME}.
+	 */
+	public void register(Agent agent, Vector2 position, int priority, float rate) {
+		Entry entry = new Entry();
+		entry.agent = agent;
+		entry.position = position;
+		entry.priority = priority;
+		entry.period = rate > 0 ? 1f / rate : 0f;
+		entry.lastUpdate = time;
+		entry.nextDue = time;
+		entries.add(entry);
+	}
+
+	/**
+	 * Stop updating an agent.
+	 * @param agent Agent to remove.
+	 */
+	public void unregister(Agent agent) {
+		Entry entry = find(agent);
+		if (entry != null) {
+			entries.removeValue(entry, true);
+		}
+	}
+
+	/**
+	 * Update as many due agents as fit in the budget. Call once per frame.
+	 * @param delta Time in seconds since the last frame.
+	 * @param cameraX Horizontal world position of the camera.
+	 * @param cameraY Vertical world position of the camera.
+	 */
+	public void update(float delta, float cameraX, float cameraY) {
+		time += delta;
+		due.clear();
+		for (int i = 0; i < entries.size; i++) {
+			Entry entry = entries.get(i);
+			if (time >= entry.nextDue) {
+				float distance = entry.position.dst(cameraX, cameraY);
+				entry.urgency = (time - entry.nextDue + delta) / (1f + distance / NEAR_DISTANCE);
+				due.add(entry);
+			}
+		}
+		due.sort(ORDER);
+
+		long start = clock.getAsLong();
+		updatesRun = 0;
+		for (int i = 0; i < due.size; i++) {
+			if (updatesRun > 0 && clock.getAsLong() - start >= budgetNanos) {
+				break;
+			}
+			Entry entry = due.get(i);
+			entry.agent.update(time - entry.lastUpdate);
+			entry.lastUpdate = time;
+			// keep to the agent's rate without bunching up updates after it was deferred
+			entry.nextDue = Math.max(entry.nextDue + entry.period, time);
+			updatesRun++;
+		}
+		updatesDeferred = due.size - updatesRun;
+
+		maxStaleness = 0;
+		for (int i = 0; i < entries.size; i++) {
+			maxStaleness = Math.max(maxStaleness, time - entries.get(i).lastUpdate);
+		}
+	}
+
+	/**
+	 * Return how many agents were updated last frame.
+	 * @return Number of updates.
+	 */
+	public int getUpdatesRun() { return updatesRun; }
+
+	/**
+	 * Return how many agents were due last frame but did not fit in the budget.
+	 * @return Number of deferred updates.
+	 */
+	public int getUpdatesDeferred() { return updatesDeferred; }
+
+	/**
+	 * Return the longest time any agent has gone without an update, as of the end
+	 * of last frame.
+	 * @return Time in seconds.
+	 */
+	public float getMaxStaleness() { return maxStaleness; }
+
+	/**
+	 * Return how long an agent has gone without an update, as of the end of last frame.
+	 * @param agent Registered agent.
+	 * @return Time in seconds, or 0 if the agent is not registered.
+	 */
+	public float getStaleness(Agent agent) {
+		Entry entry = find(agent);
+		return entry == null ? 0f : time - entry.lastUpdate;
+	}
+
+	/**
+	 * Return the number of registered agents.
+	 * @return Number of agents.
+	 */
+	public int getAgentCount() { return entries.size; }
+
+	/**
+	 * Helper method to find the entry of an agent.
+	 */
+	private Entry find(Agent agent) {
+		for (int i = 0; i < entries.size; i++) {
+			if (entries.get(i).agent == agent) {
+				return entries.get(i);
+			}
+		}
+		return null;
+	}
+}
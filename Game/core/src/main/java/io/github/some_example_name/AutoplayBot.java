@@ -0,0 +1,259 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * <code> AutoplayBot </code> plays a round on its own, by choosing the keys of
+ * each step of a <code> GameWorld </code>: optionally to the locker for its speed
+ * boost first, then to the ticket, then to the bus. It follows a
+ * <code> FlowField </code> to whatever it is heading for, and steers away from any
+ * chaser that comes close.
+ * <p>
+ * The bot only reads the world, and gives the same keys for the same world, so
+ * rounds it plays are as deterministic as rounds played from a recording. It can
+ * play a headless world as fast as the rules run with {@link #playRound(GameWorld)},
+ * or stand in for the keyboard of a <code> GameScreen </code> to soak the game
+ * with rendering.
+ * @see GameScreen#setAutoplay(AutoplayBot)
+ */
+public class AutoplayBot {
+	/** System property that lets the bot play the game on screen when "true". */
+	public static final String AUTOPLAY = "game.autoplay";
+	/** Distance from a chaser within which the bot steers away from it. */
+	public static final float DANGER_DISTANCE = 64f;
+
+	/** Distance from the locker's corner the player can search it from, inside the locker's reach of 50. */
+	private static final float LOCKER_REACH = 40f;
+	/** How much steering away from a chaser right next to the player outweighs heading for the goal. */
+	private static final float AVOID_WEIGHT = 2f;
+	/** Furthest ring of tiles searched for an open tile next to a goal on a blocked one. */
+	private static final int OPEN_TILE_SEARCH = 4;
+	/** Moves tried each step, as key bits, in the order ties are broken. */
+	private static final int[] MOVES = {
+		GameWorld.UP, GameWorld.DOWN, GameWorld.LEFT, GameWorld.RIGHT,
+		GameWorld.UP | GameWorld.LEFT, GameWorld.UP | GameWorld.RIGHT,
+		GameWorld.DOWN | GameWorld.LEFT, GameWorld.DOWN | GameWorld.RIGHT,
+	};
+
+	private final boolean useLocker;
+	private FlowField field;
+	private int goal = -1;
+	private final Vector2 waypoint = new Vector2();
+	private final Vector2 desired = new Vector2();
+	private final Vector2 probe = new Vector2();
+	private boolean tapped;
+	private boolean skipLocker;
+
+	/**
+	 * Constructor for <code> AutoplayBot </code>.
+	 * @param useLocker True to search the locker for its speed boost before going for the ticket.
+	 */
+	public AutoplayBot(boolean useLocker) {
+		this.useLocker = useLocker;
+	}
+
+	/**
+	 * Choose the keys to hold on the world's next step.
+	 * @param world World being played, after its last step.
+	 * @return Key bits, such as <code> GameWorld.UP | GameWorld.LEFT </code>.
+	 */
+	public int nextKeys(GameWorld world) {
+		if (world.getOutcome() != GameWorld.PLAYING) {
+			return 0;
+		}
+		if (world.isPaused()) {
+			return tap(GameWorld.PAUSE);
+		}
+		if (field == null || field.getGrid() != world.getCollisionGrid()) {
+			field = new FlowField(world.getCollisionGrid());
+			goal = -1;
+		}
+
+		Vector2 position = world.getPlayer().getPosition();
+		Locker locker = world.getLocker();
+		BusTicket ticket = world.getBusTicket();
+		float goalX;
+		float goalY;
+		if (useLocker && !skipLocker && !locker.isSearched()) {
+			if (position.dst(locker.getPosition()) < LOCKER_REACH) {
+				return tap(GameWorld.INTERACT);
+			}
+			goalX = locker.getPosition().x;
+			goalY = locker.getPosition().y;
+		} else if (ticket != null && !ticket.isCollected()) {
+			if (world.canPickUpTicket()) {
+				return tap(GameWorld.INTERACT);
+			}
+			goalX = ticket.getPosition().x;
+			goalY = ticket.getPosition().y;
+		} else if (world.canEndGame()) {
+			return tap(GameWorld.INTERACT);
+		} else if (ticket != null && world.getBusArea() != null) {
+			Rectangle bus = world.getBusArea();
+			goalX = bus.x + bus.width / 2 - 8;
+			goalY = bus.y + bus.height / 2 - 8;
+		} else {
+			// nothing to head for, so just keep away from the chasers
+			goalX = position.x;
+			goalY = position.y;
+		}
+		tapped = false;
+
+		if (!headFor(world, goalX, goalY)) {
+			if (useLocker && !skipLocker && !locker.isSearched()) {
+				// the locker cannot be reached on this map, so go without the boost
+				skipLocker = true;
+			}
+			desired.setZero();
+		}
+		avoidChasers(world);
+		return bestMove(world);
+	}
+
+	/**
+	 * Play a world until its round ends.
+	 * @param world World to play, usually just made or reset.
+	 * @return How the round ended, {@link GameWorld#WON} or {@link GameWorld#LOST}.
+	 */
+	public int playRound(GameWorld world) {
+		while (world.getOutcome() == GameWorld.PLAYING) {
+			world.step(nextKeys(world));
+		}
+		return world.getOutcome();
+	}
+
+	/**
+	 * Forget what was being headed for, to play a new round.
+	 */
+	public void reset() {
+		goal = -1;
+		tapped = false;
+		skipLocker = false;
+	}
+
+	/**
+	 * Helper method to press a key on every other step, so each press is seen as a new one.
+	 * @param key Key bit to tap.
+	 * @return Keys to hold this step.
+	 */
+	private int tap(int key) {
+		tapped = !tapped;
+		return tapped ? key : 0;
+	}
+
+	/**
+	 * Helper method to point the desired direction along the flow field to a goal.
+	 * @param world World being played.
+	 * @param goalX Horizontal world position to reach, as the corner of a 16x16 entity.
+	 * @param goalY Vertical world position to reach, as the corner of a 16x16 entity.
+	 * @return False if the goal cannot be reached from where the player is.
+	 */
+	private boolean headFor(GameWorld world, float goalX, float goalY) {
+		CollisionGrid grid = world.getCollisionGrid();
+		int tile = openTileNear(grid,
+			(int) Math.floor((goalX + 8) / grid.getTileWidth()),
+			(int) Math.floor((goalY + 8) / grid.getTileHeight()));
+		if (tile < 0) {
+			return false;
+		}
+		if (tile != goal) {
+			goal = tile;
+			field.setGoal(tile % grid.getWidth(), tile / grid.getWidth());
+		}
+
+		Vector2 position = world.getPlayer().getPosition();
+		if (field.getNextWaypoint(position.x, position.y, waypoint)) {
+			desired.set(waypoint).sub(position);
+		} else {
+			int tileX = (int) Math.floor((position.x + 8) / grid.getTileWidth());
+			int tileY = (int) Math.floor((position.y + 8) / grid.getTileHeight());
+			if (field.getDistance(tileX, tileY) != 0) {
+				return false;
+			}
+			// on the goal's tile, so close the last few units straight
+			desired.set(goalX, goalY).sub(position);
+		}
+		desired.nor();
+		return true;
+	}
+
+	/**
+	 * Helper method to find the nearest tile to a goal the player can stand on,
+	 * for goals such as the locker that sit against a wall.
+	 * @param grid Collision grid of the map.
+	 * @param tileX Horizontal tile index of goal.
+	 * @param tileY Vertical tile index of goal.
+	 * @return Index of open tile, <code> tileY * width + tileX </code>, or -1 if there is none nearby.
+	 */
+	private static int openTileNear(CollisionGrid grid, int tileX, int tileY) {
+		for (int ring = 0; ring <= OPEN_TILE_SEARCH; ring++) {
+			for (int dy = -ring; dy <= ring; dy++) {
+				for (int dx = -ring; dx <= ring; dx++) {
+					if (Math.max(Math.abs(dx), Math.abs(dy)) != ring) {
+						continue;
+					}
+					int x = tileX + dx;
+					int y = tileY + dy;
+					if (grid.inBounds(x, y) && !grid.isBlocked(x, y)) {
+						return y * grid.getWidth() + x;
+					}
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Helper method to add steering away from every chaser in danger distance to
+	 * the desired direction, more the closer the chaser is.
+	 * @param world World being played.
+	 */
+	private void avoidChasers(GameWorld world) {
+		Vector2 position = world.getPlayer().getPosition();
+		ImmutableArray<Entity> chasers = world.getChasers();
+		for (int i = 0; i < chasers.size(); i++) {
+			Vector2 chaser = chasers.get(i).getComponent(PositionComponent.class).position;
+			float dx = position.x - chaser.x;
+			float dy = position.y - chaser.y;
+			float distance = (float) Math.sqrt(dx * dx + dy * dy);
+			if (distance > 0 && distance < DANGER_DISTANCE) {
+				float weight = AVOID_WEIGHT * (DANGER_DISTANCE - distance) / DANGER_DISTANCE / distance;
+				desired.add(dx * weight, dy * weight);
+			}
+		}
+	}
+
+	/**
+	 * Helper method to choose the move that goes furthest in the desired
+	 * direction, trying each through {@link MoveResolver#CHARACTER} as the world
+	 * would, so a move sliding along a wall is scored by how far it really goes.
+	 * @param world World being played.
+	 * @return Key bits of move, or 0 to stand still.
+	 */
+	private int bestMove(GameWorld world) {
+		if (desired.isZero(0.01f)) {
+			return 0;
+		}
+		Vector2 position = world.getPlayer().getPosition();
+		float speed = world.getLocker().isBoostActive() ? world.getRules().boostSpeed : 1f;
+		int best = 0;
+		float bestScore = 0;
+		for (int move : MOVES) {
+			float dx = ((move & GameWorld.RIGHT) != 0 ? 1 : 0) - ((move & GameWorld.LEFT) != 0 ? 1 : 0);
+			float dy = ((move & GameWorld.UP) != 0 ? 1 : 0) - ((move & GameWorld.DOWN) != 0 ? 1 : 0);
+			float length = (float) Math.sqrt(dx * dx + dy * dy);
+			dx /= length;
+			dy /= length;
+			MoveResolver.CHARACTER.move(world.getCollisionGrid(), probe.set(position), dx * speed, dy * speed);
+			float score = (probe.x - position.x) * desired.x + (probe.y - position.y) * desired.y;
+			if (score > bestScore) {
+				best = move;
+				bestScore = score;
+			}
+		}
+		return best;
+	}
+}
@@ -0,0 +1,338 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * <code> BalanceHarness </code> plays many rounds of a map headless with different
+ * <code> GameRules </code>, across every core of a <code> ForkJoinPool </code>,
+ * and reports how each set of rules plays: the win rate, the spread of scores and
+ * how often the player is caught.
+ * <p>
+ * Rounds are played by an <code> AutoplayBot </code> that wanders off with random
+ * keys now and then, as a player might, so rounds differ from each other. Each
+ * round's randomness is seeded from its number alone, and rounds are split into
+ * tasks that each play in a world of their own and return their own
+ * {@link Result}, which are merged into new ones. No task writes anything another
+ * can see, so the results of a sweep are the same on every run, however many
+ * threads play it.
+ * <p>
+ * The map's collision grid and event areas are only read, and are shared by
+ * every task.
+ * @see GameRules
+ */
+public class BalanceHarness {
+	/** Width of the score histogram's buckets. */
+	public static final int SCORE_BUCKET = 10;
+	/** Number of buckets of the score histogram, covering every score a 5 minute round can give. */
+	public static final int SCORE_BUCKETS = 500 / SCORE_BUCKET + 1;
+	/** Number of buckets of the catch histogram; the last counts every round caught that often or more. */
+	public static final int CAUGHT_BUCKETS = 16;
+
+	/** Rounds a task plays itself rather than splitting. */
+	private static final int ROUNDS_PER_TASK = 8;
+	/** Steps between the bot choosing to follow its plan or wander. */
+	private static final int WANDER_STEPS = 30;
+
+	private final CollisionGrid grid;
+	private final Rectangle ticket;
+	private final Rectangle bus;
+	private final ForkJoinPool pool;
+	private final float wander;
+
+	/**
+	 * Constructor for <code> BalanceHarness </code>.
+	 * @param grid Collision grid of the map, which must not be changed while rounds are played.
+	 * @param ticket Where the ticket lies, or null for none.
+	 * @param bus Area the player wins in, or null for none.
+	 * @param pool Pool to play rounds on, such as <code> ForkJoinPool.commonPool() </code>.
+	 * @param wander Chance, from 0 to 1, that the bot presses random keys for a
+	 * moment rather than following its plan. At 0 every round plays the same.
+	 */
+	public BalanceHarness(CollisionGrid grid, Rectangle ticket, Rectangle bus, ForkJoinPool pool, float wander) {
+		this.grid = grid;
+		this.ticket = ticket;
+		this.bus = bus;
+		this.pool = pool;
+		this.wander = wander;
+	}
+
+	/**
+	 * Play rounds by one set of rules.
+	 * @param rules Rules to play by.
+	 * @param rounds Number of rounds to play.
+	 * @param seed Seed of the rounds' randomness.
+	 * @return Results of every round.
+	 */
+	public Result run(GameRules rules, int rounds, long seed) {
+		return pool.invoke(new Rounds(rules, seed, 0, rounds));
+	}
+
+	/**
+	 * Play rounds by every set of rules, all at once on the pool.
+	 * @param sweep Rules to play by.
+	 * @param rounds Number of rounds to play by each.
+	 * @param seed Seed of the rounds' randomness, the same for every set of rules.
+	 * @return Results, in the order of the rules.
+	 */
+	public Array<Result> sweep(Array<GameRules> sweep, int rounds, long seed) {
+		return pool.invoke(new RecursiveTask<Array<Result>>() {
+			@Override
+			protected Array<Result> compute() {
+				Array<Rounds> tasks = new Array<>(sweep.size);
+				for (GameRules rules : sweep) {
+					tasks.add(new Rounds(rules, seed, 0, rounds));
+				}
+				invokeAll(tasks.toArray(Rounds.class));
+				Array<Result> results = new Array<>(sweep.size);
+				for (Rounds task : tasks) {
+					results.add(task.join());
+				}
+				return results;
+			}
+		});
+	}
+
+	/**
+	 * Make every combination of the given values, on top of the default rules.
+	 * @param deanSpeeds Dean speeds to try.
+	 * @param boostSeconds Lengths of the locker's boost to try.
+	 * @param respawns Positions to send the dean to after catching the player, as {x, y} pairs.
+	 * @param penalties Penalties for being caught to try.
+	 * @return Rules for every combination, varying the penalty fastest.
+	 */
+	public static Array<GameRules> combinations(float[] deanSpeeds, float[] boostSeconds, float[][] respawns,
+		int[] penalties) {
+		Array<GameRules> sweep = new Array<>();
+		for (float deanSpeed : deanSpeeds) {
+			for (float boost : boostSeconds) {
+				for (float[] respawn : respawns) {
+					for (int penalty : penalties) {
+						sweep.add(new GameRules(deanSpeed, boost, GameRules.DEFAULT.boostSpeed, respawn[0], respawn[1], penalty));
+					}
+				}
+			}
+		}
+		return sweep;
+	}
+
+	/**
+	 * Helper method to play a range of rounds in a world of their own.
+	 * @param rules Rules to play by.
+	 * @param seed Seed of the rounds' randomness.
+	 * @param from Number of first round.
+	 * @param to Number after last round.
+	 * @return Results of the rounds.
+	 */
+	private Result play(GameRules rules, long seed, int from, int to) {
+		GameWorld world = GameWorld.headless(grid, ticket, bus);
+		world.setRules(rules);
+		AutoplayBot bot = new AutoplayBot(true);
+		Result result = new Result(rules);
+		for (int round = from; round < to; round++) {
+			world.reset();
+			bot.reset();
+			Random random = new Random(seed * 31 + round);
+			int keys = 0;
+			boolean wandering = false;
+			while (world.getOutcome() == GameWorld.PLAYING) {
+				if (world.getSteps() % WANDER_STEPS == 0) {
+					wandering = random.nextFloat() < wander;
+					keys = random.nextInt(GameWorld.INTERACT << 1);
+				}
+				world.step(wandering ? keys : bot.nextKeys(world));
+			}
+			result.add(world);
+		}
+		return result;
+	}
+
+	/**
+	 * Task playing a range of rounds, splitting it in half until it is small.
+	 */
+	@SuppressWarnings("serial")
+	private final class Rounds extends RecursiveTask<Result> {
+		private final GameRules rules;
+		private final long seed;
+		private final int from;
+		private final int to;
+
+		Rounds(GameRules rules, long seed, int from, int to) {
+			this.rules = rules;
+			this.seed = seed;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Result compute() {
+			if (to - from <= ROUNDS_PER_TASK) {
+				return play(rules, seed, from, to);
+			}
+			int middle = (from + to) >>> 1;
+			Rounds left = new Rounds(rules, seed, from, middle);
+			left.fork();
+			Result right = new Rounds(rules, seed, middle, to).compute();
+			return left.join().merge(right);
+		}
+	}
+
+	/**
+	 * <code> Result </code> counts how rounds played by one set of rules went.
+	 * Results are only added to by the task that made them, and merging two makes
+	 * a new one.
+	 */
+	public static final class Result {
+		private final GameRules rules;
+		private int rounds;
+		private int wins;
+		private long steps;
+		private long timesCaught;
+		private final int[] scores = new int[SCORE_BUCKETS];
+		private final int[] caught = new int[CAUGHT_BUCKETS];
+
+		/**
+		 * Constructor for <code> Result </code>, with no rounds.
+		 * @param rules Rules the rounds are played by.
+		 */
+		public Result(GameRules rules) {
+			this.rules = rules;
+		}
+
+		/**
+		 * Count a round that has ended.
+		 * @param world World the round was played in.
+		 */
+		void add(GameWorld world) {
+			rounds++;
+			steps += world.getSteps();
+			timesCaught += world.getTimesCaught();
+			caught[Math.min(world.getTimesCaught(), CAUGHT_BUCKETS - 1)]++;
+			if (world.getOutcome() == GameWorld.WON) {
+				wins++;
+				scores[Math.min(world.calculateFinalScore() / SCORE_BUCKET, SCORE_BUCKETS - 1)]++;
+			}
+		}
+
+		/**
+		 * Combine the rounds of two results for the same rules.
+		 * @param other Other result.
+		 * @return New result counting the rounds of both.
+		 */
+		public Result merge(Result other) {
+			Result merged = new Result(rules);
+			merged.rounds = rounds + other.rounds;
+			merged.wins = wins + other.wins;
+			merged.steps = steps + other.steps;
+			merged.timesCaught = timesCaught + other.timesCaught;
+			for (int i = 0; i < SCORE_BUCKETS; i++) {
+				merged.scores[i] = scores[i] + other.scores[i];
+			}
+			for (int i = 0; i < CAUGHT_BUCKETS; i++) {
+				merged.caught[i] = caught[i] + other.caught[i];
+			}
+			return merged;
+		}
+
+		/**
+		 * Return the score that a share of won rounds scored at most, to the
+		 * nearest bucket below.
+		 * @param percentile Share of won rounds, from 0 to 100.
+		 * @return Lowest score of the bucket the percentile falls in, or -1 if no round was won.
+		 */
+		public int getScorePercentile(float percentile) {
+			if (wins == 0) {
+				return -1;
+			}
+			int rank = Math.max(1, (int) Math.ceil(wins * percentile / 100));
+			int counted = 0;
+			for (int i = 0; i < SCORE_BUCKETS; i++) {
+				counted += scores[i];
+				if (counted >= rank) {
+					return i * SCORE_BUCKET;
+				}
+			}
+			return (SCORE_BUCKETS - 1) * SCORE_BUCKET;
+		}
+
+		/**
+		 * Return the rules the rounds were played by.
+		 * @return Rules.
+		 */
+		public GameRules getRules() { return rules; }
+
+		/**
+		 * Return the number of rounds played.
+		 * @return Rounds.
+		 */
+		public int getRounds() { return rounds; }
+
+		/**
+		 * Return the number of rounds won.
+		 * @return Wins.
+		 */
+		public int getWins() { return wins; }
+
+		/**
+		 * Return the share of rounds won.
+		 * @return Win rate from 0 to 1.
+		 */
+		public float getWinRate() { return rounds == 0 ? 0 : wins / (float) rounds; }
+
+		/**
+		 * Return the number of steps played over every round.
+		 * @return Steps.
+		 */
+		public long getSteps() { return steps; }
+
+		/**
+		 * Return the mean number of times the player was caught a round.
+		 * @return Mean catches.
+		 */
+		public float getMeanTimesCaught() { return rounds == 0 ? 0 : timesCaught / (float) rounds; }
+
+		/**
+		 * Return how many won rounds scored in each bucket of {@link #SCORE_BUCKET} points.
+		 * @return Copy of the score histogram.
+		 */
+		public int[] getScoreHistogram() { return scores.clone(); }
+
+		/**
+		 * Return how many rounds the player was caught in 0, 1, 2 and more times.
+		 * @return Copy of the catch histogram.
+		 */
+		public int[] getCaughtHistogram() { return caught.clone(); }
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Result)) {
+				return false;
+			}
+			Result other = (Result) o;
+			return rules == other.rules && rounds == other.rounds && wins == other.wins && steps == other.steps
+				&& timesCaught == other.timesCaught && Arrays.equals(scores, other.scores)
+				&& Arrays.equals(caught, other.caught);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Arrays.hashCode(scores) + Arrays.hashCode(caught);
+		}
+
+		/**
+		 * Return the result as a line for reports.
+		 * @return Rules, win rate, score percentiles and catches.
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s: won %5.1f%%, score p10/p50/p90 %d/%d/%d, caught %.2f a round %s",
+				rules, getWinRate() * 100, getScorePercentile(10), getScorePercentile(50), getScorePercentile(90),
+				getMeanTimesCaught(), Arrays.toString(caught));
+		}
+	}
+}
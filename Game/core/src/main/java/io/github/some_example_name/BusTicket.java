@@ -1,8 +1,8 @@
 package io.github.some_example_name;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 
 /**
@@ -12,20 +12,21 @@ import com.badlogic.gdx.math.Vector2;
  */ 
 public class BusTicket {
 	private Vector2 position;
-	private Texture texture;
-	private boolean isCollected;
-	private boolean isDiscovered; // To control when it becomes visible
+	private TextureRegion texture;
+	// read by the render thread when the game is simulated on its own thread
+	private volatile boolean isCollected;
+	private volatile boolean isDiscovered; // To control when it becomes visible
 
 	/**
 	 * Constructor for <code> BusTicket </code>, spawning the ticket sprite
-	 * in the given world coordinates.Uses "bus-ticket.png" in 
-	 * <code> assets/ </code> folder for sprite.
+	 * in the given world coordinates.
 	 * @param x Horizontal position in world for ticket sprite. 
 	 * @param y Vertical position in world for ticket sprite. 
+	 * @param texture Already loaded ticket sprite, "bus-ticket.png" in the game.
 	 */ 
-	public BusTicket(float x, float y) {
+	public BusTicket(float x, float y, TextureRegion texture) {
 		this.position = new Vector2(x, y);
-		this.texture = new Texture("bus-ticket.png"); 
+		this.texture = texture; 
 		this.isCollected = false;
 		this.isDiscovered = false;
 	}
@@ -36,8 +37,19 @@ public class BusTicket {
 	 * @see com.badlogic.gdx.graphics.g2d.SpriteBatch SpriteBatch.
 	 */
 	public void render(SpriteBatch batch) {
+		render(batch, position.x, position.y);
+	}
+
+	/**
+	 * Render ticket sprite at given coordinates, if it has been found but not
+	 * picked up.
+	 * @param batch SpriteBatch to render world sprite in.
+	 * @param x Horizontal world position to draw at.
+	 * @param y Vertical world position to draw at.
+	 */
+	public void render(SpriteBatch batch, float x, float y) {
 		if (isDiscovered && !isCollected) {
-		    batch.draw(texture, position.x, position.y, 16, 16);
+		    batch.draw(texture, x, y, 16, 16);
 		}
 	}
 
@@ -98,11 +110,12 @@ public class BusTicket {
 	}
 
 	/**
-	 * Dispose ticket sprite texture.Use as part of 
-	 * Application dispose method. 
+	 * Hide the ticket again and take it out of the player's inventory, for
+	 * a new round.
 	 */
-	public void dispose() {
-		texture.dispose();
+	public void reset() {
+		this.isCollected = false;
+		this.isDiscovered = false;
 	}
 }
  
\ No newline at end of file
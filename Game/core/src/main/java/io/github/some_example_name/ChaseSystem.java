@@ -0,0 +1,118 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * <code> ChaseSystem </code> moves every chaser towards the player within the
+ * <code> AIScheduler </code>'s time budget, keeps them up to date in the
+ * broadphase, and reports chasers that catch the player.
+ * <p>
+ * Chasers are registered with the scheduler as they are added to the engine, and
+ * unregistered as they are removed.
+ */
+public class ChaseSystem extends IteratingSystem {
+	/**
+	 * Told when a chaser catches the player.
+	 */
+	public interface CatchListener {
+		/**
+		 * Called when a chaser is close enough to catch the player.
+		 * @param chaser Entity that caught the player.
+		 */
+		void caught(Entity chaser);
+	}
+
+	private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+	private final ComponentMapper<ChaserComponent> chasers = ComponentMapper.getFor(ChaserComponent.class);
+	private final AIScheduler scheduler;
+	private final SpatialHash<Object> entities;
+	private final Player player;
+	private final Vector3 camera;
+	private final CatchListener listener;
+
+	private final EntityListener registration = new EntityListener() {
+		@Override
+		public void entityAdded(Entity entity) {
+			register(entity);
+		}
+
+		@Override
+		public void entityRemoved(Entity entity) {
+			scheduler.unregister(chasers.get(entity).agent);
+		}
+	};
+
+	/**
+	 * Constructor for <code> ChaseSystem </code>.
+	 * @param scheduler Scheduler updating the chasers.
+	 * @param entities Broadphase holding the player and the chasers.
+	 * @param player Player being chased.
+	 * @param camera Position of the camera, read each frame so chasers on screen are updated first.
+	 * @param listener Told when a chaser catches the player.
+	 */
+	public ChaseSystem(AIScheduler scheduler, SpatialHash<Object> entities, Player player, Vector3 camera,
+			CatchListener listener) {
+		super(Family.all(PositionComponent.class, ChaserComponent.class).get());
+		this.scheduler = scheduler;
+		this.entities = entities;
+		this.player = player;
+		this.camera = camera;
+		this.listener = listener;
+	}
+
+	@Override
+	public void addedToEngine(Engine engine) {
+		super.addedToEngine(engine);
+		ImmutableArray<Entity> existing = getEntities();
+		for (int i = 0; i < existing.size(); i++) {
+			register(existing.get(i));
+		}
+		engine.addEntityListener(getFamily(), registration);
+	}
+
+	@Override
+	public void removedFromEngine(Engine engine) {
+		engine.removeEntityListener(registration);
+		ImmutableArray<Entity> existing = getEntities();
+		for (int i = 0; i < existing.size(); i++) {
+			scheduler.unregister(chasers.get(existing.get(i)).agent);
+		}
+		super.removedFromEngine(engine);
+	}
+
+	/**
+	 * Run the scheduled chaser updates, then check each chaser against the player.
+	 * @param deltaTime Time in seconds since last frame.
+	 */
+	@Override
+	public void update(float deltaTime) {
+		scheduler.update(deltaTime, camera.x, camera.y);
+		super.update(deltaTime);
+	}
+
+	@Override
+	protected void processEntity(Entity entity, float deltaTime) {
+		PositionComponent position = positions.get(entity);
+		if (position.handle >= 0) {
+			entities.move(position.handle, position.position.x, position.position.y);
+		}
+		if (chasers.get(entity).dean.hasCaught(player, entities)) {
+			listener.caught(entity);
+		}
+	}
+
+	/**
+	 * Helper method to register a chaser with the scheduler.
+	 */
+	private void register(Entity entity) {
+		ChaserComponent chaser = chasers.get(entity);
+		scheduler.register(chaser.agent, positions.get(entity).position, chaser.priority, chaser.rate);
+	}
+}
@@ -0,0 +1,41 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * <code> ChaserComponent </code> marks an entity that chases the player, such as
+ * the dean, and is updated by the <code> AIScheduler </code>.
+ * @see ChaseSystem
+ */
+public class ChaserComponent implements Component {
+	/** Dean doing the chasing. */
+	public final Dean dean;
+	/** Agent registered with the scheduler, kept so it can be unregistered. */
+	public final AIScheduler.Agent agent;
+	/** Priority of the chaser's updates. */
+	public final int priority;
+	/** Updates per second wanted, or {@link AIScheduler#EVERY_FRAME}. */
+	public final float rate;
+
+	/**
+	 * Constructor for <code> ChaserComponent </code>, updated every frame at high
+	 * priority as the dean moves a fixed step per update.
+	 * @param dean Dean doing the chasing.
+	 */
+	public ChaserComponent(Dean dean) {
+		this(dean, AIScheduler.PRIORITY_HIGH, AIScheduler.EVERY_FRAME);
+	}
+
+	/**
+	 * Constructor for <code> ChaserComponent </code>.
+	 * @param dean Dean doing the chasing.
+	 * @param priority Priority, such as {@link AIScheduler#PRIORITY_NORMAL}.
+	 * @param rate Updates per second wanted, or {@link AIScheduler#EVERY_FRAME}.
+	 */
+	public ChaserComponent(Dean dean, int priority, float rate) {
+		this.dean = dean;
+		this.agent = dean::update;
+		this.priority = priority;
+		this.rate = rate;
+	}
+}
@@ -0,0 +1,258 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+
+/**
+ * <code> CollisionGrid </code> stores which tiles of a <code> TiledMap </code> block
+ * movement as a packed bitset, one bit per tile, so collision queries are a single
+ * array lookup instead of a scan over every layer of the map.
+ * <p>
+ * A tile is blocked if any tile layer has a cell there whose tile, or whose layer,
+ * has the "collidable" property. All tile layers are expected to share the map's
+ * tile size.
+ * @see com.badlogic.gdx.maps.tiled.TiledMap TiledMap
+ */
+public class CollisionGrid {
+	/** Property marking a tile or a whole tile layer as blocking. */
+	public static final String COLLIDABLE = "collidable";
+
+	private TiledMap map;
+	private int width;
+	private int height;
+	private float tileWidth;
+	private float tileHeight;
+	private long[] bits = new long[0];
+
+	/**
+	 * Constructor for <code> CollisionGrid </code>, building the grid from the
+	 * given map.
+	 * @param map Map to read collidable tiles from.
+	 */
+	public CollisionGrid(TiledMap map) {
+		rebuild(map);
+	}
+
+	/**
+	 * Constructor for an empty <code> CollisionGrid </code> of a given size, with
+	 * no map behind it. Tiles are marked with {@link #setBlocked(int, int, boolean)}.
+	 * @param width Width of grid in tiles.
+	 * @param height Height of grid in tiles.
+	 * @param tileWidth Width of one tile in world units.
+	 * @param tileHeight Height of one tile in world units.
+	 */
+	public CollisionGrid(int width, int height, float tileWidth, float tileHeight) {
+		this.map = null;
+		resize(width, height, tileWidth, tileHeight);
+	}
+
+	/**
+	 * Constructor for <code> CollisionGrid </code> from a mask precomputed by
+	 * {@link TmxCompiler}, skipping the scan over the map's layers. The map is
+	 * kept so {@link #rebuild()} and {@link #refreshTile(int, int)} still work.
+	 * @param map Map the mask was computed from.
+	 * @param width Width of grid in tiles.
+	 * @param height Height of grid in tiles.
+	 * @param tileWidth Width of one tile in world units.
+	 * @param tileHeight Height of one tile in world units.
+	 * @param mask One bit per tile, row by row from the bottom left tile.
+	 */
+	CollisionGrid(TiledMap map, int width, int height, float tileWidth, float tileHeight, long[] mask) {
+		this.map = map;
+		resize(width, height, tileWidth, tileHeight);
+		System.arraycopy(mask, 0, bits, 0, Math.min(mask.length, bits.length));
+	}
+
+	/**
+	 * Return the collision grid kept with a map. Maps loaded by
+	 * {@link CompiledMapLoader} come with one built from a precomputed mask; for
+	 * other maps one is built from the layers the first time and kept in the
+	 * map's properties.
+	 * @param map Map to get collision grid for.
+	 * @return Collision grid of the map.
+	 */
+	public static CollisionGrid forMap(TiledMap map) {
+		CollisionGrid grid = map.getProperties().get(CompiledMapLoader.COLLISION_GRID, CollisionGrid.class);
+		if (grid == null) {
+			grid = new CollisionGrid(map);
+			map.getProperties().put(CompiledMapLoader.COLLISION_GRID, grid);
+		}
+		return grid;
+	}
+
+	/**
+	 * Rebuild the whole grid from the map it was last built from. Call this after
+	 * editing cells or layer properties of the map.
+	 */
+	public void rebuild() {
+		if (map != null) {
+			rebuild(map);
+		}
+	}
+
+	/**
+	 * Rebuild the whole grid from a (possibly different) map.
+	 * @param map Map to read collidable tiles from.
+	 */
+	public void rebuild(TiledMap map) {
+		this.map = map;
+		MapProperties properties = map.getProperties();
+		resize(
+			properties.get("width", 0, Integer.class),
+			properties.get("height", 0, Integer.class),
+			properties.get("tilewidth", 16, Integer.class),
+			properties.get("tileheight", 16, Integer.class)
+		);
+
+		MapLayers layers = map.getLayers();
+		for (int i = 0; i < layers.getCount(); i++) {
+			MapLayer mapLayer = layers.get(i);
+			if (!(mapLayer instanceof TiledMapTileLayer)) {
+				continue;
+			}
+			TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+			boolean layerCollidable = layer.getProperties().containsKey(COLLIDABLE);
+			int layerWidth = Math.min(layer.getWidth(), width);
+			int layerHeight = Math.min(layer.getHeight(), height);
+			for (int y = 0; y < layerHeight; y++) {
+				for (int x = 0; x < layerWidth; x++) {
+					if (isCollidableCell(layer, layerCollidable, x, y)) {
+						setBlocked(x, y, true);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Recompute a single tile from the map, after one of its cells was changed.
+	 * @param tileX Horizontal tile index.
+	 * @param tileY Vertical tile index.
+	 */
+	public void refreshTile(int tileX, int tileY) {
+		if (map == null || !inBounds(tileX, tileY)) {
+			return;
+		}
+		boolean blocked = false;
+		MapLayers layers = map.getLayers();
+		for (int i = 0; i < layers.getCount() && !blocked; i++) {
+			MapLayer mapLayer = layers.get(i);
+			if (mapLayer instanceof TiledMapTileLayer) {
+				TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+				blocked = isCollidableCell(layer, layer.getProperties().containsKey(COLLIDABLE), tileX, tileY);
+			}
+		}
+		setBlocked(tileX, tileY, blocked);
+	}
+
+	/**
+	 * Returns if the tile at a given tile index blocks movement. Tiles outside the
+	 * grid never block.
+	 * @param tileX Horizontal tile index.
+	 * @param tileY Vertical tile index.
+	 * @return True if the tile blocks movement.
+	 */
+	public boolean isBlocked(int tileX, int tileY) {
+		if (!inBounds(tileX, tileY)) {
+			return false;
+		}
+		int index = tileY * width + tileX;
+		return (bits[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Returns if a 16x16 entity with its bottom left corner at a given world
+	 * position is standing on a blocked tile, using the tile under the
+	 * entity's centre. Matches the old <code> GameScreen.isCellBlocked </code> check.
+	 * @param x Horizontal world position of entity.
+	 * @param y Vertical world position of entity.
+	 * @return True if the tile under the entity blocks movement.
+	 */
+	public boolean isBlockedAt(float x, float y) {
+		return isBlocked((int) ((x + 8) / tileWidth), (int) ((y + 8) / tileHeight));
+	}
+
+	/**
+	 * Mark a tile as blocked or free.
+	 * @param tileX Horizontal tile index.
+	 * @param tileY Vertical tile index.
+	 * @param blocked True to block the tile.
+	 */
+	public void setBlocked(int tileX, int tileY, boolean blocked) {
+		if (!inBounds(tileX, tileY)) {
+			return;
+		}
+		int index = tileY * width + tileX;
+		if (blocked) {
+			bits[index >>> 6] |= 1L << index;
+		} else {
+			bits[index >>> 6] &= ~(1L << index);
+		}
+	}
+
+	/**
+	 * Return if a tile index lies inside the grid.
+	 * @param tileX Horizontal tile index.
+	 * @param tileY Vertical tile index.
+	 * @return True if inside the grid.
+	 */
+	public boolean inBounds(int tileX, int tileY) {
+		return tileX >= 0 && tileY >= 0 && tileX < width && tileY < height;
+	}
+
+	/**
+	 * Return width of the grid.
+	 * @return Width in tiles.
+	 */
+	public int getWidth() { return width; }
+
+	/**
+	 * Return height of the grid.
+	 * @return Height in tiles.
+	 */
+	public int getHeight() { return height; }
+
+	/**
+	 * Return width of one tile.
+	 * @return Tile width in world units.
+	 */
+	public float getTileWidth() { return tileWidth; }
+
+	/**
+	 * Return height of one tile.
+	 * @return Tile height in world units.
+	 */
+	public float getTileHeight() { return tileHeight; }
+
+	/**
+	 * Helper method to clear the grid and size it for a new map.
+	 */
+	private void resize(int width, int height, float tileWidth, float tileHeight) {
+		this.width = width;
+		this.height = height;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+		int words = (width * height + 63) >>> 6;
+		if (bits.length != words) {
+			bits = new long[words];
+		} else {
+			Arrays.fill(bits, 0L);
+		}
+	}
+
+	/**
+	 * Helper method to check a single cell of a layer for the collidable property.
+	 */
+	private static boolean isCollidableCell(TiledMapTileLayer layer, boolean layerCollidable, int x, int y) {
+		TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+		if (cell == null || cell.getTile() == null) {
+			return false;
+		}
+		return layerCollidable || cell.getTile().getProperties().containsKey(COLLIDABLE);
+	}
+}
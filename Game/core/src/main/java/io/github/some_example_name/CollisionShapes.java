@@ -0,0 +1,134 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * <code> CollisionShapes </code> covers the blocked tiles of a
+ * <code> CollisionGrid </code> with as few axis-aligned rectangles as it can
+ * greedily find, so a wall many tiles long is one shape rather than one per tile.
+ * The rectangles never overlap, and together cover exactly the blocked tiles.
+ * <p>
+ * The shapes are a snapshot: changes to the grid after they are merged are not
+ * seen until they are merged again. They can be registered as a static Box2D body
+ * for physics or queries that work on shapes rather than tiles.
+ * @see CollisionGrid
+ */
+public class CollisionShapes {
+	/** Key the merged shapes are kept under in a map's properties by {@link #forMap(TiledMap)}. */
+	public static final String PROPERTY = "collisionShapes";
+
+	private final Array<Rectangle> rectangles = new Array<>();
+	private final int cells;
+
+	/**
+	 * Constructor for <code> CollisionShapes </code>, merging the grid's blocked
+	 * tiles. Starting from the bottom left, each blocked tile not yet covered
+	 * starts a rectangle, which is widened to the right as far as the row allows
+	 * and then raised a row at a time while the whole width stays blocked.
+	 * @param grid Collision grid to merge.
+	 */
+	public CollisionShapes(CollisionGrid grid) {
+		int width = grid.getWidth();
+		int height = grid.getHeight();
+		float tileWidth = grid.getTileWidth();
+		float tileHeight = grid.getTileHeight();
+		boolean[] covered = new boolean[width * height];
+		int blocked = 0;
+		for (int tileY = 0; tileY < height; tileY++) {
+			for (int tileX = 0; tileX < width; tileX++) {
+				if (!grid.isBlocked(tileX, tileY)) {
+					continue;
+				}
+				blocked++;
+				if (covered[tileY * width + tileX]) {
+					continue;
+				}
+				int right = tileX + 1;
+				while (right < width && grid.isBlocked(right, tileY) && !covered[tileY * width + right]) {
+					right++;
+				}
+				int top = tileY + 1;
+				while (top < height && rowUncovered(grid, covered, tileX, right, top)) {
+					top++;
+				}
+				for (int y = tileY; y < top; y++) {
+					for (int x = tileX; x < right; x++) {
+						covered[y * width + x] = true;
+					}
+				}
+				rectangles.add(new Rectangle(tileX * tileWidth, tileY * tileHeight,
+					(right - tileX) * tileWidth, (top - tileY) * tileHeight));
+			}
+		}
+		cells = blocked;
+	}
+
+	/**
+	 * Return the shapes kept with a map, merged from its collision grid the first
+	 * time and kept in the map's properties.
+	 * @param map Map to get shapes for.
+	 * @return Merged shapes of the map.
+	 * @see CollisionGrid#forMap(TiledMap)
+	 */
+	public static CollisionShapes forMap(TiledMap map) {
+		CollisionShapes shapes = map.getProperties().get(PROPERTY, CollisionShapes.class);
+		if (shapes == null) {
+			shapes = new CollisionShapes(CollisionGrid.forMap(map));
+			map.getProperties().put(PROPERTY, shapes);
+		}
+		return shapes;
+	}
+
+	/**
+	 * Register the shapes as the fixtures of one static body.
+	 * @param world Box2D world to add body to.
+	 * @param unitsPerMeter World units in one Box2D meter, such as the tile size.
+	 * @return Static body at the origin, with a box fixture for each rectangle.
+	 */
+	public Body createBody(World world, float unitsPerMeter) {
+		BodyDef definition = new BodyDef();
+		definition.type = BodyDef.BodyType.StaticBody;
+		Body body = world.createBody(definition);
+		PolygonShape box = new PolygonShape();
+		Vector2 centre = new Vector2();
+		for (Rectangle rectangle : rectangles) {
+			rectangle.getCenter(centre).scl(1 / unitsPerMeter);
+			box.setAsBox(rectangle.width / 2 / unitsPerMeter, rectangle.height / 2 / unitsPerMeter, centre, 0);
+			body.createFixture(box, 0);
+		}
+		box.dispose();
+		return body;
+	}
+
+	/**
+	 * Return the merged rectangles, in world units. Not to be changed.
+	 * @return Rectangles, from the bottom left.
+	 */
+	public Array<Rectangle> getRectangles() { return rectangles; }
+
+	/**
+	 * Return number of blocked tiles merged.
+	 * @return Blocked tile count.
+	 */
+	public int getCellCount() { return cells; }
+
+	/**
+	 * Helper method to check a span of a row is blocked and not yet covered.
+	 */
+	private static boolean rowUncovered(CollisionGrid grid, boolean[] covered, int from, int to, int tileY) {
+		int width = grid.getWidth();
+		for (int x = from; x < to; x++) {
+			if (!grid.isBlocked(x, tileY) || covered[tileY * width + x]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,465 @@
+package io.github.some_example_name;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * <code> CompiledMapLoader </code> loads maps written by {@link TmxCompiler}. The
+ * whole file is read into one buffer and decoded front to back, so there is no XML
+ * or CSV to parse, and the collision mask comes precomputed instead of being
+ * rebuilt from every layer (see {@link CollisionGrid#forMap(TiledMap)}).
+ * <p>
+ * The loaded <code> TiledMap </code> has the same layers, cells, properties and
+ * objects as one loaded by <code> TmxMapLoader </code>, with y pointing up. Maps can
+ * be loaded directly, or through an <code> AssetManager </code> with this registered
+ * as the <code> TiledMap </code> loader for {@link #EXTENSION}, in which case the
+ * file is decoded off the render thread and the tileset textures are loaded as
+ * dependencies.
+ * @see TmxCompiler
+ */
+public class CompiledMapLoader extends AsynchronousAssetLoader<TiledMap, CompiledMapLoader.Parameters> {
+	/** File extension of compiled maps, which sit next to the TMX they came from. */
+	public static final String EXTENSION = ".tmb";
+	/** Map property holding the {@link CollisionGrid} built from the stored mask. */
+	public static final String COLLISION_GRID = "collisionGrid";
+
+	static final int MAGIC = 0x544D4231; // "TMB1"
+	static final int VERSION = 2;
+
+	static final byte LAYER_TILES = 0;
+	static final byte LAYER_OBJECTS = 1;
+	static final byte LAYER_GROUP = 2;
+
+	static final byte GIDS_DENSE = 0;
+	static final byte GIDS_SPARSE = 1;
+
+	static final byte PROPERTY_STRING = 0;
+	static final byte PROPERTY_INT = 1;
+	static final byte PROPERTY_FLOAT = 2;
+	static final byte PROPERTY_BOOL = 3;
+	static final byte PROPERTY_COLOR = 4;
+
+	static final int FLIP_HORIZONTALLY = 0x80000000;
+	static final int FLIP_VERTICALLY = 0x40000000;
+	static final int FLIP_DIAGONALLY = 0x20000000;
+	static final int MASK_CLEAR = 0xE0000000;
+
+	/** Parameters for loading a compiled map through an <code> AssetManager </code>. */
+	public static class Parameters extends AssetLoaderParameters<TiledMap> {
+	}
+
+	// state carried between the steps of an AssetManager load
+	private ByteBuffer pendingBuffer;
+	private String[] pendingImages;
+	private TiledMap pendingMap;
+
+	/**
+	 * Constructor for <code> CompiledMapLoader </code>, resolving files as internal
+	 * files.
+	 */
+	public CompiledMapLoader() {
+		this(new InternalFileHandleResolver());
+	}
+
+	/**
+	 * Constructor for <code> CompiledMapLoader </code>.
+	 * @param resolver Resolver for the map and its tileset images.
+	 */
+	public CompiledMapLoader(FileHandleResolver resolver) {
+		super(resolver);
+	}
+
+	/**
+	 * Return the path of the compiled map for a TMX map.
+	 * @param tmxPath Path of TMX map.
+	 * @return Path of compiled map.
+	 */
+	public static String compiledPath(String tmxPath) {
+		int dot = tmxPath.lastIndexOf('.');
+		return (dot > tmxPath.lastIndexOf('/') ? tmxPath.substring(0, dot) : tmxPath) + EXTENSION;
+	}
+
+	/**
+	 * Returns if a TMX map has been compiled by the <code> compileMaps </code> task.
+	 * @param tmxPath Internal path of TMX map.
+	 * @return True if the compiled map exists.
+	 */
+	public static boolean hasCompiled(String tmxPath) {
+		return Gdx.files.internal(compiledPath(tmxPath)).exists();
+	}
+
+	/**
+	 * Load a compiled map, resolving the path with this loader's resolver.
+	 * @param fileName Path of compiled map.
+	 * @return Loaded map, owning its tileset textures.
+	 */
+	public TiledMap load(String fileName) {
+		return load(resolve(fileName));
+	}
+
+	/**
+	 * Load a compiled map.
+	 * @param file Compiled map file.
+	 * @return Loaded map, owning its tileset textures.
+	 */
+	public TiledMap load(FileHandle file) {
+		ByteBuffer buffer = read(file);
+		String[] images = readImages(buffer, file);
+		Texture[] textures = new Texture[images.length];
+		for (int i = 0; i < images.length; i++) {
+			textures[i] = loadTexture(resolve(images[i]));
+		}
+		TiledMap map = readMap(buffer, textures);
+		map.setOwnedResources(new Array<>(textures));
+		return map;
+	}
+
+	/**
+	 * Read the compiled map and return its tileset images, for the
+	 * <code> AssetManager </code> to load before {@link #loadAsync}.
+	 */
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+		pendingBuffer = read(file);
+		pendingImages = readImages(pendingBuffer, file);
+		TextureLoader.TextureParameter textureParameter = new TextureLoader.TextureParameter();
+		Array<AssetDescriptor> dependencies = new Array<>();
+		for (String image : pendingImages) {
+			dependencies.add(new AssetDescriptor<>(image, Texture.class, textureParameter));
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Decode the rest of the map off the render thread, once its textures are
+	 * loaded.
+	 */
+	@Override
+	public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+		if (pendingBuffer == null) {
+			getDependencies(fileName, file, parameter);
+		}
+		Texture[] textures = new Texture[pendingImages.length];
+		for (int i = 0; i < textures.length; i++) {
+			textures[i] = manager.get(pendingImages[i], Texture.class);
+		}
+		pendingMap = readMap(pendingBuffer, textures);
+		pendingBuffer = null;
+		pendingImages = null;
+	}
+
+	/**
+	 * Hand the decoded map to the <code> AssetManager </code>, which owns its
+	 * textures.
+	 */
+	@Override
+	public TiledMap loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+		TiledMap map = pendingMap;
+		pendingMap = null;
+		return map;
+	}
+
+	/**
+	 * Load a tileset image when loading without an <code> AssetManager </code>.
+	 * Each image is only loaded once per map.
+	 * @param file Image file.
+	 * @return Texture for the image.
+	 */
+	protected Texture loadTexture(FileHandle file) {
+		return new Texture(file, false);
+	}
+
+	/**
+	 * Helper method to check the file header and read the table of tileset images.
+	 */
+	private static String[] readImages(ByteBuffer buffer, FileHandle file) {
+		if (buffer.remaining() < 6 || buffer.getInt() != MAGIC) {
+			throw new GdxRuntimeException("Not a compiled map: " + file.path());
+		}
+		int version = buffer.getShort();
+		if (version != VERSION) {
+			throw new GdxRuntimeException("Compiled map " + file.path() + " is version " + version
+				+ ", expected " + VERSION + ". Run the compileMaps task again.");
+		}
+		String[] images = new String[buffer.getShort()];
+		for (int i = 0; i < images.length; i++) {
+			images[i] = readString(buffer);
+		}
+		return images;
+	}
+
+	/**
+	 * Helper method to decode everything after the image table into a map.
+	 */
+	private static TiledMap readMap(ByteBuffer buffer, Texture[] textures) {
+		TiledMap map = new TiledMap();
+		int tileWidth = buffer.getInt();
+		int tileHeight = buffer.getInt();
+		readProperties(buffer, map.getProperties());
+
+		int tilesetCount = buffer.getShort();
+		for (int i = 0; i < tilesetCount; i++) {
+			map.getTileSets().addTileSet(readTileSet(buffer, textures));
+		}
+
+		int layerCount = buffer.getShort();
+		for (int i = 0; i < layerCount; i++) {
+			readLayer(buffer, map, map.getLayers(), null, tileWidth, tileHeight);
+		}
+
+		int gridWidth = buffer.getInt();
+		int gridHeight = buffer.getInt();
+		long[] mask = new long[buffer.getInt()];
+		buffer.asLongBuffer().get(mask);
+		buffer.position(buffer.position() + mask.length * 8);
+		map.getProperties().put(COLLISION_GRID, new CollisionGrid(map, gridWidth, gridHeight, tileWidth, tileHeight, mask));
+		return map;
+	}
+
+	/**
+	 * Helper method to read a whole file into a buffer, through a file channel when
+	 * the file is on disk and through the file handle otherwise (e.g. inside a jar).
+	 */
+	private static ByteBuffer read(FileHandle file) {
+		if (file.type() != Files.FileType.Classpath && file.file().isFile()) {
+			try (FileChannel channel = FileChannel.open(file.file().toPath(), StandardOpenOption.READ)) {
+				ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+				while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+					// keep reading until the buffer is full
+				}
+				buffer.flip();
+				return buffer;
+			} catch (IOException e) {
+				throw new GdxRuntimeException("Error reading compiled map " + file.path(), e);
+			}
+		}
+		return ByteBuffer.wrap(file.readBytes());
+	}
+
+	/**
+	 * Helper method to read a tileset and cut its image into tiles, the same way
+	 * <code> TmxMapLoader </code> does.
+	 */
+	private static TiledMapTileSet readTileSet(ByteBuffer buffer, Texture[] textures) {
+		TiledMapTileSet tileSet = new TiledMapTileSet();
+		tileSet.setName(readString(buffer));
+		int firstGid = buffer.getInt();
+		int tileWidth = buffer.getInt();
+		int tileHeight = buffer.getInt();
+		int spacing = buffer.getInt();
+		int margin = buffer.getInt();
+		int offsetX = buffer.getInt();
+		int offsetY = buffer.getInt();
+		Texture texture = textures[buffer.getShort()];
+		readProperties(buffer, tileSet.getProperties());
+
+		int stopWidth = texture.getWidth() - tileWidth;
+		int stopHeight = texture.getHeight() - tileHeight;
+		int id = firstGid;
+		for (int y = margin; y <= stopHeight; y += tileHeight + spacing) {
+			for (int x = margin; x <= stopWidth; x += tileWidth + spacing) {
+				StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion(texture, x, y, tileWidth, tileHeight));
+				tile.setId(id);
+				tile.setOffsetX(offsetX);
+				tile.setOffsetY(-offsetY);
+				tileSet.putTile(id++, tile);
+			}
+		}
+
+		int tilesWithProperties = buffer.getInt();
+		for (int i = 0; i < tilesWithProperties; i++) {
+			TiledMapTile tile = tileSet.getTile(firstGid + buffer.getInt());
+			readProperties(buffer, tile != null ? tile.getProperties() : new MapProperties());
+		}
+		return tileSet;
+	}
+
+	/**
+	 * Helper method to read one layer, and any layers inside it, into a parent.
+	 */
+	private static void readLayer(ByteBuffer buffer, TiledMap map, MapLayers parentLayers, MapGroupLayer parent, int tileWidth, int tileHeight) {
+		byte kind = buffer.get();
+		String name = readString(buffer);
+		boolean visible = buffer.get() != 0;
+		float opacity = buffer.getFloat();
+		float offsetX = buffer.getFloat();
+		float offsetY = buffer.getFloat();
+		float parallaxX = buffer.getFloat();
+		float parallaxY = buffer.getFloat();
+		Color tint = new Color(buffer.getInt());
+
+		MapLayer layer;
+		if (kind == LAYER_TILES) {
+			int width = buffer.getInt();
+			int height = buffer.getInt();
+			TiledMapTileLayer tileLayer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
+			readCells(buffer, tileLayer, map.getTileSets());
+			layer = tileLayer;
+		} else if (kind == LAYER_OBJECTS) {
+			layer = new MapLayer();
+			int objectCount = buffer.getInt();
+			for (int i = 0; i < objectCount; i++) {
+				RectangleMapObject object = new RectangleMapObject(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+				object.setName(readString(buffer));
+				object.setVisible(buffer.get() != 0);
+				readProperties(buffer, object.getProperties());
+				layer.getObjects().add(object);
+			}
+		} else if (kind == LAYER_GROUP) {
+			MapGroupLayer group = new MapGroupLayer();
+			int childCount = buffer.getShort();
+			for (int i = 0; i < childCount; i++) {
+				readLayer(buffer, map, group.getLayers(), group, tileWidth, tileHeight);
+			}
+			layer = group;
+		} else {
+			throw new GdxRuntimeException("Unknown layer kind " + kind + " in compiled map");
+		}
+
+		layer.setName(name);
+		layer.setVisible(visible);
+		layer.setOpacity(opacity);
+		layer.setOffsetX(offsetX);
+		layer.setOffsetY(offsetY);
+		layer.setTintColor(tint);
+		if (parent != null) {
+			layer.setParent(parent);
+			parallaxX *= parent.getParallaxX();
+			parallaxY *= parent.getParallaxY();
+		}
+		layer.setParallaxX(parallaxX);
+		layer.setParallaxY(parallaxY);
+		readProperties(buffer, layer.getProperties());
+		parentLayers.add(layer);
+	}
+
+	/**
+	 * Helper method to read the packed tile ids of a layer, stored either as one id
+	 * per cell or, for mostly empty layers, as index and id pairs.
+	 */
+	private static void readCells(ByteBuffer buffer, TiledMapTileLayer layer, TiledMapTileSets tileSets) {
+		int width = layer.getWidth();
+		byte encoding = buffer.get();
+		int count = buffer.getInt();
+		int[] data = new int[encoding == GIDS_SPARSE ? count * 2 : count];
+		buffer.asIntBuffer().get(data);
+		buffer.position(buffer.position() + data.length * 4);
+
+		if (encoding == GIDS_SPARSE) {
+			for (int i = 0; i < data.length; i += 2) {
+				setCell(layer, tileSets, data[i] % width, data[i] / width, data[i + 1]);
+			}
+		} else {
+			for (int i = 0; i < data.length; i++) {
+				if (data[i] != 0) {
+					setCell(layer, tileSets, i % width, i / width, data[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Helper method to place one tile, turning Tiled's flip flags into the flips and
+	 * rotation <code> TmxMapLoader </code> would give the cell.
+	 */
+	private static void setCell(TiledMapTileLayer layer, TiledMapTileSets tileSets, int x, int y, int gid) {
+		TiledMapTile tile = tileSets.getTile(gid & ~MASK_CLEAR);
+		if (tile == null) {
+			return;
+		}
+		boolean flipHorizontally = (gid & FLIP_HORIZONTALLY) != 0;
+		boolean flipVertically = (gid & FLIP_VERTICALLY) != 0;
+		TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+		if ((gid & FLIP_DIAGONALLY) != 0) {
+			if (flipHorizontally && flipVertically) {
+				cell.setFlipHorizontally(true);
+				cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+			} else if (flipHorizontally) {
+				cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+			} else if (flipVertically) {
+				cell.setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+			} else {
+				cell.setFlipVertically(true);
+				cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+			}
+		} else {
+			cell.setFlipHorizontally(flipHorizontally);
+			cell.setFlipVertically(flipVertically);
+		}
+		cell.setTile(tile);
+		layer.setCell(x, y, cell);
+	}
+
+	/**
+	 * Helper method to read a list of typed properties.
+	 */
+	private static void readProperties(ByteBuffer buffer, MapProperties properties) {
+		int count = buffer.getShort();
+		for (int i = 0; i < count; i++) {
+			String name = readString(buffer);
+			byte type = buffer.get();
+			switch (type) {
+				case PROPERTY_INT:
+					properties.put(name, buffer.getInt());
+					break;
+				case PROPERTY_FLOAT:
+					properties.put(name, buffer.getFloat());
+					break;
+				case PROPERTY_BOOL:
+					properties.put(name, buffer.get() != 0);
+					break;
+				case PROPERTY_COLOR:
+					properties.put(name, new Color(buffer.getInt()));
+					break;
+				default:
+					properties.put(name, readString(buffer));
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Helper method to read a length prefixed UTF-8 string, where a length of -1
+	 * means null.
+	 */
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+		buffer.position(buffer.position() + length);
+		return value;
+	}
+}
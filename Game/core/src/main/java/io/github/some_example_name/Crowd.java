@@ -0,0 +1,231 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * <code> Crowd </code> simulates a horde of chasers that move like the dean,
+ * following a shared <code> FlowField </code> to the player. Instead of one object
+ * per chaser, the positions, velocities and states of all of them are kept in
+ * parallel primitive arrays, and updated and drawn in single loops that create no
+ * objects, so thousands of chasers cost little more than the arrays they are in.
+ * <p>
+ * Chasers are 16x16, like the dean, and collide with the map the same way,
+ * through {@link MoveResolver#CHARACTER}: a chaser cannot move onto a blocked
+ * tile, and slides along walls it walks into.
+ * They do not collide with each other.
+ * @see GameWorld#setHorde(int)
+ * @see Dean
+ */
+public class Crowd {
+	/** State of a chaser with no route to the player. */
+	public static final int IDLE = 0;
+	/** State of a chaser making its way to the player. */
+	public static final int CHASING = 1;
+	/** State of a chaser close enough to catch the player. */
+	public static final int REACHED = 2;
+
+	/** Speed of a chaser in world units per second, the dean's speed at 60 frames per second. */
+	public static final float SPEED = 42f;
+	/** Distance from the player at which a chaser catches them, as for the dean. */
+	public static final float CATCH_DISTANCE = 16f;
+
+	private final CollisionGrid grid;
+	private final Vector2 moving = new Vector2();
+	private float[] x;
+	private float[] y;
+	private float[] velocityX;
+	private float[] velocityY;
+	private int[] state;
+	private int size;
+
+	/**
+	 * Constructor for <code> Crowd </code>, with no chasers.
+	 * @param grid Collision grid the chasers move over.
+	 * @param capacity Number of chasers to make room for; more can still be added.
+	 */
+	public Crowd(CollisionGrid grid, int capacity) {
+		this.grid = grid;
+		capacity = Math.max(capacity, 1);
+		x = new float[capacity];
+		y = new float[capacity];
+		velocityX = new float[capacity];
+		velocityY = new float[capacity];
+		state = new int[capacity];
+	}
+
+	/**
+	 * Add a chaser.
+	 * @param spawnX Horizontal world position of chaser.
+	 * @param spawnY Vertical world position of chaser.
+	 * @return Index of chaser.
+	 */
+	public int add(float spawnX, float spawnY) {
+		if (size == x.length) {
+			int capacity = size * 2;
+			x = Arrays.copyOf(x, capacity);
+			y = Arrays.copyOf(y, capacity);
+			velocityX = Arrays.copyOf(velocityX, capacity);
+			velocityY = Arrays.copyOf(velocityY, capacity);
+			state = Arrays.copyOf(state, capacity);
+		}
+		x[size] = spawnX;
+		y[size] = spawnY;
+		velocityX[size] = 0;
+		velocityY[size] = 0;
+		state[size] = CHASING;
+		return size++;
+	}
+
+	/**
+	 * Move a chaser straight to a position, such as back to where it spawned,
+	 * stopping it there.
+	 * @param index Index of chaser.
+	 * @param toX Horizontal world position.
+	 * @param toY Vertical world position.
+	 */
+	public void moveTo(int index, float toX, float toY) {
+		x[index] = toX;
+		y[index] = toY;
+		velocityX[index] = 0;
+		velocityY[index] = 0;
+		state[index] = CHASING;
+	}
+
+	/**
+	 * Remove every chaser.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Move every chaser one step towards the player, along the flow field. The field
+	 * must already have been moved to the player this frame.
+	 * @param delta Time in seconds since last update.
+	 * @param field Flow field leading to the player.
+	 * @param targetX Horizontal world position of the player.
+	 * @param targetY Vertical world position of the player.
+	 * @return Number of chasers close enough to catch the player.
+	 */
+	public int update(float delta, FlowField field, float targetX, float targetY) {
+		float tileWidth = grid.getTileWidth();
+		float tileHeight = grid.getTileHeight();
+		int width = grid.getWidth();
+		float step = SPEED * delta;
+		float catchDistance2 = CATCH_DISTANCE * CATCH_DISTANCE;
+		int reached = 0;
+
+		for (int i = 0; i < size; i++) {
+			float px = x[i];
+			float py = y[i];
+			int tileX = (int) Math.floor((px + 8) / tileWidth);
+			int tileY = (int) Math.floor((py + 8) / tileHeight);
+
+			// head for the middle of the next tile downhill, or straight at the player on their tile
+			float goalX = targetX;
+			float goalY = targetY;
+			int next = field.nextTile(tileX, tileY);
+			if (next >= 0) {
+				goalX = (next % width + 0.5f) * tileWidth - 8;
+				goalY = (next / width + 0.5f) * tileHeight - 8;
+			} else if (field.getDistance(tileX, tileY) != 0) {
+				state[i] = IDLE;
+				velocityX[i] = 0;
+				velocityY[i] = 0;
+				continue;
+			}
+
+			float dx = goalX - px;
+			float dy = goalY - py;
+			float length = (float) Math.sqrt(dx * dx + dy * dy);
+			if (length > 0) {
+				float move = Math.min(step, length) / length;
+				MoveResolver.CHARACTER.move(grid, moving.set(px, py), dx * move, dy * move);
+				px = moving.x;
+				py = moving.y;
+			}
+			velocityX[i] = delta > 0 ? (px - x[i]) / delta : 0;
+			velocityY[i] = delta > 0 ? (py - y[i]) / delta : 0;
+			x[i] = px;
+			y[i] = py;
+
+			float toTargetX = targetX - px;
+			float toTargetY = targetY - py;
+			if (toTargetX * toTargetX + toTargetY * toTargetY <= catchDistance2) {
+				state[i] = REACHED;
+				reached++;
+			} else {
+				state[i] = CHASING;
+			}
+		}
+		return reached;
+	}
+
+	/**
+	 * Draw every chaser inside a view, all with one sprite so the batch draws them
+	 * in one pass. Call between <code> batch.begin() </code> and
+	 * <code> batch.end() </code>.
+	 * @param batch SpriteBatch used by application to render all sprites.
+	 * @param region Sprite of a chaser.
+	 * @param view Area of the world on screen; chasers outside it are skipped.
+	 */
+	public void render(SpriteBatch batch, TextureRegion region, Rectangle view) {
+		float left = view.x - 16;
+		float bottom = view.y - 16;
+		float right = view.x + view.width;
+		float top = view.y + view.height;
+		for (int i = 0; i < size; i++) {
+			float px = x[i];
+			float py = y[i];
+			if (px > left && px < right && py > bottom && py < top) {
+				batch.draw(region, px, py, 16, 16);
+			}
+		}
+	}
+
+	/**
+	 * Return the number of chasers.
+	 * @return Number of chasers.
+	 */
+	public int size() { return size; }
+
+	/**
+	 * Return horizontal world position of a chaser.
+	 * @param index Index of chaser.
+	 * @return Horizontal position.
+	 */
+	public float getX(int index) { return x[index]; }
+
+	/**
+	 * Return vertical world position of a chaser.
+	 * @param index Index of chaser.
+	 * @return Vertical position.
+	 */
+	public float getY(int index) { return y[index]; }
+
+	/**
+	 * Return horizontal velocity of a chaser over its last update.
+	 * @param index Index of chaser.
+	 * @return Velocity in world units per second.
+	 */
+	public float getVelocityX(int index) { return velocityX[index]; }
+
+	/**
+	 * Return vertical velocity of a chaser over its last update.
+	 * @param index Index of chaser.
+	 * @return Velocity in world units per second.
+	 */
+	public float getVelocityY(int index) { return velocityY[index]; }
+
+	/**
+	 * Return state of a chaser.
+	 * @param index Index of chaser.
+	 * @return {@link #IDLE}, {@link #CHASING} or {@link #REACHED}.
+	 */
+	public int getState(int index) { return state[index]; }
+}
@@ -1,9 +1,10 @@
 package io.github.some_example_name;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 
 /** <code> Dean </code> is the main enemy of the game, which chases the player's 
  * character to attempt to attack them, resetting them to the start of the game.
@@ -12,64 +13,151 @@ import com.badlogic.gdx.math.Vector2;
 public class Dean {
 	private Vector2 position;
 	private Vector2 startPosition;
+	private Vector2 respawnPosition = new Vector2(384, 400);
 	private Vector2 velocity;
-	private Texture texture;
+	private TextureRegion texture;
 	private Player player;
-	private GameScreen gameScreen;
+	private GameWorld world;
 	private float speed = 0.7f; 
+	private final Array<Object> nearby = new Array<>(false, 8);
+	private final Vector2 direction = new Vector2();
+	private final Vector2 waypoint = new Vector2();
+	private PathPlanner planner;
+	private long searchBudgetNanos = PathPlanner.SEARCH_BUDGET_NANOS;
+	private FlowField flowField;
+	private LineOfSight lineOfSight;
+	private boolean chasing = true;
 
 	/** 
 	 * Constructor for <code> Dean </code>, with a set of coordinates. 
 	 * @param x Horizontal position for dean to spawn in.
 	 * @param y Vertical position for dean to spawn in.
+	 * @param texture Already loaded sprite of dean, or null if it is not drawn.
 	 * @param player Player class to follow. 
-	 * @param gameScreen Screen rendering the game.
+	 * @param world World the dean moves around.
 	 */
-	public Dean(float x, float y, Player player, GameScreen gameScreen){
+	public Dean(float x, float y, TextureRegion texture, Player player, GameWorld world){
 		this.position = new Vector2(x, y);
 		this.startPosition = new Vector2(x,y); //store the starting position of the dean
-		this.texture = new Texture("Dean-front.png");
+		this.texture = texture;
 		this.player = player;
-		this.gameScreen = gameScreen;
+		this.world = world;
 		this.velocity = new Vector2();
 	}
 
 	/**
-	 * Update position of dean to get closer to player's new position.
+	 * Update position of dean to get closer to player's new position, following
+	 * a path around the walls of the map. The path is only searched for again
+	 * once the player moves onto another tile, or is read from the flow field
+	 * if one has been set. If the dean has to see the player first, it stands
+	 * still until it does.
 	 * @param delta Time elapsed since last update.
+	 * @see PathPlanner
+	 * @see #setFlowField(FlowField)
+	 * @see #setLineOfSight(LineOfSight)
 	 */
 	public void update(float delta) {
-		Vector2 direction = new Vector2(player.getPosition()).sub(position); 
-		direction.nor(); //normalise 
-
-		float newX = position.x + direction.x * speed; 
-		float newY = position.y + direction.y * speed; 
+		Vector2 target = player.getPosition();
+		if (!chasing) {
+			if (!lineOfSight.canSee(position.x, position.y, target.x, target.y)) {
+				return;
+			}
+			chasing = true;
+		}
+		if (flowField != null) {
+			if (flowField.getNextWaypoint(position.x, position.y, waypoint)) {
+				target = waypoint;
+			}
+		} else {
+			CollisionGrid grid = world.getCollisionGrid();
+			if (planner == null || planner.getGrid() != grid) {
+				planner = new PathPlanner(grid, searchBudgetNanos);
+			}
+			planner.update(position.x, position.y, target.x, target.y);
+			if (planner.nextWaypoint(position, speed, waypoint)) {
+				target = waypoint;
+			}
+		}
 
-		if(!gameScreen.isCellBlocked(newX, newY)) {
-		    position.set(newX, newY);
+		direction.set(target).sub(position);
+		float distance = direction.len();
+		if (distance == 0) {
+			return;
 		}
+		direction.scl(Math.min(speed, distance) / distance);
 
-		tryMoveDiagonally(delta, direction);
+		MoveResolver.CHARACTER.move(world.getCollisionGrid(), position, direction.x, direction.y);
 	}
 
 	/**
-	 * Attempt to move dean diagonally towards player if moving
-	 * in a straight line is not possible. 
-	 * @param delta Time elapsed since last update.
-	 * @param direction 2D Vector for position of player.
+	 * Chase the player by following a flow field shared with other chasers,
+	 * instead of searching for a path of its own. The field is not updated by the
+	 * dean, so its owner must move it to the player each frame before any chaser
+	 * is updated.
+	 * @param flowField Flow field leading to the player, or null to search for paths again.
+	 * @see FlowField#update(float, float)
 	 */
-	private void tryMoveDiagonally(float delta, Vector2 direction){
-		float newX = position.x + direction.x * speed;
-		if(!gameScreen.isCellBlocked(newX, position.y)) {
-		    position.x = newX;
-		    return;
-		}
+	public void setFlowField(FlowField flowField) {
+		this.flowField = flowField;
+	}
 
-		float newY = position.y + direction.y * speed;
-		 if(!gameScreen.isCellBlocked(position.x, newY)) {
-		    position.y = newY;
-		    return;
-		}
+	/**
+	 * Only start chasing the player once the dean can see them, checked from the
+	 * dean's tile to the player's. Once seen the player is chased around walls
+	 * until they are caught.
+	 * @param lineOfSight Line of sight over the map, or null to always chase.
+	 */
+	public void setLineOfSight(LineOfSight lineOfSight) {
+		this.lineOfSight = lineOfSight;
+		chasing = lineOfSight == null;
+	}
+
+	/**
+	 * Set how long each search for a path may take out of an update, from the
+	 * next path planned.
+	 * @param budgetNanos Time in nanoseconds, or {@link PathPlanner#UNLIMITED_BUDGET}
+	 * for searches that never depend on how fast the machine is.
+	 */
+	public void setSearchBudget(long budgetNanos) {
+		this.searchBudgetNanos = budgetNanos;
+		planner = null;
+	}
+
+	/**
+	 * Set how far the dean moves each update.
+	 * @param speed Distance in world units per update, 0.7 by default.
+	 */
+	public void setSpeed(float speed) {
+		this.speed = speed;
+	}
+
+	/**
+	 * Set where the dean is sent after every other time they catch the player,
+	 * away from where they started.
+	 * @param x Horizontal world position, 384 by default.
+	 * @param y Vertical world position, 400 by default.
+	 */
+	public void setRespawnPosition(float x, float y) {
+		respawnPosition.set(x, y);
+	}
+
+	/**
+	 * Return if the dean has seen the player and is chasing them.
+	 * @return True if chasing.
+	 */
+	public boolean isChasing() {
+		return chasing;
+	}
+
+	/**
+	 * Return if the dean is close enough to the player to catch them.
+	 * @param player Player being chased.
+	 * @param entities Broadphase holding the player and the dean.
+	 * @return True if the player is within 16px of the dean.
+	 */
+	public boolean hasCaught(Player player, SpatialHash<Object> entities) {
+		entities.queryRadius(position.x, position.y, 16f, nearby);
+		return nearby.contains(player, true);
 	}
 
 	/**
@@ -80,8 +168,12 @@ public class Dean {
 			//if the number of times caught by the dean is even send them to a new positon than their starting, otherwise send them to the start
 			position.set(startPosition);
 		}else{
-			position.set(390, 400);
+			position.set(respawnPosition);
 		}
+		if (planner != null) {
+			planner.invalidate();
+		}
+		chasing = lineOfSight == null;
 	}		
 
 	/**
@@ -93,7 +185,18 @@ public class Dean {
 	 * @see com.badlogic.gdx.Screen#render Screen.render().
 	 */
 	public void render(SpriteBatch batch) {
-		batch.draw(texture, position.x, position.y, 16, 16); 
+		render(batch, position.x, position.y);
+	}
+
+	/**
+	 * Draw the dean at given coordinates, such as part way between two
+	 * simulation steps.
+	 * @param batch SpriteBatch used by application to render all sprites.
+	 * @param x Horizontal world position to draw at.
+	 * @param y Vertical world position to draw at.
+	 */
+	public void render(SpriteBatch batch, float x, float y) {
+		batch.draw(texture, x, y, 16, 16);
 	}
 
 	/**
@@ -107,13 +210,4 @@ public class Dean {
 	 * @return Rectangle collision box. 
 	 */
 	public Rectangle getBounds() { return new Rectangle(position.x, position.y, 16,16); }
-
-	/**
-	 * Convenience method to be called by application to dispose of textures 
-	 * of player's sprites when the application's dispose method is called. 
-	  @see com.badlogic.gdx.Screen#dispose Screen.dispose().
-	 */
-	public void dispose() {
-		texture.dispose();
-	}
 }
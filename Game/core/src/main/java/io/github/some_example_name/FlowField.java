@@ -0,0 +1,413 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * <code> FlowField </code> stores the walking distance from every tile of a
+ * <code> CollisionGrid </code> to one goal tile, usually the player's, so any
+ * number of chasers can share one search: each chaser only looks at the tiles
+ * around its own to find which way is downhill, whatever the number of chasers.
+ * <p>
+ * Moves follow the same rules as <code> TileGraph </code>: eight directions,
+ * never cutting the corner of a wall, and blocked tiles can be left but not
+ * entered. Distances are kept in tenths of a tile, 10 for a straight move and 14
+ * for a diagonal one, in primitive arrays indexed like the grid.
+ * <p>
+ * When the goal moves to a neighbouring tile the field is repaired rather than
+ * rebuilt: tiles that got closer are found by spreading out from the new goal,
+ * tiles whose old route no longer reaches the goal are found by spreading out from
+ * the old one, and only those are searched again. The field does not watch the
+ * grid, so call {@link #rebuild()} after editing it.
+ * @see PathPlanner
+ */
+public class FlowField {
+	/** Cost of a straight move, in tenths of a tile. */
+	public static final int STRAIGHT_COST = 10;
+	/** Cost of a diagonal move, in tenths of a tile. */
+	public static final int DIAGONAL_COST = 14;
+	/** Distance of tiles from which the goal cannot be reached. */
+	public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+	private static final int[] STEP_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+	private static final int[] STEP_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+	private final CollisionGrid grid;
+	private final int width;
+	private final int[] distance;
+	/** Tiles given a shorter distance by the current update hold its generation. */
+	private final int[] decreased;
+	/** Tiles whose distance must be searched again by the current update hold its generation. */
+	private final int[] invalid;
+	private final IntArray invalidTiles = new IntArray();
+	private final IntHeap open = new IntHeap();
+	private int generation;
+	private int goal = -1;
+	private int tilesSettled;
+
+	/**
+	 * Constructor for <code> FlowField </code>. The field has no goal, and every
+	 * tile is unreachable, until {@link #setGoal(int, int)} or
+	 * {@link #update(float, float)} is first called.
+	 * @param grid Collision grid to spread over.
+	 */
+	public FlowField(CollisionGrid grid) {
+		this.grid = grid;
+		this.width = grid.getWidth();
+		distance = new int[width * grid.getHeight()];
+		decreased = new int[distance.length];
+		invalid = new int[distance.length];
+		Arrays.fill(distance, UNREACHABLE);
+	}
+
+	/**
+	 * Move the goal to the tile under the centre of a 16x16 entity, the same tile
+	 * {@link CollisionGrid#isBlockedAt(float, float)} checks. Nothing is done while
+	 * the entity stays on one tile. Call once per frame, before any chaser reads
+	 * the field.
+	 * @param x Horizontal world position of entity.
+	 * @param y Vertical world position of entity.
+	 * @return True if the goal changed tile.
+	 */
+	public boolean update(float x, float y) {
+		int tileX = (int) Math.floor((x + 8) / grid.getTileWidth());
+		int tileY = (int) Math.floor((y + 8) / grid.getTileHeight());
+		if (!grid.inBounds(tileX, tileY) || tileY * width + tileX == goal) {
+			return false;
+		}
+		setGoal(tileX, tileY);
+		return true;
+	}
+
+	/**
+	 * Move the goal to a tile, repairing the field if the tile neighbours the old
+	 * goal and rebuilding it otherwise.
+	 * @param tileX Horizontal tile index.
+	 * @param tileY Vertical tile index.
+	 */
+	public void setGoal(int tileX, int tileY) {
+		int next = tileY * width + tileX;
+		if (next == goal) {
+			return;
+		}
+		int previous = goal;
+		goal = next;
+		int stepX = tileX - previous % width;
+		int stepY = tileY - previous / width;
+		if (
+			previous >= 0 && Math.abs(stepX) <= 1 && Math.abs(stepY) <= 1 &&
+			!isBlocked(previous) && !isBlocked(next) && stepCost(previous, stepX, stepY) > 0
+		) {
+			repair(previous);
+		} else {
+			rebuild();
+		}
+	}
+
+	/**
+	 * Search the whole field again from the goal. Call after the grid has changed.
+	 */
+	public void rebuild() {
+		generation++;
+		tilesSettled = 0;
+		Arrays.fill(distance, UNREACHABLE);
+		if (goal < 0) {
+			return;
+		}
+		distance[goal] = 0;
+		open.clear();
+		open.push(goal, 0);
+		spread();
+	}
+
+	/**
+	 * Find where an entity should head for to get closer to the goal, the middle
+	 * of the neighbouring tile nearest to it.
+	 * @param x Horizontal world position of a 16x16 entity.
+	 * @param y Vertical world position of a 16x16 entity.
+	 * @param out Set to the world position to head for, the bottom left corner of a
+	 * 16x16 entity standing in the middle of that tile.
+	 * @return False if the entity is already on the goal's tile or cannot reach it.
+	 */
+	public boolean getNextWaypoint(float x, float y, Vector2 out) {
+		int next = nextTile((int) Math.floor((x + 8) / grid.getTileWidth()), (int) Math.floor((y + 8) / grid.getTileHeight()));
+		if (next < 0) {
+			return false;
+		}
+		out.set((next % width + 0.5f) * grid.getTileWidth() - 8, (next / width + 0.5f) * grid.getTileHeight() - 8);
+		return true;
+	}
+
+	/**
+	 * Find the neighbouring tile nearest to the goal, without creating any objects,
+	 * for chasers stored in arrays.
+	 * @param tileX Horizontal tile index.
+	 * @param tileY Vertical tile index.
+	 * @return Index of tile, <code> tileY * width + tileX </code>, or -1 if the tile
+	 * is the goal, is outside the grid or cannot reach the goal.
+	 * @see Crowd
+	 */
+	int nextTile(int tileX, int tileY) {
+		if (!grid.inBounds(tileX, tileY)) {
+			return -1;
+		}
+		int tile = tileY * width + tileX;
+		if (tile == goal) {
+			return -1;
+		}
+		int best = -1;
+		int bestDistance = distance[tile];
+		for (int i = 0; i < STEP_X.length; i++) {
+			if (stepCost(tile, STEP_X[i], STEP_Y[i]) == 0) {
+				continue;
+			}
+			int neighbour = tile + STEP_Y[i] * width + STEP_X[i];
+			if (isWalkable(neighbour) && distance[neighbour] < bestDistance) {
+				best = neighbour;
+				bestDistance = distance[neighbour];
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Return the walking distance from a tile to the goal.
+	 * @param tileX Horizontal tile index.
+	 * @param tileY Vertical tile index.
+	 * @return Distance in tenths of a tile, or {@link #UNREACHABLE}.
+	 */
+	public int getDistance(int tileX, int tileY) {
+		if (!grid.inBounds(tileX, tileY)) {
+			return UNREACHABLE;
+		}
+		return distance[tileY * width + tileX];
+	}
+
+	/**
+	 * Return the collision grid the field spreads over.
+	 * @return Collision grid.
+	 */
+	public CollisionGrid getGrid() { return grid; }
+
+	/**
+	 * Return how many tiles the last change of goal had to search, for comparing
+	 * repairs with rebuilds.
+	 * @return Number of tiles given a new distance.
+	 */
+	public int getTilesSettled() { return tilesSettled; }
+
+	/**
+	 * Helper method to repair the field after the goal moved from a neighbouring tile.
+	 */
+	private void repair(int previous) {
+		generation++;
+		tilesSettled = 0;
+
+		// tiles nearer to the new goal than they were to the old one
+		distance[goal] = 0;
+		decreased[goal] = generation;
+		open.clear();
+		open.push(goal, 0);
+		spread();
+
+		// tiles which only reached the old goal through tiles that have to be searched again,
+		// visited nearest first so every tile's own route is settled before it is checked
+		invalidTiles.clear();
+		open.clear();
+		open.push(previous, distance[previous]);
+		while (open.size > 0) {
+			int tile = open.pop();
+			if (invalid[tile] == generation || (tile != previous && hasRoute(tile))) {
+				continue;
+			}
+			invalid[tile] = generation;
+			invalidTiles.add(tile);
+			for (int i = 0; i < STEP_X.length; i++) {
+				int cost = stepCost(tile, STEP_X[i], STEP_Y[i]);
+				int neighbour = tile + STEP_Y[i] * width + STEP_X[i];
+				if (
+					cost > 0 && decreased[neighbour] != generation && invalid[neighbour] != generation &&
+					distance[neighbour] != UNREACHABLE && distance[neighbour] == distance[tile] + cost
+				) {
+					open.push(neighbour, distance[neighbour]);
+				}
+			}
+		}
+
+		// search those tiles again, starting from the tiles around them that are still right
+		for (int i = 0; i < invalidTiles.size; i++) {
+			distance[invalidTiles.get(i)] = UNREACHABLE;
+		}
+		open.clear();
+		for (int i = 0; i < invalidTiles.size; i++) {
+			int tile = invalidTiles.get(i);
+			int best = UNREACHABLE;
+			for (int j = 0; j < STEP_X.length; j++) {
+				int cost = stepCost(tile, STEP_X[j], STEP_Y[j]);
+				int neighbour = tile + STEP_Y[j] * width + STEP_X[j];
+				if (cost > 0 && isWalkable(neighbour) && distance[neighbour] != UNREACHABLE) {
+					best = Math.min(best, distance[neighbour] + cost);
+				}
+			}
+			if (best != UNREACHABLE) {
+				distance[tile] = best;
+				open.push(tile, best);
+			}
+		}
+		spread();
+	}
+
+	/**
+	 * Helper method to check if a tile still has a neighbour its distance was
+	 * measured through, which has not been invalidated.
+	 */
+	private boolean hasRoute(int tile) {
+		for (int i = 0; i < STEP_X.length; i++) {
+			int cost = stepCost(tile, STEP_X[i], STEP_Y[i]);
+			int neighbour = tile + STEP_Y[i] * width + STEP_X[i];
+			if (
+				cost > 0 && isWalkable(neighbour) && invalid[neighbour] != generation &&
+				distance[neighbour] != UNREACHABLE && distance[neighbour] + cost == distance[tile]
+			) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method to run Dijkstra's search from the tiles in the open list,
+	 * lowering distances wherever a shorter route is found.
+	 */
+	private void spread() {
+		while (open.size > 0) {
+			int key = open.peekKey();
+			int tile = open.pop();
+			if (key != distance[tile]) {
+				continue;
+			}
+			tilesSettled++;
+			// blocked tiles are given a distance, so they can be walked out of, but no route goes through them
+			if (!isWalkable(tile)) {
+				continue;
+			}
+			for (int i = 0; i < STEP_X.length; i++) {
+				int cost = stepCost(tile, STEP_X[i], STEP_Y[i]);
+				if (cost == 0) {
+					continue;
+				}
+				int neighbour = tile + STEP_Y[i] * width + STEP_X[i];
+				int through = key + cost;
+				if (through < distance[neighbour]) {
+					distance[neighbour] = through;
+					decreased[neighbour] = generation;
+					open.push(neighbour, through);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Helper method to find the cost of a step between a tile and one of its
+	 * neighbours, either way, or 0 if the neighbour is outside the grid or the
+	 * step cuts the corner of a blocked tile. Whether either tile is blocked is
+	 * not checked.
+	 */
+	private int stepCost(int tile, int stepX, int stepY) {
+		int x = tile % width;
+		int y = tile / width;
+		int toX = x + stepX;
+		int toY = y + stepY;
+		if (!grid.inBounds(toX, toY)) {
+			return 0;
+		}
+		if (stepX != 0 && stepY != 0) {
+			if (grid.isBlocked(toX, y) || grid.isBlocked(x, toY)) {
+				return 0;
+			}
+			return DIAGONAL_COST;
+		}
+		return STRAIGHT_COST;
+	}
+
+	/**
+	 * Helper method to check if routes can pass through a tile: any free tile, and
+	 * the goal even if it is blocked.
+	 */
+	private boolean isWalkable(int tile) {
+		return tile == goal || !isBlocked(tile);
+	}
+
+	/**
+	 * Helper method to check the grid for a tile by its index.
+	 */
+	private boolean isBlocked(int tile) {
+		return grid.isBlocked(tile % width, tile / width);
+	}
+
+	/**
+	 * Binary min heap of tile indices keyed by distance, in two primitive arrays.
+	 * A tile is pushed again when its distance drops, and the stale entry is
+	 * skipped when it is popped.
+	 */
+	private static class IntHeap {
+		private int[] tiles = new int[64];
+		private int[] keys = new int[64];
+		int size;
+
+		void clear() {
+			size = 0;
+		}
+
+		void push(int tile, int key) {
+			if (size == tiles.length) {
+				tiles = Arrays.copyOf(tiles, size * 2);
+				keys = Arrays.copyOf(keys, size * 2);
+			}
+			int i = size++;
+			while (i > 0) {
+				int parent = (i - 1) >>> 1;
+				if (keys[parent] <= key) {
+					break;
+				}
+				tiles[i] = tiles[parent];
+				keys[i] = keys[parent];
+				i = parent;
+			}
+			tiles[i] = tile;
+			keys[i] = key;
+		}
+
+		int peekKey() {
+			return keys[0];
+		}
+
+		int pop() {
+			int top = tiles[0];
+			size--;
+			int tile = tiles[size];
+			int key = keys[size];
+			int i = 0;
+			while (true) {
+				int child = 2 * i + 1;
+				if (child >= size) {
+					break;
+				}
+				if (child + 1 < size && keys[child + 1] < keys[child]) {
+					child++;
+				}
+				if (keys[child] >= key) {
+					break;
+				}
+				tiles[i] = tiles[child];
+				keys[i] = keys[child];
+				i = child;
+			}
+			tiles[i] = tile;
+			keys[i] = key;
+			return top;
+		}
+	}
+}
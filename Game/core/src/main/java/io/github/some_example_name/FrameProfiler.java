@@ -0,0 +1,134 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+/**
+ * <code> FrameProfiler </code> times the phases of each frame with
+ * <code> System.nanoTime </code>, keeping the last {@link #HISTORY} frames of each
+ * phase in a ring buffer, and finds percentiles of them for
+ * <code> ProfilerOverlay </code>.
+ * <p>
+ * A frame is started with {@link #beginFrame()}, and each call to
+ * {@link #mark(int)} gives the time since the last mark to a phase. All buffers are
+ * made up front, so profiling a frame or finding percentiles creates no objects,
+ * and the profiler never causes the garbage collection it may be used to look for.
+ * @see ProfilerOverlay
+ */
+public class FrameProfiler {
+	/** Phase reading the keyboard, or the latest snapshot of a threaded world. */
+	public static final int INPUT = 0;
+	/** Phase stepping the world and its entities. */
+	public static final int UPDATE = 1;
+	/** Phase drawing the map. */
+	public static final int MAP = 2;
+	/** Phase drawing the entities' sprites with the sprite batch. */
+	public static final int SPRITES = 3;
+	/** Phase drawing the HUD text. */
+	public static final int HUD = 4;
+	/** Phase acting and drawing the UI stage. */
+	public static final int STAGE = 5;
+	/** Number of phases. */
+	public static final int PHASES = 6;
+	/** Name of each phase, by its index. */
+	public static final String[] NAMES = { "input", "update", "map", "sprites", "hud", "stage" };
+
+	/**
+	 * Frames kept, four seconds at 60 frames a second. Below the size at which
+	 * <code> Arrays.sort </code> may make a work array, so sorting a copy of them
+	 * creates no objects.
+	 */
+	public static final int HISTORY = 240;
+
+	private final long[][] times = new long[PHASES][HISTORY];
+	private final long[] sorted = new long[HISTORY];
+	private int frame;
+	private int frames;
+	private long last;
+
+	/**
+	 * Start timing a frame, clearing its slot in the ring buffers.
+	 */
+	public void beginFrame() {
+		for (int phase = 0; phase < PHASES; phase++) {
+			times[phase][frame] = 0;
+		}
+		last = System.nanoTime();
+	}
+
+	/**
+	 * End a phase, giving it the time since the frame began or the last phase
+	 * ended. A phase marked more than once in a frame is given the sum.
+	 * @param phase Phase, such as {@link #MAP}.
+	 */
+	public void mark(int phase) {
+		long now = System.nanoTime();
+		times[phase][frame] += now - last;
+		last = now;
+	}
+
+	/**
+	 * Finish timing a frame, so the next frame is kept in the next slot.
+	 */
+	public void endFrame() {
+		frame = (frame + 1) % HISTORY;
+		frames = Math.min(frames + 1, HISTORY);
+	}
+
+	/**
+	 * Find a percentile of a phase's times over the frames kept.
+	 * @param phase Phase, such as {@link #MAP}.
+	 * @param percentile Percentile between 0 and 100, such as 95.
+	 * @return Time in nanoseconds that this share of frames took no longer than, or 0 before any frame.
+	 */
+	public long getPercentile(int phase, float percentile) {
+		sort(phase);
+		return sortedAt(percentile);
+	}
+
+	/**
+	 * Fill in several percentiles of a phase at once, sorting its times only once.
+	 * @param phase Phase, such as {@link #MAP}.
+	 * @param percentiles Percentiles between 0 and 100.
+	 * @param out Time in nanoseconds for each percentile, in the same order.
+	 */
+	public void getPercentiles(int phase, float[] percentiles, long[] out) {
+		sort(phase);
+		for (int i = 0; i < percentiles.length; i++) {
+			out[i] = sortedAt(percentiles[i]);
+		}
+	}
+
+	/**
+	 * Return time a phase took in the last frame ended.
+	 * @param phase Phase, such as {@link #MAP}.
+	 * @return Time in nanoseconds.
+	 */
+	public long getLast(int phase) {
+		return frames == 0 ? 0 : times[phase][(frame + HISTORY - 1) % HISTORY];
+	}
+
+	/**
+	 * Return number of frames kept, up to {@link #HISTORY}.
+	 * @return Frame count.
+	 */
+	public int getFrames() { return frames; }
+
+	/**
+	 * Helper method to sort a copy of a phase's times.
+	 */
+	private void sort(int phase) {
+		System.arraycopy(times[phase], 0, sorted, 0, frames);
+		Arrays.sort(sorted, 0, frames);
+	}
+
+	/**
+	 * Helper method to find a percentile of the sorted times, by nearest rank.
+	 */
+	private long sortedAt(float percentile) {
+		if (frames == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(percentile / 100 * frames) - 1;
+		return sorted[Math.max(0, Math.min(frames - 1, rank))];
+	}
+}
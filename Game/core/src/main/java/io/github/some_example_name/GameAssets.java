@@ -0,0 +1,230 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
+import com.badlogic.gdx.assets.loaders.SkinLoader;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * <code> GameAssets </code> loads everything <code> GameScreen </code> needs through
+ * an <code> AssetManager </code>, a little each frame, so the game can start
+ * loading while the menu and tutorial are shown instead of stalling the frame the
+ * game starts on. Entities are given their sprites from here rather than loading
+ * their own, and all of them are disposed together with the manager.
+ * <p>
+ * Sprites, the default font and the UI skin's font are all regions of one texture
+ * atlas, packed by the <code> packTextures </code> Gradle task, so everything
+ * <code> GameScreen </code> draws with its sprite batch comes from a single texture.
+ * @see com.badlogic.gdx.assets.AssetManager AssetManager
+ */
+public class GameAssets implements Disposable {
+	/** Map played by <code> GameScreen </code>. Its compiled form is used when it exists. */
+	public static final String MAP = "Tile Maps/Final Game Map - Maze.tmx";
+	/** Atlas holding every sprite and font page drawn by <code> GameScreen </code>. */
+	public static final String ATLAS = "atlas/game.atlas";
+	/** Names of sprite regions in {@link #ATLAS}, the file names they were packed from. */
+	public static final String PLAYER_FRONT = "Player-front";
+	public static final String PLAYER_BACK = "Player-back";
+	public static final String PLAYER_SIDE = "Player-side";
+	public static final String DEAN = "Dean-front";
+	public static final String NPC = "NPC";
+	public static final String LOCKER = "locker";
+	public static final String BUS_TICKET = "bus-ticket";
+	public static final String TIMER_DING = "ding.wav";
+	public static final String UI_SKIN = "ui/uiskin.json";
+	/** libGDX's built in font, the one <code> new BitmapFont() </code> loads. */
+	public static final String DEFAULT_FONT = "com/badlogic/gdx/utils/lsans-15.fnt";
+	/** Image shown by <code> TutorialScreen </code>. */
+	public static final String TUTORIAL = "Tutorial_how_to_play.png";
+
+	/** Time in milliseconds loading may take out of each frame. */
+	private static final int FRAME_BUDGET_MILLIS = 8;
+
+	private final AssetManager manager;
+	private final String mapFile;
+	private Texture tutorialImage;
+
+	/**
+	 * Constructor for <code> GameAssets </code>, using a new asset manager that
+	 * resolves internal files.
+	 */
+	public GameAssets() {
+		this(new AssetManager());
+	}
+
+	/**
+	 * Constructor for <code> GameAssets </code>.
+	 * @param manager Asset manager to load with, owned by this from now on.
+	 */
+	public GameAssets(AssetManager manager) {
+		this.manager = manager;
+		manager.setLoader(TiledMap.class, new TmxMapLoader(manager.getFileHandleResolver()));
+		manager.setLoader(TiledMap.class, CompiledMapLoader.EXTENSION, new CompiledMapLoader(manager.getFileHandleResolver()));
+		mapFile = CompiledMapLoader.hasCompiled(MAP) ? CompiledMapLoader.compiledPath(MAP) : MAP;
+	}
+
+	/**
+	 * Queue every asset of the game screen. Nothing is loaded until
+	 * {@link #update()} or {@link #finishLoading()} is called. The atlas, sound,
+	 * skin and default font are queued ahead of the map, so
+	 * {@link #finishLoadingShared()} does not wait for the map.
+	 */
+	public void queueGameAssets() {
+		manager.load(ATLAS, TextureAtlas.class);
+		manager.load(TIMER_DING, Sound.class);
+		// both fonts take their page from the atlas instead of a texture of their own
+		manager.load(UI_SKIN, Skin.class, new SkinLoader.SkinParameter(ATLAS));
+		BitmapFontLoader.BitmapFontParameter fontParameter = new BitmapFontLoader.BitmapFontParameter();
+		fontParameter.atlasName = ATLAS;
+		manager.load(DEFAULT_FONT, BitmapFont.class, fontParameter);
+		manager.load(mapFile, TiledMap.class);
+	}
+
+	/**
+	 * Carry on loading for at most a few milliseconds. Call once per frame.
+	 * @return True once everything queued has loaded.
+	 */
+	public boolean update() {
+		return manager.update(FRAME_BUDGET_MILLIS);
+	}
+
+	/**
+	 * Block until everything queued has loaded.
+	 */
+	public void finishLoading() {
+		manager.finishLoading();
+	}
+
+	/**
+	 * Block until the atlas, skin and default font have loaded, which every screen
+	 * draws with. These are small, so this returns quickly and the map carries on
+	 * loading in the background.
+	 */
+	public void finishLoadingShared() {
+		manager.finishLoadingAsset(UI_SKIN);
+		manager.finishLoadingAsset(DEFAULT_FONT);
+	}
+
+	/**
+	 * Returns if everything queued has loaded.
+	 * @return True if loading has finished.
+	 */
+	public boolean isFinished() {
+		return manager.isFinished();
+	}
+
+	/**
+	 * Return how much of the queued assets have loaded.
+	 * @return Progress between 0 and 1.
+	 */
+	public float getProgress() {
+		return manager.getProgress();
+	}
+
+	/**
+	 * Return the atlas holding the game's sprites and font pages.
+	 * @return Loaded atlas.
+	 */
+	public TextureAtlas getAtlas() {
+		return manager.get(ATLAS, TextureAtlas.class);
+	}
+
+	/**
+	 * Return a sprite from the atlas. The region is shared, so callers that
+	 * flip or otherwise change it should copy it first.
+	 * @param name One of the region names in this class.
+	 * @return Region of the atlas.
+	 */
+	public TextureRegion getRegion(String name) {
+		TextureRegion region = getAtlas().findRegion(name);
+		if (region == null) {
+			throw new GdxRuntimeException("No region " + name + " in " + ATLAS + ". Run the packTextures task again.");
+		}
+		return region;
+	}
+
+	/**
+	 * Return the sound played when the game timer runs out.
+	 * @return Loaded sound.
+	 */
+	public Sound getTimerDing() {
+		return manager.get(TIMER_DING, Sound.class);
+	}
+
+	/**
+	 * Return the skin used by the game's UI.
+	 * @return Loaded skin.
+	 */
+	public Skin getSkin() {
+		return manager.get(UI_SKIN, Skin.class);
+	}
+
+	/**
+	 * Return libGDX's built in font, shared by entities showing dialog. It must
+	 * not be rescaled, as every user sees the change.
+	 * @return Loaded font.
+	 */
+	public BitmapFont getDefaultFont() {
+		return manager.get(DEFAULT_FONT, BitmapFont.class);
+	}
+
+	/**
+	 * Create a copy of libGDX's built in font that can be rescaled on its own,
+	 * still drawing from the atlas. The copy is disposed by the caller, which
+	 * leaves the atlas alone.
+	 * @return New font.
+	 */
+	public BitmapFont newDefaultFont() {
+		BitmapFont font = getDefaultFont();
+		return new BitmapFont(font.getData().fontFile, font.getRegion());
+	}
+
+	/**
+	 * Return the image shown by the tutorial, loading it the first time it is
+	 * asked for. It is kept out of the loading queue so the rest of the game still
+	 * loads if it is missing.
+	 * @return Tutorial image.
+	 */
+	public Texture getTutorialImage() {
+		if (tutorialImage == null) {
+			tutorialImage = new Texture(manager.getFileHandleResolver().resolve(TUTORIAL));
+		}
+		return tutorialImage;
+	}
+
+	/**
+	 * Return the game map.
+	 * @return Loaded map.
+	 */
+	public TiledMap getMap() {
+		return manager.get(mapFile, TiledMap.class);
+	}
+
+	/**
+	 * Return the asset manager, for loading assets not listed here.
+	 * @return Asset manager.
+	 */
+	public AssetManager getManager() {
+		return manager;
+	}
+
+	/**
+	 * Dispose every loaded asset.
+	 */
+	@Override
+	public void dispose() {
+		manager.dispose();
+		if (tutorialImage != null) {
+			tutorialImage.dispose();
+		}
+	}
+}
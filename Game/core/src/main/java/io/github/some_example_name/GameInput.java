@@ -0,0 +1,38 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * <code> GameInput </code> is where gameplay reads the keyboard from, so it can
+ * read keys passed over from the render thread when the game is simulated on
+ * its own thread.
+ * @see QueuedInput
+ */
+public interface GameInput {
+	/** Reads the keyboard through <code> Gdx.input </code>, on the render thread. */
+	GameInput GDX = new GameInput() {
+		@Override
+		public boolean isKeyPressed(int key) {
+			return Gdx.input.isKeyPressed(key);
+		}
+
+		@Override
+		public boolean isKeyJustPressed(int key) {
+			return Gdx.input.isKeyJustPressed(key);
+		}
+	};
+
+	/**
+	 * Return if a key is held down.
+	 * @param key Key code from {@link com.badlogic.gdx.Input.Keys}.
+	 * @return True if held.
+	 */
+	boolean isKeyPressed(int key);
+
+	/**
+	 * Return if a key was pressed since the last frame or step.
+	 * @param key Key code from {@link com.badlogic.gdx.Input.Keys}.
+	 * @return True if just pressed.
+	 */
+	boolean isKeyJustPressed(int key);
+}
@@ -31,9 +31,8 @@ public class GameOverScreen implements Screen {
         camera = new OrthographicCamera();
         camera.setToOrtho(false, 640, 480);
 
-        batch = new SpriteBatch();
-        font = new BitmapFont();
-        font.getData().setScale(2.5f);
+        batch = game.getRenderContext().getBatch();
+        font = game.getRenderContext().getTitleFont();
     }
 
     /**
@@ -56,22 +55,20 @@ public class GameOverScreen implements Screen {
         batch.end();
 
         if(Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            game.setScreen(new MenuScreen(game));
+            game.getScreens().showMenu();
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.L)) {
-            game.setScreen(new LeaderBoard(game, 0)); //final score is 0 as player lost
+            game.getScreens().showLeaderBoard(null); //no score to submit as player lost
         }
     }
 
     /**
-     * Dispose game over screen assests when the screen is exited
+     * Nothing to dispose, as the batch and font are borrowed from the game's
+     * render context
      * @see com.badlogic.gdx.Screen#dispose Screen.dispose()
      */
     @Override
-    public void dispose(){
-        batch.dispose();;
-        font.dispose();
-    }
+    public void dispose(){}
 
     /**
      * Unimplemented
@@ -0,0 +1,57 @@
+package io.github.some_example_name;
+
+/**
+ * <code> GameRules </code> holds the numbers a round is balanced by: how fast the
+ * dean is, how long and how fast the locker's boost is, where the dean is sent
+ * after catching the player, and how much each catch costs the score. Rules never
+ * change once made, so one set can be shared by any number of worlds on any
+ * number of threads.
+ * @see GameWorld#setRules(GameRules)
+ * @see BalanceHarness
+ */
+public final class GameRules {
+	/** Rules the game is played with. */
+	public static final GameRules DEFAULT = new GameRules(0.7f, 10f, 2f, 384, 400, 5);
+
+	/** Distance the dean moves each step. */
+	public final float deanSpeed;
+	/** Seconds the locker's speed boost lasts. */
+	public final float boostSeconds;
+	/** Distance the player moves each step while boosted, rather than 1. */
+	public final float boostSpeed;
+	/** Where the dean is sent after every other catch. */
+	public final float deanRespawnX;
+	/** Where the dean is sent after every other catch. */
+	public final float deanRespawnY;
+	/** Points taken off the final score each time the player is caught. */
+	public final int caughtPenalty;
+
+	/**
+	 * Constructor for <code> GameRules </code>.
+	 * @param deanSpeed Distance the dean moves each step.
+	 * @param boostSeconds Seconds the locker's speed boost lasts.
+	 * @param boostSpeed Distance the player moves each step while boosted.
+	 * @param deanRespawnX Horizontal position the dean is sent to after every other catch.
+	 * @param deanRespawnY Vertical position the dean is sent to after every other catch.
+	 * @param caughtPenalty Points taken off the final score for each catch.
+	 */
+	public GameRules(float deanSpeed, float boostSeconds, float boostSpeed,
+		float deanRespawnX, float deanRespawnY, int caughtPenalty) {
+		this.deanSpeed = deanSpeed;
+		this.boostSeconds = boostSeconds;
+		this.boostSpeed = boostSpeed;
+		this.deanRespawnX = deanRespawnX;
+		this.deanRespawnY = deanRespawnY;
+		this.caughtPenalty = caughtPenalty;
+	}
+
+	/**
+	 * Return the rules as a line for reports.
+	 * @return Every number of the rules.
+	 */
+	@Override
+	public String toString() {
+		return String.format("dean %.2f, boost %.0fs x%.1f, respawn (%.0f, %.0f), penalty %d",
+			deanSpeed, boostSeconds, boostSpeed, deanRespawnX, deanRespawnY, caughtPenalty);
+	}
+}
@@ -1,37 +1,69 @@
 package io.github.some_example_name;
 
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.MapObjects;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 
-/** <code> GameScreen </code> implements the main gameplay logic and rendering as one class,
- * to process user input, and redraw the frames and update the game asset states as
- * the game progresses.
+/** <code> GameScreen </code> draws a round of the game and feeds it the player's
+ * keys, redrawing the frames as the game progresses.
+ * <p>
+ * The rules of the round are kept in a <code> GameWorld </code>, whose characters
+ * and items are entities of an Ashley <code> Engine </code>. This screen gives
+ * those entities their sprites, and draws them with a render system added to the
+ * world's engine.
+ * <p>
+ * The world can optionally be simulated on a thread of its own, set with
+ * {@link #setThreaded(boolean)} or the {@value #THREADED_SIMULATION} system
+ * property. Each step then copies what is drawn into a <code> WorldSnapshot </code>
+ * handed to the render thread through a <code> SnapshotBuffer </code>, and keys
+ * are passed the other way through a <code> QueuedInput </code>, so neither
+ * thread waits for the other and slow steps do not drop frames.
+ * <p>
+ * The keys of every step are recorded, and the recording of the best won round is
+ * kept in {@value #BEST_RUN}. Its player is drawn as a ghost in later rounds, by
+ * replaying it in a world of its own alongside the player's.
+ * <p>
+ * An <code> AutoplayBot </code> can play in place of the keyboard, set with
+ * {@link #setAutoplay(AutoplayBot)} or the {@value AutoplayBot#AUTOPLAY} system
+ * property. Rounds then start over as soon as they end, logging each one's
+ * result, frame times and heap, to soak the game for hours.
+ * <p>
+ * A horde of chasers can be set loose besides the dean with
+ * {@link #setHorde(int)} or the {@value #HORDE} system property. The horde is
+ * drawn straight from the world's <code> Crowd </code> rather than a snapshot, so
+ * a round with a horde is always simulated on the render thread.
+ * <p>
+ * Each phase of a frame is timed by a <code> FrameProfiler </code>, shown with the
+ * frame's GL counts by a <code> ProfilerOverlay </code> toggled with
+ * {@value #PROFILER_KEY_NAME}.
  * @see com.badlogic.gdx.Screen Screen.
  */
 
 public class GameScreen implements Screen {
 	private final MyGame game;
-	private boolean isPaused = false;
 
 	TiledMap tiledMap;
-	OrthogonalTiledMapRenderer mapRenderer;
+	StaticTiledMapRenderer mapRenderer;
+	CollisionGrid collisionGrid;
 	OrthographicCamera camera;
 	FitViewport viewport;
 
@@ -46,72 +78,168 @@ public class GameScreen implements Screen {
 	private BusTicket busTicket;
 	private Locker locker;
 	private BitmapFont font;
-	private boolean canPickUpTicket = false;
-
-	private Rectangle busInteractionArea;
-	private boolean canEndGame = false;
+	private final HudText positiveEvent;
+	private final HudText negativeEvent;
+	private final HudText hiddenEvent;
 
 	private final int MAP_WIDTH = 640;
 	private final int MAP_HEIGHT = 640;
+	/** Time in seconds simulated by each step, whatever the frame rate. */
+	public static final float TIME_STEP = GameWorld.TIME_STEP;
+	/** Longest frame simulated in full, so a hitch does not leave the game catching up for seconds. */
+	private static final float MAX_FRAME_TIME = 0.25f;
+	/** System property that simulates the game on its own thread when "true". */
+	public static final String THREADED_SIMULATION = "game.threadedSimulation";
+	/** System property giving the number of chasers in a horde set loose besides the dean. */
+	public static final String HORDE = "game.horde";
+	/** Local file holding the recording of the best won round. */
+	public static final String BEST_RUN = "best-run" + InputRecording.EXTENSION;
+	/** Key showing or hiding the profiler overlay. */
+	public static final int PROFILER_KEY = Input.Keys.F3;
+	/** Name of {@link #PROFILER_KEY}. */
+	public static final String PROFILER_KEY_NAME = "F3";
+	/** Opacity the best run's ghost is drawn with. */
+	private static final float GHOST_ALPHA = 0.4f;
+	/** Keys read for each of the world's key bits, in the order of the bits. */
+	private static final int[][] KEYS = {
+		{ Input.Keys.W, Input.Keys.UP },
+		{ Input.Keys.S, Input.Keys.DOWN },
+		{ Input.Keys.A, Input.Keys.LEFT },
+		{ Input.Keys.D, Input.Keys.RIGHT },
+		{ Input.Keys.E },
+		{ Input.Keys.P },
+	};
 
 	private Dean dean;
+	private final TextureRegion hordeRegion;
+	private final Rectangle view = new Rectangle();
 	private NPC friend;
-	private int timesCaughtByDean = 0;
-	private BitmapFont catchCounterFont;
+	private final GameWorld world;
+
+	private final RenderSystem renderSystem;
+	private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+	private final PositionComponent playerPosition;
+	private final Vector2 drawnPlayer = new Vector2();
+	private float accumulator;
+	private int taps;
+
+	private Rectangle ticketArea;
+	private Rectangle busArea;
+	private InputRecording recording;
+	private InputReplay replay;
+	private InputRecording bestRun;
+	private GameWorld ghost;
+	private InputReplay ghostReplay;
+
+	private AutoplayBot autoplay;
+	private int soakRounds;
+	private int roundFrames;
+	private float roundFrameTime;
+	private float worstFrameTime;
+
+	private final FrameProfiler profiler = new FrameProfiler();
+	private final ProfilerOverlay profilerOverlay;
+
+	private GameInput input = GameInput.GDX;
+	private final QueuedInput queuedInput = new QueuedInput();
+	private final SnapshotBuffer<WorldSnapshot> snapshots;
+	private final WorldSnapshot frame;
+	private WorldSnapshot drawn;
+	private SimulationThread simulation;
+	private boolean threaded;
 
 	/**
-	 * Constructor for <code> GameScreen </code>, using the game creator
-	 * in <code> MyGame </code> to create all main game and UI assets.
+	 * Constructor for <code> GameScreen </code>, using the assets already
+	 * loaded by <code> MyGame </code> for the map, entities and UI.
 	 * @param game Game creator.
+	 * @see GameAssets GameAssets
 	 */
 	public GameScreen(MyGame game) {
 		this.game = game;
+		GameAssets assets = game.getAssets();
 
 		camera = new OrthographicCamera();
 		camera.setToOrtho(false, MAP_WIDTH, MAP_HEIGHT);
 		camera.zoom=0.5f;
 		camera.update();
 
-		tiledMap = new TmxMapLoader().load("Tile Maps/Final Game Map - Maze.tmx");
+		tiledMap = assets.getMap();
+		collisionGrid = CollisionGrid.forMap(tiledMap);
 
-		mapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
+		RenderContext renderContext = game.getRenderContext();
+		mapRenderer = new StaticTiledMapRenderer(tiledMap, 1f, renderContext.getMapShader());
 		viewport = new FitViewport(MAP_WIDTH, MAP_HEIGHT, camera);
 
-		batch = new SpriteBatch();
-		player = new Player(145, 70);
-		locker = new Locker(495, 575);
-		dean = new Dean(90, 450, player, this);
-		friend = new NPC(560, 300);
-
-		catchCounterFont = new BitmapFont();
-		catchCounterFont.getData().setScale(1.5f);
-		font = new BitmapFont();
-
-		MapObjects eventObjects = tiledMap.getLayers().get("Events").getObjects();
-
-		MapObject ticketObject = eventObjects.get("BusTicket");
-		if (ticketObject != null && ticketObject instanceof RectangleMapObject) {
-		    RectangleMapObject rect = (RectangleMapObject) ticketObject;
-		    busTicket = new BusTicket(rect.getRectangle().x, rect.getRectangle().y);
+		batch = renderContext.getBatch();
+		font = renderContext.getFont();
+		//the three events encountered checklists in the top left hand corner of the screen
+		positiveEvent = new HudText(font, "Positive Event Encountered = ", "/1", 35, 630);
+		negativeEvent = new HudText(font, "Negative Event Encountered = ", "/1", 35, 610);
+		hiddenEvent = new HudText(font, "Hidden Event Encountered = ", "/1", 35, 590);
+		player = new Player(GameWorld.PLAYER_X, GameWorld.PLAYER_Y,
+			assets.getRegion(GameAssets.PLAYER_FRONT),
+			assets.getRegion(GameAssets.PLAYER_BACK),
+			assets.getRegion(GameAssets.PLAYER_SIDE));
+		locker = new Locker(495, 575, assets.getRegion(GameAssets.LOCKER), font);
+		friend = new NPC(560, 300, assets.getRegion(GameAssets.NPC), font);
+
+		ticketArea = GameWorld.findEvent(tiledMap, "BusTicket");
+		busArea = GameWorld.findEvent(tiledMap, "Bus");
+		if (ticketArea != null) {
+		    busTicket = new BusTicket(ticketArea.x, ticketArea.y, assets.getRegion(GameAssets.BUS_TICKET));
 		}
 
-		MapObject busObject = eventObjects.get("Bus");
-		if (busObject != null && busObject instanceof RectangleMapObject) {
-		    this.busInteractionArea = ((RectangleMapObject) busObject).getRectangle();
-		}
-
-		uiSkin = new Skin(Gdx.files.internal("ui/uiskin.json"));
-		uiStage = new Stage(new FitViewport(MAP_WIDTH, MAP_HEIGHT));
+		uiSkin = renderContext.getSkin();
+		// the stage's widgets are drawn by this screen's batch as part of the HUD
+		uiStage = new Stage(new FitViewport(MAP_WIDTH, MAP_HEIGHT), batch);
+		uiStage.getRoot().setTransform(false); // a transform would flush the batch
 		uiTable = new Table();
 		uiTable.setFillParent(true);
 		uiStage.addActor(uiTable);
-		gameTimer = new GameTimer(uiSkin, uiTable);
+		gameTimer = new GameTimer(uiSkin, uiTable, assets.getTimerDing(), GameWorld.ROUND_SECONDS);
 		uiTable.top().right().pad(10,0,0,10);
+		// with no GL to count, as under the headless backend, only times are shown
+		GLProfiler glProfiler = Gdx.graphics.getGL20() == null ? null : new GLProfiler(Gdx.graphics);
+		profilerOverlay = new ProfilerOverlay(profiler, font, batch, glProfiler);
+		profilerOverlay.setPosition(35, 560); // under the events checklist
+		uiStage.addActor(profilerOverlay);
+
+		world = new GameWorld(collisionGrid, player, locker, friend, busTicket, busArea, gameTimer);
+		dean = new Dean(96, 450, assets.getRegion(GameAssets.DEAN), player, world);
+		world.addChaser(dean);
+		hordeRegion = assets.getRegion(GameAssets.DEAN);
+		world.setHorde(Integer.getInteger(HORDE, 0));
+
+		renderSystem = new RenderSystem(batch);
+		world.getEngine().addSystem(renderSystem);
+		if (busTicket != null) {
+		    world.getEntity(busTicket).add(new SpriteComponent(busTicket::render, SpriteComponent.LAYER_ITEMS));
+		}
+		world.getEntity(locker).add(new SpriteComponent(locker::render, SpriteComponent.LAYER_CHARACTERS));
+		world.getEntity(dean).add(new SpriteComponent(dean::render, SpriteComponent.LAYER_CHARACTERS));
+		world.getEntity(friend).add(new SpriteComponent(friend::render, SpriteComponent.LAYER_CHARACTERS));
+		Entity playerEntity = world.getEntity(player);
+		playerEntity.add(new SpriteComponent(player::render, SpriteComponent.LAYER_PLAYER));
+		playerPosition = positions.get(playerEntity);
+
+		int count = world.getPositioned().size();
+		snapshots = new SnapshotBuffer<>(() -> new WorldSnapshot(count));
+		frame = new WorldSnapshot(count);
+		recording = new InputRecording(GameAssets.MAP, 0);
+		setGhost(loadBestRun());
+		if (Boolean.getBoolean(AutoplayBot.AUTOPLAY)) {
+			setAutoplay(new AutoplayBot(true));
+		}
+		setThreaded(Boolean.getBoolean(THREADED_SIMULATION));
 	}
 
 	/**
 	 * Update game state from last frame, and render a new frame for the Screen
-	 * using updated assets.
+	 * using updated assets. The game is simulated in steps of {@link #TIME_STEP},
+	 * as many as the time since the last frame covers, so it runs at the same
+	 * speed at any frame rate. What is left over is used to draw entities part way
+	 * between their last two steps. If the game is simulated on its own thread,
+	 * only the latest snapshot of it is drawn.
 	 * @param delta Time in seconds since last frame finished rendering.
 	 * @see com.badlogic.gdx.Screen#render Screen.render().
 	 */
@@ -119,244 +247,421 @@ public class GameScreen implements Screen {
 	public void render(float delta) {
 		Gdx.gl.glClearColor(0, 0, 0, 1);
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-
-		handleInput();
-
-		if (isPaused) {
-			// Render the current frame
-			camera.update();
-			mapRenderer.setView(camera);
-			mapRenderer.render();
-
-			batch.setProjectionMatrix(camera.combined);
-			batch.begin();
-
-			// Render the "Game Paused" message
-			font.draw(batch, "Game Paused", camera.position.x - 50, camera.position.y + 50);
-
-			// Render the player and other static elements
-			player.render(batch);
-			if (busTicket != null && busTicket.isCollected()) {
-				busTicket.renderAsIcon(batch, camera);
-			}
-
-			batch.end();
-
-			// Render the UI stage
-			uiStage.act(delta);
-			uiStage.draw();
-
-			return; // Skip the rest of the game logic
-		}
-
-		friend.update(player);
-		dean.update(delta);
-
-		if (player.getPosition().dst(dean.getPosition()) < 16f) {
-		    player.getPosition().set(145,70);
-			timesCaughtByDean++;
-		    dean.resetToStart(timesCaughtByDean); //send the dean back to his starting position or other side of the map to ensure he can't spawn camp the player
+		profiler.beginFrame();
+		if (Gdx.input.isKeyJustPressed(PROFILER_KEY)) {
+			setProfilerShown(!profilerOverlay.isVisible());
 		}
 
-		locker.update(player, delta);
-
-		if (busTicket != null) {
-		    if (!busTicket.isCollected()) {
-			if (player.getPosition().dst(busTicket.getPosition()) < 16) {
-			    busTicket.discover();
-			    canPickUpTicket = true;
-			} else {
-			    canPickUpTicket = false;
+		float alpha;
+		if (threaded) {
+			if (simulation == null) {
+				startSimulation();
 			}
-		    } else {
-			Rectangle playerRect = new Rectangle(
-				player.getPosition().x,
-				player.getPosition().y,
-				16,
-				16
-			);
-
-			if (
-				busInteractionArea != null &&
-				playerRect.overlaps(busInteractionArea)
-			) {
-			    canEndGame = true;
-			} else {
-			    canEndGame = false;
+			simulation.checkFailure();
+			queuedInput.record();
+			profiler.mark(FrameProfiler.INPUT);
+			drawn = snapshots.acquire();
+			profiler.mark(FrameProfiler.UPDATE);
+			float sinceStep = (System.nanoTime() - drawn.timeNanos) / 1e9f;
+			alpha = drawn.paused ? 1f : Math.min(sinceStep / TIME_STEP, 1f);
+		} else {
+			// a key tapped between two steps is still seen by the next one
+			int keys = readKeys(input);
+			taps |= keys;
+			profiler.mark(FrameProfiler.INPUT);
+			accumulator += Math.min(delta, MAX_FRAME_TIME);
+			while (accumulator >= TIME_STEP) {
+				step(keys | taps);
+				taps = 0;
+				accumulator -= TIME_STEP;
 			}
-		    }
+			writeSnapshot(frame);
+			drawn = frame;
+			profiler.mark(FrameProfiler.UPDATE);
+			alpha = drawn.paused ? 1f : accumulator / TIME_STEP;
 		}
+		draw(delta, drawn, alpha);
+		profilerOverlay.sample();
+		profiler.endFrame();
+		roundFrames++;
+		roundFrameTime += delta;
+		worstFrameTime = Math.max(worstFrameTime, delta);
+
+		if (drawn.outcome != GameWorld.PLAYING) {
+			finishRound(drawn);
+		} else if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+			game.getScreens().showMenu();
+		}
+	}
 
-		camera.position.set(player.getPosition().x, player.getPosition().y, 0);
+	/**
+	 * Helper method to draw a snapshot of the world, with the HUD on top.
+	 * @param delta Time in seconds since last frame.
+	 * @param snapshot Snapshot to draw.
+	 * @param alpha How far between the snapshot's last two steps to draw entities.
+	 */
+	private void draw(float delta, WorldSnapshot snapshot, float alpha) {
+		int player = playerPosition.index;
+		drawnPlayer.set(
+			snapshot.previousX[player] + (snapshot.x[player] - snapshot.previousX[player]) * alpha,
+			snapshot.previousY[player] + (snapshot.y[player] - snapshot.previousY[player]) * alpha);
+		camera.position.set(drawnPlayer.x, drawnPlayer.y, 0);
 		camera.update();
 
 		mapRenderer.setView(camera);
 		mapRenderer.render();
+		profiler.mark(FrameProfiler.MAP);
 
+		//every sprite and font below is a region of the same atlas texture, so the
+		//batch only flushes when it switches to screen coordinates for the HUD
 		batch.setProjectionMatrix(camera.combined);
 		batch.begin();
 
-		//switch to screen coordinates for the UI elements
-		batch.setProjectionMatrix(uiStage.getCamera().combined);
-
-		//draw the three events encountered checklists in the top left hand corner of the screen
-		//events get updates using a ternary operator which is like a condensed if/else statement -> it is set out like: (condition ? vali_if_true : value_if_false)
-		font.draw(batch, "Positive Event Encountered = " + (locker.isBoostActive() ? "1" : "0") + "/1", 35, 630);//this means if the locker boost is active (the bus ticket has been picked up) display that the event 1/1 has been enocuntered otherwide 0/1
-		font.draw(batch, "Negative Event Encountered = " + (timesCaughtByDean > 0 ? "1" : "0") + "/1", 35, 610);
-		font.draw(batch, "Hidden Event Encountered = " + (busTicket.isCollected() ? "1" : "0") + "/1", 35, 590);
+		if (snapshot.paused) {
+			// Render the "Game Paused" message
+			font.draw(batch, "Game Paused", camera.position.x - 50, camera.position.y + 50);
 
-		//switch back to the game coordinates for game objects
-		batch.setProjectionMatrix(camera.combined);
+			// Render the player and other static elements
+			this.player.render(batch, drawnPlayer.x, drawnPlayer.y);
+			if (snapshot.ticketCollected) {
+				busTicket.renderAsIcon(batch, camera);
+			}
+			profiler.mark(FrameProfiler.SPRITES);
 
-		if (busTicket != null) {
-		    busTicket.render(batch);
+			// Render the UI stage, with the same batch in screen coordinates
+			uiStage.act(delta);
+			batch.setProjectionMatrix(uiStage.getCamera().combined);
+			uiStage.getRoot().draw(batch, 1f);
+			batch.end();
+			profiler.mark(FrameProfiler.STAGE);
+			return;
 		}
 
-		if (canPickUpTicket) {
+		if (snapshot.canPickUpTicket) {
 		    font.draw(
 			batch,
 			"Press E to pick up",
-			player.getPosition().x - 50,
-			player.getPosition().y + 30
+			drawnPlayer.x - 50,
+			drawnPlayer.y + 30
 		   );
 		}
 
-		if (canEndGame) {
+		if (snapshot.canEndGame) {
 		    font.draw(
 			batch,
 			"Press E to use ticket",
-			player.getPosition().x - 50,
-			player.getPosition().y + 30
+			drawnPlayer.x - 50,
+			drawnPlayer.y + 30
 		    );
 		}
 
+		if (snapshot.ghost) {
+			// tinting goes into each vertex, so the ghost is drawn in the same batch
+			batch.setColor(1, 1, 1, GHOST_ALPHA);
+			batch.draw(this.player.getCurrentFrame(),
+				snapshot.ghostPreviousX + (snapshot.ghostX - snapshot.ghostPreviousX) * alpha,
+				snapshot.ghostPreviousY + (snapshot.ghostY - snapshot.ghostPreviousY) * alpha, 16, 16);
+			batch.setColor(Color.WHITE);
+		}
+
+		Crowd horde = world.getHorde();
+		if (horde != null) {
+			// every chaser is the dean's region of the atlas, so the horde adds no flushes
+			float width = camera.viewportWidth * camera.zoom;
+			float height = camera.viewportHeight * camera.zoom;
+			view.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+			horde.render(batch, hordeRegion, view);
+		}
+
 		//Messages will appear on top by rendering player last.
-		locker.render(batch);
-		dean.render(batch);
-		friend.render(batch);
-		player.render(batch);
+		renderSystem.setSnapshot(snapshot);
+		renderSystem.setAlpha(alpha);
+		renderSystem.update(delta);
 
-		if (busTicket != null && busTicket.isCollected()) {
+		if (snapshot.ticketCollected) {
 			busTicket.renderAsIcon(batch, camera);
 		}
+		profiler.mark(FrameProfiler.SPRITES);
+
+		//switch to screen coordinates for the UI elements
+		batch.setProjectionMatrix(uiStage.getCamera().combined);
 
+		//draw the three events encountered checklists in the top left hand corner of the screen
+		//events get updates using a ternary operator which is like a condensed if/else statement -> it is set out like: (condition ? vali_if_true : value_if_false)
+		//each line is only laid out again when its count changes, so no strings are made each frame
+		positiveEvent.show(snapshot.boostActive ? 1 : 0);//this means if the locker boost is active (the bus ticket has been picked up) display that the event 1/1 has been enocuntered otherwide 0/1
+		negativeEvent.show(snapshot.timesCaught > 0 ? 1 : 0);
+		hiddenEvent.show(snapshot.ticketCollected ? 1 : 0);
+		positiveEvent.draw(batch);
+		negativeEvent.draw(batch);
+		hiddenEvent.draw(batch);
+		profiler.mark(FrameProfiler.HUD);
+
+		//draw the timer widget without ending the batch, unlike Stage.draw()
+		uiStage.act(delta);
+		uiStage.getRoot().draw(batch, 1f);
 		batch.end();
+		profiler.mark(FrameProfiler.STAGE);
+	}
+
 
-		// Decrement the timer only if the game is not paused
-		if (!isPaused) {
-			gameTimer.decrementTimer(delta);
+	/**
+	 * Helper method to read the keys held or just pressed as the world's key bits.
+	 * @param input Keys to read.
+	 * @return Key bits, such as <code> GameWorld.UP | GameWorld.INTERACT </code>.
+	 */
+	private static int readKeys(GameInput input) {
+		int keys = 0;
+		for (int bit = 0; bit < KEYS.length; bit++) {
+			for (int key : KEYS[bit]) {
+				if (input.isKeyPressed(key) || input.isKeyJustPressed(key)) {
+					keys |= 1 << bit;
+				}
+			}
 		}
+		return keys;
+	}
 
-		if (gameTimer.getTimeLeft() == 0) {
+	/**
+	 * Helper method to advance the world by one step, recording the keys, and
+	 * the ghost alongside it.
+	 * Once the round ends nothing more is recorded, so a won round's recording
+	 * ends on the step that won it.
+	 * @param keys Keys held, ignored while a recording is played back or the bot plays.
+	 */
+	private void step(int keys) {
+		if (world.getOutcome() != GameWorld.PLAYING) {
+			return;
+		}
+		if (replay != null && replay.hasNext()) {
+			keys = replay.next();
+		} else if (autoplay != null) {
+			keys = autoplay.nextKeys(world);
+		}
+		recording.record(keys);
+		world.step(keys);
+		if (ghost != null) {
+			ghost.step(ghostReplay.next());
+		}
+	}
+
+	/**
+	 * Helper method to leave for the win or game over screen once the round ends.
+	 * A win is kept as the best run if it beats the last one. A win against a
+	 * horde is neither kept nor submitted to the leaderboard, as the ghost and the
+	 * leaderboard's verifier replay rounds without one. While the bot
+	 * plays, the round is logged and another started instead.
+	 * @param snapshot Snapshot of the world the round ended in.
+	 */
+	private void finishRound(WorldSnapshot snapshot) {
+		stopSimulation();
+		if (autoplay != null) {
+			logSoakRound(snapshot);
+			reset();
+			return;
+		}
+		if (snapshot.outcome == GameWorld.WON) {
+			recording.setScore(snapshot.score);
+			boolean horde = world.getHorde() != null;
+			if (replay == null && !horde && (bestRun == null || snapshot.score > bestRun.getScore())) {
+				saveBestRun(recording);
+			}
+			game.getScreens().showWin(snapshot.score, (int) snapshot.timeLeft, snapshot.timesCaught, horde ? null : recording);
+		} else {
 			gameTimer.onTimeUp();
-			game.setScreen(new MenuScreen(game));
+			game.getScreens().showGameOver();
 		}
+	}
 
+	/**
+	 * Helper method to log a round played by the bot, with how long its frames
+	 * took and how much heap is in use, so drift shows up over a long soak.
+	 * @param snapshot Snapshot of the world the round ended in.
+	 */
+	private void logSoakRound(WorldSnapshot snapshot) {
+		soakRounds++;
+		Runtime runtime = Runtime.getRuntime();
+		long heapMegabytes = (runtime.totalMemory() - runtime.freeMemory()) >> 20;
+		Gdx.app.log("Autoplay", "Round " + soakRounds
+			+ (snapshot.outcome == GameWorld.WON ? " won with " + snapshot.score : " lost")
+			+ ", caught " + snapshot.timesCaught + " times, "
+			+ roundFrames + " frames, mean " + roundFrameTime * 1000 / Math.max(roundFrames, 1)
+			+ " ms, worst " + worstFrameTime * 1000 + " ms, heap " + heapMegabytes + " MB");
+	}
+
+	/**
+	 * Let a bot play in place of the keyboard, from the start of a new round.
+	 * Rounds start over as soon as they end, and are logged rather than shown
+	 * on the win or game over screen.
+	 * @param bot Bot to play, or null to go back to the keyboard.
+	 */
+	public void setAutoplay(AutoplayBot bot) {
+		autoplay = bot;
+		soakRounds = 0;
+		reset();
+	}
 
-		if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-			game.setScreen(new MenuScreen(game));
+	/**
+	 * Play a recorded round back at the game's speed, in place of the keyboard,
+	 * from the start of a new round. The keyboard takes over again once the
+	 * recording runs out.
+	 * @param played Recording to play, or null to go back to the keyboard.
+	 */
+	public void playReplay(InputRecording played) {
+		reset();
+		replay = played == null ? null : new InputReplay(played);
+	}
+
+	/**
+	 * Draw the player of a recorded round as a ghost, replayed alongside the
+	 * player from the start of each round.
+	 * @param run Recording to draw, or null for no ghost. Recordings of other
+	 * maps are not drawn.
+	 */
+	public void setGhost(InputRecording run) {
+		stopSimulation();
+		bestRun = run;
+		if (run == null || !run.getMapId().equals(GameAssets.MAP)) {
+			ghost = null;
+			ghostReplay = null;
+			return;
 		}
+		ghost = GameWorld.headless(collisionGrid, ticketArea, busArea);
+		ghostReplay = new InputReplay(run);
+	}
 
-		if (gameTimer.getTimeLeft() == 0) {
-			gameTimer.onTimeUp();
-			game.setScreen(new GameOverScreen(game));
+	/**
+	 * Helper method to read the best run saved by an earlier game.
+	 * @return Recording, or null if there is none or it cannot be read.
+	 */
+	private static InputRecording loadBestRun() {
+		if (!Gdx.files.local(BEST_RUN).exists()) {
+			return null;
+		}
+		try {
+			return InputRecording.load(Gdx.files.local(BEST_RUN));
+		} catch (GdxRuntimeException e) {
+			Gdx.app.error("GameScreen", "Ignoring best run that cannot be read", e);
+			return null;
 		}
-		uiStage.act(delta);
-		uiStage.draw();
 	}
 
 	/**
-	 * Move the player and interacting with the world and menus every frame when
-	 * the corresponding keys are pressed:
-	 * <ul>
-	 * <li> WASD - Move Character Up/Left/Down/Right/Diagonal. Now uses arrow keys</li>
-	 * <li> E - Interact with items.</li>
-	 * <li> Esc - Pause Game.</li>
-	 * </ul>
-	 */
-    private void handleInput() {
-        float moveSpeed = 1f;
-        if (locker != null && locker.isBoostActive()) {
-            moveSpeed = 2f;
-        }
-
-        boolean up = Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP);
-        boolean down = Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN);
-        boolean left = Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT);
-        boolean right = Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT);
-
-        float newX = player.getPosition().x;
-        float newY = player.getPosition().y;
-        float dx = 0;
-        float dy = 0;
-
-        if (up) {
-            dy += 1;
-        }
-        if (down) {
-            dy -= 1;
-        }
-        if (left) {
-            dx -= 1;
-        }
-        if (right) {
-            dx += 1;
-        }
-
-        if (dx != 0 || dy != 0) {
-            float length = (float)Math.sqrt(dx*dx + dy*dy);
-            dx /= length;
-            dy /= length;
-        }
-
-        newX += dx * moveSpeed;
-        newY += dy * moveSpeed;
-
-        if (dx > 0 && dy > 0) {
-            player.setDirection(Player.Direction.NORTHEAST);
-        }
-        else if (dx < 0 && dy > 0) {
-            player.setDirection(Player.Direction.NORTHWEST);
-        }
-        else if (dx > 0 && dy < 0) {
-            player.setDirection(Player.Direction.SOUTHEAST);
-        }
-        else if (dx < 0 && dy < 0) {
-            player.setDirection(Player.Direction.SOUTHWEST);
-        }
-        else if (dx > 0) {
-            player.setDirection(Player.Direction.RIGHT);
-        }
-        else if (dx < 0) {
-            player.setDirection(Player.Direction.LEFT);
-        }
-        else if (dy > 0) {
-            player.setDirection(Player.Direction.UP);
-        }
-        else if (dy < 0) {
-            player.setDirection(Player.Direction.DOWN);
-        }
-
-        if (!isCellBlocked(newX, newY)) {
-            player.getPosition().set(newX, newY);
-        }
-
-        if (canPickUpTicket && Gdx.input.isKeyJustPressed(Input.Keys.E)) {
-            busTicket.collect();
-            canPickUpTicket = false;
-        }
-
-        if (canEndGame && Gdx.input.isKeyJustPressed(Input.Keys.E)) {
-            int finalScore = calculateFinalScore();
-            int timeRemaining = (int) gameTimer.getTimeLeft();
-            int timesCaught = getTimesCaughtByDean();
-            game.setScreen(new WinScreen(game, finalScore, timeRemaining, timesCaught));
-        }
-
-        if (Gdx.input.isKeyJustPressed(Input.Keys.P)) {
-            isPaused = !isPaused;
-        }
-    }
+	 * Helper method to keep a won round as the best run, for its ghost to be
+	 * drawn from the next round on.
+	 * @param run Recording of the round.
+	 */
+	private void saveBestRun(InputRecording run) {
+		bestRun = run;
+		try {
+			run.save(Gdx.files.local(BEST_RUN));
+		} catch (GdxRuntimeException e) {
+			Gdx.app.error("GameScreen", "Could not save best run", e);
+		}
+	}
+
+	/**
+	 * Helper method run by the simulation thread each step: apply the keys queued
+	 * by the render thread, advance the game, and publish a snapshot of it.
+	 */
+	private void simulate() {
+		queuedInput.update();
+		step(readKeys(queuedInput));
+		writeSnapshot(snapshots.getWriteBuffer());
+		snapshots.publish();
+	}
+
+	/**
+	 * Helper method to copy what is drawn out of the world.
+	 * @param out Snapshot to fill in, every field of which is written.
+	 */
+	private void writeSnapshot(WorldSnapshot out) {
+		out.step = world.getSteps();
+		out.timeNanos = System.nanoTime();
+		ImmutableArray<Entity> positioned = world.getPositioned();
+		for (int i = 0; i < positioned.size(); i++) {
+			PositionComponent position = positions.get(positioned.get(i));
+			out.x[position.index] = position.position.x;
+			out.y[position.index] = position.position.y;
+			out.previousX[position.index] = position.previous.x;
+			out.previousY[position.index] = position.previous.y;
+		}
+		out.timeLeft = gameTimer.getTimeLeft();
+		out.timesCaught = world.getTimesCaught();
+		out.score = world.calculateFinalScore();
+		out.outcome = world.getOutcome();
+		out.paused = world.isPaused();
+		out.canPickUpTicket = world.canPickUpTicket();
+		out.canEndGame = world.canEndGame();
+		out.ticketCollected = busTicket != null && busTicket.isCollected();
+		out.boostActive = locker.isBoostActive();
+		out.ghost = ghost != null && ghostReplay.hasNext();
+		if (ghost != null) {
+			Vector2 ghostPlayer = ghost.getPlayer().getPosition();
+			PositionComponent ghostPosition = positions.get(ghost.getEntity(ghost.getPlayer()));
+			out.ghostX = ghostPlayer.x;
+			out.ghostY = ghostPlayer.y;
+			out.ghostPreviousX = ghostPosition.previous.x;
+			out.ghostPreviousY = ghostPosition.previous.y;
+		}
+	}
+
+	/**
+	 * Simulate the game on a thread of its own, at {@link #TIME_STEP}, or on the
+	 * render thread as part of each frame. The thread is started on the next frame
+	 * and stopped when the screen is hidden. A round with a horde is always
+	 * simulated on the render thread.
+	 * @param threaded True to simulate on a thread of its own.
+	 */
+	public void setThreaded(boolean threaded) {
+		stopSimulation();
+		this.threaded = threaded && world.getHorde() == null;
+		input = threaded ? queuedInput : GameInput.GDX;
+	}
+
+	/**
+	 * Set a horde of chasers loose besides the dean, from the start of a new
+	 * round, or take it away. The game is simulated on the render thread while
+	 * there is a horde.
+	 * @param size Number of chasers, or 0 for no horde.
+	 * @see GameWorld#setHorde(int)
+	 */
+	public void setHorde(int size) {
+		setThreaded(false);
+		world.setHorde(size);
+		reset();
+	}
+
+	/**
+	 * Return if the game is simulated on a thread of its own.
+	 * @return True if threaded.
+	 */
+	public boolean isThreaded() {
+		return threaded;
+	}
+
+	/**
+	 * Helper method to start the simulation thread, from the world as it is now.
+	 */
+	private void startSimulation() {
+		queuedInput.clear();
+		world.snapshotPositions();
+		writeSnapshot(snapshots.getWriteBuffer());
+		snapshots.publish();
+		simulation = new SimulationThread(this::simulate, TIME_STEP);
+		simulation.start();
+	}
+
+	/**
+	 * Helper method to stop the simulation thread, if it is running, so the world
+	 * can be changed from the render thread.
+	 */
+	private void stopSimulation() {
+		if (simulation != null) {
+			simulation.stop();
+			simulation = null;
+		}
+	}
 
     /**
 	 * Returns if the cell at a given coordinate in the world allows an entity
@@ -365,45 +670,70 @@ public class GameScreen implements Screen {
 	 * @param x Horizontal position of cell in the world.
 	 * @param y Vertical position of cell in the world.
 	 * @return True if cell blocks entities to move onto it, False if entities can move onto it.
+	 * @see GameWorld#isCellBlocked(float, float)
 	 */
 	public boolean isCellBlocked(float x, float y) {
-		for (int i = 0; i < tiledMap.getLayers().getCount(); i++) {
-		    if (tiledMap.getLayers().get(i) instanceof TiledMapTileLayer) {
-			TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(i);
-			int tileX = (int) ((x + 8) / layer.getTileWidth());
-			int tileY = (int) ((y + 8) / layer.getTileHeight());
-			TiledMapTileLayer.Cell cell = layer.getCell(tileX, tileY);
-
-			if (cell != null && cell.getTile() != null) {
-			    if (cell.getTile().getProperties().containsKey("collidable") || layer.getProperties().containsKey("collidable")) {
-				return true;
-			    }
-			}
-		    }
-		}
-		return false;
+		return world.isCellBlocked(x, y);
 	}
 
 	/**
-	 * Calculate the player's final score
+	 * Return the collision grid of the map being played on.
+	 * @return Collision grid.
 	 */
-	public int calculateFinalScore() {
-
-		//convert the time remaining into seconds to have as the player's score
-		int timeRemainingSeconds = (int) gameTimer.getTimeLeft();
-
-		int minutes = (int) (timeRemainingSeconds / 60);
-		int seconds = (int) (timeRemainingSeconds % 60);
-		int timeScore = (minutes * 100) + seconds; //this means 3:24 left on the clock gives a score of 324 before penalties are taken into account
+	public CollisionGrid getCollisionGrid() {
+		return collisionGrid;
+	}
 
-		//calculate the penalty to be applied from the number of times the player gets caught by the dean
-		int deanPenalty = timesCaughtByDean * 5; //5 marks taken off per time caught
+	/**
+	 * Put the player, dean, NPC, locker, ticket and timer back to how they were
+	 * when the screen was created, to play another round. The map, its renderer
+	 * and every texture are kept, so this takes no loading.
+	 */
+	public void reset() {
+		stopSimulation();
+		world.reset();
+		accumulator = 0;
+		taps = 0;
+		recording = new InputRecording(GameAssets.MAP, 0);
+		replay = null;
+		setGhost(bestRun);
+		if (autoplay != null) {
+			autoplay.reset();
+		}
+		roundFrames = 0;
+		roundFrameTime = 0;
+		worstFrameTime = 0;
+	}
 
-		//final score calculation
-		int finalScore = timeScore - deanPenalty;
+	/**
+	 * Swap the map being played on, rebuilding the renderer and collision grid
+	 * for the new map. Maps are owned by whoever loaded them, usually the
+	 * asset manager, so the old map is not disposed here.
+	 * @param map New map to play on.
+	 */
+	public void setMap(TiledMap map) {
+		if (map == tiledMap) {
+			collisionGrid.rebuild();
+		} else {
+			tiledMap = map;
+			mapRenderer.setMap(map);
+			collisionGrid = CollisionGrid.forMap(map);
+			// the best run was played on the old map
+			setGhost(null);
+		}
+		world.setCollisionGrid(collisionGrid);
+		if (ghost != null) {
+			ghost.setCollisionGrid(collisionGrid);
+		}
+	}
 
-		//make sure the score can't go below 0 which could happen if the dean catches you enough times
-		return Math.max(0, finalScore);
+	/**
+	 * Calculate the player's final score
+	 * @return Score of the round so far.
+	 * @see GameWorld#calculateFinalScore()
+	 */
+	public int calculateFinalScore() {
+		return world.calculateFinalScore();
 	}
 
 	/**
@@ -424,27 +754,117 @@ public class GameScreen implements Screen {
 	 * Get the number of times the player is caught by the Dean
 	 */
 	public int getTimesCaughtByDean() {
-		return timesCaughtByDean;
+		return world.getTimesCaught();
 	}
 
 	/**
-	 * Dipose of all assets and UI elements when game screen is left i.e
-	 * when the player wins the game or quits.
+	 * Get the world holding the round's rules.
+	 * @return Game world.
+	 */
+	GameWorld getWorld() { return world; }
+
+	/**
+	 * Get the player's character.
+	 * @return Player.
+	 */
+	Player getPlayer() { return player; }
+
+	/**
+	 * Get the recording of the round being played.
+	 * @return Recording of every step so far.
+	 */
+	InputRecording getRecording() { return recording; }
+
+	/**
+	 * Get the world the best run's ghost is replayed in.
+	 * @return Ghost world, or null if there is no ghost.
+	 */
+	GameWorld getGhost() { return ghost; }
+
+	/**
+	 * Get the scheduler updating the dean and NPCs.
+	 * @return AI scheduler.
+	 */
+	AIScheduler getAIScheduler() { return world.getAIScheduler(); }
+
+	/**
+	 * Get the snapshot of the world drawn last frame.
+	 * @return Snapshot, or null before the first frame.
+	 */
+	WorldSnapshot getDrawnSnapshot() { return drawn; }
+
+	/**
+	 * Get the engine holding the characters and items.
+	 * @return Entity engine.
+	 */
+	Engine getEngine() { return world.getEngine(); }
+
+	/**
+	 * Get the dean chasing the player.
+	 * @return Dean.
+	 */
+	Dean getDean() { return dean; }
+
+	/**
+	 * Get the locker giving the speed boost.
+	 * @return Locker.
+	 */
+	Locker getLocker() { return locker; }
+
+	/**
+	 * Get the bus ticket, if the map has one.
+	 * @return Bus ticket or null.
+	 */
+	BusTicket getBusTicket() { return busTicket; }
+
+	/**
+	 * Get the round's timer.
+	 * @return Game timer.
+	 */
+	GameTimer getGameTimer() { return gameTimer; }
+
+	/**
+	 * Show or hide the profiler overlay, as {@value #PROFILER_KEY_NAME} does.
+	 * GL calls are only counted while it is shown.
+	 * @param shown True to show.
+	 */
+	public void setProfilerShown(boolean shown) {
+		if (shown != profilerOverlay.isVisible()) {
+			profilerOverlay.setShown(shown);
+		}
+	}
+
+	/**
+	 * Return the HUD line counting hidden events encountered.
+	 * @return HUD line.
+	 */
+	HudText getHiddenEventText() { return hiddenEvent; }
+
+	/**
+	 * Return the profiler overlay.
+	 * @return Overlay, hidden unless shown.
+	 */
+	ProfilerOverlay getProfilerOverlay() { return profilerOverlay; }
+
+	/**
+	 * Return the profiler timing each frame's phases.
+	 * @return Frame profiler.
+	 */
+	FrameProfiler getProfiler() { return profiler; }
+
+	/**
+	 * Dipose of the map meshes and UI stage made by this screen when game screen
+	 * is left i.e when the player wins the game or quits. The map, textures and
+	 * skin belong to <code> GameAssets </code>, and the batch, fonts and map shader
+	 * to the game's <code> RenderContext </code>.
 	 * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
 	 */
 	@Override
 	public void dispose() {
-		tiledMap.dispose();
+		stopSimulation();
+		setProfilerShown(false);
 		mapRenderer.dispose();
-		batch.dispose();
-		player.dispose();
-		locker.dispose();
-		font.dispose();
 		uiStage.dispose();
-		dean.dispose();
-		catchCounterFont.dispose();
-		friend.dispose();
-		if (busTicket != null) { busTicket.dispose(); }
 	}
 
 	/** Unimplemented */
@@ -459,7 +879,14 @@ public class GameScreen implements Screen {
 	@Override
 	public void resume() {}
 
-	/** Unimplemented */
+	/**
+	 * Stop the simulation thread, if the game has one, when another screen is
+	 * shown. It is started again on the next frame this screen renders.
+	 * @see com.badlogic.gdx.Screen#hide Screen.hide().
+	 */
 	@Override
-	public void hide() {}
+	public void hide() {
+		stopSimulation();
+		setProfilerShown(false);
+	}
 }
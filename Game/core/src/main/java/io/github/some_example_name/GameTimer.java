@@ -9,50 +9,63 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.StringBuilder;
 
 /**
  * <code>GameTimer</code> implements a timer that ticks down during gameplay, and emits
  * a sound when it reaches 0.  
  * It contains a sprite that can be rendered to display to the user graphically
  * how much time is left.
+ * <p>
+ * The label is written in place once per second shown, with no strings made, and
+ * only laid out again itself: its text is always as wide as "mm : ss", so the
+ * table it is in is left as it is.
  *
  * @since 2025-11-04 19:28:26
  */
 public class GameTimer {
 	
-	private Float timeLeft;
+	// counted down by the simulation thread when the game has one, and shown by the render thread
+	private volatile float timeLeft;
+	private final float startTime;
 	private Label timerLabel;
+	private int shownSeconds = -1;
 	private Sound timerDingSFX;
 
 	/**
 	 * Constructor for <code>GameTimer</code>, defaulting to 300 seconds. 
 	 * @param skin Skin containing style for the timer label. 
 	 * @param table Table displaying timer widget. 
+	 * @param timerDingSFX Already loaded sound played when time runs out.
 	 */ 
-	public GameTimer(Skin skin, Table table) {
-		this.timeLeft = 300f;	
-		this.timerDingSFX = Gdx.audio.newSound(
-			Gdx.files.internal("ding.wav")
-		);
-		instantiateLabel(skin,table);
+	public GameTimer(Skin skin, Table table, Sound timerDingSFX) {
+		this(skin, table, timerDingSFX, 300f);
 	}
 
 	/**
 	 * Constructor for <code>GameTimer</code> for a given amount of seconds. 
 	 * @param skin Skin containing style for the timer label. 
 	 * @param table Table displaying timer widget. 
+	 * @param timerDingSFX Already loaded sound played when time runs out.
 	 * @param seconds Time in seconds to be counted by timer. 
 	 * @see com.badlogic.gdx.scenes.scene2d.ui.Skin Skin 
 	 */
-	public GameTimer(Skin skin, Table table, float seconds) {
-		this.timeLeft = seconds;	
-
-		this.timerDingSFX = Gdx.audio.newSound(
-			Gdx.files.internal("ding.wav")
-		);
+	public GameTimer(Skin skin, Table table, Sound timerDingSFX, float seconds) {
+		this(seconds);
+		this.timerDingSFX = timerDingSFX;
 		instantiateLabel(skin,table);
 	} 
 
+	/**
+	 * Constructor for <code> GameTimer </code> with no label or sound, for
+	 * simulating rounds without drawing them.
+	 * @param seconds Time in seconds to be counted by timer. 
+	 */
+	public GameTimer(float seconds) {
+		this.timeLeft = seconds;	
+		this.startTime = seconds;
+	}
+
 	
 	/**
  	 * Return the time in formatted in mm:ss for time left. 
@@ -60,9 +73,27 @@ public class GameTimer {
 	 */
 	@Override 
 	public String toString() { 	
-		long minutes = (long) Math.floor(this.timeLeft / 60) ;
-		long seconds = (long) Math.floor(this.timeLeft) - (minutes * 60);
-		return String.format("%02d : %02d", minutes, seconds);
+		StringBuilder text = new StringBuilder(7);
+		appendTime(text, (int) Math.floor(this.timeLeft));
+		return text.toString();
+	}
+
+	/**
+	 * Helper method to write a number of seconds as mm : ss.
+	 * @param text Text to append to.
+	 * @param time Time in whole seconds.
+	 */
+	private static void appendTime(StringBuilder text, int time) {
+		int minutes = time / 60;
+		int seconds = time % 60;
+		if (minutes < 10) {
+			text.append('0');
+		}
+		text.append(minutes).append(" : ");
+		if (seconds < 10) {
+			text.append('0');
+		}
+		text.append(seconds);
 	}
 	
 	/**
@@ -72,7 +103,13 @@ public class GameTimer {
 	 */
 	public void decrementTimer(float decrementaion) {
 		this.timeLeft = Math.max(0, timeLeft - decrementaion);	
-		this.timerLabel.setText(this.toString());
+	}
+
+	/**
+	 * Wind the timer back to the time it started with, for a new round.
+	 */
+	public void reset() {
+		this.timeLeft = startTime;
 	}
 
 	/**
@@ -80,7 +117,9 @@ public class GameTimer {
 	 * change to game over screen. 	
 	 */
 	public void onTimeUp() { 
-		this.timerDingSFX.play(3f); 
+		if (this.timerDingSFX != null) {
+			this.timerDingSFX.play(3f); 
+		}
 	}
 
 	/**
@@ -92,8 +131,9 @@ public class GameTimer {
 	}  
 
 	/**
- 	 * Get the grpahical label that displays the amount of time left. 
-	 * @return Label component. 
+ 	 * Get the grpahical label that displays the amount of time left. The label
+	 * catches up with the time left whenever its stage acts, on the render thread.
+	 * @return Label component, or null if the timer has none. 
 	 */
 	public Label getTimerLabel() { 
 		return this.timerLabel;
@@ -105,7 +145,35 @@ public class GameTimer {
 	 * @param table Table displaying timer widget. 
 	 */
 	private void instantiateLabel(Skin skin, Table table) { 
-		this.timerLabel = new Label("", skin);
+		this.timerLabel = new Label("", skin) {
+			@Override
+			public void act(float delta) {
+				super.act(delta);
+				refreshLabel();
+			}
+		};
+		refreshLabel();
 		table.add(this.timerLabel).row();
 	}
+
+	/**
+	 * Helper method to show the time left on the label, once per second shown.
+	 * The first time sets the label's text, sizing the table around it; after that
+	 * the text is rewritten in place.
+	 */
+	private void refreshLabel() {
+		int seconds = (int) Math.floor(this.timeLeft);
+		if (seconds == shownSeconds) {
+			return;
+		}
+		StringBuilder text = this.timerLabel.getText();
+		text.setLength(0);
+		appendTime(text, seconds);
+		if (shownSeconds < 0) {
+			this.timerLabel.invalidateHierarchy();
+		} else {
+			this.timerLabel.invalidate();
+		}
+		shownSeconds = seconds;
+	}
 }
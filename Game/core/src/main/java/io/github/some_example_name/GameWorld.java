@@ -0,0 +1,726 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * <code> GameWorld </code> holds the rules of a round: moving the player over the
+ * map, the dean chasing them, the locker's speed boost, picking up the ticket and
+ * taking it to the bus, and the round's timer and score. It is stepped
+ * {@link #TIME_STEP} at a time with the keys held as plain bits, and never reads
+ * input, draws, or plays sounds, so rounds can be simulated without a window as
+ * fast as the rules run.
+ * <p>
+ * <code> GameScreen </code> draws a world and feeds it the keyboard. Drawing is
+ * added by giving the world's entities sprite components, and a render system to
+ * its engine.
+ * <p>
+ * A round can also be played against a horde of chasers besides the dean, set
+ * with {@link #setHorde(int)}.
+ * @see #headless(TiledMap)
+ */
+public class GameWorld {
+	/** Time in seconds simulated by each step. */
+	public static final float TIME_STEP = 1 / 60f;
+	/** Length of a round in seconds. */
+	public static final float ROUND_SECONDS = 300f;
+
+	/** Key bit for moving up, W or the up arrow. */
+	public static final int UP = 1;
+	/** Key bit for moving down, S or the down arrow. */
+	public static final int DOWN = 1 << 1;
+	/** Key bit for moving left, A or the left arrow. */
+	public static final int LEFT = 1 << 2;
+	/** Key bit for moving right, D or the right arrow. */
+	public static final int RIGHT = 1 << 3;
+	/** Key bit for interacting with items, E. */
+	public static final int INTERACT = 1 << 4;
+	/** Key bit for pausing, P. */
+	public static final int PAUSE = 1 << 5;
+
+	/** Outcome of a round still being played. */
+	public static final int PLAYING = 0;
+	/** Outcome of a round the player escaped on the bus. */
+	public static final int WON = 1;
+	/** Outcome of a round whose time ran out. */
+	public static final int LOST = 2;
+
+	/** Where the player starts, and is sent back to when caught. */
+	public static final float PLAYER_X = 144;
+	/** Where the player starts, and is sent back to when caught. */
+	public static final float PLAYER_Y = 70;
+
+	/**
+	 * Fewest tiles a horde chaser spawns from where the player starts, counted as
+	 * the flow field does, in tenths of a tile.
+	 */
+	public static final int HORDE_SPAWN_DISTANCE = 12 * FlowField.STRAIGHT_COST;
+
+	private CollisionGrid collisionGrid;
+	private LineOfSight lineOfSight;
+	private final SpatialHash<Object> entities = new SpatialHash<>();
+	private final Array<Object> nearby = new Array<>(false, 16);
+	// every due chaser runs each step: chasers cut short by a busy machine would
+	// change the round, so replays and simulations would not play out the same
+	private final AIScheduler aiScheduler = new AIScheduler(AIScheduler.UNLIMITED_BUDGET);
+	private final Vector3 focus = new Vector3();
+
+	private final Engine engine = new Engine();
+	private final ImmutableArray<Entity> positioned;
+	private final ImmutableArray<Entity> chasers;
+	private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+	private final ObjectMap<Object, Entity> owners = new ObjectMap<>();
+
+	private final Player player;
+	private final Locker locker;
+	private final NPC friend;
+	private final BusTicket busTicket;
+	private final Rectangle busArea;
+	private final GameTimer timer;
+	private GameRules rules = GameRules.DEFAULT;
+	private final PositionComponent playerPosition;
+	private PositionComponent ticketPosition;
+	private Crowd horde;
+	private FlowField hordeField;
+	private float[] hordeSpawns;
+
+	private int keys;
+	private int pressed;
+	private boolean paused;
+	private boolean canPickUpTicket;
+	private boolean canEndGame;
+	private int timesCaught;
+	private int outcome = PLAYING;
+	private long steps;
+
+	/**
+	 * Constructor for <code> GameWorld </code>, with no chasers.
+	 * @param collisionGrid Collision grid of the map played on.
+	 * @param player Player's character.
+	 * @param locker Locker giving the speed boost.
+	 * @param friend NPC the player can talk to.
+	 * @param busTicket Ticket needed to win, or null if the map has none.
+	 * @param busArea Area the player wins in with the ticket, or null if the map has none.
+	 * @param timer Timer counting down the round.
+	 * @see #addChaser(Dean)
+	 */
+	public GameWorld(CollisionGrid collisionGrid, Player player, Locker locker, NPC friend,
+		BusTicket busTicket, Rectangle busArea, GameTimer timer) {
+		this.collisionGrid = collisionGrid;
+		this.lineOfSight = new LineOfSight(collisionGrid);
+		this.player = player;
+		this.locker = locker;
+		this.friend = friend;
+		this.busTicket = busTicket;
+		this.busArea = busArea;
+		this.timer = timer;
+
+		engine.addSystem(new ChaseSystem(aiScheduler, entities, player, focus, this::caught));
+		engine.addSystem(new InteractionSystem());
+		engine.addSystem(new TimerSystem());
+		positioned = engine.getEntitiesFor(Family.all(PositionComponent.class).get());
+		chasers = engine.getEntitiesFor(Family.all(PositionComponent.class, ChaserComponent.class).get());
+
+		if (busTicket != null) {
+			Entity ticket = spawn(busTicket, busTicket.getPosition(), 16, 16);
+			ticket.add(new InteractableComponent(this::checkTicket));
+			ticketPosition = ticket.getComponent(PositionComponent.class);
+			add(ticket);
+		}
+
+		Entity lockerEntity = spawn(locker, locker.getPosition(), locker.getBounds().width, locker.getBounds().height);
+		lockerEntity.add(new InteractableComponent(delta -> locker.update(player, entities, delta, (pressed & INTERACT) != 0)));
+		add(lockerEntity);
+
+		Entity friendEntity = spawn(friend, friend.getPosition(), friend.getBounds().width, friend.getBounds().height);
+		friendEntity.add(new InteractableComponent(delta -> friend.update(player, entities, (pressed & INTERACT) != 0)));
+		add(friendEntity);
+
+		if (busArea != null) {
+			Entity bus = new Entity();
+			bus.add(new PositionComponent(new Vector2(busArea.x, busArea.y), busArea.width, busArea.height));
+			bus.add(new InteractableComponent(this::checkBus));
+			add(bus);
+		}
+
+		Entity playerEntity = spawn(player, player.getPosition(), 16, 16);
+		playerPosition = playerEntity.getComponent(PositionComponent.class);
+		add(playerEntity);
+
+		Entity round = new Entity();
+		round.add(new TimerComponent(timer, () -> outcome = LOST));
+		engine.addEntity(round);
+	}
+
+	/**
+	 * Make a world for a map with no sprites, sounds or UI, to simulate rounds
+	 * without a window. Everything is placed where <code> GameScreen </code>
+	 * places it.
+	 * @param map Map to play on, with the ticket and bus on its "Events" layer.
+	 * @return World with the dean chasing the player.
+	 */
+	public static GameWorld headless(TiledMap map) {
+		return headless(CollisionGrid.forMap(map), findEvent(map, "BusTicket"), findEvent(map, "Bus"));
+	}
+
+	/**
+	 * Make a world for a collision grid with no sprites, sounds or UI. Worlds
+	 * made this way may be played on any thread, one thread per world. Ashley
+	 * keeps its component types and families in static maps that are not thread
+	 * safe, so worlds are made one at a time; once the first is made, those maps
+	 * are only read.
+	 * @param collisionGrid Collision grid to play on.
+	 * @param ticket Where the ticket lies, or null for none.
+	 * @param bus Area the player wins in, or null for none.
+	 * @return World with the dean chasing the player.
+	 */
+	public static synchronized GameWorld headless(CollisionGrid collisionGrid, Rectangle ticket, Rectangle bus) {
+		Player player = new Player(PLAYER_X, PLAYER_Y);
+		// the sizes of the locker's and NPC's sprites, which their bounds are taken from when drawn
+		Locker locker = new Locker(495, 575, 17, 33, null, null);
+		NPC friend = new NPC(560, 300, 19, 25, null, null);
+		BusTicket busTicket = ticket == null ? null : new BusTicket(ticket.x, ticket.y, null);
+		GameWorld world = new GameWorld(collisionGrid, player, locker, friend, busTicket, bus, new GameTimer(ROUND_SECONDS));
+		world.addChaser(new Dean(96, 450, null, player, world));
+		return world;
+	}
+
+	/**
+	 * Find the area of an object on a map's "Events" layer.
+	 * @param map Map to search.
+	 * @param name Name of object, such as "BusTicket" or "Bus".
+	 * @return Area of object, or null if the map has no rectangle of that name.
+	 */
+	public static Rectangle findEvent(TiledMap map, String name) {
+		MapLayer events = map.getLayers().get("Events");
+		if (events == null) {
+			return null;
+		}
+		MapObject object = events.getObjects().get(name);
+		if (object instanceof RectangleMapObject) {
+			return ((RectangleMapObject) object).getRectangle();
+		}
+		return null;
+	}
+
+	/**
+	 * Add a dean chasing the player, who only starts once they see the player.
+	 * @param dean Dean made with this world.
+	 * @return Entity of the dean, already in the engine.
+	 */
+	public Entity addChaser(Dean dean) {
+		dean.setLineOfSight(lineOfSight);
+		// a search cut short by a busy machine would change the round, so replays
+		// and simulations would not play out the same
+		dean.setSearchBudget(PathPlanner.UNLIMITED_BUDGET);
+		dean.setSpeed(rules.deanSpeed);
+		dean.setRespawnPosition(rules.deanRespawnX, rules.deanRespawnY);
+		Entity entity = spawn(dean, dean.getPosition(), 16, 16);
+		entity.add(new ChaserComponent(dean));
+		add(entity);
+		return entity;
+	}
+
+	/**
+	 * Add a horde of chasers besides the dean, or remove it. The horde is kept in
+	 * a <code> Crowd </code> led to the player by a shared <code> FlowField </code>,
+	 * and its chasers spawn spread over the open tiles the player can be reached
+	 * from, at least {@link #HORDE_SPAWN_DISTANCE} from where the player starts. A
+	 * chaser that reaches the player catches them as the dean does, and goes back
+	 * to where it spawned.
+	 * @param size Number of chasers, or 0 for no horde.
+	 */
+	public void setHorde(int size) {
+		if (size <= 0) {
+			horde = null;
+			hordeField = null;
+			hordeSpawns = null;
+			return;
+		}
+		hordeField = new FlowField(collisionGrid);
+		hordeField.update(PLAYER_X, PLAYER_Y);
+		IntArray open = new IntArray();
+		int width = collisionGrid.getWidth();
+		for (int tileY = 0; tileY < collisionGrid.getHeight(); tileY++) {
+			for (int tileX = 0; tileX < width; tileX++) {
+				// blocked tiles are given a distance too, so they can be walked out of
+				int distance = hordeField.getDistance(tileX, tileY);
+				if (!collisionGrid.isBlocked(tileX, tileY) && distance != FlowField.UNREACHABLE
+					&& distance >= HORDE_SPAWN_DISTANCE) {
+					open.add(tileY * width + tileX);
+				}
+			}
+		}
+
+		horde = new Crowd(collisionGrid, size);
+		hordeSpawns = new float[size * 2];
+		for (int i = 0; i < size && open.size > 0; i++) {
+			// spread evenly over the open tiles, sharing them once there are more chasers than tiles
+			int tile = open.get((int) ((long) i * open.size / size));
+			hordeSpawns[i * 2] = tile % width * collisionGrid.getTileWidth();
+			hordeSpawns[i * 2 + 1] = tile / width * collisionGrid.getTileHeight();
+			horde.add(hordeSpawns[i * 2], hordeSpawns[i * 2 + 1]);
+		}
+	}
+
+	/**
+	 * Advance the round by one {@link #TIME_STEP}: move the player by the keys
+	 * held, then update the entities, remembering where everything was so the
+	 * step can be drawn smoothly. A key counts as pressed on the first step it is
+	 * held. Nothing moves while paused or once the round is over.
+	 * @param keys Keys held this step, such as <code> UP | INTERACT </code>.
+	 */
+	public void step(int keys) {
+		pressed = keys & ~this.keys;
+		this.keys = keys;
+		if (outcome != PLAYING) {
+			return;
+		}
+		if ((pressed & PAUSE) != 0) {
+			paused = !paused;
+		}
+		if (paused) {
+			return;
+		}
+
+		snapshotPositions();
+		movePlayer(keys);
+		entities.move(playerPosition.handle, player.getPosition().x, player.getPosition().y);
+		focus.set(player.getPosition().x, player.getPosition().y, 0);
+		engine.update(TIME_STEP);
+		if (horde != null) {
+			stepHorde();
+		}
+
+		if (canPickUpTicket && (pressed & INTERACT) != 0) {
+			busTicket.collect();
+			entities.remove(ticketPosition.handle);
+			ticketPosition.handle = -1;
+			canPickUpTicket = false;
+		}
+		if (canEndGame && (pressed & INTERACT) != 0 && outcome == PLAYING) {
+			outcome = WON;
+		}
+		steps++;
+	}
+
+	/**
+	 * Remember where every entity is, so each is drawn there until the next step.
+	 */
+	public void snapshotPositions() {
+		for (int i = 0; i < positioned.size(); i++) {
+			PositionComponent position = positions.get(positioned.get(i));
+			position.previous.set(position.position);
+		}
+	}
+
+	/**
+	 * Helper method to move the player one step by the keys held. The player
+	 * moves 1 unit a step, or the rules' boost speed with the locker's speed boost,
+	 * sliding along any wall they walk into.
+	 * @param keys Keys held.
+	 */
+	private void movePlayer(int keys) {
+		float moveSpeed = locker.isBoostActive() ? rules.boostSpeed : 1f;
+
+		float dx = 0;
+		float dy = 0;
+		if ((keys & UP) != 0) {
+			dy += 1;
+		}
+		if ((keys & DOWN) != 0) {
+			dy -= 1;
+		}
+		if ((keys & LEFT) != 0) {
+			dx -= 1;
+		}
+		if ((keys & RIGHT) != 0) {
+			dx += 1;
+		}
+
+		if (dx != 0 || dy != 0) {
+			float length = (float) Math.sqrt(dx * dx + dy * dy);
+			dx /= length;
+			dy /= length;
+		}
+
+		if (dx > 0 && dy > 0) {
+			player.setDirection(Player.Direction.NORTHEAST);
+		} else if (dx < 0 && dy > 0) {
+			player.setDirection(Player.Direction.NORTHWEST);
+		} else if (dx > 0 && dy < 0) {
+			player.setDirection(Player.Direction.SOUTHEAST);
+		} else if (dx < 0 && dy < 0) {
+			player.setDirection(Player.Direction.SOUTHWEST);
+		} else if (dx > 0) {
+			player.setDirection(Player.Direction.RIGHT);
+		} else if (dx < 0) {
+			player.setDirection(Player.Direction.LEFT);
+		} else if (dy > 0) {
+			player.setDirection(Player.Direction.UP);
+		} else if (dy < 0) {
+			player.setDirection(Player.Direction.DOWN);
+		}
+
+		MoveResolver.CHARACTER.move(collisionGrid, player.getPosition(), dx * moveSpeed, dy * moveSpeed);
+	}
+
+	/**
+	 * Helper method to send the player back to the start after a chaser catches them.
+	 * @param chaser Entity that caught the player.
+	 */
+	private void caught(Entity chaser) {
+		timesCaught++;
+		sendPlayerToStart();
+		//send the dean back to his starting position or other side of the map to ensure he can't spawn camp the player
+		chaser.getComponent(ChaserComponent.class).dean.resetToStart(timesCaught);
+		PositionComponent position = positions.get(chaser);
+		entities.move(position.handle, position.position.x, position.position.y);
+		// the dean jumps rather than moves, so he is not drawn sweeping across the map
+		position.previous.set(position.position);
+	}
+
+	/**
+	 * Helper method to move the horde one step along its flow field, sending the
+	 * player back to the start if any chaser reaches them, and each chaser that
+	 * did back to where it spawned.
+	 */
+	private void stepHorde() {
+		Vector2 target = player.getPosition();
+		hordeField.update(target.x, target.y);
+		if (horde.update(TIME_STEP, hordeField, target.x, target.y) == 0) {
+			return;
+		}
+		for (int i = 0; i < horde.size(); i++) {
+			if (horde.getState(i) == Crowd.REACHED) {
+				horde.moveTo(i, hordeSpawns[i * 2], hordeSpawns[i * 2 + 1]);
+			}
+		}
+		timesCaught++;
+		sendPlayerToStart();
+	}
+
+	/**
+	 * Helper method to send the player back to where they start, jumping rather
+	 * than moving so they are not drawn sweeping across the map.
+	 */
+	private void sendPlayerToStart() {
+		player.getPosition().set(PLAYER_X, PLAYER_Y);
+		entities.move(playerPosition.handle, player.getPosition().x, player.getPosition().y);
+		playerPosition.previous.set(player.getPosition());
+	}
+
+	/**
+	 * Helper method to show the ticket once the player is next to it, and let them pick it up.
+	 * @param delta Time since last step.
+	 */
+	private void checkTicket(float delta) {
+		if (busTicket.isCollected()) {
+			return;
+		}
+		entities.queryRadius(player.getPosition().x, player.getPosition().y, 16, nearby);
+		if (nearby.contains(busTicket, true)) {
+			busTicket.discover();
+			canPickUpTicket = true;
+		} else {
+			canPickUpTicket = false;
+		}
+	}
+
+	/**
+	 * Helper method to let the player end the game at the bus once they have the ticket.
+	 * @param delta Time since last step.
+	 */
+	private void checkBus(float delta) {
+		//the bus area is static, so ask the broadphase which entities are standing in it
+		canEndGame =
+			busTicket != null &&
+			busTicket.isCollected() &&
+			entities.queryRect(busArea, nearby) > 0 &&
+			nearby.contains(player, true);
+	}
+
+	/**
+	 * Helper method to create an entity at a position, adding it to the broadphase.
+	 * @param owner Object standing for the entity in the broadphase.
+	 * @param position Position of entity, kept rather than copied.
+	 * @param width Width of entity's box.
+	 * @param height Height of entity's box.
+	 * @return Entity with a position, not yet added to the engine.
+	 */
+	private Entity spawn(Object owner, Vector2 position, float width, float height) {
+		PositionComponent component = new PositionComponent(position, width, height);
+		component.handle = entities.add(owner, position.x, position.y, width, height);
+		Entity entity = new Entity();
+		entity.add(component);
+		owners.put(owner, entity);
+		return entity;
+	}
+
+	/**
+	 * Helper method to add an entity with a position to the engine, numbering it
+	 * for snapshots of the world.
+	 * @param entity Entity to add.
+	 */
+	private void add(Entity entity) {
+		positions.get(entity).index = positioned.size();
+		engine.addEntity(entity);
+	}
+
+	/**
+	 * Put everything back to how it was when the world was made, to play
+	 * another round.
+	 */
+	public void reset() {
+		keys = 0;
+		pressed = 0;
+		paused = false;
+		canPickUpTicket = false;
+		canEndGame = false;
+		timesCaught = 0;
+		outcome = PLAYING;
+		steps = 0;
+
+		player.reset();
+		friend.reset();
+		locker.reset();
+		if (busTicket != null) {
+			if (busTicket.isCollected()) {
+				//collecting the ticket took it out of the broadphase
+				ticketPosition.handle = entities.add(busTicket, busTicket.getPosition().x, busTicket.getPosition().y, 16, 16);
+			}
+			busTicket.reset();
+		}
+		timer.reset();
+
+		entities.move(playerPosition.handle, player.getPosition().x, player.getPosition().y);
+		for (int i = 0; i < chasers.size(); i++) {
+			Entity chaser = chasers.get(i);
+			chaser.getComponent(ChaserComponent.class).dean.resetToStart(0);
+			PositionComponent position = positions.get(chaser);
+			entities.move(position.handle, position.position.x, position.position.y);
+		}
+		if (horde != null) {
+			for (int i = 0; i < horde.size(); i++) {
+				horde.moveTo(i, hordeSpawns[i * 2], hordeSpawns[i * 2 + 1]);
+			}
+		}
+		snapshotPositions();
+	}
+
+	/**
+	 * Play on another collision grid, or the same one after its cells have been
+	 * rebuilt, so the chasers' line of sight and the horde's paths are checked
+	 * against it.
+	 * @param collisionGrid Collision grid of the map played on.
+	 */
+	public void setCollisionGrid(CollisionGrid collisionGrid) {
+		if (collisionGrid == this.collisionGrid) {
+			lineOfSight.invalidate();
+			if (hordeField != null) {
+				hordeField.rebuild();
+			}
+			return;
+		}
+		this.collisionGrid = collisionGrid;
+		lineOfSight = new LineOfSight(collisionGrid);
+		for (int i = 0; i < chasers.size(); i++) {
+			chasers.get(i).getComponent(ChaserComponent.class).dean.setLineOfSight(lineOfSight);
+		}
+		if (horde != null) {
+			// the horde's spawns were picked from the old map's open tiles
+			setHorde(hordeSpawns.length / 2);
+		}
+	}
+
+	/**
+	 * Play by another set of rules, from the next step. The chasers already
+	 * added, and the locker, are changed to match.
+	 * @param rules Rules to play by.
+	 */
+	public void setRules(GameRules rules) {
+		this.rules = rules;
+		locker.setBoostDuration(rules.boostSeconds);
+		for (int i = 0; i < chasers.size(); i++) {
+			Dean dean = chasers.get(i).getComponent(ChaserComponent.class).dean;
+			dean.setSpeed(rules.deanSpeed);
+			dean.setRespawnPosition(rules.deanRespawnX, rules.deanRespawnY);
+		}
+	}
+
+	/**
+	 * Return the rules being played by.
+	 * @return Rules, {@link GameRules#DEFAULT} unless set.
+	 */
+	public GameRules getRules() { return rules; }
+
+	/**
+	 * Calculate the player's final score
+	 * @return Score, from the time left less the rules' penalty for every time the player was caught.
+	 */
+	public int calculateFinalScore() {
+
+		//convert the time remaining into seconds to have as the player's score
+		int timeRemainingSeconds = (int) timer.getTimeLeft();
+
+		int minutes = (int) (timeRemainingSeconds / 60);
+		int seconds = (int) (timeRemainingSeconds % 60);
+		int timeScore = (minutes * 100) + seconds; //this means 3:24 left on the clock gives a score of 324 before penalties are taken into account
+
+		//calculate the penalty to be applied from the number of times the player gets caught by the dean
+		int deanPenalty = timesCaught * rules.caughtPenalty; //5 marks taken off per time caught by default
+
+		//final score calculation
+		int finalScore = timeScore - deanPenalty;
+
+		//make sure the score can't go below 0 which could happen if the dean catches you enough times
+		return Math.max(0, finalScore);
+	}
+
+	/**
+	 * Returns if the cell at a given coordinate in the world allows an entity
+	 * to move onto it.
+	 * @param x Horizontal position of cell in the world.
+	 * @param y Vertical position of cell in the world.
+	 * @return True if cell blocks entities to move onto it, False if entities can move onto it.
+	 * @see CollisionGrid#isBlockedAt(float, float)
+	 */
+	public boolean isCellBlocked(float x, float y) {
+		return collisionGrid.isBlockedAt(x, y);
+	}
+
+	/**
+	 * Return the collision grid of the map being played on.
+	 * @return Collision grid.
+	 */
+	public CollisionGrid getCollisionGrid() { return collisionGrid; }
+
+	/**
+	 * Return the entity standing for an object of the world, such as the player.
+	 * @param owner Player, dean, locker, NPC or ticket.
+	 * @return Entity, or null if the object is not in this world.
+	 */
+	public Entity getEntity(Object owner) { return owners.get(owner); }
+
+	/**
+	 * Return every entity with a position, in the order they are numbered for snapshots.
+	 * @return Entities with a <code> PositionComponent </code>.
+	 */
+	public ImmutableArray<Entity> getPositioned() { return positioned; }
+
+	/**
+	 * Return every chaser added with {@link #addChaser(Dean)}.
+	 * @return Entities with a <code> ChaserComponent </code>.
+	 */
+	public ImmutableArray<Entity> getChasers() { return chasers; }
+
+	/**
+	 * Return the horde of chasers added with {@link #setHorde(int)}.
+	 * @return Crowd of chasers, or null if the round has no horde.
+	 */
+	public Crowd getHorde() { return horde; }
+
+	/**
+	 * Return how the round has ended.
+	 * @return {@link #PLAYING}, {@link #WON} or {@link #LOST}.
+	 */
+	public int getOutcome() { return outcome; }
+
+	/**
+	 * Return if the round is paused.
+	 * @return True if paused.
+	 */
+	public boolean isPaused() { return paused; }
+
+	/**
+	 * Return if the player is next to the ticket and can pick it up.
+	 * @return True if the ticket can be picked up.
+	 */
+	public boolean canPickUpTicket() { return canPickUpTicket; }
+
+	/**
+	 * Return if the player is at the bus with the ticket and can win.
+	 * @return True if the round can be won.
+	 */
+	public boolean canEndGame() { return canEndGame; }
+
+	/**
+	 * Return the number of times the player has been caught this round.
+	 * @return Times caught.
+	 */
+	public int getTimesCaught() { return timesCaught; }
+
+	/**
+	 * Return the number of steps taken this round, not counting paused ones.
+	 * @return Steps.
+	 */
+	public long getSteps() { return steps; }
+
+	/**
+	 * Return the engine holding the characters and items.
+	 * @return Entity engine.
+	 */
+	public Engine getEngine() { return engine; }
+
+	/**
+	 * Return the scheduler updating the chasers. It has no time budget, so every
+	 * due chaser is updated each step.
+	 * @return AI scheduler.
+	 */
+	public AIScheduler getAIScheduler() { return aiScheduler; }
+
+	/**
+	 * Return the broadphase holding every entity.
+	 * @return Spatial hash.
+	 */
+	public SpatialHash<Object> getEntities() { return entities; }
+
+	/**
+	 * Return the player's character.
+	 * @return Player.
+	 */
+	public Player getPlayer() { return player; }
+
+	/**
+	 * Return the locker giving the speed boost.
+	 * @return Locker.
+	 */
+	public Locker getLocker() { return locker; }
+
+	/**
+	 * Return the NPC.
+	 * @return NPC.
+	 */
+	public NPC getFriend() { return friend; }
+
+	/**
+	 * Return the bus ticket, if the map has one.
+	 * @return Bus ticket or null.
+	 */
+	public BusTicket getBusTicket() { return busTicket; }
+
+	/**
+	 * Return the area the player wins in with the ticket, if the map has one.
+	 * @return Bus area or null.
+	 */
+	public Rectangle getBusArea() { return busArea; }
+
+	/**
+	 * Return the round's timer.
+	 * @return Game timer.
+	 */
+	public GameTimer getTimer() { return timer; }
+}
@@ -0,0 +1,126 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.ai.utils.Collision;
+import com.badlogic.gdx.ai.utils.Ray;
+import com.badlogic.gdx.ai.utils.RaycastCollisionDetector;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * <code> GridRaycastCollisionDetector </code> checks if a straight line crosses a
+ * blocked tile of a <code> CollisionGrid </code>, for smoothing paths found on a
+ * <code> TileGraph </code>. Rays are in tile units, so (2.5, 3.5) is the centre of
+ * tile (2, 3).
+ * <p>
+ * Every tile the line passes through is checked, and a line passing exactly
+ * through the corner of a tile also checks the two tiles beside that corner, so a
+ * smoothed path cuts no corner the path it came from could not.
+ * @see com.badlogic.gdx.ai.pfa.PathSmoother PathSmoother
+ */
+public class GridRaycastCollisionDetector implements RaycastCollisionDetector<Vector2> {
+	/** How close the line must come to a corner to be treated as passing through it. */
+	private static final float CORNER_EPSILON = 1e-5f;
+
+	private final CollisionGrid grid;
+
+	/**
+	 * Constructor for <code> GridRaycastCollisionDetector </code>.
+	 * @param grid Collision grid rays are checked against.
+	 */
+	public GridRaycastCollisionDetector(CollisionGrid grid) {
+		this.grid = grid;
+	}
+
+	/**
+	 * Returns if the line from the start to the end of a ray crosses a blocked tile.
+	 * @param ray Ray in tile units.
+	 * @return True if a blocked tile is in the way.
+	 */
+	@Override
+	public boolean collides(Ray<Vector2> ray) {
+		return walk(ray, null);
+	}
+
+	/**
+	 * Find the first blocked tile along a ray. The collision point is where the
+	 * line enters that tile and the normal is the side of the tile it enters by.
+	 * @param outputCollision Set to the collision found, in tile units.
+	 * @param inputRay Ray in tile units.
+	 * @return True if a blocked tile is in the way.
+	 */
+	@Override
+	public boolean findCollision(Collision<Vector2> outputCollision, Ray<Vector2> inputRay) {
+		return walk(inputRay, outputCollision);
+	}
+
+	/**
+	 * Helper method to step through the tiles under a ray, one tile boundary at a
+	 * time, stopping at the first blocked tile.
+	 */
+	private boolean walk(Ray<Vector2> ray, Collision<Vector2> collision) {
+		float x0 = ray.start.x;
+		float y0 = ray.start.y;
+		float dx = ray.end.x - x0;
+		float dy = ray.end.y - y0;
+		int tileX = (int) Math.floor(x0);
+		int tileY = (int) Math.floor(y0);
+		int endX = (int) Math.floor(ray.end.x);
+		int endY = (int) Math.floor(ray.end.y);
+		if (grid.isBlocked(tileX, tileY)) {
+			return hit(collision, x0, y0, 0, 0);
+		}
+
+		int stepX = dx > 0 ? 1 : (dx < 0 ? -1 : 0);
+		int stepY = dy > 0 ? 1 : (dy < 0 ? -1 : 0);
+		float deltaX = stepX != 0 ? Math.abs(1f / dx) : Float.POSITIVE_INFINITY;
+		float deltaY = stepY != 0 ? Math.abs(1f / dy) : Float.POSITIVE_INFINITY;
+		// fraction of the ray travelled before it crosses the next vertical and horizontal tile edge
+		float nextX = stepX > 0 ? (tileX + 1 - x0) * deltaX : (stepX < 0 ? (x0 - tileX) * deltaX : Float.POSITIVE_INFINITY);
+		float nextY = stepY > 0 ? (tileY + 1 - y0) * deltaY : (stepY < 0 ? (y0 - tileY) * deltaY : Float.POSITIVE_INFINITY);
+
+		int steps = Math.abs(endX - tileX) + Math.abs(endY - tileY);
+		while (steps-- > 0) {
+			float t;
+			int normalX = 0;
+			int normalY = 0;
+			if (Math.abs(nextX - nextY) <= CORNER_EPSILON) {
+				t = nextX;
+				if (grid.isBlocked(tileX + stepX, tileY) || grid.isBlocked(tileX, tileY + stepY)) {
+					return hit(collision, x0 + dx * t, y0 + dy * t, -stepX, -stepY);
+				}
+				tileX += stepX;
+				tileY += stepY;
+				nextX += deltaX;
+				nextY += deltaY;
+				// a diagonal step crosses two tile edges at once
+				steps--;
+				normalX = -stepX;
+				normalY = -stepY;
+			} else if (nextX < nextY) {
+				t = nextX;
+				tileX += stepX;
+				nextX += deltaX;
+				normalX = -stepX;
+			} else {
+				t = nextY;
+				tileY += stepY;
+				nextY += deltaY;
+				normalY = -stepY;
+			}
+			if (grid.isBlocked(tileX, tileY)) {
+				return hit(collision, x0 + dx * t, y0 + dy * t, normalX, normalY);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method to fill in a collision, if one was asked for.
+	 */
+	private static boolean hit(Collision<Vector2> collision, float x, float y, int normalX, int normalY) {
+		if (collision != null) {
+			collision.point.set(x, y);
+			collision.normal.set(normalX, normalY).nor();
+		}
+		return true;
+	}
+}
@@ -0,0 +1,79 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * <code> HudText </code> is a line of HUD text showing a number between a fixed
+ * prefix and suffix, such as "Hidden Event Encountered = 0/1". The line's glyphs
+ * are laid out into a <code> BitmapFontCache </code> of its own, and only laid out
+ * again when the number shown changes, from a reused <code> StringBuilder </code>.
+ * Drawing it every frame only copies the cached glyphs into the batch, and once
+ * each number has been shown it creates no objects.
+ */
+public class HudText {
+	private final BitmapFontCache cache;
+	private final String prefix;
+	private final String suffix;
+	private final float x;
+	private final float y;
+	private final StringBuilder text = new StringBuilder(64);
+	private int shown;
+	private boolean laidOut;
+	private int layouts;
+
+	/**
+	 * Constructor for <code> HudText </code>, in the font's current colour.
+	 * @param font Font to draw with.
+	 * @param prefix Text before the number.
+	 * @param suffix Text after the number.
+	 * @param x Horizontal position of the text's left edge, in the coordinates it is drawn in.
+	 * @param y Vertical position of the text's top, in the coordinates it is drawn in.
+	 */
+	public HudText(BitmapFont font, String prefix, String suffix, float x, float y) {
+		this.cache = font.newFontCache();
+		this.cache.setColor(font.getColor());
+		this.prefix = prefix;
+		this.suffix = suffix;
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Set the number shown, laying the line out again only if it changed.
+	 * @param value Number to show.
+	 */
+	public void show(int value) {
+		if (laidOut && value == shown) {
+			return;
+		}
+		shown = value;
+		laidOut = true;
+		layouts++;
+		text.setLength(0);
+		text.append(prefix).append(value).append(suffix);
+		cache.setText(text, x, y);
+	}
+
+	/**
+	 * Draw the line as last shown.
+	 * @param batch Batch to draw with, already begun.
+	 */
+	public void draw(Batch batch) {
+		cache.draw(batch);
+	}
+
+	/**
+	 * Return the text of the line as last shown.
+	 * @return Text, or empty before a number is shown.
+	 */
+	public CharSequence getText() { return text; }
+
+	/**
+	 * Return how many times the line has been laid out.
+	 * @return Number of layouts.
+	 */
+	public int getLayouts() { return layouts; }
+}
@@ -0,0 +1,71 @@
+package io.github.some_example_name;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <code> InputQueue </code> passes input events, packed into ints, from one
+ * thread to another without locks or allocation, as a fixed ring of events.
+ * <p>
+ * There must be one thread offering events and one thread polling them at a time.
+ * @see QueuedInput
+ */
+public class InputQueue {
+	/** Returned by {@link #poll()} when there are no events. */
+	public static final int EMPTY = Integer.MIN_VALUE;
+
+	private final int[] events;
+	private final int mask;
+	/** Index of the next event to poll, only written by the polling thread. */
+	private final AtomicLong head = new AtomicLong();
+	/** Index of the next event to offer, only written by the offering thread. */
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * Constructor for <code> InputQueue </code>.
+	 * @param capacity Most events held at once, rounded up to a power of two.
+	 */
+	public InputQueue(int capacity) {
+		int size = Math.max(Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1, 2);
+		events = new int[size];
+		mask = size - 1;
+	}
+
+	/**
+	 * Add an event to the end of the queue. Offering thread only.
+	 * @param event Event, anything but {@link #EMPTY}.
+	 * @return False if the queue is full and the event was not added.
+	 */
+	public boolean offer(int event) {
+		long next = tail.get();
+		if (next - head.get() == events.length) {
+			return false;
+		}
+		events[(int) next & mask] = event;
+		// publishes the event written above to the polling thread
+		tail.lazySet(next + 1);
+		return true;
+	}
+
+	/**
+	 * Take the event at the front of the queue. Polling thread only.
+	 * @return Event, or {@link #EMPTY} if there are none.
+	 */
+	public int poll() {
+		long next = head.get();
+		if (next == tail.get()) {
+			return EMPTY;
+		}
+		int event = events[(int) next & mask];
+		// hands the slot back to the offering thread once it has been read
+		head.lazySet(next + 1);
+		return event;
+	}
+
+	/**
+	 * Return how many events are waiting.
+	 * @return Number of events.
+	 */
+	public int size() {
+		return (int) (tail.get() - head.get());
+	}
+}
@@ -0,0 +1,272 @@
+package io.github.some_example_name;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * <code> InputRecording </code> is the keys held on every step of a round, as the
+ * key bits passed to {@link GameWorld#step(int)}, with the map and seed the round
+ * was played with. Rounds are deterministic, so stepping a new world with the same
+ * keys plays the same round again.
+ * <p>
+ * Keys are stored as runs of steps with the same keys, in a direct
+ * <code> ByteBuffer </code>. Each run is one byte: the low six bits are the keys
+ * that changed since the last run, and the top two bits its length of 1 to 3
+ * steps, or 0 if the length follows as a varint. Players change keys a few times a
+ * second, so an hour of play takes kilobytes.
+ * @see InputReplay
+ */
+public class InputRecording {
+	/** File extension of saved recordings. */
+	public static final String EXTENSION = ".replay";
+
+	static final int MAGIC = 0x52504C31; // "RPL1"
+	// 2: characters slide along walls and start on whole tiles, so older rounds play out differently
+	static final int VERSION = 2;
+
+	/** Bytes after the map id in a saved recording's header: seed, steps, score and length of runs. */
+	private static final int HEADER_TAIL = 20;
+
+	private static final int KEY_MASK = 0x3F;
+	private static final int RUN_SHIFT = 6;
+	private static final int MAX_PACKED_RUN = 3;
+
+	private final String mapId;
+	private final long seed;
+	private ByteBuffer data;
+	private int steps;
+	private int score = -1;
+
+	private int runKeys;
+	private int runLength;
+	private int writtenKeys;
+
+	/**
+	 * Constructor for <code> InputRecording </code>, with no steps yet.
+	 * @param mapId Map the round is played on, such as {@link GameAssets#MAP}.
+	 * @param seed Seed of the round's random events.
+	 */
+	public InputRecording(String mapId, long seed) {
+		this(mapId, seed, ByteBuffer.allocateDirect(256), 0);
+	}
+
+	/**
+	 * Helper constructor for a recording read back from a file.
+	 */
+	private InputRecording(String mapId, long seed, ByteBuffer data, int steps) {
+		this.mapId = mapId;
+		this.seed = seed;
+		this.data = data;
+		this.steps = steps;
+	}
+
+	/**
+	 * Add the keys held on the next step.
+	 * @param keys Key bits passed to the world, such as <code> GameWorld.UP </code>.
+	 */
+	public void record(int keys) {
+		keys &= KEY_MASK;
+		if (runLength > 0 && keys != runKeys) {
+			flush();
+		}
+		runKeys = keys;
+		runLength++;
+		steps++;
+	}
+
+	/**
+	 * Helper method to write the run being recorded to the buffer.
+	 */
+	private void flush() {
+		if (runLength == 0) {
+			return;
+		}
+		if (data.remaining() < 6) {
+			ByteBuffer larger = ByteBuffer.allocateDirect(data.capacity() * 2);
+			data.flip();
+			larger.put(data);
+			data = larger;
+		}
+		int changed = runKeys ^ writtenKeys;
+		if (runLength <= MAX_PACKED_RUN) {
+			data.put((byte) (changed | runLength << RUN_SHIFT));
+		} else {
+			data.put((byte) changed);
+			int length = runLength;
+			while (length >= 0x80) {
+				data.put((byte) (length | 0x80));
+				length >>>= 7;
+			}
+			data.put((byte) length);
+		}
+		writtenKeys = runKeys;
+		runLength = 0;
+	}
+
+	/**
+	 * Return the runs recorded so far, to read from the start. The last run is
+	 * written out first, so recording can carry on afterwards.
+	 * @return Read-only view of the runs.
+	 */
+	ByteBuffer getRuns() {
+		flush();
+		ByteBuffer runs = data.asReadOnlyBuffer();
+		runs.flip();
+		return runs;
+	}
+
+	/**
+	 * Write the recording to a file. It is written to a file beside it first and
+	 * then moved into place, so a save cut short by a crash or a full disk leaves
+	 * the file as it was rather than half written.
+	 * @param file File to write, usually ending in {@link #EXTENSION}.
+	 */
+	public void save(FileHandle file) {
+		ByteBuffer runs = getRuns();
+		byte[] map = mapId.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer header = ByteBuffer.allocateDirect(30 + map.length);
+		header.putInt(MAGIC);
+		header.putShort((short) VERSION);
+		header.putInt(map.length);
+		header.put(map);
+		header.putLong(seed);
+		header.putInt(steps);
+		header.putInt(score);
+		header.putInt(runs.remaining());
+		header.flip();
+		FileHandle partial = file.sibling(file.name() + ".partial");
+		try {
+			try (OutputStream out = partial.write(false); WritableByteChannel channel = Channels.newChannel(out)) {
+				while (header.hasRemaining()) {
+					channel.write(header);
+				}
+				while (runs.hasRemaining()) {
+					channel.write(runs);
+				}
+			}
+			try {
+				Files.move(partial.file().toPath(), file.file().toPath(),
+					StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(partial.file().toPath(), file.file().toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException | GdxRuntimeException e) {
+			partial.delete();
+			throw new GdxRuntimeException("Error writing recording " + file.path(), e);
+		}
+	}
+
+	/**
+	 * Read a recording written by {@link #save(FileHandle)}.
+	 * @param file File to read.
+	 * @return Recording, which more steps can be added to.
+	 * @throws GdxRuntimeException If the file cannot be read, or is not a whole
+	 * recording of this version.
+	 */
+	public static InputRecording load(FileHandle file) {
+		ByteBuffer buffer = ByteBuffer.wrap(file.readBytes());
+		if (buffer.remaining() < 6 || buffer.getInt() != MAGIC) {
+			throw new GdxRuntimeException("Not a recording: " + file.path());
+		}
+		int version = buffer.getShort();
+		if (version != VERSION) {
+			throw new GdxRuntimeException("Recording " + file.path() + " is version " + version + ", expected " + VERSION);
+		}
+		if (buffer.remaining() < 4 + HEADER_TAIL) {
+			throw cutShort(file);
+		}
+		int mapLength = buffer.getInt();
+		if (mapLength < 0 || mapLength > buffer.remaining() - HEADER_TAIL) {
+			throw cutShort(file);
+		}
+		byte[] map = new byte[mapLength];
+		buffer.get(map);
+		long seed = buffer.getLong();
+		int steps = buffer.getInt();
+		int score = buffer.getInt();
+		int length = buffer.getInt();
+		if (steps < 0 || length < 0 || length != buffer.remaining()) {
+			throw cutShort(file);
+		}
+		ByteBuffer data = ByteBuffer.allocateDirect(Math.max(length * 2, 256));
+		buffer.limit(buffer.position() + length);
+		data.put(buffer);
+
+		InputRecording recording = new InputRecording(new String(map, StandardCharsets.UTF_8), seed, data, steps);
+		recording.score = score;
+		// carry on from the keys the last run ended with
+		ByteBuffer runs = recording.getRuns();
+		try {
+			while (runs.hasRemaining()) {
+				int run = runs.get() & 0xFF;
+				recording.writtenKeys ^= run & KEY_MASK;
+				if (run >>> RUN_SHIFT == 0) {
+					while ((runs.get() & 0x80) != 0) {
+						// skip the varint length
+					}
+				}
+			}
+		} catch (BufferUnderflowException e) {
+			// the last run's length is missing its end
+			throw new GdxRuntimeException("Recording " + file.path() + " is cut short or corrupt", e);
+		}
+		return recording;
+	}
+
+	/**
+	 * Helper method to make the exception thrown for a recording whose lengths do not fit the file.
+	 */
+	private static GdxRuntimeException cutShort(FileHandle file) {
+		return new GdxRuntimeException("Recording " + file.path() + " is cut short or corrupt");
+	}
+
+	/**
+	 * Return the map the round was played on.
+	 * @return Map id, such as {@link GameAssets#MAP}.
+	 */
+	public String getMapId() { return mapId; }
+
+	/**
+	 * Return the seed of the round's random events.
+	 * @return Seed.
+	 */
+	public long getSeed() { return seed; }
+
+	/**
+	 * Return the number of steps recorded.
+	 * @return Steps.
+	 */
+	public int getSteps() { return steps; }
+
+	/**
+	 * Return the size of the recorded keys.
+	 * @return Size in bytes, not counting the file header.
+	 */
+	public int getSizeInBytes() {
+		flush();
+		return data.position();
+	}
+
+	/**
+	 * Return the score the recorded round was won with.
+	 * @return Score, or -1 if the round has not been won.
+	 */
+	public int getScore() { return score; }
+
+	/**
+	 * Set the score the recorded round was won with, kept when it is saved.
+	 * @param score Final score.
+	 */
+	public void setScore(int score) { this.score = score; }
+}
@@ -0,0 +1,89 @@
+package io.github.some_example_name;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <code> InputReplay </code> reads the keys of an <code> InputRecording </code>
+ * back one step at a time, to feed them to a <code> GameWorld </code>. The world
+ * can be stepped at the game's speed, such as by <code> GameScreen </code>, or as
+ * fast as the rules run with {@link #playToEnd(GameWorld)}.
+ * @see InputRecording
+ */
+public class InputReplay {
+	private final InputRecording recording;
+	private final ByteBuffer runs;
+	private int keys;
+	private int runLeft;
+	private int stepsRead;
+
+	/**
+	 * Constructor for <code> InputReplay </code>, from the first step.
+	 * @param recording Recording to read. Steps recorded after this are not read.
+	 */
+	public InputReplay(InputRecording recording) {
+		this.recording = recording;
+		this.runs = recording.getRuns();
+	}
+
+	/**
+	 * Return if there are more steps to read.
+	 * @return True if {@link #next()} has a step to return.
+	 */
+	public boolean hasNext() {
+		return runLeft > 0 || runs.hasRemaining();
+	}
+
+	/**
+	 * Read the keys held on the next step.
+	 * @return Key bits, or 0 once every step has been read.
+	 */
+	public int next() {
+		if (runLeft == 0) {
+			if (!runs.hasRemaining()) {
+				return 0;
+			}
+			int run = runs.get() & 0xFF;
+			keys ^= run & 0x3F;
+			runLeft = run >>> 6;
+			if (runLeft == 0) {
+				int shift = 0;
+				int b;
+				do {
+					b = runs.get();
+					runLeft |= (b & 0x7F) << shift;
+					shift += 7;
+				} while ((b & 0x80) != 0);
+			}
+		}
+		runLeft--;
+		stepsRead++;
+		return keys;
+	}
+
+	/**
+	 * Step a world with the recorded keys until they run out or the round ends,
+	 * without waiting between steps.
+	 * @param world World to step, usually just made or reset.
+	 * @return Number of steps played.
+	 */
+	public int playToEnd(GameWorld world) {
+		int played = 0;
+		while (hasNext() && world.getOutcome() == GameWorld.PLAYING) {
+			world.step(next());
+			played++;
+		}
+		return played;
+	}
+
+	/**
+	 * Return the number of steps read so far.
+	 * @return Steps read.
+	 */
+	public int getStepsRead() { return stepsRead; }
+
+	/**
+	 * Return the recording being read.
+	 * @return Recording.
+	 */
+	public InputRecording getRecording() { return recording; }
+}
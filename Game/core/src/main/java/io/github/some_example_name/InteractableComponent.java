@@ -0,0 +1,32 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * <code> InteractableComponent </code> marks an entity the player can interact
+ * with, such as an NPC, a locker or the bus ticket, checked every frame.
+ * @see InteractionSystem
+ */
+public class InteractableComponent implements Component {
+	/**
+	 * Check for and react to the player interacting with an entity.
+	 */
+	public interface Interaction {
+		/**
+		 * Check the interaction, once per frame, as it may read key presses.
+		 * @param delta Time in seconds since last frame.
+		 */
+		void interact(float delta);
+	}
+
+	/** Interaction checked each frame. */
+	public final Interaction interaction;
+
+	/**
+	 * Constructor for <code> InteractableComponent </code>.
+	 * @param interaction Interaction checked each frame.
+	 */
+	public InteractableComponent(Interaction interaction) {
+		this.interaction = interaction;
+	}
+}
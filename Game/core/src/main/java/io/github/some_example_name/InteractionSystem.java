@@ -0,0 +1,27 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+/**
+ * <code> InteractionSystem </code> checks every interactable entity each step,
+ * in the order they were added, since interactions read key presses that only
+ * last one step.
+ */
+public class InteractionSystem extends IteratingSystem {
+	private final ComponentMapper<InteractableComponent> interactables = ComponentMapper.getFor(InteractableComponent.class);
+
+	/**
+	 * Constructor for <code> InteractionSystem </code>.
+	 */
+	public InteractionSystem() {
+		super(Family.all(PositionComponent.class, InteractableComponent.class).get());
+	}
+
+	@Override
+	protected void processEntity(Entity entity, float deltaTime) {
+		interactables.get(entity).interaction.interact(deltaTime);
+	}
+}
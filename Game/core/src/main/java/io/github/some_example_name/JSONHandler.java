@@ -6,15 +6,31 @@ import java.io.IOException;
 public class JSONHandler {
 
     private int position = 1; // top position in leaderboard
+
+    /**
+     * the method <code> submitScore </code> adds the score of a won round to the leaderboard, only if replaying 
+     * the round's recording earns the same score, so edited or made up scores are never written.
+     * @param run Recording of the round, with the score it claims
+     * @param verifier Verifier for the map the round was played on
+     * @return The verified score, or <code> ScoreVerifier.REJECTED </code> if it was not written
+     */
+    public int submitScore(InputRecording run, ScoreVerifier verifier) throws IOException {
+        int score = verifier.verify(run);
+        if (score != ScoreVerifier.REJECTED) {
+            writeLeaderboard(score);
+        }
+        return score;
+    }
     
     /**
 	 * <code> writeLeaderboard </code>
      * the method <code> writeLeaderboard </code> writes the player's score to the leaderboard JSON file if it is within the top 5 scores, 
      * implemented using a binary search to find the correct position for the new score.
      * if the file does not exist, it creates a new one 'leaderboard.json'.
-	 * @param finalScore The calculated final score from the most recent attempt
+     * scores are only written once verified, through <code> submitScore </code>.
+	 * @param finalScore The verified final score from the most recent attempt
 	 */
-    public void writeLeaderboard(int finalScore) throws IOException {
+    private void writeLeaderboard(int finalScore) throws IOException {
         File file = new File("leaderboard.json"); 
         if (file.createNewFile()) { // file created successfully, write new score in position 1 to the file
             java.io.FileWriter fw = new java.io.FileWriter(file); // open connection to writer
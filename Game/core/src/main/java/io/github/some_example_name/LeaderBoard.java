@@ -1,6 +1,7 @@
 package io.github.some_example_name;
 
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
@@ -12,8 +13,10 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 /**
  * <code> LeaderBoard </code> implements a static screen showing the user the leaderboard, containing the top 5 scores
- * user final score is passed to the JSON handler class to read and write to the file.
+ * the recording of a won round is passed to the JSON handler class, which only writes its score to the file once
+ * replaying the round earns it.
  * @see com.badlogic.gdx.Screen Screen.
+ * @see ScoreVerifier
  */
 
 public class LeaderBoard implements Screen{
@@ -23,24 +26,27 @@ public class LeaderBoard implements Screen{
 	private BitmapFont font;
 
 	// scoring system variables
-	private int finalScore;
+	private final InputRecording run;
+	private int finalScore = ScoreVerifier.REJECTED;
+	private String[] topScores = new String[5];
+	private boolean submitted;
 
 	/**
-	 * Constructor for <code> WinScreen </code>, using the game creator in
-	 * <code> MyGame </code> to create the leaderboard screen.
+	 * Constructor for <code> LeaderBoard </code>, using the game creator in
+	 * <code> MyGame </code> to create the leaderboard screen. The round's score is
+	 * checked and submitted once, on the first frame, rather than every frame.
 	 * @param game Game creator.
-	 * @param finalScore The calculated final score
+	 * @param run Recording of the round just won, with its score, or null to only view the leaderboard
 	 */
-	public LeaderBoard(MyGame game, int finalScore) {
+	public LeaderBoard(MyGame game, InputRecording run) {
 		this.game = game;
-		this.finalScore = finalScore;
+		this.run = run;
 
         // screen setup
 		camera = new OrthographicCamera();
 		camera.setToOrtho(false, 640, 480);
-		batch = new SpriteBatch();
-		font = new BitmapFont();
-		font.getData().setScale(2.5f);
+		batch = game.getRenderContext().getBatch();
+		font = game.getRenderContext().getTitleFont();
 	}
 
 	/**
@@ -57,42 +63,57 @@ public class LeaderBoard implements Screen{
 		camera.update();
 		batch.setProjectionMatrix(camera.combined);
 
+		if (!submitted) {
+			submitted = true;
+			submitScore();
+		}
+
 		batch.begin();
 
-		// read the leaderboard from the JSON file
-		JSONHandler file = new JSONHandler();
+		// the leaderboard read from the JSON file
 		font.draw(batch, "Leaderboard:", 215, 430);
-
-		try {
-			file.writeLeaderboard(finalScore); // pass the final score to the JSON handler to be compared to existing scores
-			String[] topScores = file.readLeaderboard();
-			for (int i = 0; i < 5; i++) {
-			    if (topScores[i] != null) {
-			        font.draw(batch, topScores[i], 140, 350 - (i * 40));
-			    }
-			}
-		} catch (IOException e) {
-			e.printStackTrace(); // printing error message
+		for (int i = 0; i < 5; i++) {
+		    if (topScores[i] != null) {
+		        font.draw(batch, topScores[i], 140, 350 - (i * 40));
+		    }
 		}
 
-        font.draw(batch, "Your Score: " + finalScore, 205, 150); // show user their own score
+		if (finalScore != ScoreVerifier.REJECTED) {
+            font.draw(batch, "Your Score: " + finalScore, 205, 150); // show user their own score
+		} else if (run != null) {
+            font.draw(batch, "Your score could not be verified", 120, 150);
+		}
 		font.draw(batch, "press SPACE to return to menu", 65, 80);
 		batch.end();
 
 		if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-		    game.setScreen(new MenuScreen(game)); // space key event to return to menu
+		    game.getScreens().showMenu(); // space key event to return to menu
+		}
+	}
+
+	/**
+	 * Helper method to submit the round's score, if there is one, and read the leaderboard from the JSON file.
+	 */
+	private void submitScore() {
+		JSONHandler file = new JSONHandler();
+		try {
+			if (run != null) {
+				ScoreVerifier verifier = ScoreVerifier.forMap(GameAssets.MAP, game.getAssets().getMap(), ForkJoinPool.commonPool());
+				finalScore = file.submitScore(run, verifier); // the score is only written if replaying the round earns it
+			}
+			topScores = file.readLeaderboard();
+		} catch (IOException e) {
+			e.printStackTrace(); // printing error message
 		}
 	}
 
    	/**
-	 * Dispose win menu assets when menu is exited or program is quit.
+	 * Nothing to dispose, as the batch and font are borrowed from the game's
+	 * render context.
 	 * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
 	 */
 	@Override
-	public void dispose() {
-		batch.dispose();
-		font.dispose();
-	}
+	public void dispose() {}
 
 	// complete unimplemented methods below
 
@@ -0,0 +1,232 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+/**
+ * <code> LineOfSight </code> answers whether one tile of a <code> CollisionGrid </code>
+ * can be seen from another, by walking the straight line between the two tile
+ * centres over the grid's packed bits.
+ * <p>
+ * Every tile the line passes through is checked, and a line passing exactly
+ * through the corner of a tile is blocked if either tile beside that corner is,
+ * as with <code> GridRaycastCollisionDetector </code>. The tiles at either end are
+ * not checked, so an entity pressed against a wall can still be seen.
+ * <p>
+ * Results are cached per pair of tiles, so agents that stay on their tile ask
+ * again for free; once either end moves to another tile, the pair changes and the
+ * line is walked again. Sight is the same both ways, so a pair and its reverse
+ * share an entry. The cache is a fixed table where a new pair overwrites the old
+ * one in its slot, and no query allocates. Call {@link #invalidate()} after
+ * editing the grid.
+ * @see GridRaycastCollisionDetector
+ */
+public class LineOfSight {
+	/** Number of pairs cached by default. */
+	public static final int DEFAULT_CACHE_SIZE = 4096;
+
+	private final CollisionGrid grid;
+	private final long[] keys;
+	private final int[] stamps;
+	private final boolean[] visible;
+	private final int mask;
+	private int generation = 1;
+	private int width;
+	private int height;
+	private int hits;
+	private int misses;
+
+	/**
+	 * Constructor for <code> LineOfSight </code>, with the default cache size.
+	 * @param grid Collision grid blocking sight.
+	 */
+	public LineOfSight(CollisionGrid grid) {
+		this(grid, DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Constructor for <code> LineOfSight </code>.
+	 * @param grid Collision grid blocking sight.
+	 * @param cacheSize Number of pairs to cache, rounded up to a power of two.
+	 */
+	public LineOfSight(CollisionGrid grid, int cacheSize) {
+		this.grid = grid;
+		int size = Integer.highestOneBit(Math.max(cacheSize, 1) - 1) << 1;
+		size = Math.max(size, 1);
+		keys = new long[size];
+		stamps = new int[size];
+		visible = new boolean[size];
+		mask = size - 1;
+		width = grid.getWidth();
+		height = grid.getHeight();
+	}
+
+	/**
+	 * Returns if a 16x16 entity can see another, from the tile under the centre of
+	 * one to the tile under the centre of the other.
+	 * @param fromX Horizontal world position of the entity looking.
+	 * @param fromY Vertical world position of the entity looking.
+	 * @param toX Horizontal world position of the entity looked at.
+	 * @param toY Vertical world position of the entity looked at.
+	 * @return True if no blocked tile is in the way.
+	 * @see CollisionGrid#isBlockedAt(float, float)
+	 */
+	public boolean canSee(float fromX, float fromY, float toX, float toY) {
+		return canSeeTile(tileX(fromX), tileY(fromY), tileX(toX), tileY(toY));
+	}
+
+	/**
+	 * Returns, for many entities at once, if each can see a target, such as every
+	 * chaser checking for the player. The target's tile is only worked out once.
+	 * @param x Horizontal world positions of the entities looking.
+	 * @param y Vertical world positions of the entities looking.
+	 * @param count Number of entities, from the start of the arrays.
+	 * @param targetX Horizontal world position of the target.
+	 * @param targetY Vertical world position of the target.
+	 * @param out Set to whether each entity can see the target.
+	 * @return Number of entities that can see the target.
+	 */
+	public int canSee(float[] x, float[] y, int count, float targetX, float targetY, boolean[] out) {
+		int toX = tileX(targetX);
+		int toY = tileY(targetY);
+		int seen = 0;
+		for (int i = 0; i < count; i++) {
+			out[i] = canSeeTile(tileX(x[i]), tileY(y[i]), toX, toY);
+			if (out[i]) {
+				seen++;
+			}
+		}
+		return seen;
+	}
+
+	/**
+	 * Returns if the centre of one tile can be seen from the centre of another.
+	 * @param fromX Horizontal index of tile looked from.
+	 * @param fromY Vertical index of tile looked from.
+	 * @param toX Horizontal index of tile looked at.
+	 * @param toY Vertical index of tile looked at.
+	 * @return True if no blocked tile is in the way.
+	 */
+	public boolean canSeeTile(int fromX, int fromY, int toX, int toY) {
+		if (grid.getWidth() != width || grid.getHeight() != height) {
+			invalidate();
+		}
+		if (!grid.inBounds(fromX, fromY) || !grid.inBounds(toX, toY)) {
+			misses++;
+			return trace(fromX, fromY, toX, toY);
+		}
+
+		int from = fromY * width + fromX;
+		int to = toY * width + toX;
+		if (from > to) {
+			// walk every pair the same way, so a pair and its reverse agree
+			int swap = from;
+			from = to;
+			to = swap;
+		}
+		long key = ((long) from << 32) | to;
+		int slot = slot(key);
+		if (stamps[slot] == generation && keys[slot] == key) {
+			hits++;
+			return visible[slot];
+		}
+
+		misses++;
+		boolean result = trace(from % width, from / width, to % width, to / width);
+		keys[slot] = key;
+		stamps[slot] = generation;
+		visible[slot] = result;
+		return result;
+	}
+
+	/**
+	 * Forget every cached result, after the grid has been edited.
+	 */
+	public void invalidate() {
+		generation++;
+		if (generation == 0) {
+			Arrays.fill(stamps, 0);
+			generation = 1;
+		}
+		width = grid.getWidth();
+		height = grid.getHeight();
+	}
+
+	/**
+	 * Return the collision grid blocking sight.
+	 * @return Collision grid.
+	 */
+	public CollisionGrid getGrid() { return grid; }
+
+	/**
+	 * Return how many queries were answered from the cache.
+	 * @return Number of cache hits.
+	 */
+	public int getHits() { return hits; }
+
+	/**
+	 * Return how many queries walked the grid.
+	 * @return Number of cache misses.
+	 */
+	public int getMisses() { return misses; }
+
+	/**
+	 * Helper method to walk the tiles between two tile centres, one tile edge at a
+	 * time, stopping at the first blocked tile. Compares where the line crosses the
+	 * next vertical and horizontal edges in whole numbers, so corners are exact.
+	 */
+	private boolean trace(int x0, int y0, int x1, int y1) {
+		int dx = Math.abs(x1 - x0);
+		int dy = Math.abs(y1 - y0);
+		int stepX = x1 > x0 ? 1 : -1;
+		int stepY = y1 > y0 ? 1 : -1;
+		int x = x0;
+		int y = y0;
+		int crossedX = 0;
+		int crossedY = 0;
+		while (crossedX < dx || crossedY < dy) {
+			// the line crosses its next vertical edge at (0.5 + crossedX) / dx of the way, and horizontal at (0.5 + crossedY) / dy
+			long decision = (long) (1 + 2 * crossedX) * dy - (long) (1 + 2 * crossedY) * dx;
+			if (decision == 0) {
+				if (grid.isBlocked(x + stepX, y) || grid.isBlocked(x, y + stepY)) {
+					return false;
+				}
+				x += stepX;
+				y += stepY;
+				crossedX++;
+				crossedY++;
+			} else if (decision < 0) {
+				x += stepX;
+				crossedX++;
+			} else {
+				y += stepY;
+				crossedY++;
+			}
+			if ((crossedX < dx || crossedY < dy) && grid.isBlocked(x, y)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Helper method to find the cache slot of a pair of tiles.
+	 */
+	private int slot(long key) {
+		int hash = (int) (key ^ (key >>> 29)) * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	/**
+	 * Helper method to find the tile under the centre of a 16x16 entity horizontally.
+	 */
+	private int tileX(float x) {
+		return (int) Math.floor((x + 8) / grid.getTileWidth());
+	}
+
+	/**
+	 * Helper method to find the tile under the centre of a 16x16 entity vertically.
+	 */
+	private int tileY(float y) {
+		return (int) Math.floor((y + 8) / grid.getTileHeight());
+	}
+}
@@ -0,0 +1,116 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+
+/**
+ * <code> LoadingScreen </code> shows a progress bar while the game's assets finish
+ * loading, then switches to <code> GameScreen </code>. It is only shown if the
+ * player starts the game before loading in the background has finished.
+ * @see GameAssets
+ * @see com.badlogic.gdx.Screen Screen.
+ */
+public class LoadingScreen implements Screen {
+	private final MyGame game;
+	private OrthographicCamera camera;
+	private SpriteBatch batch;
+	private ShapeRenderer shapes;
+	private BitmapFont font;
+	private FitViewport viewport;
+
+	private final int SCREEN_WIDTH = 640;
+	private final int SCREEN_HEIGHT = 480;
+	private final float BAR_WIDTH = 400;
+	private final float BAR_HEIGHT = 24;
+
+	/**
+	 * Constructor for <code> LoadingScreen </code>.
+	 * @param game Game creator, whose assets are being loaded.
+	 */
+	public LoadingScreen(MyGame game) {
+		this.game = game;
+
+		camera = new OrthographicCamera();
+		camera.setToOrtho(false, SCREEN_WIDTH, SCREEN_HEIGHT);
+
+		batch = game.getRenderContext().getBatch();
+		shapes = game.getRenderContext().getShapes();
+		font = game.getRenderContext().getMenuFont();
+
+		viewport = new FitViewport(SCREEN_WIDTH, SCREEN_HEIGHT, camera);
+	}
+
+	/**
+	 * Draw loading progress, switching to the game once everything has loaded.
+	 * Loading itself is advanced by <code> MyGame.render() </code>.
+	 * @param delta Time in seconds since last frame finished rendering.
+	 * @see com.badlogic.gdx.Screen#render Screen.render().
+	 */
+	@Override
+	public void render(float delta) {
+		GameAssets assets = game.getAssets();
+		if (assets.isFinished()) {
+			game.getScreens().startGame();
+			return;
+		}
+
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		camera.update();
+		float barX = (SCREEN_WIDTH - BAR_WIDTH) / 2;
+		float barY = SCREEN_HEIGHT / 2f - BAR_HEIGHT;
+
+		shapes.setProjectionMatrix(camera.combined);
+		shapes.begin(ShapeRenderer.ShapeType.Filled);
+		shapes.setColor(0.35f, 0.35f, 0.35f, 1);
+		shapes.rect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
+		shapes.setColor(1, 1, 1, 1);
+		shapes.rect(barX, barY, BAR_WIDTH * assets.getProgress(), BAR_HEIGHT);
+		shapes.end();
+
+		batch.setProjectionMatrix(camera.combined);
+		batch.begin();
+		font.draw(batch, "Loading...", barX, barY + BAR_HEIGHT + 50);
+		batch.end();
+	}
+
+	/**
+	 * Resize viewport when the window size is changed.
+	 * @param width Current width of window.
+	 * @param height Current height of window.
+	 * @see com.badlogic.gdx.Screen#resize Screen.resize().
+	 */
+	@Override
+	public void resize(int width, int height) { viewport.update(width, height); }
+
+	/**
+	 * Nothing to dispose, as the batch, shapes and font are borrowed from the
+	 * game's render context.
+	 * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
+	 */
+	@Override
+	public void dispose() {}
+
+	/** Unimplemented */
+	@Override
+	public void show() {}
+
+	/** Unimplemented */
+	@Override
+	public void pause() {}
+
+	/** Unimplemented */
+	@Override
+	public void resume() {}
+
+	/** Unimplemented */
+	@Override
+	public void hide() {}
+}
@@ -2,11 +2,12 @@ package io.github.some_example_name;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 
 /**
  * <code> Locker </code> is an interactable game object, that acts as the 
@@ -15,39 +16,70 @@ import com.badlogic.gdx.math.Vector2;
  */
 
 public class Locker {
-	private Texture texture;
+	private TextureRegion texture;
 	private Vector2 position;
 	private Rectangle bounds;
 	private boolean searched = false;
-	private boolean showMessage = false;
+	// read by the render thread when the game is simulated on its own thread
+	private volatile boolean showMessage = false;
 	private float messageTimer = 0f;
 	private final float messageDuration = 5f; 
 	private final float speedBoostAmount = 200f;
-	private final float speedBoostDuration = 10f; 
+	private float speedBoostDuration = 10f; 
 	private float speedBoostTimer = 0f;
 	private BitmapFont font;
+	private final Array<Object> nearby = new Array<>(false, 8);
 
 	/**
 	 * Constructor for <code> Locker </code>, with a set of coordinates. 
 	 * @param x Horizontal position for locker to spawn in.
 	 * @param y Vertical position for locker to spawn in.
+	 * @param texture Already loaded sprite of locker.
+	 * @param font Font to write the locker's label with.
 	 */
-	public Locker(float x, float y) {
-		texture = new Texture("locker.png"); 
+	public Locker(float x, float y, TextureRegion texture, BitmapFont font) {
+		this(x, y, texture.getRegionWidth(), texture.getRegionHeight(), texture, font);
+	}
+
+	/**
+	 * Constructor for <code> Locker </code> of a given size, which may have no
+	 * sprite or font when rounds are simulated without drawing them.
+	 * @param x Horizontal position for locker to spawn in.
+	 * @param y Vertical position for locker to spawn in.
+	 * @param width Width of locker.
+	 * @param height Height of locker.
+	 * @param texture Already loaded sprite of locker, or null.
+	 * @param font Font to write the locker's label with, or null.
+	 */
+	public Locker(float x, float y, float width, float height, TextureRegion texture, BitmapFont font) {
+		this.texture = texture; 
 		position = new Vector2(x, y);
-		bounds = new Rectangle(x,y,texture.getWidth(), texture.getHeight());
-		font = new BitmapFont();
+		bounds = new Rectangle(x, y, width, height);
+		this.font = font;
 	}
 
 	/** 
 	 * Update attributes of locker, and decrement timer on speed boost and 
 	 * label timer, showing label if the label timer is still active.
 	 * @param player Player character.
+	 * @param entities Broadphase holding the player and the locker.
 	 * @param delta Time elapsed since last frame.
 	 */ 
-	public void update(Player player, float delta) {
-		if (!searched && Gdx.input.isKeyJustPressed(Input.Keys.E)){
-		    if (player.getPosition().dst(position) < 50f) {
+	public void update(Player player, SpatialHash<Object> entities, float delta) {
+		update(player, entities, delta, Gdx.input.isKeyJustPressed(Input.Keys.E));
+	}
+
+	/**
+	 * Update attributes of locker, with the interact key read by the caller.
+	 * @param player Player character.
+	 * @param entities Broadphase holding the player and the locker.
+	 * @param delta Time elapsed since last update.
+	 * @param interact True if the interact key was just pressed.
+	 */
+	public void update(Player player, SpatialHash<Object> entities, float delta, boolean interact) {
+		if (!searched && interact){
+		    entities.queryRadius(position.x, position.y, 50f, nearby);
+		    if (nearby.contains(player, true)) {
 			searched = true;
 			showMessage = true;
 			messageTimer = 0f;
@@ -76,24 +108,56 @@ public class Locker {
 	 * @see com.badlogic.gdx.Screen#render Screen.render().
 	 */
 	public void render(SpriteBatch batch){
-		batch.draw(texture, position.x, position.y);
+		render(batch, position.x, position.y);
+	}
+
+	/**
+	 * Draw the locker and it's label at given coordinates.
+	 * @param batch SpriteBatch used by application to render all sprites.
+	 * @param x Horizontal world position to draw at.
+	 * @param y Vertical world position to draw at.
+	 */
+	public void render(SpriteBatch batch, float x, float y){
+		batch.draw(texture, x, y);
 		if (showMessage) {
 		    font.draw(
 			batch, 
 			"You found a sweet treat,\n enjoy the sugar induced speed boost!", 
-			position.x - 100, position.y + texture.getHeight() + 40	
+			x - 100, y + texture.getRegionHeight() + 40	
 			); 
 		}
 	}
 	
 	/**
-	 * Convenience method to be called by application to dispose of texture 
-	 * and font's locker's sprites when the application's dispose method is called. 
-	 * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
+	 * Get the locker's position in world.
+	 * @return The locker's x-by-y coordinates as a 2D vector.
 	 */
-	public void dispose(){
-		texture.dispose();
-		font.dispose();
+	public Vector2 getPosition() {
+		return position;
+	}
+
+	/**
+	 * Get locker's collision box.
+	 * @return Rectangle bounds of locker.
+	 */
+	public Rectangle getBounds() {
+		return bounds;
+	}
+
+	/**
+	 * Set how long the speed boost lasts once the locker is searched.
+	 * @param seconds Length of boost in seconds, 10 by default.
+	 */
+	public void setBoostDuration(float seconds) {
+		speedBoostDuration = seconds;
+	}
+
+	/**
+	 * Return if the locker has been searched this round.
+	 * @return True once the player has found the treat.
+	 */
+	public boolean isSearched() {
+		return searched;
 	}
 
 	/**
@@ -103,4 +167,14 @@ public class Locker {
 	public boolean isBoostActive() {
 		return speedBoostTimer > 0;
 	}
+
+	/**
+	 * Make the locker searchable again and end any speed boost, for a new round.
+	 */
+	public void reset() {
+		searched = false;
+		showMessage = false;
+		messageTimer = 0f;
+		speedBoostTimer = 0f;
+	}
 }
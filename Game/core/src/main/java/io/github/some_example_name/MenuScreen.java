@@ -37,9 +37,8 @@ public class MenuScreen implements Screen {
 		camera = new OrthographicCamera();
 		camera.setToOrtho(false, MENU_WIDTH, MENU_HEIGHT);
 
-		batch = new SpriteBatch();
-		font = new BitmapFont(); //uses default font of Arial
-		font.getData().setScale(2f); //this makes the text bigger
+		batch = game.getRenderContext().getBatch();
+		font = game.getRenderContext().getMenuFont(); //default font at twice the size
 
 		viewport = new FitViewport(MENU_WIDTH, MENU_HEIGHT, camera);
 	}
@@ -70,13 +69,12 @@ public class MenuScreen implements Screen {
 		font.draw(batch, "Press ESC to Exit", 198, 200);
 		batch.end();
 
-        int finalScore = 0;
 		if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-		    game.setScreen(new TutorialScreen(game));
+		    game.getScreens().showTutorial();
 		} else if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             Gdx.app.exit();
         } else if (Gdx.input.isKeyJustPressed(Input.Keys.L)){
-            game.setScreen(new LeaderBoard(game,finalScore));
+            game.getScreens().showLeaderBoard(null);
         }
 	}
 
@@ -90,14 +88,12 @@ public class MenuScreen implements Screen {
 	public void resize(int width, int height) { viewport.update(width,height); }
 
 	/**
-	 * Dispose menu assets when menu is exited or program is quit.
+	 * Nothing to dispose, as the batch and font are borrowed from the game's
+	 * render context.
 	 * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
 	 */
 	@Override
-	public void dispose() {
-		batch.dispose();
-		font.dispose();
-	}
+	public void dispose() {}
 
 	/** Unimplemented */
 	@Override
@@ -0,0 +1,257 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * <code> MoveResolver </code> moves an axis-aligned box through a
+ * <code> CollisionGrid </code>, stopping it flush against blocked tiles. A move is
+ * resolved one axis at a time, so a box walking diagonally into a wall slides
+ * along it. Each axis is swept over every tile its leading edge crosses, so a box
+ * never passes through a wall however far it moves in one step.
+ * <p>
+ * Corridors are exactly one tile wide, so a box as wide as a tile only fits down
+ * one when lined up with it to the pixel. A box moving straight at a corner it
+ * overlaps by no more than the resolver's corner slack is nudged sideways around
+ * it instead of stopping, by up to the length of the move.
+ * <p>
+ * A resolver keeps no state between moves, so one can be shared by every moving
+ * entity, on any thread, and moving creates no objects.
+ * @see CollisionGrid
+ */
+public class MoveResolver {
+	/** Resolver for the player, the dean and other 16x16 characters. */
+	public static final MoveResolver CHARACTER = new MoveResolver(16, 16, 6);
+
+	/** Set in the result of {@link #move(CollisionGrid, Vector2, float, float)} when the horizontal move was cut short. */
+	public static final int HIT_X = 1;
+	/** Set in the result of {@link #move(CollisionGrid, Vector2, float, float)} when the vertical move was cut short. */
+	public static final int HIT_Y = 1 << 1;
+
+	/**
+	 * Distance inside a box's edges that still counts as outside it, so a box flush
+	 * against a tile, or off it by rounding, is not on it.
+	 */
+	private static final float EDGE = 1e-2f;
+
+	private final float width;
+	private final float height;
+	private final float cornerSlack;
+
+	/**
+	 * Constructor for <code> MoveResolver </code>.
+	 * @param width Width of box, no wider than a tile for corners to be nudged around.
+	 * @param height Height of box, no taller than a tile for corners to be nudged around.
+	 * @param cornerSlack Furthest a box moving straight may overlap a corner and be
+	 * nudged around it, or 0 to stop at every corner.
+	 */
+	public MoveResolver(float width, float height, float cornerSlack) {
+		this.width = width;
+		this.height = height;
+		this.cornerSlack = cornerSlack;
+	}
+
+	/**
+	 * Move a box as far as it can go, sliding along any wall it walks into.
+	 * @param grid Collision grid to move through.
+	 * @param position Bottom left corner of box, moved in place.
+	 * @param dx Horizontal distance to move.
+	 * @param dy Vertical distance to move.
+	 * @return {@link #HIT_X} and {@link #HIT_Y} for each axis whose move was cut short, or 0.
+	 */
+	public int move(CollisionGrid grid, Vector2 position, float dx, float dy) {
+		int hits = 0;
+		if (dx != 0) {
+			float moved = sweepX(grid, position.x, position.y, dx);
+			if (moved != dx) {
+				hits |= HIT_X;
+				if (dy == 0 && moved == 0) {
+					position.y += nudgeY(grid, position.x, position.y, dx);
+				}
+			}
+			position.x += moved;
+		}
+		if (dy != 0) {
+			float moved = sweepY(grid, position.x, position.y, dy);
+			if (moved != dy) {
+				hits |= HIT_Y;
+				if (dx == 0 && moved == 0) {
+					position.x += nudgeX(grid, position.x, position.y, dy);
+				}
+			}
+			position.y += moved;
+		}
+		return hits;
+	}
+
+	/**
+	 * Return if a box at a position overlaps any blocked tile.
+	 * @param grid Collision grid.
+	 * @param x Horizontal world position of box's bottom left corner.
+	 * @param y Vertical world position of box's bottom left corner.
+	 * @return True if the box overlaps a blocked tile.
+	 */
+	public boolean overlaps(CollisionGrid grid, float x, float y) {
+		int left = column(grid, x + EDGE);
+		int right = column(grid, x + width - EDGE);
+		int bottom = row(grid, y + EDGE);
+		int top = row(grid, y + height - EDGE);
+		for (int tileY = bottom; tileY <= top; tileY++) {
+			for (int tileX = left; tileX <= right; tileX++) {
+				if (grid.isBlocked(tileX, tileY)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method to sweep a box horizontally through each column its leading edge enters.
+	 * @return Distance the box can move, up to <code> dx </code>.
+	 */
+	private float sweepX(CollisionGrid grid, float x, float y, float dx) {
+		int bottom = row(grid, y + EDGE);
+		int top = row(grid, y + height - EDGE);
+		float tileWidth = grid.getTileWidth();
+		if (dx > 0) {
+			int last = column(grid, x + width + dx - EDGE);
+			for (int tileX = column(grid, x + width - EDGE) + 1; tileX <= last; tileX++) {
+				if (columnBlocked(grid, tileX, bottom, top)) {
+					return Math.max(0, tileX * tileWidth - width - x);
+				}
+			}
+		} else {
+			int last = column(grid, x + dx + EDGE);
+			for (int tileX = column(grid, x + EDGE) - 1; tileX >= last; tileX--) {
+				if (columnBlocked(grid, tileX, bottom, top)) {
+					return Math.min(0, (tileX + 1) * tileWidth - x);
+				}
+			}
+		}
+		return dx;
+	}
+
+	/**
+	 * Helper method to sweep a box vertically through each row its leading edge enters.
+	 * @return Distance the box can move, up to <code> dy </code>.
+	 */
+	private float sweepY(CollisionGrid grid, float x, float y, float dy) {
+		int left = column(grid, x + EDGE);
+		int right = column(grid, x + width - EDGE);
+		float tileHeight = grid.getTileHeight();
+		if (dy > 0) {
+			int last = row(grid, y + height + dy - EDGE);
+			for (int tileY = row(grid, y + height - EDGE) + 1; tileY <= last; tileY++) {
+				if (rowBlocked(grid, tileY, left, right)) {
+					return Math.max(0, tileY * tileHeight - height - y);
+				}
+			}
+		} else {
+			int last = row(grid, y + dy + EDGE);
+			for (int tileY = row(grid, y + EDGE) - 1; tileY >= last; tileY--) {
+				if (rowBlocked(grid, tileY, left, right)) {
+					return Math.min(0, (tileY + 1) * tileHeight - y);
+				}
+			}
+		}
+		return dy;
+	}
+
+	/**
+	 * Helper method to find how far to nudge a box stopped moving vertically by a
+	 * corner, towards the open tile beside it.
+	 * @param dy Vertical move that was stopped.
+	 * @return Horizontal distance to move, or 0 if the box is not just clipping a corner.
+	 */
+	private float nudgeX(CollisionGrid grid, float x, float y, float dy) {
+		int left = column(grid, x + EDGE);
+		int right = column(grid, x + width - EDGE);
+		if (left == right || cornerSlack <= 0) {
+			return 0;
+		}
+		int ahead = dy > 0 ? row(grid, y + height + EDGE) : row(grid, y - EDGE);
+		float step = Math.abs(dy);
+		float split = right * grid.getTileWidth();
+		if (grid.isBlocked(left, ahead) && !grid.isBlocked(right, ahead) && split - x <= cornerSlack) {
+			return sweepX(grid, x, y, Math.min(step, split - x));
+		}
+		if (grid.isBlocked(right, ahead) && !grid.isBlocked(left, ahead) && x + width - split <= cornerSlack) {
+			return sweepX(grid, x, y, -Math.min(step, x + width - split));
+		}
+		return 0;
+	}
+
+	/**
+	 * Helper method to find how far to nudge a box stopped moving horizontally by
+	 * a corner, towards the open tile above or below it.
+	 * @param dx Horizontal move that was stopped.
+	 * @return Vertical distance to move, or 0 if the box is not just clipping a corner.
+	 */
+	private float nudgeY(CollisionGrid grid, float x, float y, float dx) {
+		int bottom = row(grid, y + EDGE);
+		int top = row(grid, y + height - EDGE);
+		if (bottom == top || cornerSlack <= 0) {
+			return 0;
+		}
+		int ahead = dx > 0 ? column(grid, x + width + EDGE) : column(grid, x - EDGE);
+		float step = Math.abs(dx);
+		float split = top * grid.getTileHeight();
+		if (grid.isBlocked(ahead, bottom) && !grid.isBlocked(ahead, top) && split - y <= cornerSlack) {
+			return sweepY(grid, x, y, Math.min(step, split - y));
+		}
+		if (grid.isBlocked(ahead, top) && !grid.isBlocked(ahead, bottom) && y + height - split <= cornerSlack) {
+			return sweepY(grid, x, y, -Math.min(step, y + height - split));
+		}
+		return 0;
+	}
+
+	/**
+	 * Helper method to check a column of tiles between two rows.
+	 */
+	private static boolean columnBlocked(CollisionGrid grid, int tileX, int bottom, int top) {
+		for (int tileY = bottom; tileY <= top; tileY++) {
+			if (grid.isBlocked(tileX, tileY)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method to check a row of tiles between two columns.
+	 */
+	private static boolean rowBlocked(CollisionGrid grid, int tileY, int left, int right) {
+		for (int tileX = left; tileX <= right; tileX++) {
+			if (grid.isBlocked(tileX, tileY)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method to find the column of tiles a horizontal world position is in.
+	 */
+	private static int column(CollisionGrid grid, float x) {
+		return (int) Math.floor(x / grid.getTileWidth());
+	}
+
+	/**
+	 * Helper method to find the row of tiles a vertical world position is in.
+	 */
+	private static int row(CollisionGrid grid, float y) {
+		return (int) Math.floor(y / grid.getTileHeight());
+	}
+
+	/**
+	 * Return width of box.
+	 * @return Width in world units.
+	 */
+	public float getWidth() { return width; }
+
+	/**
+	 * Return height of box.
+	 * @return Height in world units.
+	 */
+	public float getHeight() { return height; }
+}
@@ -9,9 +9,68 @@ import com.badlogic.gdx.Game;
  * @see com.badlogic.gdx.Screen Screen 
  */
 public class MyGame extends Game {
-	/** Create game, starting at the menu score. */ 
+	private GameAssets assets;
+	private RenderContext renderContext;
+	private ScreenManager screens;
+
+	/** Create game, starting at the menu score, and start loading the game's assets in the background. */ 
 	@Override
 	public void create() {
-		setScreen(new MenuScreen(this));
+		assets = new GameAssets();
+		assets.queueGameAssets();
+		assets.finishLoadingShared();
+		renderContext = createRenderContext(assets);
+		screens = new ScreenManager(this);
+		screens.showMenu();
+	}
+
+	/**
+	 * Create the render context shared by all screens, once the shared assets have
+	 * loaded.
+	 * @param assets Game assets.
+	 * @return New render context.
+	 */
+	protected RenderContext createRenderContext(GameAssets assets) {
+		return new RenderContext(assets);
+	}
+
+	/** Carry on loading assets, then render the current screen. */
+	@Override
+	public void render() {
+		assets.update();
+		super.render();
+	}
+
+	/** Dispose every screen, the render context and every loaded asset. */
+	@Override
+	public void dispose() {
+		super.dispose();
+		screens.dispose();
+		renderContext.dispose();
+		assets.dispose();
+	}
+
+	/**
+	 * Return the assets shared by the game's screens.
+	 * @return Game assets.
+	 */
+	public GameAssets getAssets() {
+		return assets;
+	}
+
+	/**
+	 * Return the batch, fonts and skin shared by the game's screens.
+	 * @return Render context.
+	 */
+	public RenderContext getRenderContext() {
+		return renderContext;
+	}
+
+	/**
+	 * Return the screen manager, which screens use to move to another screen.
+	 * @return Screen manager.
+	 */
+	public ScreenManager getScreens() {
+		return screens;
 	}
 }
@@ -2,51 +2,85 @@ package io.github.some_example_name;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 
 /** 
  * <code> NPC </code> represents NPCs that can provide items or dialog to 
  * the player when interacted with. 
  */
 public class NPC {
-	private Texture texture;
+	private TextureRegion texture;
 	private Vector2 position;
 	private Rectangle bounds;
 	private BitmapFont font;
-	private boolean showMessage = false;
+	// read by the render thread when the game is simulated on its own thread
+	private volatile boolean showMessage = false;
+	private final Array<Object> nearby = new Array<>(false, 8);
 
 	/**
 	 * Constructor for <code> NPC </code>, with a set of coordinates. 
 	 * @param x Horizontal position for NPC to spawn in.
 	 * @param y Vertical position for NPC to spawn in.
+	 * @param texture Already loaded sprite of NPC.
+	 * @param font Font to write dialog with.
 	 */
-	public NPC(float x, float y) {
-		texture = new Texture("NPC.png"); 
+	public NPC(float x, float y, TextureRegion texture, BitmapFont font) {
+		this(x, y, texture.getRegionWidth(), texture.getRegionHeight(), texture, font);
+	}
+
+	/**
+	 * Constructor for <code> NPC </code> of a given size, which may have no
+	 * sprite or font when rounds are simulated without drawing them.
+	 * @param x Horizontal position for NPC to spawn in.
+	 * @param y Vertical position for NPC to spawn in.
+	 * @param width Width of NPC.
+	 * @param height Height of NPC.
+	 * @param texture Already loaded sprite of NPC, or null.
+	 * @param font Font to write dialog with, or null.
+	 */
+	public NPC(float x, float y, float width, float height, TextureRegion texture, BitmapFont font) {
+		this.texture = texture; 
 		position = new Vector2(x, y);
-		bounds = new Rectangle(x,y,texture.getWidth(), texture.getHeight());
-		font = new BitmapFont();
+		bounds = new Rectangle(x, y, width, height);
+		this.font = font;
 	}
 
 	/**
 	 * Update if the dialog is shown to player depending on player position 
 	 * and if the E key has been pressed recently.
 	 * @param player Player object.
+	 * @param entities Broadphase holding the player and the NPC.
+	 */
+	public void update(Player player, SpatialHash<Object> entities){
+		update(player, entities, Gdx.input.isKeyJustPressed(Input.Keys.E));
+	}
+
+	/**
+	 * Update if the dialog is shown, with the interact key read by the caller.
+	 * @param player Player object.
+	 * @param entities Broadphase holding the player and the NPC.
+	 * @param interact True if the interact key was just pressed.
 	 */
-	public void update(Player player){
+	public void update(Player player, SpatialHash<Object> entities, boolean interact){
 		if (
-			player.getPosition().dst(position) < 50f && 
-			Gdx.input.isKeyJustPressed(Input.Keys.E)
+			interact &&
+			entities.queryRadius(position.x, position.y, 50f, nearby) > 0 &&
+			nearby.contains(player, true)
 		)
 		{
 		    showMessage = true; 
 		}
 
-		if(showMessage && player.getPosition().dst(position) > 60f){
-		    showMessage = false;
+		if(showMessage) {
+		    entities.queryRadius(position.x, position.y, 60f, nearby);
+		    if (!nearby.contains(player, true)) {
+			showMessage = false;
+		    }
 		}
 	}
 
@@ -59,25 +93,25 @@ public class NPC {
 	 * @see com.badlogic.gdx.Screen#render Screen.render().
 	 */
 	public void render(SpriteBatch batch){
-		batch.draw(texture, position.x, position.y);
+		render(batch, position.x, position.y);
+	}
+
+	/**
+	 * Draw the NPC's sprite and it's dialog at given coordinates.
+	 * @param batch SpriteBatch used by application to render all sprites.
+	 * @param x Horizontal world position to draw at.
+	 * @param y Vertical world position to draw at.
+	 */
+	public void render(SpriteBatch batch, float x, float y){
+		batch.draw(texture, x, y);
 		if (showMessage){
 		    font.draw(
 			batch, 
 			"Hey friend!\nDon't forget your bus ticket...\nyou always drop them by your room", 
-			position.x - 100, position.y + texture.getHeight() + 40);  
+			x - 100, y + texture.getRegionHeight() + 40);  
 		}
 	}
 
-	/**
-	 * Convenience method to be called by application to dispose of textures 
-	 * of NPC's sprites and dialog when the application's dispose method is called. 
-	 * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
-	 */
-	public void dispose(){
-		texture.dispose();
-		font.dispose();
-	}
-	
 	/**
 	 * Get the NPC's position in world. 
 	 * @return The players x-by-y coordinates as a 2D vector.
@@ -93,4 +127,11 @@ public class NPC {
 	public Rectangle getBounds() {
 		return bounds;
 	}
+
+	/**
+	 * Hide the NPC's dialog, for a new round.
+	 */
+	public void reset() {
+		showMessage = false;
+	}
 }
@@ -0,0 +1,176 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.PathSmoother;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * <code> PathPlanner </code> finds and keeps a path for one entity chasing a target
+ * across a <code> CollisionGrid </code>, using gdx-ai's A* search over a
+ * <code> TileGraph </code>.
+ * <p>
+ * A new path is only searched for when the target moves onto a different tile, and
+ * each search is given at most a millisecond of each frame: a search that runs out of
+ * time carries on from where it stopped next frame, while the entity keeps
+ * following the path it already has. Found paths are smoothed, so the entity
+ * walks straight across open areas rather than from tile to tile.
+ * @see com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder IndexedAStarPathFinder
+ */
+public class PathPlanner {
+	/** Time in nanoseconds a search may take out of each frame. */
+	public static final long SEARCH_BUDGET_NANOS = 1000000L;
+	/** Budget for searches that always finish in the frame they start. */
+	public static final long UNLIMITED_BUDGET = Long.MAX_VALUE;
+
+	private final TileGraph graph;
+	private final IndexedAStarPathFinder<TileGraph.Node> pathFinder;
+	private final PathSmoother<TileGraph.Node, Vector2> smoother;
+	private final PathFinderRequest<TileGraph.Node> request = new PathFinderRequest<>();
+	private final long budgetNanos;
+	private TilePath path = new TilePath();
+	private TilePath searchPath = new TilePath();
+	private TileGraph.Node target;
+	private boolean searching;
+	private int nextIndex;
+	private int searches;
+
+	/**
+	 * Constructor for <code> PathPlanner </code>, searching for at most
+	 * {@link #SEARCH_BUDGET_NANOS} each frame.
+	 * @param grid Collision grid to find paths through.
+	 */
+	public PathPlanner(CollisionGrid grid) {
+		this(grid, SEARCH_BUDGET_NANOS);
+	}
+
+	/**
+	 * Constructor for <code> PathPlanner </code>.
+	 * @param grid Collision grid to find paths through.
+	 * @param budgetNanos Time in nanoseconds a search may take out of each frame.
+	 */
+	public PathPlanner(CollisionGrid grid, long budgetNanos) {
+		this.graph = new TileGraph(grid);
+		this.pathFinder = new IndexedAStarPathFinder<>(graph);
+		this.smoother = new PathSmoother<>(new GridRaycastCollisionDetector(grid));
+		this.budgetNanos = budgetNanos;
+		request.heuristic = TileGraph.HEURISTIC;
+	}
+
+	/**
+	 * Plan towards a target. Starts a search if the target has moved onto another
+	 * tile since the last one, then carries on any unfinished search within the
+	 * frame's budget. Call once per frame.
+	 * @param x Horizontal world position of the entity following the path.
+	 * @param y Vertical world position of the entity following the path.
+	 * @param targetX Horizontal world position of the target.
+	 * @param targetY Vertical world position of the target.
+	 */
+	public void update(float x, float y, float targetX, float targetY) {
+		TileGraph.Node targetNode = graph.getNodeAt(targetX, targetY);
+		if (targetNode != target) {
+			target = targetNode;
+			startSearch(graph.getNodeAt(x, y), targetNode);
+		}
+		if (!searching) {
+			return;
+		}
+		if (pathFinder.search(request, budgetNanos)) {
+			searching = false;
+			if (request.pathFound) {
+				smoother.smoothPath(searchPath);
+				TilePath found = searchPath;
+				searchPath = path;
+				path = found;
+				// the first tile is the one the entity is already on
+				nextIndex = Math.min(1, path.getCount() - 1);
+			} else {
+				path.clear();
+			}
+		}
+	}
+
+	/**
+	 * Forget the current path and target, so the next update searches again.
+	 * Call after the entity following the path is moved somewhere else.
+	 */
+	public void invalidate() {
+		target = null;
+		searching = false;
+		path.clear();
+	}
+
+	/**
+	 * Find where the entity should head for next, moving on to the following
+	 * tile of the path once it is within a given distance of one.
+	 * @param position World position of the entity following the path.
+	 * @param arriveDistance Distance at which a tile counts as reached.
+	 * @param out Set to the world position to head for, the bottom left corner of
+	 * a 16x16 entity standing in the middle of the next tile.
+	 * @return False if there is no path or the end of it has been reached.
+	 */
+	public boolean nextWaypoint(Vector2 position, float arriveDistance, Vector2 out) {
+		while (nextIndex < path.getCount()) {
+			waypoint(path.get(nextIndex), out);
+			if (out.dst2(position) > arriveDistance * arriveDistance) {
+				return true;
+			}
+			nextIndex++;
+		}
+		return false;
+	}
+
+	/**
+	 * Return if a search is still running over several frames.
+	 * @return True while searching.
+	 */
+	public boolean isSearching() { return searching; }
+
+	/**
+	 * Return the path being followed, smoothed to the tiles where it turns.
+	 * @return Current path, empty if there is none.
+	 */
+	public TilePath getPath() { return path; }
+
+	/**
+	 * Return how many searches have been started, for checking that paths are
+	 * reused while the target stays on one tile.
+	 * @return Number of searches.
+	 */
+	public int getSearchCount() { return searches; }
+
+	/**
+	 * Return the collision grid paths are found through.
+	 * @return Collision grid.
+	 */
+	public CollisionGrid getGrid() { return graph.getGrid(); }
+
+	/**
+	 * Helper method to set up a new search, replacing any search still running.
+	 */
+	private void startSearch(TileGraph.Node start, TileGraph.Node end) {
+		if (start == null || end == null) {
+			searching = false;
+			path.clear();
+			return;
+		}
+		graph.beginSearch();
+		searchPath.clear();
+		request.startNode = start;
+		request.endNode = end;
+		request.resultPath = searchPath;
+		request.pathFound = false;
+		// tells the path finder to start over rather than carry on the last search
+		request.statusChanged = true;
+		searching = true;
+		searches++;
+	}
+
+	/**
+	 * Helper method to turn a tile into the position an entity stands at in its middle.
+	 */
+	private void waypoint(TileGraph.Node node, Vector2 out) {
+		CollisionGrid grid = graph.getGrid();
+		out.set((node.x + 0.5f) * grid.getTileWidth() - 8, (node.y + 0.5f) * grid.getTileHeight() - 8);
+	}
+}
@@ -1,5 +1,4 @@
 package io.github.some_example_name;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
@@ -33,36 +32,62 @@ public class Player
 	}
 
 	private Vector2 position;
-	private Texture frontTexture;
-	private Texture backTexture;
-	private Texture sideTexture;
+	private Vector2 startPosition;
 	private TextureRegion frontFrame;
 	private TextureRegion backFrame;
 	private TextureRegion sideFrame;
-	private TextureRegion currentFrame;
+	private TextureRegion frontFrameFlipped;
+	private TextureRegion backFrameFlipped;
+	private TextureRegion sideFrameFlipped;
+	private boolean frontFlipped;
+	private boolean backFlipped;
+	// read by the render thread when the game is simulated on its own thread
+	private volatile TextureRegion currentFrame;
 
 	/**
-	 * Constructor for <code> Player </code>, with a set of coordinates.
+	 * Constructor for <code> Player </code>, with a set of coordinates and
+	 * the already loaded sprites for each way the player can face. The regions
+	 * are copied, and a mirrored copy of each made, so turning only picks
+	 * another region rather than flipping one that may be being drawn.
 	 * @param x Horizontal position for player to spawn in.
 	 * @param y Vertical position for player to spawn in.
+	 * @param front Sprite facing south.
+	 * @param back Sprite facing north.
+	 * @param side Sprite facing west.
 	 */
-	public Player(float x, float y)
+	public Player(float x, float y, TextureRegion front, TextureRegion back, TextureRegion side)
 	{
 		position = new Vector2(x, y);
+		startPosition = new Vector2(x, y);
 
-		frontTexture = new Texture("Player-front.png");
-		backTexture = new Texture("Player-back.png");
-		sideTexture= new Texture ("Player-side.png");
-
-		frontFrame = new TextureRegion(frontTexture);
-		backFrame = new TextureRegion(backTexture);
-		sideFrame = new TextureRegion(sideTexture);
+		frontFrame = new TextureRegion(front);
+		backFrame = new TextureRegion(back);
+		sideFrame = new TextureRegion(side);
+		frontFrameFlipped = new TextureRegion(front);
+		frontFrameFlipped.flip(true, false);
+		backFrameFlipped = new TextureRegion(back);
+		backFrameFlipped.flip(true, false);
+		sideFrameFlipped = new TextureRegion(side);
+		sideFrameFlipped.flip(true, false);
 
 		currentFrame = frontFrame;
 	}
 
 	/**
-	 * Called to set the direction of the Player sprite.
+	 * Constructor for <code> Player </code> with no sprites, for simulating
+	 * rounds without drawing them.
+	 * @param x Horizontal position for player to spawn in.
+	 * @param y Vertical position for player to spawn in.
+	 */
+	public Player(float x, float y)
+	{
+		position = new Vector2(x, y);
+		startPosition = new Vector2(x, y);
+	}
+
+	/**
+	 * Called to set the direction of the Player sprite. Facing north or south
+	 * keeps the way the sprite was last mirrored.
 	 * @param newDirection the direction the player should face.
 	 * @see Direction Direction.
 	 */
@@ -71,52 +96,47 @@ public class Player
 		switch (newDirection)
 		{
 			case UP:
-				currentFrame = backFrame;
+				currentFrame = backFlipped ? backFrameFlipped : backFrame;
 				break;
 			case DOWN:
-				currentFrame = frontFrame;
+				currentFrame = frontFlipped ? frontFrameFlipped : frontFrame;
 				break;
 			case LEFT:
 				currentFrame = sideFrame;
-				if (currentFrame.isFlipX())
-				{
-					currentFrame.flip(true, false);
-				}
 				break;
 			case RIGHT:
-				currentFrame = sideFrame;
-				if (!currentFrame.isFlipX())
-				{
-					currentFrame.flip(true, false);
-				}
+				currentFrame = sideFrameFlipped;
 				break;
             case NORTHEAST:
-                currentFrame = backFrame;
-                if (!currentFrame.isFlipX()) {
-                    currentFrame.flip(true, false);
-                }
+                backFlipped = true;
+                currentFrame = backFrameFlipped;
                 break;
             case NORTHWEST:
+                backFlipped = false;
                 currentFrame = backFrame;
-                if (currentFrame.isFlipX()) {
-                    currentFrame.flip(true, false);
-                }
                 break;
             case SOUTHEAST:
-                currentFrame = frontFrame;
-                if (!currentFrame.isFlipX()) {
-                    currentFrame.flip(true, false);
-                }
+                frontFlipped = true;
+                currentFrame = frontFrameFlipped;
                 break;
             case SOUTHWEST:
+                frontFlipped = false;
                 currentFrame = frontFrame;
-                if (currentFrame.isFlipX()) {
-                    currentFrame.flip(true, false);
-                }
                 break;
         }
 	}
 
+	/**
+	 * Put the player back where it spawned, facing south, for a new round.
+	 */
+	public void reset()
+	{
+		position.set(startPosition);
+		frontFlipped = false;
+		backFlipped = false;
+		currentFrame = frontFrame;
+	}
+
 	/**
 	 * Convenience method to be called by the game screen's <code> render()
 	 * </code> method, to draw the player using a SpriteBatch at the current
@@ -127,27 +147,36 @@ public class Player
 	 */
 	public void render(SpriteBatch batch)
 	{
-		batch.draw(currentFrame, position.x, position.y);
+		render(batch, position.x, position.y);
 	}
 
 	/**
-	 * Get the player's position in world.
-	 * @return The players x-by-y coordinates as a 2D vector.
+	 * Draw the player at given coordinates, such as part way between two
+	 * simulation steps.
+	 * @param batch SpriteBatch used by application to render all sprites.
+	 * @param x Horizontal world position to draw at.
+	 * @param y Vertical world position to draw at.
 	 */
-	public Vector2 getPosition()
+	public void render(SpriteBatch batch, float x, float y)
 	{
-		return position;
+		batch.draw(currentFrame, x, y);
 	}
 
 	/**
-	 * Convenience method to be called by application to dispose of textures
-	 * of player's sprites when the application's dispose method is called.
-	 * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
+	 * Return the sprite the player is currently drawn with.
+	 * @return Current frame.
 	 */
-	public void dispose()
+	TextureRegion getCurrentFrame()
 	{
-		frontTexture.dispose();
-		backTexture.dispose();
-		sideTexture.dispose();
+		return currentFrame;
+	}
+
+	/**
+	 * Get the player's position in world.
+	 * @return The players x-by-y coordinates as a 2D vector.
+	 */
+	public Vector2 getPosition()
+	{
+		return position;
 	}
 }
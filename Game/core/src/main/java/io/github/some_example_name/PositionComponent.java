@@ -0,0 +1,37 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * <code> PositionComponent </code> places an entity in the world, with the size
+ * of its box in the broadphase.
+ * @see SpatialHash
+ */
+public class PositionComponent implements Component {
+	/** Position in the world, shared with the object the entity stands for. */
+	public final Vector2 position;
+	/** Position before the last simulation step, drawn from when interpolating. */
+	public final Vector2 previous;
+	/** Width of the entity's box. */
+	public final float width;
+	/** Height of the entity's box. */
+	public final float height;
+	/** Handle of the entity in the broadphase, or -1 if it is not in it. */
+	public int handle = -1;
+	/** Index of the entity's position in a <code> WorldSnapshot </code>. */
+	public int index;
+
+	/**
+	 * Constructor for <code> PositionComponent </code>.
+	 * @param position Position in the world, which is kept rather than copied.
+	 * @param width Width of the entity's box.
+	 * @param height Height of the entity's box.
+	 */
+	public PositionComponent(Vector2 position, float width, float height) {
+		this.position = position;
+		this.previous = new Vector2(position);
+		this.width = width;
+		this.height = height;
+	}
+}
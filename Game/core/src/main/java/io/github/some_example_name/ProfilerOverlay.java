@@ -0,0 +1,203 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * <code> ProfilerOverlay </code> is an actor showing where frame time goes: the
+ * 50th, 95th and 99th percentile of each phase timed by a
+ * <code> FrameProfiler </code>, as numbers and as a bar against a 60 frames a
+ * second budget, and the draw calls, texture binds and shader switches of the
+ * last frame counted by a <code> GLProfiler </code>, with the sprite batch's
+ * render calls.
+ * <p>
+ * Bars are drawn as text in the HUD's font, which shares the atlas texture with
+ * the sprites, so the overlay adds no draw calls or texture binds to what it
+ * shows. Its text is written into a reused <code> StringBuilder </code>, so
+ * drawing it creates no objects. The GL calls are only counted while the
+ * overlay is visible, through {@link #setShown(boolean)}.
+ * @see FrameProfiler
+ */
+public class ProfilerOverlay extends Actor {
+	/** Percentiles shown for each phase. */
+	private static final float[] PERCENTILES = { 50, 95, 99 };
+	/** Frame time a bar's full width stands for, in nanoseconds. */
+	private static final long BUDGET_NANOS = 1000000000L / 60;
+	/** Characters in a full bar. */
+	private static final int BAR_LENGTH = 40;
+	/** Frames between working out the percentiles again, so sorting costs little. */
+	private static final int REFRESH_FRAMES = 15;
+	private static final float LINE_HEIGHT = 16;
+	private static final float NAME_WIDTH = 60;
+	private static final float NUMBER_WIDTH = 45;
+
+	private final FrameProfiler profiler;
+	private final BitmapFont font;
+	private final SpriteBatch spriteBatch;
+	private final GLProfiler glProfiler;
+	private final long[][] percentiles = new long[FrameProfiler.PHASES][PERCENTILES.length];
+	private final StringBuilder text = new StringBuilder(128);
+	private int drawCalls;
+	private int textureBindings;
+	private int shaderSwitches;
+	private int renderCalls;
+	private int sinceRefresh = REFRESH_FRAMES;
+
+	/**
+	 * Constructor for <code> ProfilerOverlay </code>, hidden until shown.
+	 * @param profiler Profiler timing the frame's phases.
+	 * @param font Font to draw with.
+	 * @param spriteBatch Sprite batch whose render calls are shown.
+	 * @param glProfiler Profiler counting GL calls, or null to not count them.
+	 */
+	public ProfilerOverlay(FrameProfiler profiler, BitmapFont font, SpriteBatch spriteBatch, GLProfiler glProfiler) {
+		this.profiler = profiler;
+		this.font = font;
+		this.spriteBatch = spriteBatch;
+		this.glProfiler = glProfiler;
+		setVisible(false);
+	}
+
+	/**
+	 * Show or hide the overlay, counting GL calls only while it is shown.
+	 * @param shown True to show.
+	 */
+	public void setShown(boolean shown) {
+		setVisible(shown);
+		if (glProfiler == null) {
+			return;
+		}
+		if (shown) {
+			glProfiler.reset();
+			glProfiler.enable();
+		} else {
+			glProfiler.disable();
+		}
+	}
+
+	/**
+	 * Take the counts of the frame just drawn, and start counting the next. Call
+	 * once a frame, after the sprite batch has ended.
+	 */
+	public void sample() {
+		if (!isVisible()) {
+			return;
+		}
+		renderCalls = spriteBatch.renderCalls;
+		if (glProfiler != null) {
+			drawCalls = glProfiler.getDrawCalls();
+			textureBindings = glProfiler.getTextureBindings();
+			shaderSwitches = glProfiler.getShaderSwitches();
+			glProfiler.reset();
+		}
+		if (++sinceRefresh >= REFRESH_FRAMES) {
+			sinceRefresh = 0;
+			for (int phase = 0; phase < FrameProfiler.PHASES; phase++) {
+				profiler.getPercentiles(phase, PERCENTILES, percentiles[phase]);
+			}
+		}
+	}
+
+	@Override
+	public void draw(Batch batch, float parentAlpha) {
+		float x = getX();
+		float y = getY();
+		Color color = font.getColor();
+		float r = color.r;
+		float g = color.g;
+		float b = color.b;
+		float a = color.a;
+		font.setColor(1, 1, 0, parentAlpha);
+
+		font.draw(batch, "phase", x, y);
+		for (int i = 0; i < PERCENTILES.length; i++) {
+			text.setLength(0);
+			text.append('p').append((int) PERCENTILES[i]);
+			font.draw(batch, text, x + NAME_WIDTH + i * NUMBER_WIDTH, y);
+		}
+		text.setLength(0);
+		text.append("ms over ").append(profiler.getFrames()).append(" frames");
+		font.draw(batch, text, x + NAME_WIDTH + PERCENTILES.length * NUMBER_WIDTH, y);
+		for (int phase = 0; phase < FrameProfiler.PHASES; phase++) {
+			y -= LINE_HEIGHT;
+			long[] times = percentiles[phase];
+			font.draw(batch, FrameProfiler.NAMES[phase], x, y);
+			for (int i = 0; i < times.length; i++) {
+				text.setLength(0);
+				appendMillis(times[i]);
+				font.draw(batch, text, x + NAME_WIDTH + i * NUMBER_WIDTH, y);
+			}
+			text.setLength(0);
+			appendBar(times);
+			font.draw(batch, text, x + NAME_WIDTH + times.length * NUMBER_WIDTH, y);
+		}
+		y -= LINE_HEIGHT;
+		text.setLength(0);
+		text.append("draw calls ").append(drawCalls)
+			.append("  texture binds ").append(textureBindings)
+			.append("  shader switches ").append(shaderSwitches)
+			.append("  batch render calls ").append(renderCalls);
+		font.draw(batch, text, x, y);
+
+		font.setColor(r, g, b, a);
+	}
+
+	/**
+	 * Helper method to append a time in milliseconds with two decimals.
+	 */
+	private void appendMillis(long nanos) {
+		long hundredths = (nanos + 5000) / 10000;
+		text.append(hundredths / 100).append('.');
+		if (hundredths % 100 < 10) {
+			text.append('0');
+		}
+		text.append(hundredths % 100);
+	}
+
+	/**
+	 * Helper method to append a bar of the percentiles: '#' up to the 50th,
+	 * '=' up to the 95th and '-' up to the 99th.
+	 */
+	private void appendBar(long[] times) {
+		int p50 = barLength(times[0]);
+		int p95 = barLength(times[1]);
+		int p99 = barLength(times[2]);
+		for (int i = 0; i < p99; i++) {
+			text.append(i < p50 ? '#' : i < p95 ? '=' : '-');
+		}
+	}
+
+	/**
+	 * Helper method to find how many characters of a bar a time fills.
+	 */
+	private static int barLength(long nanos) {
+		return (int) Math.min(BAR_LENGTH, (nanos * BAR_LENGTH + BUDGET_NANOS - 1) / BUDGET_NANOS);
+	}
+
+	/**
+	 * Return a percentile of a phase as last worked out by {@link #sample()}.
+	 * @param phase Phase, such as {@link FrameProfiler#MAP}.
+	 * @param index Index of percentile: 0 for the 50th, 1 for the 95th, 2 for the 99th.
+	 * @return Time in nanoseconds.
+	 */
+	public long getShownPercentile(int phase, int index) {
+		return percentiles[phase][index];
+	}
+
+	/**
+	 * Return the draw calls counted in the last frame sampled.
+	 * @return Draw calls, or 0 if GL calls are not counted.
+	 */
+	public int getDrawCalls() { return drawCalls; }
+
+	/**
+	 * Return the sprite batch's render calls in the last frame sampled.
+	 * @return Render calls.
+	 */
+	public int getRenderCalls() { return renderCalls; }
+}
@@ -0,0 +1,90 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * <code> QueuedInput </code> passes the keys used in gameplay from the render
+ * thread to the simulation thread. The render thread calls {@link #record()} each
+ * frame, which queues each key going down or up; the simulation thread calls
+ * {@link #update()} before each step, which applies the queued events.
+ * <p>
+ * A key pressed counts as just pressed for exactly one step, however the frames
+ * and steps line up, and a key tapped and released within one frame is still
+ * seen as held for that step.
+ * @see InputQueue
+ */
+public class QueuedInput implements GameInput {
+	/** Keys read by gameplay. */
+	private static final int[] KEYS = {
+		Input.Keys.W, Input.Keys.A, Input.Keys.S, Input.Keys.D,
+		Input.Keys.UP, Input.Keys.DOWN, Input.Keys.LEFT, Input.Keys.RIGHT,
+		Input.Keys.E, Input.Keys.P
+	};
+	/** Set on events for a key going up. */
+	private static final int RELEASED = 1 << 16;
+
+	private final InputQueue queue = new InputQueue(256);
+	// render thread
+	private final boolean[] recorded = new boolean[Input.Keys.MAX_KEYCODE + 1];
+	// simulation thread
+	private final boolean[] held = new boolean[Input.Keys.MAX_KEYCODE + 1];
+	private final boolean[] pressed = new boolean[Input.Keys.MAX_KEYCODE + 1];
+
+	/**
+	 * Queue the gameplay keys that went down or up since last frame. Render
+	 * thread only.
+	 */
+	public void record() {
+		for (int key : KEYS) {
+			boolean down = Gdx.input.isKeyPressed(key);
+			if (!recorded[key] && (down || Gdx.input.isKeyJustPressed(key)) && queue.offer(key)) {
+				recorded[key] = true;
+			}
+			if (recorded[key] && !down && queue.offer(key | RELEASED)) {
+				recorded[key] = false;
+			}
+		}
+	}
+
+	/**
+	 * Apply the events queued since the last step. Simulation thread only.
+	 */
+	public void update() {
+		Arrays.fill(pressed, false);
+		int event;
+		while ((event = queue.poll()) != InputQueue.EMPTY) {
+			int key = event & ~RELEASED;
+			if ((event & RELEASED) != 0) {
+				held[key] = false;
+			} else {
+				held[key] = true;
+				pressed[key] = true;
+			}
+		}
+	}
+
+	/**
+	 * Forget every key, before a simulation thread starts reading.
+	 */
+	public void clear() {
+		while (queue.poll() != InputQueue.EMPTY) {
+			// drop events left from before
+		}
+		Arrays.fill(recorded, false);
+		Arrays.fill(held, false);
+		Arrays.fill(pressed, false);
+	}
+
+	@Override
+	public boolean isKeyPressed(int key) {
+		return held[key] || pressed[key];
+	}
+
+	@Override
+	public boolean isKeyJustPressed(int key) {
+		return pressed[key];
+	}
+}
@@ -0,0 +1,121 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * <code> RenderContext </code> holds the sprite batch, shape renderer, map shader,
+ * fonts and skin shared by every screen and entity. It is created once by
+ * <code> MyGame </code>, so changing screens does not compile shaders or allocate
+ * vertex buffers and textures. Screens borrow from it and must not dispose
+ * anything they get from it.
+ * <p>
+ * All fonts are libGDX's built in font drawn from the game's texture atlas, at the
+ * scales the screens use. A font's scale is shared by everyone drawing with it, so
+ * it must not be changed.
+ * @see GameAssets
+ */
+public class RenderContext implements Disposable {
+	/** Scale of {@link #getMenuFont()}. */
+	public static final float MENU_FONT_SCALE = 2f;
+	/** Scale of {@link #getTitleFont()}. */
+	public static final float TITLE_FONT_SCALE = 2.5f;
+
+	private final SpriteBatch batch;
+	private final ShapeRenderer shapes;
+	private final ShaderProgram mapShader;
+	private final BitmapFont font;
+	private final BitmapFont menuFont;
+	private final BitmapFont titleFont;
+	private final Skin skin;
+
+	/**
+	 * Constructor for <code> RenderContext </code>. The atlas, default font and
+	 * skin of the given assets must have loaded.
+	 * @param assets Assets to take fonts and skin from.
+	 * @see GameAssets#finishLoadingShared()
+	 */
+	public RenderContext(GameAssets assets) {
+		this(assets, new SpriteBatch(), new ShapeRenderer(), StaticTiledMapRenderer.createDefaultShader());
+	}
+
+	/**
+	 * Constructor for <code> RenderContext </code> around existing renderers, which
+	 * are owned by the context from now on.
+	 * @param assets Assets to take fonts and skin from.
+	 * @param batch Sprite batch shared by all screens.
+	 * @param shapes Shape renderer shared by all screens.
+	 * @param mapShader Shader for drawing tile maps.
+	 */
+	RenderContext(GameAssets assets, SpriteBatch batch, ShapeRenderer shapes, ShaderProgram mapShader) {
+		this.batch = batch;
+		this.shapes = shapes;
+		this.mapShader = mapShader;
+		this.font = assets.getDefaultFont();
+		this.menuFont = assets.newDefaultFont();
+		menuFont.getData().setScale(MENU_FONT_SCALE);
+		this.titleFont = assets.newDefaultFont();
+		titleFont.getData().setScale(TITLE_FONT_SCALE);
+		this.skin = assets.getSkin();
+	}
+
+	/**
+	 * Return the sprite batch shared by all screens.
+	 * @return Sprite batch.
+	 */
+	public SpriteBatch getBatch() { return batch; }
+
+	/**
+	 * Return the shape renderer shared by all screens.
+	 * @return Shape renderer.
+	 */
+	public ShapeRenderer getShapes() { return shapes; }
+
+	/**
+	 * Return the shader tile maps are drawn with, for
+	 * <code> StaticTiledMapRenderer </code>.
+	 * @return Map shader.
+	 */
+	public ShaderProgram getMapShader() { return mapShader; }
+
+	/**
+	 * Return the built in font at its normal size, used for in game text.
+	 * @return Font.
+	 */
+	public BitmapFont getFont() { return font; }
+
+	/**
+	 * Return the font used by the menu and loading screens.
+	 * @return Font at {@value #MENU_FONT_SCALE} times normal size.
+	 */
+	public BitmapFont getMenuFont() { return menuFont; }
+
+	/**
+	 * Return the font used by the win, game over and leaderboard screens.
+	 * @return Font at {@value #TITLE_FONT_SCALE} times normal size.
+	 */
+	public BitmapFont getTitleFont() { return titleFont; }
+
+	/**
+	 * Return the skin used by the game's UI.
+	 * @return Skin.
+	 */
+	public Skin getSkin() { return skin; }
+
+	/**
+	 * Dispose the renderers and the fonts made by the context. The default font
+	 * and skin belong to <code> GameAssets </code>.
+	 */
+	@Override
+	public void dispose() {
+		batch.dispose();
+		shapes.dispose();
+		mapShader.dispose();
+		menuFont.dispose();
+		titleFont.dispose();
+	}
+}
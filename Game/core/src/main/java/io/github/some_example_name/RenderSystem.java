@@ -0,0 +1,90 @@
+package io.github.some_example_name;
+
+import java.util.Comparator;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.SortedIteratingSystem;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * <code> RenderSystem </code> draws every entity with a sprite, lowest layer
+ * first and in the order they were added within a layer.
+ * <p>
+ * It is not run by <code> Engine.update() </code>, as the world is drawn between
+ * the map and the HUD; call {@link #update(float)} between
+ * <code> batch.begin() </code> and <code> batch.end() </code> instead.
+ * <p>
+ * Entities are drawn part way between their position before and after the last
+ * simulation step, so movement looks smooth however the frame rate and the
+ * simulation rate line up. Positions are read from a <code> WorldSnapshot </code>
+ * if one is given, so the world can be drawn while another thread updates it.
+ * @see #setAlpha(float)
+ * @see #setSnapshot(WorldSnapshot)
+ */
+public class RenderSystem extends SortedIteratingSystem {
+	private static final ComponentMapper<SpriteComponent> SPRITES = ComponentMapper.getFor(SpriteComponent.class);
+
+	private static final Comparator<Entity> BY_LAYER = new Comparator<Entity>() {
+		@Override
+		public int compare(Entity a, Entity b) {
+			return Integer.compare(SPRITES.get(a).layer, SPRITES.get(b).layer);
+		}
+	};
+
+	private final ComponentMapper<PositionComponent> positions = ComponentMapper.getFor(PositionComponent.class);
+	private final SpriteBatch batch;
+	private WorldSnapshot snapshot;
+	private float alpha = 1f;
+
+	/**
+	 * Constructor for <code> RenderSystem </code>.
+	 * @param batch SpriteBatch used by application to render all sprites.
+	 */
+	public RenderSystem(SpriteBatch batch) {
+		super(Family.all(PositionComponent.class, SpriteComponent.class).get(), BY_LAYER);
+		this.batch = batch;
+		setProcessing(false);
+	}
+
+	@Override
+	protected void processEntity(Entity entity, float deltaTime) {
+		SpriteComponent sprite = SPRITES.get(entity);
+		PositionComponent component = positions.get(entity);
+		float x;
+		float y;
+		if (snapshot != null) {
+			int index = component.index;
+			x = snapshot.previousX[index] + (snapshot.x[index] - snapshot.previousX[index]) * alpha;
+			y = snapshot.previousY[index] + (snapshot.y[index] - snapshot.previousY[index]) * alpha;
+		} else {
+			Vector2 previous = component.previous;
+			x = previous.x + (component.position.x - previous.x) * alpha;
+			y = previous.y + (component.position.y - previous.y) * alpha;
+		}
+		if (sprite.renderer != null) {
+			sprite.renderer.render(batch, x, y);
+		} else {
+			batch.draw(sprite.region, x, y, sprite.width, sprite.height);
+		}
+	}
+
+	/**
+	 * Set the snapshot to read positions from, instead of the entities.
+	 * @param snapshot Snapshot of the world, or null to read the entities.
+	 */
+	public void setSnapshot(WorldSnapshot snapshot) {
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * Set how far between the last two simulation steps to draw entities.
+	 * @param alpha 0 to draw at the position before the last step, 1 to draw at
+	 * the position after it.
+	 */
+	public void setAlpha(float alpha) {
+		this.alpha = alpha;
+	}
+}
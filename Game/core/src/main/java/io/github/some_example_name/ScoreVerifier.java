@@ -0,0 +1,142 @@
+package io.github.some_example_name;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * <code> ScoreVerifier </code> checks the score a round was won with by playing
+ * the round's <code> InputRecording </code> again in a headless
+ * <code> GameWorld </code>, scored by {@link GameWorld#calculateFinalScore()}. A
+ * score is only accepted if the replayed round is won on its very last step, with
+ * exactly the score claimed, so a score cannot be raised without playing a round
+ * that earns it.
+ * <p>
+ * Batches of recordings are checked in parallel on a <code> ForkJoinPool </code>.
+ * Each task replays its share of the batch in a world of its own, reset between
+ * recordings, and writes only its own slots of the results.
+ * @see JSONHandler#submitScore(InputRecording, ScoreVerifier)
+ */
+public class ScoreVerifier {
+	/** Result of a recording whose score is not accepted. */
+	public static final int REJECTED = -1;
+	/** Most steps a recording may have, an hour of play counting pauses, so checking one takes bounded time. */
+	public static final int MAX_STEPS = 60 * 60 * 60;
+
+	/** Recordings a task checks itself rather than splitting. */
+	private static final int RECORDINGS_PER_TASK = 16;
+
+	private final String mapId;
+	private final CollisionGrid grid;
+	private final Rectangle ticket;
+	private final Rectangle bus;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Constructor for <code> ScoreVerifier </code>.
+	 * @param mapId Map recordings must have been played on, such as {@link GameAssets#MAP}.
+	 * @param grid Collision grid of the map, which must not be changed while recordings are checked.
+	 * @param ticket Where the ticket lies.
+	 * @param bus Area the player wins in.
+	 * @param pool Pool to check batches on, such as <code> ForkJoinPool.commonPool() </code>.
+	 */
+	public ScoreVerifier(String mapId, CollisionGrid grid, Rectangle ticket, Rectangle bus, ForkJoinPool pool) {
+		this.mapId = mapId;
+		this.grid = grid;
+		this.ticket = ticket;
+		this.bus = bus;
+		this.pool = pool;
+	}
+
+	/**
+	 * Make a verifier for a loaded map, with the ticket and bus on its "Events" layer.
+	 * @param mapId Name the map is loaded by, such as {@link GameAssets#MAP}.
+	 * @param map Map recordings were played on.
+	 * @param pool Pool to check batches on.
+	 * @return Verifier.
+	 */
+	public static ScoreVerifier forMap(String mapId, TiledMap map, ForkJoinPool pool) {
+		return new ScoreVerifier(mapId, CollisionGrid.forMap(map),
+			GameWorld.findEvent(map, "BusTicket"), GameWorld.findEvent(map, "Bus"), pool);
+	}
+
+	/**
+	 * Check one recording on the calling thread.
+	 * @param run Recording of a won round, with the score it claims.
+	 * @return Score, or {@link #REJECTED} if replaying the round does not earn it.
+	 */
+	public int verify(InputRecording run) {
+		return verify(GameWorld.headless(grid, ticket, bus), run);
+	}
+
+	/**
+	 * Check a batch of recordings in parallel on the pool.
+	 * @param runs Recordings of won rounds, with the scores they claim.
+	 * @return Score of each recording in order, or {@link #REJECTED} for those not earned.
+	 */
+	public int[] verifyAll(Array<InputRecording> runs) {
+		for (InputRecording run : runs) {
+			// write out any run still being recorded here, so the tasks only read recordings
+			if (run != null) {
+				run.getRuns();
+			}
+		}
+		int[] scores = new int[runs.size];
+		pool.invoke(new Batch(runs, scores, 0, runs.size));
+		return scores;
+	}
+
+	/**
+	 * Helper method to replay a recording from the start of a round.
+	 * @param world World to replay in, reset first.
+	 * @param run Recording to check.
+	 * @return Score, or {@link #REJECTED}.
+	 */
+	private int verify(GameWorld world, InputRecording run) {
+		if (run == null || !mapId.equals(run.getMapId()) || run.getScore() < 0 || run.getSteps() > MAX_STEPS) {
+			return REJECTED;
+		}
+		world.reset();
+		InputReplay replay = new InputReplay(run);
+		replay.playToEnd(world);
+		if (world.getOutcome() != GameWorld.WON || replay.hasNext()) {
+			return REJECTED;
+		}
+		int score = world.calculateFinalScore();
+		return score == run.getScore() ? score : REJECTED;
+	}
+
+	/**
+	 * Task checking a range of a batch, splitting it in half until it is small.
+	 */
+	@SuppressWarnings("serial")
+	private final class Batch extends RecursiveAction {
+		private final Array<InputRecording> runs;
+		private final int[] scores;
+		private final int from;
+		private final int to;
+
+		Batch(Array<InputRecording> runs, int[] scores, int from, int to) {
+			this.runs = runs;
+			this.scores = scores;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= RECORDINGS_PER_TASK) {
+				GameWorld world = GameWorld.headless(grid, ticket, bus);
+				for (int i = from; i < to; i++) {
+					scores[i] = verify(world, runs.get(i));
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new Batch(runs, scores, from, middle), new Batch(runs, scores, middle, to));
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * <code> ScreenManager </code> moves the game between its screens. The menu,
+ * tutorial, loading and game screens are created the first time they are shown
+ * and kept for the rest of the game, while the win, game over and leaderboard
+ * screens, which show the results of one round, are created each time and
+ * disposed as soon as another screen replaces them.
+ * <p>
+ * Starting another round reuses the game screen through
+ * {@link GameScreen#reset()}, so the map and its meshes are only built once.
+ * @see com.badlogic.gdx.Game#setScreen(Screen) Game.setScreen()
+ */
+public class ScreenManager implements Disposable {
+	private final MyGame game;
+	private MenuScreen menuScreen;
+	private TutorialScreen tutorialScreen;
+	private LoadingScreen loadingScreen;
+	private GameScreen gameScreen;
+
+	/**
+	 * Constructor for <code> ScreenManager </code>. No screen is created until
+	 * one is shown.
+	 * @param game Game whose screen is changed.
+	 */
+	public ScreenManager(MyGame game) {
+		this.game = game;
+	}
+
+	/**
+	 * Show the main menu.
+	 */
+	public void showMenu() {
+		if (menuScreen == null) {
+			menuScreen = new MenuScreen(game);
+		}
+		show(menuScreen);
+	}
+
+	/**
+	 * Show the tutorial shown before each round.
+	 */
+	public void showTutorial() {
+		if (tutorialScreen == null) {
+			tutorialScreen = new TutorialScreen(game);
+		}
+		show(tutorialScreen);
+	}
+
+	/**
+	 * Start a new round. If the game's assets are still loading, the loading
+	 * screen is shown instead, which starts the round once they have loaded.
+	 */
+	public void startGame() {
+		if (!game.getAssets().isFinished()) {
+			if (loadingScreen == null) {
+				loadingScreen = new LoadingScreen(game);
+			}
+			show(loadingScreen);
+			return;
+		}
+		if (gameScreen == null) {
+			gameScreen = new GameScreen(game);
+		} else {
+			gameScreen.reset();
+		}
+		show(gameScreen);
+	}
+
+	/**
+	 * Show the results of a won round.
+	 * @param finalScore The calculated final score.
+	 * @param timeRemaining Time remaining in seconds.
+	 * @param timesCaught Number of times the player was caught by the dean.
+	 * @param run Recording of the round, submitted with the score if the leaderboard is viewed.
+	 */
+	public void showWin(int finalScore, int timeRemaining, int timesCaught, InputRecording run) {
+		show(new WinScreen(game, finalScore, timeRemaining, timesCaught, run));
+	}
+
+	/**
+	 * Show the screen for a round lost to the timer.
+	 */
+	public void showGameOver() {
+		show(new GameOverScreen(game));
+	}
+
+	/**
+	 * Show the leaderboard, adding the score of a won round to it once verified.
+	 * @param run Recording of the round just won, or null to only view the leaderboard.
+	 */
+	public void showLeaderBoard(InputRecording run) {
+		show(new LeaderBoard(game, run));
+	}
+
+	/**
+	 * Return the game screen, if a round has been started.
+	 * @return Game screen or null.
+	 */
+	public GameScreen getGameScreen() {
+		return gameScreen;
+	}
+
+	/**
+	 * Make a screen the current one, disposing the screen it replaces unless
+	 * that screen is kept.
+	 * @param next Screen to show.
+	 */
+	void show(Screen next) {
+		Screen previous = game.getScreen();
+		game.setScreen(next);
+		if (previous != null && previous != next && !isKept(previous)) {
+			previous.dispose();
+		}
+	}
+
+	/**
+	 * Dispose every kept screen, and the current screen if it is not kept.
+	 */
+	@Override
+	public void dispose() {
+		Screen current = game.getScreen();
+		if (current != null && !isKept(current)) {
+			current.dispose();
+		}
+		Screen[] kept = { menuScreen, tutorialScreen, loadingScreen, gameScreen };
+		for (Screen screen : kept) {
+			if (screen != null) {
+				screen.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Helper method to check if a screen is one of the kept screens.
+	 */
+	private boolean isKept(Screen screen) {
+		return screen == menuScreen || screen == tutorialScreen || screen == loadingScreen || screen == gameScreen;
+	}
+}
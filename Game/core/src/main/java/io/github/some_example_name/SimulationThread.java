@@ -0,0 +1,112 @@
+package io.github.some_example_name;
+
+import java.util.concurrent.locks.LockSupport;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * <code> SimulationThread </code> runs a simulation step on its own thread at a
+ * fixed rate, sleeping between steps. If it falls behind by more than a quarter
+ * of a second, the missed steps are dropped rather than run back to back.
+ * <p>
+ * If a step throws, the thread stops, and the error is thrown again on the
+ * thread that next calls {@link #checkFailure()}.
+ */
+public class SimulationThread {
+	/** Longest the thread catches up by, in nanoseconds. */
+	private static final long MAX_LAG_NANOS = 250000000L;
+
+	private final Runnable step;
+	private final long stepNanos;
+	private Thread thread;
+	private volatile boolean running;
+	private volatile Throwable failure;
+	private volatile long stepsRun;
+
+	/**
+	 * Constructor for <code> SimulationThread </code>, which is not started yet.
+	 * @param step Simulation step, run on the simulation thread.
+	 * @param stepSeconds Time in seconds between steps.
+	 */
+	public SimulationThread(Runnable step, float stepSeconds) {
+		this.step = step;
+		this.stepNanos = (long) (stepSeconds * 1e9);
+	}
+
+	/**
+	 * Start running steps.
+	 */
+	public void start() {
+		if (thread != null) {
+			return;
+		}
+		running = true;
+		thread = new Thread(this::run, "simulation");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stop running steps, waiting for the step being run to finish.
+	 */
+	public void stop() {
+		if (thread == null) {
+			return;
+		}
+		running = false;
+		LockSupport.unpark(thread);
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		thread = null;
+	}
+
+	/**
+	 * Throw the error a step failed with, if any.
+	 * @throws GdxRuntimeException If a step has thrown.
+	 */
+	public void checkFailure() {
+		if (failure != null) {
+			throw new GdxRuntimeException("Simulation step failed", failure);
+		}
+	}
+
+	/**
+	 * Return if steps are being run.
+	 * @return True if running.
+	 */
+	public boolean isRunning() { return running; }
+
+	/**
+	 * Return how many steps have been run.
+	 * @return Number of steps.
+	 */
+	public long getStepsRun() { return stepsRun; }
+
+	/**
+	 * Helper method run by the thread, stepping whenever the next step is due.
+	 */
+	private void run() {
+		long next = System.nanoTime();
+		try {
+			while (running) {
+				long now = System.nanoTime();
+				if (now - next < 0) {
+					LockSupport.parkNanos(next - now);
+					continue;
+				}
+				if (now - next > MAX_LAG_NANOS) {
+					next = now;
+				}
+				step.run();
+				stepsRun++;
+				next += stepNanos;
+			}
+		} catch (Throwable e) {
+			failure = e;
+			running = false;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package io.github.some_example_name;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * <code> SnapshotBuffer </code> hands snapshots of the world from the simulation
+ * thread to the render thread without either waiting for the other, using three
+ * buffers: one being written, one being read, and the latest finished one in
+ * between.
+ * <p>
+ * The writer fills {@link #getWriteBuffer()} and calls {@link #publish()}, which
+ * swaps it with the buffer in between in one atomic step. The reader calls
+ * {@link #acquire()}, which swaps its buffer for the one in between only if a
+ * newer one has been published since, so it always gets a whole snapshot, never
+ * one half written. A buffer handed back to the writer holds an old snapshot, so
+ * the writer must fill in every field each time.
+ * <p>
+ * There must be one writing thread and one reading thread at a time.
+ * @param <T> Type of snapshot.
+ */
+public class SnapshotBuffer<T> {
+	private static final int INDEX = 3;
+	/** Set on the buffer in between when it has not been read yet. */
+	private static final int FRESH = 4;
+
+	private final Object[] buffers = new Object[3];
+	private final AtomicInteger middle = new AtomicInteger(1);
+	private int back = 2;
+	private int front = 0;
+
+	/**
+	 * Constructor for <code> SnapshotBuffer </code>.
+	 * @param factory Creates each of the three buffers.
+	 */
+	public SnapshotBuffer(Supplier<T> factory) {
+		for (int i = 0; i < buffers.length; i++) {
+			buffers[i] = factory.get();
+		}
+	}
+
+	/**
+	 * Return the buffer to write the next snapshot into. Writer thread only.
+	 * @return Buffer to fill in.
+	 */
+	@SuppressWarnings("unchecked")
+	public T getWriteBuffer() {
+		return (T) buffers[back];
+	}
+
+	/**
+	 * Make the buffer just written the latest snapshot, and take another to write
+	 * the next one into. Writer thread only.
+	 */
+	public void publish() {
+		back = middle.getAndSet(back | FRESH) & INDEX;
+	}
+
+	/**
+	 * Return the latest published snapshot, or the one returned last time if none
+	 * has been published since. Never waits. The snapshot stays valid until the
+	 * next call. Reader thread only.
+	 * @return Latest snapshot.
+	 */
+	@SuppressWarnings("unchecked")
+	public T acquire() {
+		if ((middle.get() & FRESH) != 0) {
+			front = middle.getAndSet(front) & INDEX;
+		}
+		return (T) buffers[front];
+	}
+}
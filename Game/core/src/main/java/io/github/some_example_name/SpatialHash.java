@@ -0,0 +1,298 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * <code> SpatialHash </code> is a uniform grid broadphase for finding which
+ * entities are near a point or overlap a rectangle, without checking every pair
+ * of entities.
+ * <p>
+ * Each entity is stored in the cell holding its bottom left corner, and cells are
+ * hashed into a fixed number of buckets so the world does not need to be bounded.
+ * Entities are linked into their bucket through index arrays, so adding, moving
+ * and querying entities does not allocate once the arrays have grown to fit.
+ * @param <T> Type of entity stored.
+ */
+public class SpatialHash<T> {
+	/** Default cell size, matching the 16px tiles of the game map. */
+	public static final float TILE_SIZE = 16f;
+
+	private static final int NONE = -1;
+
+	private final float cellSize;
+	private final int bucketMask;
+	private final int[] bucketHeads;
+
+	private Object[] items;
+	private float[] x;
+	private float[] y;
+	private float[] width;
+	private float[] height;
+	private int[] cellX;
+	private int[] cellY;
+	private int[] bucket;
+	private int[] next;
+	private int[] prev;
+	private int capacity;
+	private int highWater;
+	private int freeHead = NONE;
+	private int size;
+
+	private float maxWidth;
+	private float maxHeight;
+
+	/**
+	 * Constructor for <code> SpatialHash </code> with 16px cells.
+	 */
+	public SpatialHash() {
+		this(TILE_SIZE, 1024);
+	}
+
+	/**
+	 * Constructor for <code> SpatialHash </code>.
+	 * @param cellSize Width and height of one cell in world units.
+	 * @param buckets Number of hash buckets, rounded up to a power of two.
+	 */
+	public SpatialHash(float cellSize, int buckets) {
+		this.cellSize = cellSize;
+		int bucketCount = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+		this.bucketMask = bucketCount - 1;
+		this.bucketHeads = new int[bucketCount];
+		Arrays.fill(bucketHeads, NONE);
+		grow(16);
+	}
+
+	/**
+	 * Register an entity with the given bounds.
+	 * @param item Entity to register.
+	 * @param x Horizontal position of bottom left corner.
+	 * @param y Vertical position of bottom left corner.
+	 * @param width Width of entity.
+	 * @param height Height of entity.
+	 * @return Handle to move or remove the entity with.
+	 */
+	public int add(T item, float x, float y, float width, float height) {
+		int id;
+		if (freeHead != NONE) {
+			id = freeHead;
+			freeHead = next[id];
+		} else {
+			if (highWater == capacity) {
+				grow(capacity * 2);
+			}
+			id = highWater++;
+		}
+		items[id] = item;
+		this.width[id] = width;
+		this.height[id] = height;
+		maxWidth = Math.max(maxWidth, width);
+		maxHeight = Math.max(maxHeight, height);
+		this.x[id] = x;
+		this.y[id] = y;
+		link(id, cell(x), cell(y));
+		size++;
+		return id;
+	}
+
+	/**
+	 * Move a registered entity, updating its cell only if it changed.
+	 * @param id Handle returned by {@link #add}.
+	 * @param x New horizontal position of bottom left corner.
+	 * @param y New vertical position of bottom left corner.
+	 */
+	public void move(int id, float x, float y) {
+		this.x[id] = x;
+		this.y[id] = y;
+		int newCellX = cell(x);
+		int newCellY = cell(y);
+		if (newCellX != cellX[id] || newCellY != cellY[id]) {
+			unlink(id);
+			link(id, newCellX, newCellY);
+		}
+	}
+
+	/**
+	 * Remove a registered entity. The handle may be reused by a later
+	 * {@link #add}.
+	 * @param id Handle returned by {@link #add}.
+	 */
+	public void remove(int id) {
+		if (items[id] == null) {
+			return;
+		}
+		unlink(id);
+		items[id] = null;
+		next[id] = freeHead;
+		freeHead = id;
+		size--;
+	}
+
+	/**
+	 * Remove all entities.
+	 */
+	public void clear() {
+		Arrays.fill(bucketHeads, NONE);
+		Arrays.fill(items, 0, highWater, null);
+		highWater = 0;
+		freeHead = NONE;
+		size = 0;
+		maxWidth = 0;
+		maxHeight = 0;
+	}
+
+	/**
+	 * Find every entity whose position is strictly closer than a radius to a point,
+	 * the same test as <code> Vector2.dst(...) &lt; radius </code>.
+	 * @param px Horizontal position of point.
+	 * @param py Vertical position of point.
+	 * @param radius Search radius.
+	 * @param out Array cleared then filled with the entities found.
+	 * @return Number of entities found.
+	 */
+	public int queryRadius(float px, float py, float radius, Array<T> out) {
+		out.clear();
+		float radius2 = radius * radius;
+		int minX = cell(px - radius);
+		int maxX = cell(px + radius);
+		int minY = cell(py - radius);
+		int maxY = cell(py + radius);
+		for (int cy = minY; cy <= maxY; cy++) {
+			for (int cx = minX; cx <= maxX; cx++) {
+				for (int id = bucketHeads[hash(cx, cy)]; id != NONE; id = next[id]) {
+					if (cellX[id] != cx || cellY[id] != cy) {
+						continue;
+					}
+					float dx = x[id] - px;
+					float dy = y[id] - py;
+					if (dx * dx + dy * dy < radius2) {
+						out.add(item(id));
+					}
+				}
+			}
+		}
+		return out.size;
+	}
+
+	/**
+	 * Find every entity whose bounds overlap a rectangle, the same test as
+	 * {@link Rectangle#overlaps(Rectangle)}.
+	 * @param rx Horizontal position of rectangle.
+	 * @param ry Vertical position of rectangle.
+	 * @param rw Width of rectangle.
+	 * @param rh Height of rectangle.
+	 * @param out Array cleared then filled with the entities found.
+	 * @return Number of entities found.
+	 */
+	public int queryRect(float rx, float ry, float rw, float rh, Array<T> out) {
+		out.clear();
+		// an entity is filed under its bottom left corner, so one that starts up to
+		// its own size below or left of the rectangle can still reach into it
+		int minX = cell(rx - maxWidth);
+		int maxX = cell(rx + rw);
+		int minY = cell(ry - maxHeight);
+		int maxY = cell(ry + rh);
+		for (int cy = minY; cy <= maxY; cy++) {
+			for (int cx = minX; cx <= maxX; cx++) {
+				for (int id = bucketHeads[hash(cx, cy)]; id != NONE; id = next[id]) {
+					if (cellX[id] != cx || cellY[id] != cy) {
+						continue;
+					}
+					if (x[id] < rx + rw && x[id] + width[id] > rx && y[id] < ry + rh && y[id] + height[id] > ry) {
+						out.add(item(id));
+					}
+				}
+			}
+		}
+		return out.size;
+	}
+
+	/**
+	 * Convenience method for {@link #queryRect(float, float, float, float, Array)}.
+	 * @param rect Rectangle to test against.
+	 * @param out Array cleared then filled with the entities found.
+	 * @return Number of entities found.
+	 */
+	public int queryRect(Rectangle rect, Array<T> out) {
+		return queryRect(rect.x, rect.y, rect.width, rect.height, out);
+	}
+
+	/**
+	 * Return number of registered entities.
+	 * @return Entity count.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Helper method to convert a world coordinate to a cell index.
+	 */
+	private int cell(float value) {
+		return (int) Math.floor(value / cellSize);
+	}
+
+	/**
+	 * Helper method to hash a cell into a bucket.
+	 */
+	private int hash(int cx, int cy) {
+		return (cx * 73856093 ^ cy * 19349663) & bucketMask;
+	}
+
+	/**
+	 * Helper method to read back an entity from the untyped store.
+	 */
+	@SuppressWarnings("unchecked")
+	private T item(int id) {
+		return (T) items[id];
+	}
+
+	/**
+	 * Helper method to push an entity onto the front of its cell's bucket.
+	 */
+	private void link(int id, int cx, int cy) {
+		int b = hash(cx, cy);
+		cellX[id] = cx;
+		cellY[id] = cy;
+		bucket[id] = b;
+		prev[id] = NONE;
+		next[id] = bucketHeads[b];
+		if (bucketHeads[b] != NONE) {
+			prev[bucketHeads[b]] = id;
+		}
+		bucketHeads[b] = id;
+	}
+
+	/**
+	 * Helper method to take an entity out of its bucket.
+	 */
+	private void unlink(int id) {
+		if (prev[id] != NONE) {
+			next[prev[id]] = next[id];
+		} else {
+			bucketHeads[bucket[id]] = next[id];
+		}
+		if (next[id] != NONE) {
+			prev[next[id]] = prev[id];
+		}
+	}
+
+	/**
+	 * Helper method to grow the per entity arrays.
+	 */
+	private void grow(int newCapacity) {
+		items = items == null ? new Object[newCapacity] : Arrays.copyOf(items, newCapacity);
+		x = x == null ? new float[newCapacity] : Arrays.copyOf(x, newCapacity);
+		y = y == null ? new float[newCapacity] : Arrays.copyOf(y, newCapacity);
+		width = width == null ? new float[newCapacity] : Arrays.copyOf(width, newCapacity);
+		height = height == null ? new float[newCapacity] : Arrays.copyOf(height, newCapacity);
+		cellX = cellX == null ? new int[newCapacity] : Arrays.copyOf(cellX, newCapacity);
+		cellY = cellY == null ? new int[newCapacity] : Arrays.copyOf(cellY, newCapacity);
+		bucket = bucket == null ? new int[newCapacity] : Arrays.copyOf(bucket, newCapacity);
+		next = next == null ? new int[newCapacity] : Arrays.copyOf(next, newCapacity);
+		prev = prev == null ? new int[newCapacity] : Arrays.copyOf(prev, newCapacity);
+		capacity = newCapacity;
+	}
+}
@@ -0,0 +1,72 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * <code> SpriteComponent </code> draws an entity at its position, either as a
+ * single region or, for entities that draw more than one sprite such as a label
+ * or an animation frame, through their own render method.
+ * @see RenderSystem
+ */
+public class SpriteComponent implements Component {
+	/** Layer of items lying on the floor, drawn first. */
+	public static final int LAYER_ITEMS = 0;
+	/** Layer of characters and furniture. */
+	public static final int LAYER_CHARACTERS = 1;
+	/** Layer of the player, drawn last. */
+	public static final int LAYER_PLAYER = 2;
+
+	/**
+	 * Something that draws itself.
+	 */
+	public interface Renderer {
+		/**
+		 * Draw with a sprite batch that has already begun.
+		 * @param batch SpriteBatch used by application to render all sprites.
+		 * @param x Horizontal world position to draw at.
+		 * @param y Vertical world position to draw at.
+		 */
+		void render(SpriteBatch batch, float x, float y);
+	}
+
+	/** Region drawn at the entity's position, if there is no renderer. */
+	public final TextureRegion region;
+	/** Renderer drawing the entity, or null to draw the region. */
+	public final Renderer renderer;
+	/** Width the region is drawn at. */
+	public final float width;
+	/** Height the region is drawn at. */
+	public final float height;
+	/** Layer of the entity; higher layers are drawn on top. */
+	public final int layer;
+
+	/**
+	 * Constructor for <code> SpriteComponent </code> drawing a region.
+	 * @param region Region to draw.
+	 * @param width Width to draw region at.
+	 * @param height Height to draw region at.
+	 * @param layer Layer, such as {@link #LAYER_CHARACTERS}.
+	 */
+	public SpriteComponent(TextureRegion region, float width, float height, int layer) {
+		this.region = region;
+		this.renderer = null;
+		this.width = width;
+		this.height = height;
+		this.layer = layer;
+	}
+
+	/**
+	 * Constructor for <code> SpriteComponent </code> drawing through a renderer.
+	 * @param renderer Renderer, such as an entity's <code> render </code> method.
+	 * @param layer Layer, such as {@link #LAYER_CHARACTERS}.
+	 */
+	public SpriteComponent(Renderer renderer, int layer) {
+		this.region = null;
+		this.renderer = renderer;
+		this.width = 0;
+		this.height = 0;
+		this.layer = layer;
+	}
+}
@@ -0,0 +1,540 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.MapRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * <code> StaticTiledMapRenderer </code> draws a <code> TiledMap </code> from vertex
+ * buffers that are built once when the map is set, instead of pushing every visible
+ * tile through a SpriteBatch each frame like <code> OrthogonalTiledMapRenderer </code>.
+ * <p>
+ * Each layer is uploaded as one static mesh. Every vertex carries the index of its
+ * tileset texture, and the shader binds up to {@value #MAX_TEXTURES} tileset textures
+ * at once and picks the right one per tile, so a layer costs one draw call however
+ * many of its tiles are on screen and however many tilesets it mixes, and the CPU
+ * does no per tile work while rendering. Apart from the texture index the vertex
+ * layout and shading are the same as SpriteBatch's, so tiles look identical.
+ * <p>
+ * Layer opacity, tint and offsets, and each cell's flips and rotation, are baked into
+ * the meshes. Call {@link #invalidate()} after editing cells or layer attributes.
+ * Animated tiles are baked at their current frame and parallax is not supported.
+ * @see com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer OrthogonalTiledMapRenderer
+ */
+public class StaticTiledMapRenderer implements MapRenderer, Disposable {
+	/** Most tileset textures one mesh can draw from, the GLES 2 minimum of texture units. */
+	public static final int MAX_TEXTURES = 8;
+	/** Floats per vertex: x, y, packed colour, u, v, texture index. */
+	private static final int VERTEX_SIZE = 6;
+	private static final int QUAD_SIZE = VERTEX_SIZE * 4;
+	/** Most quads one mesh can index with 16 bit indices. */
+	private static final int MAX_QUADS = 16383;
+
+	private TiledMap map;
+	private final float unitScale;
+	private final ShaderProgram shader;
+	private final boolean ownsShader;
+	private final Matrix4 projection = new Matrix4();
+	private final ObjectMap<MapLayer, Array<LayerMesh>> layerMeshes = new ObjectMap<>();
+	private final float[] quad = new float[QUAD_SIZE];
+	private final float[] uvScratch = new float[8];
+	private boolean dirty = true;
+
+	private final Array<Texture> pendingTextures = new Array<>(MAX_TEXTURES);
+	private final FloatArray pendingVertices = new FloatArray(QUAD_SIZE * 256);
+	private final int[] textureUnits = new int[MAX_TEXTURES];
+	private final int texturesLocation;
+
+	private static final String VERTEX_SHADER = ""
+		+ "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+		+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+		+ "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+		+ "attribute float a_texIndex;\n"
+		+ "uniform mat4 u_projTrans;\n"
+		+ "varying vec4 v_color;\n"
+		+ "varying vec2 v_texCoords;\n"
+		+ "varying float v_texIndex;\n"
+		+ "void main() {\n"
+		+ "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+		+ "   v_color.a = v_color.a * (255.0/254.0);\n"
+		+ "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+		+ "   v_texIndex = a_texIndex;\n"
+		+ "   gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+		+ "}\n";
+
+	private static final String FRAGMENT_SHADER = ""
+		+ "#ifdef GL_ES\n"
+		+ "precision mediump float;\n"
+		+ "#endif\n"
+		+ "varying vec4 v_color;\n"
+		+ "varying vec2 v_texCoords;\n"
+		+ "varying float v_texIndex;\n"
+		+ "uniform sampler2D u_textures[" + MAX_TEXTURES + "];\n"
+		+ "vec4 tileColor() {\n"
+		// GLSL ES 1.0 can only index sampler arrays with constants
+		+ "   if (v_texIndex < 0.5) return texture2D(u_textures[0], v_texCoords);\n"
+		+ "   if (v_texIndex < 1.5) return texture2D(u_textures[1], v_texCoords);\n"
+		+ "   if (v_texIndex < 2.5) return texture2D(u_textures[2], v_texCoords);\n"
+		+ "   if (v_texIndex < 3.5) return texture2D(u_textures[3], v_texCoords);\n"
+		+ "   if (v_texIndex < 4.5) return texture2D(u_textures[4], v_texCoords);\n"
+		+ "   if (v_texIndex < 5.5) return texture2D(u_textures[5], v_texCoords);\n"
+		+ "   if (v_texIndex < 6.5) return texture2D(u_textures[6], v_texCoords);\n"
+		+ "   return texture2D(u_textures[7], v_texCoords);\n"
+		+ "}\n"
+		+ "void main() {\n"
+		+ "   gl_FragColor = v_color * tileColor();\n"
+		+ "}\n";
+
+	/**
+	 * A static mesh holding the quads of one layer, and the textures its vertices
+	 * index into.
+	 */
+	private static class LayerMesh {
+		final Texture[] textures;
+		final Mesh mesh;
+		final int indexCount;
+
+		LayerMesh(Texture[] textures, Mesh mesh, int indexCount) {
+			this.textures = textures;
+			this.mesh = mesh;
+			this.indexCount = indexCount;
+		}
+	}
+
+	/**
+	 * Constructor for <code> StaticTiledMapRenderer </code>, drawing one world unit
+	 * per pixel with the built in multi texture shader.
+	 * @param map Map to draw.
+	 */
+	public StaticTiledMapRenderer(TiledMap map) {
+		this(map, 1f, null);
+	}
+
+	/**
+	 * Constructor for <code> StaticTiledMapRenderer </code>.
+	 * @param map Map to draw.
+	 * @param unitScale World units per map pixel.
+	 * @param shader Shader with the same attributes and uniforms as the built in one,
+	 * or null to use the built in one.
+	 */
+	public StaticTiledMapRenderer(TiledMap map, float unitScale, ShaderProgram shader) {
+		this.map = map;
+		this.unitScale = unitScale;
+		this.ownsShader = shader == null;
+		this.shader = shader == null ? createDefaultShader() : shader;
+		for (int i = 0; i < MAX_TEXTURES; i++) {
+			textureUnits[i] = i;
+		}
+		this.texturesLocation = this.shader.fetchUniformLocation("u_textures", false);
+	}
+
+	/**
+	 * Compile the built in shader, which draws each tile from one of
+	 * {@value #MAX_TEXTURES} bound textures chosen by a per vertex index.
+	 * @return Compiled shader.
+	 */
+	public static ShaderProgram createDefaultShader() {
+		ShaderProgram shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+		if (!shader.isCompiled()) {
+			throw new IllegalArgumentException("Error compiling tile map shader: " + shader.getLog());
+		}
+		return shader;
+	}
+
+	/**
+	 * Swap the map being drawn. Meshes for the new map are built on the next render.
+	 * @param map Map to draw.
+	 */
+	public void setMap(TiledMap map) {
+		this.map = map;
+		invalidate();
+	}
+
+	/**
+	 * Get the map being drawn.
+	 * @return TiledMap being drawn.
+	 */
+	public TiledMap getMap() {
+		return map;
+	}
+
+	/**
+	 * Mark the meshes out of date so they are rebuilt from the map on the next render.
+	 */
+	public void invalidate() {
+		dirty = true;
+	}
+
+	/**
+	 * Return how many draw calls rendering every visible layer costs, building the
+	 * meshes first if they are out of date.
+	 * @return Number of meshes drawn by {@link #render()}.
+	 */
+	public int getDrawCallCount() {
+		if (dirty) {
+			rebuild();
+		}
+		int count = 0;
+		for (ObjectMap.Entry<MapLayer, Array<LayerMesh>> entry : layerMeshes) {
+			if (isShown(entry.key)) {
+				count += entry.value.size;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public void setView(OrthographicCamera camera) {
+		projection.set(camera.combined);
+	}
+
+	@Override
+	public void setView(Matrix4 projectionMatrix, float viewboundsX, float viewboundsY, float viewboundsWidth, float viewboundsHeight) {
+		projection.set(projectionMatrix);
+	}
+
+	@Override
+	public void render() {
+		beginRender();
+		MapLayers layers = map.getLayers();
+		for (int i = 0; i < layers.getCount(); i++) {
+			renderMapLayer(layers.get(i));
+		}
+		endRender();
+	}
+
+	@Override
+	public void render(int[] layers) {
+		beginRender();
+		for (int layerIdx : layers) {
+			renderMapLayer(map.getLayers().get(layerIdx));
+		}
+		endRender();
+	}
+
+	/**
+	 * Dispose of the meshes and, if it was created here, the shader.
+	 * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
+	 */
+	@Override
+	public void dispose() {
+		disposeMeshes();
+		if (ownsShader) {
+			shader.dispose();
+		}
+	}
+
+	/**
+	 * Helper method to rebuild meshes if needed and set up GL state for drawing.
+	 */
+	private void beginRender() {
+		if (dirty) {
+			rebuild();
+		}
+		Gdx.gl.glDepthMask(false);
+		Gdx.gl.glEnable(GL20.GL_BLEND);
+		Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		shader.bind();
+		shader.setUniformMatrix("u_projTrans", projection);
+		Gdx.gl.glUniform1iv(texturesLocation, MAX_TEXTURES, textureUnits, 0);
+	}
+
+	/**
+	 * Helper method to restore GL state after drawing.
+	 */
+	private void endRender() {
+		Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0);
+		Gdx.gl.glDisable(GL20.GL_BLEND);
+	}
+
+	/**
+	 * Helper method to draw a layer, descending into group layers.
+	 */
+	private void renderMapLayer(MapLayer layer) {
+		if (!layer.isVisible()) {
+			return;
+		}
+		if (layer instanceof MapGroupLayer) {
+			MapLayers children = ((MapGroupLayer) layer).getLayers();
+			for (int i = 0; i < children.getCount(); i++) {
+				renderMapLayer(children.get(i));
+			}
+			return;
+		}
+		Array<LayerMesh> meshes = layerMeshes.get(layer);
+		if (meshes == null) {
+			return;
+		}
+		for (int i = 0; i < meshes.size; i++) {
+			LayerMesh layerMesh = meshes.get(i);
+			for (int unit = layerMesh.textures.length - 1; unit >= 0; unit--) {
+				layerMesh.textures[unit].bind(unit);
+			}
+			layerMesh.mesh.render(shader, GL20.GL_TRIANGLES, 0, layerMesh.indexCount);
+		}
+	}
+
+	/**
+	 * Helper method to check a layer and all the groups holding it are visible.
+	 */
+	private static boolean isShown(MapLayer layer) {
+		for (MapLayer current = layer; current != null; current = current.getParent()) {
+			if (!current.isVisible()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Helper method to build the meshes of every layer in the map.
+	 */
+	private void rebuild() {
+		disposeMeshes();
+		buildLayers(map.getLayers());
+		dirty = false;
+	}
+
+	/**
+	 * Helper method to build meshes for a list of layers, descending into group layers.
+	 */
+	private void buildLayers(MapLayers layers) {
+		for (int i = 0; i < layers.getCount(); i++) {
+			MapLayer layer = layers.get(i);
+			if (layer instanceof MapGroupLayer) {
+				buildLayers(((MapGroupLayer) layer).getLayers());
+				continue;
+			}
+			Array<LayerMesh> meshes = new Array<>(1);
+			if (layer instanceof TiledMapTileLayer) {
+				addTileLayer((TiledMapTileLayer) layer, meshes);
+			} else if (layer instanceof TiledMapImageLayer) {
+				addImageLayer((TiledMapImageLayer) layer, meshes);
+			} else {
+				continue;
+			}
+			flushMesh(meshes);
+			layerMeshes.put(layer, meshes);
+		}
+	}
+
+	/**
+	 * Helper method to append the scratch quad to the mesh being built, starting a new
+	 * mesh first if it is full or cannot bind the quad's texture.
+	 */
+	private void addQuad(Texture texture, Array<LayerMesh> meshes) {
+		int index = pendingTextures.indexOf(texture, true);
+		if ((index < 0 && pendingTextures.size == MAX_TEXTURES) || pendingVertices.size == MAX_QUADS * QUAD_SIZE) {
+			flushMesh(meshes);
+			index = -1;
+		}
+		if (index < 0) {
+			index = pendingTextures.size;
+			pendingTextures.add(texture);
+		}
+		for (int i = 0; i < 4; i++) {
+			quad[i * VERTEX_SIZE + 5] = index;
+		}
+		pendingVertices.addAll(quad);
+	}
+
+	/**
+	 * Helper method to upload the pending quads into a new static mesh.
+	 */
+	private void flushMesh(Array<LayerMesh> meshes) {
+		if (pendingVertices.size > 0) {
+			meshes.add(createMesh(pendingTextures.toArray(Texture.class), pendingVertices.items, pendingVertices.size));
+		}
+		pendingVertices.clear();
+		pendingTextures.clear();
+	}
+
+	/**
+	 * Helper method to upload a run of quads into a new static mesh.
+	 */
+	private LayerMesh createMesh(Texture[] textures, float[] data, int length) {
+		int quads = length / QUAD_SIZE;
+		Mesh mesh = new Mesh(true, quads * 4, quads * 6,
+			new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+			new VertexAttribute(VertexAttributes.Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+			new VertexAttribute(VertexAttributes.Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"),
+			new VertexAttribute(VertexAttributes.Usage.Generic, 1, "a_texIndex"));
+		mesh.setVertices(data, 0, length);
+
+		short[] indices = new short[quads * 6];
+		for (int i = 0, vertex = 0; i < indices.length; i += 6, vertex += 4) {
+			indices[i] = (short) vertex;
+			indices[i + 1] = (short) (vertex + 1);
+			indices[i + 2] = (short) (vertex + 2);
+			indices[i + 3] = (short) (vertex + 2);
+			indices[i + 4] = (short) (vertex + 3);
+			indices[i + 5] = (short) vertex;
+		}
+		mesh.setIndices(indices);
+		return new LayerMesh(textures, mesh, indices.length);
+	}
+
+	/**
+	 * Helper method to write the quads of every cell of a tile layer.
+	 */
+	private void addTileLayer(TiledMapTileLayer layer, Array<LayerMesh> meshes) {
+		Color tint = layer.getCombinedTintColor();
+		float color = Color.toFloatBits(tint.r, tint.g, tint.b, tint.a * layer.getOpacity());
+		float tileWidth = layer.getTileWidth() * unitScale;
+		float tileHeight = layer.getTileHeight() * unitScale;
+		float offsetX = layer.getRenderOffsetX() * unitScale;
+		// offset in tiled is y down, so we flip it
+		float offsetY = -layer.getRenderOffsetY() * unitScale;
+
+		for (int row = 0; row < layer.getHeight(); row++) {
+			for (int col = 0; col < layer.getWidth(); col++) {
+				TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+				if (cell == null || cell.getTile() == null) {
+					continue;
+				}
+				TiledMapTile tile = cell.getTile();
+				TextureRegion region = tile.getTextureRegion();
+				float x1 = col * tileWidth + offsetX + tile.getOffsetX() * unitScale;
+				float y1 = row * tileHeight + offsetY + tile.getOffsetY() * unitScale;
+				setQuad(region, x1, y1, color);
+				orientQuad(cell.getFlipHorizontally(), cell.getFlipVertically(), cell.getRotation());
+				addQuad(region.getTexture(), meshes);
+			}
+		}
+	}
+
+	/**
+	 * Helper method to write the single quad of an image layer.
+	 */
+	private void addImageLayer(TiledMapImageLayer layer, Array<LayerMesh> meshes) {
+		TextureRegion region = layer.getTextureRegion();
+		if (region == null) {
+			return;
+		}
+		Color tint = layer.getCombinedTintColor();
+		float color = Color.toFloatBits(tint.r, tint.g, tint.b, tint.a * layer.getOpacity());
+		float x1 = layer.getX() * unitScale + layer.getRenderOffsetX() * unitScale;
+		float y1 = layer.getY() * unitScale - layer.getRenderOffsetY() * unitScale;
+		setQuad(region, x1, y1, color);
+		addQuad(region.getTexture(), meshes);
+	}
+
+	/**
+	 * Helper method to fill the scratch quad with an unrotated region, in the same
+	 * vertex order as <code> OrthogonalTiledMapRenderer </code>.
+	 */
+	private void setQuad(TextureRegion region, float x1, float y1, float color) {
+		float x2 = x1 + region.getRegionWidth() * unitScale;
+		float y2 = y1 + region.getRegionHeight() * unitScale;
+		float u1 = region.getU();
+		float v1 = region.getV2();
+		float u2 = region.getU2();
+		float v2 = region.getV();
+		setVertex(0, x1, y1, color, u1, v1);
+		setVertex(1, x1, y2, color, u1, v2);
+		setVertex(2, x2, y2, color, u2, v2);
+		setVertex(3, x2, y1, color, u2, v1);
+	}
+
+	/**
+	 * Helper method to write one vertex of the scratch quad.
+	 */
+	private void setVertex(int vertex, float x, float y, float color, float u, float v) {
+		int i = vertex * VERTEX_SIZE;
+		quad[i] = x;
+		quad[i + 1] = y;
+		quad[i + 2] = color;
+		quad[i + 3] = u;
+		quad[i + 4] = v;
+	}
+
+	/**
+	 * Helper method to apply a cell's flips and rotation to the scratch quad's texture
+	 * coordinates.
+	 */
+	private void orientQuad(boolean flipX, boolean flipY, int rotations) {
+		if (flipX) {
+			swapUV(0, 2, 3);
+			swapUV(1, 3, 3);
+		}
+		if (flipY) {
+			swapUV(0, 2, 4);
+			swapUV(1, 3, 4);
+		}
+		switch (rotations) {
+			case TiledMapTileLayer.Cell.ROTATE_90:
+				rotateUV(1);
+				break;
+			case TiledMapTileLayer.Cell.ROTATE_180:
+				swapUV(0, 2, 3);
+				swapUV(1, 3, 3);
+				swapUV(0, 2, 4);
+				swapUV(1, 3, 4);
+				break;
+			case TiledMapTileLayer.Cell.ROTATE_270:
+				rotateUV(3);
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Helper method to swap one texture coordinate between two vertices of the quad.
+	 */
+	private void swapUV(int a, int b, int component) {
+		int ia = a * VERTEX_SIZE + component;
+		int ib = b * VERTEX_SIZE + component;
+		float temp = quad[ia];
+		quad[ia] = quad[ib];
+		quad[ib] = temp;
+	}
+
+	/**
+	 * Helper method to shift texture coordinates round the quad's vertices, so vertex
+	 * i takes the coordinates of vertex i + step.
+	 */
+	private void rotateUV(int step) {
+		for (int i = 0; i < 4; i++) {
+			uvScratch[i * 2] = quad[i * VERTEX_SIZE + 3];
+			uvScratch[i * 2 + 1] = quad[i * VERTEX_SIZE + 4];
+		}
+		for (int i = 0; i < 4; i++) {
+			int from = (i + step) % 4;
+			quad[i * VERTEX_SIZE + 3] = uvScratch[from * 2];
+			quad[i * VERTEX_SIZE + 4] = uvScratch[from * 2 + 1];
+		}
+	}
+
+	/**
+	 * Helper method to free every mesh built for the current map.
+	 */
+	private void disposeMeshes() {
+		for (Array<LayerMesh> meshes : layerMeshes.values()) {
+			for (LayerMesh layerMesh : meshes) {
+				layerMesh.mesh.dispose();
+			}
+		}
+		layerMeshes.clear();
+	}
+}
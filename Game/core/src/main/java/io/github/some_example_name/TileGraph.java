@@ -0,0 +1,184 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * <code> TileGraph </code> is the graph gdx-ai's <code> IndexedAStarPathFinder </code>
+ * searches to find a way through a map. Every tile of a <code> CollisionGrid </code>
+ * is a node, and each free tile is connected to its free neighbours, including the
+ * diagonal ones as long as neither tile beside the diagonal is blocked, so paths
+ * never cut the corner of a wall. Blocked tiles can be left but never entered,
+ * so an entity placed inside a wall can still find its way out.
+ * <p>
+ * Connections are read from the grid as the search asks for them rather than
+ * stored, so the graph of a large grid stays small and changes to the grid are
+ * seen by the next search without rebuilding anything. The connection objects are
+ * reused between searches, so call {@link #beginSearch()} before starting each one.
+ * @see com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder IndexedAStarPathFinder
+ */
+public class TileGraph implements IndexedGraph<TileGraph.Node> {
+	/** Cost of moving diagonally, in tiles. Straight moves cost 1. */
+	public static final float DIAGONAL_COST = 1.4142135f;
+
+	/** Octile distance between two nodes, the exact cost of the shortest path across an empty grid. */
+	public static final Heuristic<Node> HEURISTIC = new Heuristic<Node>() {
+		@Override
+		public float estimate(Node node, Node endNode) {
+			int dx = Math.abs(node.x - endNode.x);
+			int dy = Math.abs(node.y - endNode.y);
+			return Math.max(dx, dy) + (DIAGONAL_COST - 1f) * Math.min(dx, dy);
+		}
+	};
+
+	private static final int[] STEP_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+	private static final int[] STEP_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+	private final CollisionGrid grid;
+	private final Node[] nodes;
+	private final Array<Connection<Node>> connections = new Array<>(false, 8);
+	private final Array<TileConnection> connectionPool = new Array<>(false, 256);
+	private int connectionsUsed;
+
+	/**
+	 * A tile of the grid.
+	 */
+	public static class Node {
+		/** Horizontal tile index. */
+		public final int x;
+		/** Vertical tile index. */
+		public final int y;
+		final int index;
+
+		Node(int x, int y, int index) {
+			this.x = x;
+			this.y = y;
+			this.index = index;
+		}
+	}
+
+	/**
+	 * A move between two neighbouring tiles.
+	 */
+	private static class TileConnection implements Connection<Node> {
+		Node from;
+		Node to;
+		float cost;
+
+		@Override
+		public float getCost() { return cost; }
+
+		@Override
+		public Node getFromNode() { return from; }
+
+		@Override
+		public Node getToNode() { return to; }
+	}
+
+	/**
+	 * Constructor for <code> TileGraph </code>, with one node for every tile of a grid.
+	 * @param grid Collision grid to find paths through.
+	 */
+	public TileGraph(CollisionGrid grid) {
+		this.grid = grid;
+		int width = grid.getWidth();
+		nodes = new Node[width * grid.getHeight()];
+		for (int i = 0; i < nodes.length; i++) {
+			nodes[i] = new Node(i % width, i / width, i);
+		}
+	}
+
+	/**
+	 * Release the connections handed out by the last search, so the next search
+	 * can reuse them. Paths already found keep their nodes.
+	 */
+	public void beginSearch() {
+		connectionsUsed = 0;
+	}
+
+	/**
+	 * Return the node of a tile.
+	 * @param tileX Horizontal tile index.
+	 * @param tileY Vertical tile index.
+	 * @return Node, or null if the tile is outside the grid.
+	 */
+	public Node getNode(int tileX, int tileY) {
+		if (!grid.inBounds(tileX, tileY)) {
+			return null;
+		}
+		return nodes[tileY * grid.getWidth() + tileX];
+	}
+
+	/**
+	 * Return the node of the tile under the centre of a 16x16 entity, the same tile
+	 * {@link CollisionGrid#isBlockedAt(float, float)} checks.
+	 * @param x Horizontal world position of entity.
+	 * @param y Vertical world position of entity.
+	 * @return Node, or null if the entity is outside the grid.
+	 */
+	public Node getNodeAt(float x, float y) {
+		return getNode((int) Math.floor((x + 8) / grid.getTileWidth()), (int) Math.floor((y + 8) / grid.getTileHeight()));
+	}
+
+	/**
+	 * Return the collision grid the graph was built over.
+	 * @return Collision grid.
+	 */
+	public CollisionGrid getGrid() { return grid; }
+
+	@Override
+	public int getIndex(Node node) {
+		return node.index;
+	}
+
+	@Override
+	public int getNodeCount() {
+		return nodes.length;
+	}
+
+	/**
+	 * Return the moves out of a tile. The returned array is reused by the next call.
+	 * @param fromNode Tile to move from.
+	 * @return Connections to every free neighbour that can be reached.
+	 */
+	@Override
+	public Array<Connection<Node>> getConnections(Node fromNode) {
+		connections.clear();
+		int x = fromNode.x;
+		int y = fromNode.y;
+		for (int i = 0; i < STEP_X.length; i++) {
+			int toX = x + STEP_X[i];
+			int toY = y + STEP_Y[i];
+			if (!grid.inBounds(toX, toY) || grid.isBlocked(toX, toY)) {
+				continue;
+			}
+			boolean diagonal = STEP_X[i] != 0 && STEP_Y[i] != 0;
+			if (diagonal && (grid.isBlocked(toX, y) || grid.isBlocked(x, toY))) {
+				continue;
+			}
+			connections.add(obtainConnection(fromNode, nodes[toY * grid.getWidth() + toX], diagonal ? DIAGONAL_COST : 1f));
+		}
+		return connections;
+	}
+
+	/**
+	 * Helper method to take a connection from the pool, growing it if every
+	 * connection is in use by the current search.
+	 */
+	private TileConnection obtainConnection(Node from, Node to, float cost) {
+		TileConnection connection;
+		if (connectionsUsed < connectionPool.size) {
+			connection = connectionPool.get(connectionsUsed);
+		} else {
+			connection = new TileConnection();
+			connectionPool.add(connection);
+		}
+		connectionsUsed++;
+		connection.from = from;
+		connection.to = to;
+		connection.cost = cost;
+		return connection;
+	}
+}
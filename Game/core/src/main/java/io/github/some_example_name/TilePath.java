@@ -0,0 +1,39 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.SmoothableGraphPath;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * <code> TilePath </code> is a path through a <code> TileGraph </code>, from the
+ * first tile to the last, which gdx-ai's <code> PathSmoother </code> can shorten by
+ * dropping tiles that can be skipped in a straight line.
+ * <p>
+ * Node positions are the centres of their tiles in tile units, which is what
+ * {@link GridRaycastCollisionDetector} expects.
+ * @see com.badlogic.gdx.ai.pfa.PathSmoother PathSmoother
+ */
+public class TilePath extends DefaultGraphPath<TileGraph.Node> implements SmoothableGraphPath<TileGraph.Node, Vector2> {
+	private final Vector2 position = new Vector2();
+
+	/**
+	 * Return the centre of a tile of the path. The vector is reused by the next call.
+	 * @param index Index of tile in path.
+	 * @return Centre of tile in tile units.
+	 */
+	@Override
+	public Vector2 getNodePosition(int index) {
+		TileGraph.Node node = nodes.get(index);
+		return position.set(node.x + 0.5f, node.y + 0.5f);
+	}
+
+	@Override
+	public void swapNodes(int index1, int index2) {
+		nodes.set(index1, nodes.get(index2));
+	}
+
+	@Override
+	public void truncatePath(int newLength) {
+		nodes.truncate(newLength);
+	}
+}
@@ -0,0 +1,25 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * <code> TimerComponent </code> counts a <code> GameTimer </code> down while the
+ * game is running, and calls back once when it runs out.
+ * @see TimerSystem
+ */
+public class TimerComponent implements Component {
+	/** Timer counted down. */
+	public final GameTimer timer;
+	/** Called on the step the timer reaches 0. */
+	public final Runnable onTimeUp;
+
+	/**
+	 * Constructor for <code> TimerComponent </code>.
+	 * @param timer Timer to count down.
+	 * @param onTimeUp Called on the step the timer reaches 0.
+	 */
+	public TimerComponent(GameTimer timer, Runnable onTimeUp) {
+		this.timer = timer;
+		this.onTimeUp = onTimeUp;
+	}
+}
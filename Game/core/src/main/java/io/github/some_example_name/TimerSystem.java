@@ -0,0 +1,35 @@
+package io.github.some_example_name;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+/**
+ * <code> TimerSystem </code> counts every timer down, calling back once on the
+ * step it runs out. In a <code> GameWorld </code> the callback ends the round as
+ * lost; the timer's sound is left to whoever draws the world.
+ */
+public class TimerSystem extends IteratingSystem {
+	private final ComponentMapper<TimerComponent> timers = ComponentMapper.getFor(TimerComponent.class);
+
+	/**
+	 * Constructor for <code> TimerSystem </code>.
+	 */
+	public TimerSystem() {
+		super(Family.all(TimerComponent.class).get());
+	}
+
+	@Override
+	protected void processEntity(Entity entity, float deltaTime) {
+		TimerComponent component = timers.get(entity);
+		GameTimer timer = component.timer;
+		if (timer.getTimeLeft() == 0) {
+			return;
+		}
+		timer.decrementTimer(deltaTime);
+		if (timer.getTimeLeft() == 0) {
+			component.onTimeUp.run();
+		}
+	}
+}
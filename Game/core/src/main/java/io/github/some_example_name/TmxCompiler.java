@@ -0,0 +1,594 @@
+package io.github.some_example_name;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.XmlReader;
+import com.badlogic.gdx.utils.XmlReader.Element;
+
+/**
+ * <code> TmxCompiler </code> turns Tiled TMX maps into the binary format read by
+ * {@link CompiledMapLoader}, so the game does not parse XML and CSV when a level
+ * starts. It runs at build time through the <code> compileMaps </code> Gradle task
+ * and does not need libGDX to be running.
+ * <p>
+ * Each compiled map holds a table of the tileset images it needs, the tile ids of
+ * every layer, the layer, tileset and tile properties, the rectangles of every
+ * object layer and the collision mask {@link CollisionGrid} would build from the
+ * map. Only what the game's maps use is
+ * supported: orthogonal maps, tilesets cut from a single image and rectangle or
+ * point objects. Anything else fails the build instead of being dropped.
+ */
+public class TmxCompiler {
+	private final XmlReader xml = new XmlReader();
+	private final Path assetsRoot;
+
+	private Path tmxFile;
+	private int mapWidth;
+	private int mapHeight;
+	private int mapHeightInPixels;
+	private int mapTileWidth;
+	private int mapTileHeight;
+	private long[] mask;
+	private final Array<int[]> tileRanges = new Array<>();
+	private final IntSet collidableTiles = new IntSet();
+	private final Array<String> images = new Array<>();
+
+	/**
+	 * Constructor for <code> TmxCompiler </code>.
+	 * @param assetsRoot Assets folder, which image paths are stored relative to.
+	 */
+	public TmxCompiler(Path assetsRoot) {
+		this.assetsRoot = assetsRoot.toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Compile every TMX map found in the given folders, writing each compiled map
+	 * next to its TMX map.
+	 * @param args Assets folder, followed by folders or TMX files to compile.
+	 * @throws IOException If a map cannot be read or written.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: TmxCompiler <assets folder> <map folder or tmx file>...");
+			System.exit(1);
+		}
+		TmxCompiler compiler = new TmxCompiler(Paths.get(args[0]));
+		for (int i = 1; i < args.length; i++) {
+			List<Path> maps;
+			try (Stream<Path> files = Files.walk(Paths.get(args[i]))) {
+				maps = files.filter(path -> path.toString().endsWith(".tmx")).sorted().collect(Collectors.toList());
+			}
+			for (Path map : maps) {
+				byte[] compiled = compiler.compile(map);
+				Path output = outputPath(map);
+				Files.write(output, compiled);
+				CollisionShapes shapes = new CollisionShapes(compiler.getCollisionGrid());
+				System.out.println("Compiled " + map.getFileName() + ": " + Files.size(map) + " -> " + compiled.length + " bytes, "
+					+ shapes.getCellCount() + " collidable tiles in " + shapes.getRectangles().size + " rectangles");
+			}
+		}
+	}
+
+	/**
+	 * Return the collision grid of the map last compiled, built from the mask
+	 * written to it.
+	 * @return Collision grid with no map behind it.
+	 */
+	public CollisionGrid getCollisionGrid() {
+		return new CollisionGrid(null, mapWidth, mapHeight, mapTileWidth, mapTileHeight, mask);
+	}
+
+	/**
+	 * Return where the compiled map for a TMX map is written.
+	 * @param tmxFile TMX map.
+	 * @return Compiled map next to the TMX map.
+	 */
+	public static Path outputPath(Path tmxFile) {
+		return tmxFile.resolveSibling(CompiledMapLoader.compiledPath(tmxFile.getFileName().toString()));
+	}
+
+	/**
+	 * Compile a single TMX map.
+	 * @param tmxFile TMX map.
+	 * @return Bytes of compiled map.
+	 * @throws IOException If the map or one of its tilesets cannot be read.
+	 */
+	public byte[] compile(Path tmxFile) throws IOException {
+		this.tmxFile = tmxFile;
+		Element root = parse(tmxFile);
+		String orientation = root.getAttribute("orientation", null);
+		if (!"orthogonal".equals(orientation)) {
+			throw error("only orthogonal maps are supported, not " + orientation);
+		}
+		if (root.getIntAttribute("infinite", 0) != 0) {
+			throw error("infinite maps are not supported");
+		}
+		mapWidth = root.getIntAttribute("width", 0);
+		mapHeight = root.getIntAttribute("height", 0);
+		int tileWidth = root.getIntAttribute("tilewidth", 0);
+		int tileHeight = root.getIntAttribute("tileheight", 0);
+		mapHeightInPixels = mapHeight * tileHeight;
+		mapTileWidth = tileWidth;
+		mapTileHeight = tileHeight;
+		mask = new long[(mapWidth * mapHeight + 63) >>> 6];
+		tileRanges.clear();
+		collidableTiles.clear();
+		images.clear();
+
+		// the image table goes first in the file but is only known once the
+		// tilesets are read, so the rest of the map is written separately
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(tileWidth);
+		out.writeInt(tileHeight);
+
+		// the same built in properties TmxMapLoader adds, before the map's own
+		Array<Object> properties = new Array<>();
+		properties.addAll("orientation", orientation, "width", mapWidth, "height", mapHeight,
+			"tilewidth", tileWidth, "tileheight", tileHeight, "hexsidelength", root.getIntAttribute("hexsidelength", 0));
+		String backgroundColor = root.getAttribute("backgroundcolor", null);
+		if (backgroundColor != null) {
+			properties.addAll("backgroundcolor", backgroundColor);
+		}
+		collectProperties(properties, root.getChildByName("properties"));
+		writeProperties(out, properties);
+
+		Array<Element> tileSets = root.getChildrenByName("tileset");
+		out.writeShort(tileSets.size);
+		for (Element tileSet : tileSets) {
+			writeTileSet(out, tileSet);
+		}
+
+		Array<Element> layers = new Array<>();
+		for (int i = 0; i < root.getChildCount(); i++) {
+			if (isLayer(root.getChild(i))) {
+				layers.add(root.getChild(i));
+			}
+		}
+		out.writeShort(layers.size);
+		for (Element layer : layers) {
+			writeLayer(out, layer, true);
+		}
+
+		out.writeInt(mapWidth);
+		out.writeInt(mapHeight);
+		out.writeInt(mask.length);
+		for (long word : mask) {
+			out.writeLong(word);
+		}
+		out.flush();
+
+		ByteArrayOutputStream file = new ByteArrayOutputStream(bytes.size() + 1024);
+		DataOutputStream header = new DataOutputStream(file);
+		header.writeInt(CompiledMapLoader.MAGIC);
+		header.writeShort(CompiledMapLoader.VERSION);
+		header.writeShort(images.size);
+		for (String image : images) {
+			writeString(header, image);
+		}
+		header.flush();
+		bytes.writeTo(file);
+		return file.toByteArray();
+	}
+
+	/**
+	 * Helper method to write a tileset, reading it from its TSX file if it is
+	 * external, and to record which of its tiles exist and are collidable.
+	 */
+	private void writeTileSet(DataOutputStream out, Element element) throws IOException {
+		int firstGid = element.getIntAttribute("firstgid", 1);
+		Path base = tmxFile;
+		String source = element.getAttribute("source", null);
+		if (source != null) {
+			base = tmxFile.resolveSibling(source);
+			element = parse(base);
+		}
+		String name = element.getAttribute("name", null);
+		Element image = element.getChildByName("image");
+		if (image == null) {
+			throw error("tileset " + name + " has no single image, which is not supported");
+		}
+		String imageSource = image.getAttribute("source");
+		int imageWidth = image.getIntAttribute("width", 0);
+		int imageHeight = image.getIntAttribute("height", 0);
+		int tileWidth = element.getIntAttribute("tilewidth", 0);
+		int tileHeight = element.getIntAttribute("tileheight", 0);
+		int spacing = element.getIntAttribute("spacing", 0);
+		int margin = element.getIntAttribute("margin", 0);
+		Element offset = element.getChildByName("tileoffset");
+
+		writeString(out, name);
+		out.writeInt(firstGid);
+		out.writeInt(tileWidth);
+		out.writeInt(tileHeight);
+		out.writeInt(spacing);
+		out.writeInt(margin);
+		out.writeInt(offset != null ? offset.getIntAttribute("x", 0) : 0);
+		out.writeInt(offset != null ? offset.getIntAttribute("y", 0) : 0);
+		String imagePath = assetPath(base.resolveSibling(imageSource));
+		int imageIndex = images.indexOf(imagePath, false);
+		if (imageIndex < 0) {
+			imageIndex = images.size;
+			images.add(imagePath);
+		}
+		out.writeShort(imageIndex);
+
+		Array<Object> properties = new Array<>();
+		collectProperties(properties, element.getChildByName("properties"));
+		properties.addAll("firstgid", firstGid, "imagesource", imageSource, "imagewidth", imageWidth,
+			"imageheight", imageHeight, "tilewidth", tileWidth, "tileheight", tileHeight,
+			"margin", margin, "spacing", spacing);
+		writeProperties(out, properties);
+
+		// tiles are cut row by row from the image, as far as whole tiles fit
+		int columns = imageWidth - margin >= tileWidth ? (imageWidth - margin - tileWidth) / (tileWidth + spacing) + 1 : 0;
+		int rows = imageHeight - margin >= tileHeight ? (imageHeight - margin - tileHeight) / (tileHeight + spacing) + 1 : 0;
+		tileRanges.add(new int[] {firstGid, columns * rows});
+
+		Array<Element> tiles = element.getChildrenByName("tile");
+		Array<Array<Object>> tileProperties = new Array<>();
+		IntSet seen = new IntSet();
+		for (Element tile : tiles) {
+			if (tile.getChildByName("animation") != null) {
+				throw error("animated tiles in tileset " + name + " are not supported");
+			}
+			Array<Object> values = new Array<>();
+			values.add(tile.getIntAttribute("id", 0));
+			for (String attribute : new String[] {"terrain", "probability", "type"}) {
+				String value = tile.getAttribute(attribute, null);
+				if (value != null) {
+					values.addAll(attribute, value);
+				}
+			}
+			collectProperties(values, tile.getChildByName("properties"));
+			if (values.size > 1 && seen.add(tile.getIntAttribute("id", 0))) {
+				tileProperties.add(values);
+			}
+		}
+		out.writeInt(tileProperties.size);
+		for (Array<Object> values : tileProperties) {
+			int id = (Integer) values.removeIndex(0);
+			out.writeInt(id);
+			writeProperties(out, values);
+			for (int i = 0; i < values.size; i += 2) {
+				if (CollisionGrid.COLLIDABLE.equals(values.get(i))) {
+					collidableTiles.add(firstGid + id);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Helper method to write a tile, object or group layer, and to add its
+	 * collidable cells to the mask. Like {@link CollisionGrid}, only tile layers at
+	 * the top level of the map count towards collision.
+	 */
+	private void writeLayer(DataOutputStream out, Element element, boolean topLevel) throws IOException {
+		String kind = element.getName();
+		out.writeByte(kind.equals("layer") ? CompiledMapLoader.LAYER_TILES
+			: kind.equals("objectgroup") ? CompiledMapLoader.LAYER_OBJECTS : CompiledMapLoader.LAYER_GROUP);
+		writeString(out, element.getAttribute("name", null));
+		out.writeByte(element.getIntAttribute("visible", 1) == 1 ? 1 : 0);
+		out.writeFloat(Float.parseFloat(element.getAttribute("opacity", "1.0")));
+		out.writeFloat(element.getFloatAttribute("offsetx", 0));
+		out.writeFloat(element.getFloatAttribute("offsety", 0));
+		out.writeFloat(element.getFloatAttribute("parallaxx", 1f));
+		out.writeFloat(element.getFloatAttribute("parallaxy", 1f));
+		out.writeInt(Color.rgba8888(tiledColor(element.getAttribute("tintcolor", "#ffffffff"))));
+
+		Array<Object> properties = new Array<>();
+		collectProperties(properties, element.getChildByName("properties"));
+
+		if (kind.equals("layer")) {
+			boolean layerCollidable = false;
+			for (int i = 0; i < properties.size; i += 2) {
+				layerCollidable |= CollisionGrid.COLLIDABLE.equals(properties.get(i));
+			}
+			writeTileLayer(out, element, topLevel, layerCollidable);
+		} else if (kind.equals("objectgroup")) {
+			Array<Element> objects = element.getChildrenByName("object");
+			out.writeInt(objects.size);
+			for (Element object : objects) {
+				writeObject(out, object);
+			}
+		} else {
+			Array<Element> children = new Array<>();
+			for (int i = 0; i < element.getChildCount(); i++) {
+				if (isLayer(element.getChild(i))) {
+					children.add(element.getChild(i));
+				}
+			}
+			out.writeShort(children.size);
+			for (Element child : children) {
+				writeLayer(out, child, false);
+			}
+		}
+		writeProperties(out, properties);
+	}
+
+	/**
+	 * Helper method to write the tile ids of a layer flipped to y up, either one
+	 * per cell or as index and id pairs when most cells are empty.
+	 */
+	private void writeTileLayer(DataOutputStream out, Element element, boolean topLevel, boolean layerCollidable) throws IOException {
+		int width = element.getIntAttribute("width", 0);
+		int height = element.getIntAttribute("height", 0);
+		out.writeInt(width);
+		out.writeInt(height);
+
+		int[] tiledIds = readTileIds(element.getChildByName("data"), width * height);
+		int[] ids = new int[width * height];
+		int used = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int id = tiledIds[(height - 1 - y) * width + x];
+				ids[y * width + x] = id;
+				if (id == 0) {
+					continue;
+				}
+				used++;
+				int tile = id & ~CompiledMapLoader.MASK_CLEAR;
+				if (topLevel && x < mapWidth && y < mapHeight && tileExists(tile)
+					&& (layerCollidable || collidableTiles.contains(tile))) {
+					int index = y * mapWidth + x;
+					mask[index >>> 6] |= 1L << index;
+				}
+			}
+		}
+
+		if (used * 2 < ids.length) {
+			out.writeByte(CompiledMapLoader.GIDS_SPARSE);
+			out.writeInt(used);
+			for (int i = 0; i < ids.length; i++) {
+				if (ids[i] != 0) {
+					out.writeInt(i);
+					out.writeInt(ids[i]);
+				}
+			}
+		} else {
+			out.writeByte(CompiledMapLoader.GIDS_DENSE);
+			out.writeInt(ids.length);
+			for (int id : ids) {
+				out.writeInt(id);
+			}
+		}
+	}
+
+	/**
+	 * Helper method to write a rectangle or point object, flipped to y up with the
+	 * same built in properties <code> TmxMapLoader </code> gives it.
+	 */
+	private void writeObject(DataOutputStream out, Element element) throws IOException {
+		String name = element.getAttribute("name", null);
+		if (element.getAttribute("gid", null) != null || element.getChildByName("polygon") != null
+			|| element.getChildByName("polyline") != null || element.getChildByName("ellipse") != null) {
+			throw error("object " + name + " is not a rectangle or point, which is not supported");
+		}
+		float x = element.getFloatAttribute("x", 0);
+		float y = mapHeightInPixels - element.getFloatAttribute("y", 0);
+		float width = element.getFloatAttribute("width", 0);
+		float height = element.getFloatAttribute("height", 0);
+		out.writeFloat(x);
+		out.writeFloat(y - height);
+		out.writeFloat(width);
+		out.writeFloat(height);
+		writeString(out, name);
+		out.writeByte(element.getIntAttribute("visible", 1) == 1 ? 1 : 0);
+
+		Array<Object> properties = new Array<>();
+		String rotation = element.getAttribute("rotation", null);
+		if (rotation != null) {
+			properties.addAll("rotation", Float.parseFloat(rotation));
+		}
+		String type = element.getAttribute("type", null);
+		if (type != null) {
+			properties.addAll("type", type);
+		}
+		int id = element.getIntAttribute("id", 0);
+		if (id != 0) {
+			properties.addAll("id", id);
+		}
+		properties.addAll("x", x, "y", y - height, "width", width, "height", height);
+		collectProperties(properties, element.getChildByName("properties"));
+		writeProperties(out, properties);
+	}
+
+	/**
+	 * Helper method to decode the tile ids of a layer in any of Tiled's finite
+	 * encodings, in Tiled's row order (top row first).
+	 */
+	private int[] readTileIds(Element data, int count) throws IOException {
+		int[] ids = new int[count];
+		String encoding = data.getAttribute("encoding", null);
+		if (encoding == null) {
+			Array<Element> tiles = data.getChildrenByName("tile");
+			for (int i = 0; i < tiles.size && i < count; i++) {
+				ids[i] = (int) Long.parseLong(tiles.get(i).getAttribute("gid", "0"));
+			}
+		} else if (encoding.equals("csv")) {
+			String[] values = data.getText().trim().split("[\\s,]+");
+			for (int i = 0; i < values.length && i < count; i++) {
+				ids[i] = (int) Long.parseLong(values[i]);
+			}
+		} else if (encoding.equals("base64")) {
+			byte[] decoded = Base64.getMimeDecoder().decode(data.getText().trim());
+			String compression = data.getAttribute("compression", null);
+			InputStream input = new ByteArrayInputStream(decoded);
+			if ("zlib".equals(compression)) {
+				input = new InflaterInputStream(input);
+			} else if ("gzip".equals(compression)) {
+				input = new GZIPInputStream(input);
+			} else if (compression != null) {
+				throw error(compression + " compressed layers are not supported");
+			}
+			try (InputStream in = input) {
+				byte[] word = new byte[4];
+				for (int i = 0; i < count; i++) {
+					int read = 0;
+					while (read < 4) {
+						int n = in.read(word, read, 4 - read);
+						if (n < 0) {
+							throw error("layer data ends early");
+						}
+						read += n;
+					}
+					ids[i] = (word[0] & 0xFF) | (word[1] & 0xFF) << 8 | (word[2] & 0xFF) << 16 | (word[3] & 0xFF) << 24;
+				}
+			}
+		} else {
+			throw error(encoding + " encoded layers are not supported");
+		}
+		return ids;
+	}
+
+	/**
+	 * Helper method to check if a tile id belongs to a tile cut from a tileset.
+	 */
+	private boolean tileExists(int gid) {
+		for (int[] range : tileRanges) {
+			if (gid >= range[0] && gid < range[0] + range[1]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method to append the properties of an element as name and value
+	 * pairs, converted to the same types <code> TmxMapLoader </code> uses.
+	 */
+	private void collectProperties(Array<Object> into, Element properties) {
+		if (properties == null) {
+			return;
+		}
+		for (Element property : properties.getChildrenByName("property")) {
+			String name = property.getAttribute("name", null);
+			String value = property.getAttribute("value", property.getText());
+			String type = property.getAttribute("type", null);
+			Object converted;
+			if (type == null || type.equals("string") || type.equals("file")) {
+				converted = value;
+			} else if (type.equals("int")) {
+				converted = Integer.valueOf(value);
+			} else if (type.equals("float")) {
+				converted = Float.valueOf(value);
+			} else if (type.equals("bool")) {
+				converted = Boolean.valueOf(value);
+			} else if (type.equals("color")) {
+				converted = tiledColor(value);
+			} else {
+				throw error("property " + name + " has unsupported type " + type);
+			}
+			into.addAll(name, converted);
+		}
+	}
+
+	/**
+	 * Helper method to write name and value pairs with a type tag per value.
+	 */
+	private static void writeProperties(DataOutputStream out, Array<Object> properties) throws IOException {
+		out.writeShort(properties.size / 2);
+		for (int i = 0; i < properties.size; i += 2) {
+			writeString(out, (String) properties.get(i));
+			Object value = properties.get(i + 1);
+			if (value instanceof Integer) {
+				out.writeByte(CompiledMapLoader.PROPERTY_INT);
+				out.writeInt((Integer) value);
+			} else if (value instanceof Float) {
+				out.writeByte(CompiledMapLoader.PROPERTY_FLOAT);
+				out.writeFloat((Float) value);
+			} else if (value instanceof Boolean) {
+				out.writeByte(CompiledMapLoader.PROPERTY_BOOL);
+				out.writeByte((Boolean) value ? 1 : 0);
+			} else if (value instanceof Color) {
+				out.writeByte(CompiledMapLoader.PROPERTY_COLOR);
+				out.writeInt(Color.rgba8888((Color) value));
+			} else {
+				out.writeByte(CompiledMapLoader.PROPERTY_STRING);
+				writeString(out, value != null ? value.toString() : null);
+			}
+		}
+	}
+
+	/**
+	 * Helper method to write a length prefixed UTF-8 string, or a length of -1 for
+	 * null.
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Helper method to convert a Tiled colour, #AARRGGBB or #RRGGBB, to a
+	 * <code> Color </code>.
+	 */
+	private static Color tiledColor(String tiledColor) {
+		String alpha = tiledColor.length() == 9 ? tiledColor.substring(1, 3) : "ff";
+		String rgb = tiledColor.substring(tiledColor.length() - 6);
+		return Color.valueOf(rgb + alpha);
+	}
+
+	/**
+	 * Helper method to give the path of a file relative to the assets folder, the
+	 * way the game opens it with <code> Gdx.files.internal </code>.
+	 */
+	private String assetPath(Path file) {
+		Path relative = assetsRoot.relativize(file.toAbsolutePath().normalize());
+		if (relative.startsWith("..")) {
+			throw error(file + " is outside the assets folder");
+		}
+		return relative.toString().replace('\\', '/');
+	}
+
+	/**
+	 * Helper method to parse an XML file.
+	 */
+	private Element parse(Path file) throws IOException {
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return xml.parse(reader);
+		}
+	}
+
+	/**
+	 * Helper method to return true for the elements that make up map layers.
+	 */
+	private boolean isLayer(Element element) {
+		String name = element.getName();
+		if (name.equals("imagelayer")) {
+			throw error("image layers are not supported");
+		}
+		return name.equals("layer") || name.equals("objectgroup") || name.equals("group");
+	}
+
+	/**
+	 * Helper method to build an exception naming the map being compiled.
+	 */
+	private GdxRuntimeException error(String message) {
+		return new GdxRuntimeException("Cannot compile " + tmxFile + ": " + message);
+	}
+}
@@ -27,10 +27,10 @@ public class TutorialScreen implements Screen {
         this.game = game;
         camera = new OrthographicCamera();
         camera.setToOrtho(false, MENU_WIDTH, MENU_HEIGHT);
-        batch = new SpriteBatch();
+        batch = game.getRenderContext().getBatch();
 
-        //load the tutorial screen image
-        tutorialImage = new Texture("Tutorial_how_to_play.png");
+        //the tutorial screen image is loaded once and kept by the game's assets
+        tutorialImage = game.getAssets().getTutorialImage();
 
         viewport = new FitViewport(MENU_WIDTH, MENU_HEIGHT, camera);
     }
@@ -48,9 +48,9 @@ public class TutorialScreen implements Screen {
         batch.draw(tutorialImage, 0, 0, MENU_WIDTH, MENU_HEIGHT);
         batch.end();
 
-        //once space bar is pressed load the maze game
+        //once space bar is pressed load the maze game, waiting for its assets if they are still loading
         if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-		    game.setScreen(new GameScreen(game));
+		    game.getScreens().startGame();
         } else if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
 		    Gdx.app.exit(); //user can go back to the start menu if they choose
 		}
@@ -62,10 +62,7 @@ public class TutorialScreen implements Screen {
     }
 
     @Override
-    public void dispose() {
-        batch.dispose();
-        tutorialImage.dispose();
-    }
+    public void dispose() {}
 
     @Override
     public void show(){} //show main menu screen
@@ -23,6 +23,7 @@ public class WinScreen implements Screen {
 	private int finalScore;
 	private int timeRemaining;
 	private int timesCaught;
+	private final InputRecording run;
 
 	/**
 	 * Constructor for <code> WinScreen </code>, using the game creator in
@@ -31,19 +32,20 @@ public class WinScreen implements Screen {
 	 * @param finalScore The calculated final score
 	 * @param timeRemaining Time remaining in seconds
 	 * @param timesCaught Number of times the player is caught by the dean
+	 * @param run Recording of the round, which the leaderboard verifies the score with
 	 */
-	public WinScreen(MyGame game, int finalScore, int timeRemaining, int timesCaught) {
+	public WinScreen(MyGame game, int finalScore, int timeRemaining, int timesCaught, InputRecording run) {
 		this.game = game;
 		this.finalScore = finalScore;
 		this.timeRemaining = timeRemaining;
 		this.timesCaught = timesCaught;
+		this.run = run;
 
 		camera = new OrthographicCamera();
 		camera.setToOrtho(false, 640, 480);
 
-		batch = new SpriteBatch();
-		font = new BitmapFont();
-		font.getData().setScale(2.5f);
+		batch = game.getRenderContext().getBatch();
+		font = game.getRenderContext().getTitleFont();
 	}
 
 	/**
@@ -62,28 +64,26 @@ public class WinScreen implements Screen {
 		batch.begin();
 		font.draw(batch, "You Win!", 250, 350);
 		font.draw(batch, "Final Score = " + finalScore, 188, 310);
-		font.draw(batch, "Dean Penalty = " + timesCaught * 5, 188, 270);
+		font.draw(batch, "Dean Penalty = " + timesCaught * GameRules.DEFAULT.caughtPenalty, 188, 270);
 		font.draw(batch, "Press L to view Leaderboard", 100, 190);
 		font.draw(batch, "Press SPACE to return to menu", 100, 150);
 		batch.end();
 
 		if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-		    game.setScreen(new MenuScreen(game));
+		    game.getScreens().showMenu();
 		}
 		if (Gdx.input.isKeyJustPressed(Input.Keys.L)) {
-		    game.setScreen(new LeaderBoard(game, finalScore));
+		    game.getScreens().showLeaderBoard(run);
 		}
 	}
 
    	/**
-	 * Dispose win menu assets when menu is exited or program is quit. 
+	 * Nothing to dispose, as the batch and font are borrowed from the game's
+	 * render context.
 	 * @see com.badlogic.gdx.Screen#dispose Screen.dispose().
 	 */ 
 	@Override
-	public void dispose() {
-		batch.dispose();
-		font.dispose();
-	}
+	public void dispose() {}
 	
 	/** Unimplemented */
 	@Override
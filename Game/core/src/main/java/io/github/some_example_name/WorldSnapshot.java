@@ -0,0 +1,61 @@
+package io.github.some_example_name;
+
+/**
+ * <code> WorldSnapshot </code> is everything <code> GameScreen </code> needs to
+ * draw a frame, copied out of the world after a simulation step so the render
+ * thread never reads the world while it is being updated.
+ * @see SnapshotBuffer
+ */
+public class WorldSnapshot {
+	/** Number of steps simulated when the snapshot was taken. */
+	public long step;
+	/** Time the snapshot was taken, from <code> System.nanoTime() </code>. */
+	public long timeNanos;
+	/** Horizontal world position of each entity, by its index. */
+	public final float[] x;
+	/** Vertical world position of each entity, by its index. */
+	public final float[] y;
+	/** Horizontal world position of each entity before the last step. */
+	public final float[] previousX;
+	/** Vertical world position of each entity before the last step. */
+	public final float[] previousY;
+	/** Time left in the round, in seconds. */
+	public float timeLeft;
+	/** Times the dean has caught the player. */
+	public int timesCaught;
+	/** Score the round would end with now. */
+	public int score;
+	/** How the round has ended, such as {@link GameWorld#PLAYING}. */
+	public int outcome;
+	/** True if the game is paused. */
+	public boolean paused;
+	/** True if the player is next to the bus ticket. */
+	public boolean canPickUpTicket;
+	/** True if the player is at the bus with the ticket. */
+	public boolean canEndGame;
+	/** True if the player has the bus ticket. */
+	public boolean ticketCollected;
+	/** True if the locker's speed boost is active. */
+	public boolean boostActive;
+	/** True if the best run's ghost is drawn. */
+	public boolean ghost;
+	/** Horizontal world position of the ghost. */
+	public float ghostX;
+	/** Vertical world position of the ghost. */
+	public float ghostY;
+	/** Horizontal world position of the ghost before the last step. */
+	public float ghostPreviousX;
+	/** Vertical world position of the ghost before the last step. */
+	public float ghostPreviousY;
+
+	/**
+	 * Constructor for <code> WorldSnapshot </code>.
+	 * @param entities Number of entities with a position.
+	 */
+	public WorldSnapshot(int entities) {
+		x = new float[entities];
+		y = new float[entities];
+		previousX = new float[entities];
+		previousY = new float[entities];
+	}
+}
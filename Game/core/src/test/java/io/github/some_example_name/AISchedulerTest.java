@@ -0,0 +1,91 @@
+package io.github.some_example_name;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AISchedulerTest {
+  private static final float FRAME = 1 / 60f;
+
+  /** Clock moved on by the agents themselves, so each update takes a known time. */
+  private long now;
+  private final List<String> order = new ArrayList<>();
+
+  private AIScheduler.Agent agent(String name, long costNanos) {
+    return delta -> {
+      order.add(name);
+      now += costNanos;
+    };
+  }
+
+  @Test
+  void runsHigherPriorityThenNearerAgentsFirst() {
+    AIScheduler scheduler = new AIScheduler(1f, () -> now);
+    scheduler.register(agent("far", 0), new Vector2(600, 0), AIScheduler.PRIORITY_NORMAL, AIScheduler.EVERY_FRAME);
+    scheduler.register(agent("low", 0), new Vector2(0, 0), AIScheduler.PRIORITY_LOW, AIScheduler.EVERY_FRAME);
+    scheduler.register(agent("near", 0), new Vector2(10, 0), AIScheduler.PRIORITY_NORMAL, AIScheduler.EVERY_FRAME);
+    scheduler.register(agent("dean", 0), new Vector2(900, 0), AIScheduler.PRIORITY_HIGH, AIScheduler.EVERY_FRAME);
+
+    scheduler.update(FRAME, 0, 0);
+    assertEquals(Arrays.asList("dean", "near", "far", "low"), order);
+    assertEquals(4, scheduler.getUpdatesRun());
+    assertEquals(0, scheduler.getUpdatesDeferred());
+  }
+
+  @Test
+  void defersWhatDoesNotFitAndCatchesUpRoundRobin() {
+    // each update takes 0.4ms against a 1ms budget, so three fit in a frame
+    AIScheduler scheduler = new AIScheduler(1f, () -> now);
+    List<AIScheduler.Agent> agents = new ArrayList<>();
+    for (int i = 0; i < 9; i++) {
+      AIScheduler.Agent agent = agent("agent " + i, 400000L);
+      agents.add(agent);
+      scheduler.register(agent, new Vector2(i * 100, 0), AIScheduler.PRIORITY_NORMAL, AIScheduler.EVERY_FRAME);
+    }
+
+    scheduler.update(FRAME, 0, 0);
+    assertEquals(3, scheduler.getUpdatesRun());
+    assertEquals(6, scheduler.getUpdatesDeferred());
+    assertEquals(Arrays.asList("agent 0", "agent 1", "agent 2"), order);
+
+    for (int frame = 0; frame < 30; frame++) {
+      scheduler.update(FRAME, 0, 0);
+    }
+    // nearer agents run more often, but none is starved
+    for (AIScheduler.Agent agent : agents) {
+      assertTrue(scheduler.getStaleness(agent) < 10 * FRAME, "staleness " + scheduler.getStaleness(agent));
+    }
+    assertTrue(scheduler.getMaxStaleness() >= FRAME);
+    assertTrue(order.stream().filter("agent 0"::equals).count() > order.stream().filter("agent 8"::equals).count());
+  }
+
+  @Test
+  void alwaysRunsOneAgentOverBudget() {
+    AIScheduler scheduler = new AIScheduler(0f, () -> now);
+    scheduler.register(agent("slow", 5000000L), new Vector2(), AIScheduler.PRIORITY_NORMAL, AIScheduler.EVERY_FRAME);
+    scheduler.register(agent("other", 0), new Vector2(), AIScheduler.PRIORITY_LOW, AIScheduler.EVERY_FRAME);
+
+    scheduler.update(FRAME, 0, 0);
+    assertEquals(Arrays.asList("slow"), order);
+    assertEquals(1, scheduler.getUpdatesDeferred());
+  }
+
+  @Test
+  void keepsToTargetRateAndPassesTimeSinceLastUpdate() {
+    AIScheduler scheduler = new AIScheduler(1f, () -> now);
+    List<Float> deltas = new ArrayList<>();
+    scheduler.register(deltas::add, new Vector2(), AIScheduler.PRIORITY_NORMAL, 10f);
+
+    for (int frame = 0; frame < 60; frame++) {
+      scheduler.update(FRAME, 0, 0);
+    }
+    assertEquals(10f, deltas.size(), 1f);
+    for (int i = 1; i < deltas.size(); i++) {
+      assertEquals(0.1f, deltas.get(i), FRAME);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prints how many ticks a second the rules run at on every map in assets/Tile Maps,
+ * with the bot playing whole rounds headless, and how the bot does on each. Maps
+ * with no ticket or bus are played until the time runs out.
+ * Run with ./gradlew :core:benchmark
+ */
+@Tag("benchmark")
+class AutoplayBenchmarkTest {
+  private static final int ROUNDS = 10;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  @Test
+  void ticksPerSecondOnEveryMap() {
+    for (FileHandle file : Gdx.files.internal("Tile Maps").list(".tmx")) {
+      TiledMap map = new PlaceholderTmxMapLoader().load(file.path());
+      GameWorld world = GameWorld.headless(map);
+      map.dispose();
+      AutoplayBot bot = new AutoplayBot(true);
+
+      // warm up before timing
+      bot.playRound(world);
+      long steps = 0;
+      int won = 0;
+      int caught = 0;
+      long start = System.nanoTime();
+      for (int round = 0; round < ROUNDS; round++) {
+        world.reset();
+        bot.reset();
+        if (bot.playRound(world) == GameWorld.WON) {
+          won++;
+        }
+        steps += world.getSteps();
+        caught += world.getTimesCaught();
+      }
+      double seconds = (System.nanoTime() - start) / 1e9;
+      System.out.printf("%-55s %8.0f ticks/s, %5d steps a round, won %d/%d, caught %.1f times a round%n",
+        file.name(), steps / seconds, steps / ROUNDS, won, ROUNDS, caught / (float) ROUNDS);
+    }
+  }
+}
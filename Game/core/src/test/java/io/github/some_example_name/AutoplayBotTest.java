@@ -0,0 +1,79 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoplayBotTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  @Test
+  void winsAnOpenMapWithTheBoost() {
+    CollisionGrid grid = new CollisionGrid(40, 40, 16, 16);
+    GameWorld world = GameWorld.headless(grid, new Rectangle(300, 200, 16, 16), new Rectangle(400, 100, 40, 40));
+    AutoplayBot bot = new AutoplayBot(true);
+
+    assertEquals(GameWorld.WON, bot.playRound(world));
+    assertTrue(world.getLocker().isSearched(), "searched the locker first");
+    assertTrue(world.getBusTicket().isCollected());
+  }
+
+  @Test
+  void walksAroundWallsToTheTicket() {
+    CollisionGrid grid = new CollisionGrid(40, 40, 16, 16);
+    // a wall between the start and the ticket, with a gap at the top
+    for (int y = 0; y < 30; y++) {
+      grid.setBlocked(15, y, true);
+    }
+    GameWorld world = GameWorld.headless(grid, new Rectangle(400, 70, 16, 16), new Rectangle(100, 100, 40, 40));
+    AutoplayBot bot = new AutoplayBot(false);
+
+    assertEquals(GameWorld.WON, bot.playRound(world));
+    assertFalse(world.getLocker().isSearched());
+  }
+
+  @Test
+  void winsTheGameMap() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    GameWorld world = GameWorld.headless(map);
+    AutoplayBot bot = new AutoplayBot(true);
+
+    assertEquals(GameWorld.WON, bot.playRound(world), "caught " + world.getTimesCaught() + " times");
+    assertTrue(world.calculateFinalScore() > 0);
+
+    // the bot only reads the world, so a second round plays out the same
+    int steps = (int) world.getSteps();
+    int caught = world.getTimesCaught();
+    world.reset();
+    bot.reset();
+    assertEquals(GameWorld.WON, bot.playRound(world));
+    assertEquals(steps, world.getSteps());
+    assertEquals(caught, world.getTimesCaught());
+  }
+
+  @Test
+  void unpausesAndStaysAwayFromTheDean() {
+    CollisionGrid grid = new CollisionGrid(40, 40, 16, 16);
+    GameWorld world = GameWorld.headless(grid, null, null);
+    world.step(GameWorld.PAUSE);
+    assertTrue(world.isPaused());
+    AutoplayBot bot = new AutoplayBot(false);
+    for (int i = 0; i < 4 && world.isPaused(); i++) {
+      world.step(bot.nextKeys(world));
+    }
+    assertFalse(world.isPaused());
+
+    // with nothing to head for, the bot backs away from a dean next to it
+    Vector2 dean = world.getChasers().get(0).getComponent(PositionComponent.class).position;
+    dean.set(GameWorld.PLAYER_X + 40, GameWorld.PLAYER_Y);
+    int keys = bot.nextKeys(world);
+    assertNotEquals(0, keys & GameWorld.LEFT);
+    assertEquals(0, keys & GameWorld.RIGHT);
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.some_example_name;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prints a balancing sweep over the game's map: how the dean's speed, the boost's
+ * length, where the dean is sent after a catch and the catch penalty change win
+ * rates, scores and catches, and how much faster the sweep plays on every core
+ * than on one. Raise ROUNDS for a sweep worth tuning by.
+ * Run with ./gradlew :core:benchmark
+ */
+@Tag("benchmark")
+class BalanceBenchmarkTest {
+  private static final int ROUNDS = 32;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  @Test
+  void sweepTheRules() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    CollisionGrid grid = CollisionGrid.forMap(map);
+    Array<GameRules> sweep = BalanceHarness.combinations(
+      new float[] { 0.5f, 0.7f, 0.9f },
+      new float[] { 5, 10 },
+      new float[][] { { 384, 400 }, { 96, 450 } },
+      new int[] { 5 });
+
+    ForkJoinPool one = new ForkJoinPool(1);
+    BalanceHarness single = new BalanceHarness(grid, GameWorld.findEvent(map, "BusTicket"),
+      GameWorld.findEvent(map, "Bus"), one, 0.2f);
+    BalanceHarness parallel = new BalanceHarness(grid, GameWorld.findEvent(map, "BusTicket"),
+      GameWorld.findEvent(map, "Bus"), ForkJoinPool.commonPool(), 0.2f);
+    map.dispose();
+
+    // warm up before timing
+    parallel.sweep(sweep, 4, 0);
+    long start = System.nanoTime();
+    Array<BalanceHarness.Result> results = single.sweep(sweep, ROUNDS, 1);
+    double singleSeconds = (System.nanoTime() - start) / 1e9;
+    start = System.nanoTime();
+    Array<BalanceHarness.Result> again = parallel.sweep(sweep, ROUNDS, 1);
+    double parallelSeconds = (System.nanoTime() - start) / 1e9;
+    one.shutdown();
+
+    long steps = 0;
+    for (int i = 0; i < results.size; i++) {
+      System.out.println(results.get(i));
+      steps += results.get(i).getSteps();
+      if (!results.get(i).equals(again.get(i))) {
+        throw new AssertionError("results differ between one thread and many: " + again.get(i));
+      }
+    }
+    System.out.printf("%d rounds, %d steps: %.2f s on 1 thread, %.2f s on %d (%.1fx)%n",
+      sweep.size * ROUNDS, steps, singleSeconds, parallelSeconds, ForkJoinPool.commonPool().getParallelism(),
+      singleSeconds / parallelSeconds);
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.some_example_name;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceHarnessTest {
+  private static CollisionGrid grid;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+    grid = new CollisionGrid(40, 40, 16, 16);
+    for (int y = 0; y < 30; y++) {
+      grid.setBlocked(15, y, true);
+    }
+  }
+
+  private static BalanceHarness harness(ForkJoinPool pool) {
+    return new BalanceHarness(grid, new Rectangle(400, 70, 16, 16), new Rectangle(100, 100, 40, 40), pool, 0.3f);
+  }
+
+  @Test
+  void sameResultsOnOneThreadOrMany() {
+    ForkJoinPool one = new ForkJoinPool(1);
+    ForkJoinPool four = new ForkJoinPool(4);
+    try {
+      BalanceHarness.Result single = harness(one).run(GameRules.DEFAULT, 40, 7);
+      BalanceHarness.Result parallel = harness(four).run(GameRules.DEFAULT, 40, 7);
+      assertEquals(40, single.getRounds());
+      assertEquals(single, parallel);
+      assertEquals(single, harness(four).run(GameRules.DEFAULT, 40, 7), "same again on another run");
+      assertNotEquals(single, harness(four).run(GameRules.DEFAULT, 40, 8), "another seed plays other rounds");
+    } finally {
+      one.shutdown();
+      four.shutdown();
+    }
+  }
+
+  @Test
+  void sweepReportsEveryCombinationInOrder() {
+    Array<GameRules> sweep = BalanceHarness.combinations(
+      new float[] { 0.5f, 0.9f }, new float[] { 10 }, new float[][] { { 390, 400 }, { 100, 500 } }, new int[] { 0, 50 });
+    assertEquals(8, sweep.size);
+
+    Array<BalanceHarness.Result> results = harness(ForkJoinPool.commonPool()).sweep(sweep, 12, 1);
+    assertEquals(8, results.size);
+    for (int i = 0; i < sweep.size; i++) {
+      BalanceHarness.Result result = results.get(i);
+      assertSame(sweep.get(i), result.getRules());
+      assertEquals(12, result.getRounds());
+      int histogram = 0;
+      for (int count : result.getCaughtHistogram()) {
+        histogram += count;
+      }
+      assertEquals(12, histogram);
+    }
+
+    // the penalty only changes the score, not how the rounds play
+    BalanceHarness.Result free = results.get(0);
+    BalanceHarness.Result costly = results.get(1);
+    assertEquals(free.getWins(), costly.getWins());
+    assertEquals(free.getSteps(), costly.getSteps());
+    assertEquals(free.getMeanTimesCaught(), costly.getMeanTimesCaught());
+    assertTrue(free.getScorePercentile(50) >= costly.getScorePercentile(50));
+  }
+
+  @Test
+  void resultsMergeIntoNewOnes() {
+    BalanceHarness.Result a = harness(ForkJoinPool.commonPool()).run(GameRules.DEFAULT, 5, 3);
+    BalanceHarness.Result b = harness(ForkJoinPool.commonPool()).run(GameRules.DEFAULT, 5, 4);
+    BalanceHarness.Result merged = a.merge(b);
+    assertEquals(10, merged.getRounds());
+    assertEquals(a.getWins() + b.getWins(), merged.getWins());
+    assertEquals(5, a.getRounds(), "merging leaves both sides alone");
+    assertEquals(-1, new BalanceHarness.Result(GameRules.DEFAULT).getScorePercentile(50));
+  }
+}
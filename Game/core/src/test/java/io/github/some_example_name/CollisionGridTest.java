@@ -0,0 +1,99 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionGridTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** The layer scan GameScreen.isCellBlocked used before CollisionGrid. */
+  private static boolean scanLayers(TiledMap tiledMap, float x, float y) {
+    for (int i = 0; i < tiledMap.getLayers().getCount(); i++) {
+      if (tiledMap.getLayers().get(i) instanceof TiledMapTileLayer) {
+        TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(i);
+        int tileX = (int) ((x + 8) / layer.getTileWidth());
+        int tileY = (int) ((y + 8) / layer.getTileHeight());
+        TiledMapTileLayer.Cell cell = layer.getCell(tileX, tileY);
+        if (cell != null && cell.getTile() != null) {
+          if (cell.getTile().getProperties().containsKey("collidable") || layer.getProperties().containsKey("collidable")) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  @Test
+  void matchesLayerScanOnEveryMap() {
+    FileHandle[] maps = Gdx.files.internal("Tile Maps").list(".tmx");
+    assertTrue(maps.length > 0, "no maps found in assets/Tile Maps");
+
+    for (FileHandle file : maps) {
+      TiledMap map = new PlaceholderTmxMapLoader().load(file.path());
+      CollisionGrid grid = new CollisionGrid(map);
+      int blocked = 0;
+
+      // one tile of margin on every side also checks out of bounds behaviour
+      for (int tileY = -1; tileY <= grid.getHeight(); tileY++) {
+        for (int tileX = -1; tileX <= grid.getWidth(); tileX++) {
+          float x = tileX * grid.getTileWidth() - 8;
+          float y = tileY * grid.getTileHeight() - 8;
+          boolean expected = scanLayers(map, x, y);
+          assertEquals(expected, grid.isBlockedAt(x, y), file.name() + " at tile " + tileX + "," + tileY);
+          if (grid.inBounds(tileX, tileY)) {
+            assertEquals(expected, grid.isBlocked(tileX, tileY), file.name() + " at tile " + tileX + "," + tileY);
+          }
+          if (expected) {
+            blocked++;
+          }
+        }
+      }
+      map.dispose();
+      if (file.name().equals("Final Game Map - Maze.tmx")) {
+        assertTrue(blocked > 0, "maze map should have collidable tiles");
+      }
+    }
+  }
+
+  @Test
+  void rebuildPicksUpEditedCells() {
+    TiledMap map = new PlaceholderTmxMapLoader().load("Tile Maps/Final Game Map - Maze.tmx");
+    CollisionGrid grid = new CollisionGrid(map);
+    TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get("maze walls separate from path");
+
+    int freeX = -1;
+    int freeY = -1;
+    for (int y = 0; y < grid.getHeight() && freeX < 0; y++) {
+      for (int x = 0; x < grid.getWidth(); x++) {
+        if (!grid.isBlocked(x, y)) {
+          freeX = x;
+          freeY = y;
+          break;
+        }
+      }
+    }
+    assertTrue(freeX >= 0);
+
+    TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+    cell.setTile(map.getTileSets().getTile(1));
+    layer.setCell(freeX, freeY, cell);
+    assertFalse(grid.isBlocked(freeX, freeY));
+
+    grid.refreshTile(freeX, freeY);
+    assertTrue(grid.isBlocked(freeX, freeY));
+
+    layer.setCell(freeX, freeY, null);
+    grid.rebuild();
+    assertFalse(grid.isBlocked(freeX, freeY));
+    map.dispose();
+  }
+}
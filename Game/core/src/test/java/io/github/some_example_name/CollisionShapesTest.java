@@ -0,0 +1,79 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionShapesTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** Check the rectangles cover every blocked tile once and nothing else. */
+  private static void assertCoversExactly(CollisionGrid grid, CollisionShapes shapes, String name) {
+    int[] cover = new int[grid.getWidth() * grid.getHeight()];
+    for (Rectangle rectangle : shapes.getRectangles()) {
+      int left = (int) (rectangle.x / grid.getTileWidth());
+      int bottom = (int) (rectangle.y / grid.getTileHeight());
+      int right = left + (int) (rectangle.width / grid.getTileWidth());
+      int top = bottom + (int) (rectangle.height / grid.getTileHeight());
+      for (int y = bottom; y < top; y++) {
+        for (int x = left; x < right; x++) {
+          cover[y * grid.getWidth() + x]++;
+        }
+      }
+    }
+    int cells = 0;
+    for (int y = 0; y < grid.getHeight(); y++) {
+      for (int x = 0; x < grid.getWidth(); x++) {
+        int expected = grid.isBlocked(x, y) ? 1 : 0;
+        cells += expected;
+        assertEquals(expected, cover[y * grid.getWidth() + x], name + " at tile " + x + "," + y);
+      }
+    }
+    assertEquals(cells, shapes.getCellCount());
+  }
+
+  @Test
+  void mergesWallsAndBlocks() {
+    CollisionGrid grid = new CollisionGrid(10, 10, 16, 16);
+    // a wall along the bottom row, a 3x2 block and an L
+    for (int x = 0; x < 10; x++) {
+      grid.setBlocked(x, 0, true);
+    }
+    for (int y = 3; y < 5; y++) {
+      for (int x = 1; x < 4; x++) {
+        grid.setBlocked(x, y, true);
+      }
+    }
+    for (int y = 6; y < 10; y++) {
+      grid.setBlocked(7, y, true);
+    }
+    grid.setBlocked(8, 6, true);
+
+    CollisionShapes shapes = new CollisionShapes(grid);
+    assertCoversExactly(grid, shapes, "grid");
+    assertEquals(4, shapes.getRectangles().size);
+    assertEquals(new Rectangle(0, 0, 160, 16), shapes.getRectangles().get(0));
+    assertEquals(new Rectangle(16, 48, 48, 32), shapes.getRectangles().get(1));
+    assertEquals(21, shapes.getCellCount());
+  }
+
+  @Test
+  void coversEveryMapWithFewerShapes() {
+    for (FileHandle file : Gdx.files.internal("Tile Maps").list(".tmx")) {
+      TiledMap map = new PlaceholderTmxMapLoader().load(file.path());
+      CollisionGrid grid = CollisionGrid.forMap(map);
+      CollisionShapes shapes = CollisionShapes.forMap(map);
+      assertSame(shapes, CollisionShapes.forMap(map));
+      assertCoversExactly(grid, shapes, file.name());
+      assertTrue(shapes.getRectangles().size <= shapes.getCellCount());
+      map.dispose();
+    }
+  }
+}
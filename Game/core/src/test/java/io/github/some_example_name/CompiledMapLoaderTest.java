@@ -0,0 +1,192 @@
+package io.github.some_example_name;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.AbsoluteFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledMapLoaderTest {
+  @TempDir
+  Path tempDir;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** Compares properties, apart from the collision grid kept in map properties. */
+  private static void assertSameProperties(MapProperties expected, MapProperties actual, String where) {
+    int count = 0;
+    for (Iterator<String> keys = expected.getKeys(); keys.hasNext(); count++) {
+      String key = keys.next();
+      if (key.equals(CompiledMapLoader.COLLISION_GRID)) {
+        count--;
+        continue;
+      }
+      assertTrue(actual.containsKey(key), where + " is missing property " + key);
+      assertEquals(expected.get(key), actual.get(key), where + " property " + key);
+    }
+    int actualCount = 0;
+    for (Iterator<String> keys = actual.getKeys(); keys.hasNext(); ) {
+      if (!keys.next().equals(CompiledMapLoader.COLLISION_GRID)) {
+        actualCount++;
+      }
+    }
+    assertEquals(count, actualCount, where + " property count");
+  }
+
+  private static void assertSameLayer(MapLayer expected, MapLayer actual, String where) {
+    assertEquals(expected.getClass(), actual.getClass(), where);
+    assertEquals(expected.isVisible(), actual.isVisible(), where);
+    assertEquals(expected.getOpacity(), actual.getOpacity(), where);
+    assertEquals(expected.getOffsetX(), actual.getOffsetX(), where);
+    assertEquals(expected.getOffsetY(), actual.getOffsetY(), where);
+    assertEquals(expected.getTintColor(), actual.getTintColor(), where);
+    assertSameProperties(expected.getProperties(), actual.getProperties(), where);
+
+    if (expected instanceof TiledMapTileLayer) {
+      TiledMapTileLayer expectedTiles = (TiledMapTileLayer) expected;
+      TiledMapTileLayer actualTiles = (TiledMapTileLayer) actual;
+      assertEquals(expectedTiles.getWidth(), actualTiles.getWidth(), where);
+      assertEquals(expectedTiles.getHeight(), actualTiles.getHeight(), where);
+      for (int y = 0; y < expectedTiles.getHeight(); y++) {
+        for (int x = 0; x < expectedTiles.getWidth(); x++) {
+          TiledMapTileLayer.Cell want = expectedTiles.getCell(x, y);
+          TiledMapTileLayer.Cell got = actualTiles.getCell(x, y);
+          String cell = where + " cell " + x + "," + y;
+          assertEquals(want == null, got == null, cell);
+          if (want != null) {
+            assertEquals(want.getTile().getId(), got.getTile().getId(), cell);
+            assertEquals(want.getFlipHorizontally(), got.getFlipHorizontally(), cell);
+            assertEquals(want.getFlipVertically(), got.getFlipVertically(), cell);
+            assertEquals(want.getRotation(), got.getRotation(), cell);
+          }
+        }
+      }
+    }
+
+    assertEquals(expected.getObjects().getCount(), actual.getObjects().getCount(), where);
+    for (int i = 0; i < expected.getObjects().getCount(); i++) {
+      MapObject want = expected.getObjects().get(i);
+      MapObject got = actual.getObjects().get(i);
+      String object = where + " object " + want.getName();
+      assertEquals(want.getName(), got.getName(), object);
+      assertEquals(((RectangleMapObject) want).getRectangle(), ((RectangleMapObject) got).getRectangle(), object);
+      assertSameProperties(want.getProperties(), got.getProperties(), object);
+    }
+  }
+
+  @Test
+  void compiledMapsMatchTmxMaps() throws IOException {
+    TmxCompiler compiler = new TmxCompiler(Paths.get(""));
+    FileHandle[] maps = Gdx.files.internal("Tile Maps").list(".tmx");
+    assertTrue(maps.length > 0, "no maps found in assets/Tile Maps");
+
+    for (FileHandle file : maps) {
+      Path compiled = tempDir.resolve(CompiledMapLoader.compiledPath(file.name()));
+      Files.write(compiled, compiler.compile(Paths.get(file.path())));
+
+      TiledMap tmx = new PlaceholderTmxMapLoader().load(file.path());
+      CompiledMapLoader loader = new PlaceholderCompiledMapLoader();
+      TiledMap binary = loader.load(Gdx.files.absolute(compiled.toString()));
+
+      assertSameProperties(tmx.getProperties(), binary.getProperties(), file.name());
+
+      int tileSets = 0;
+      for (TiledMapTileSet tileSet : tmx.getTileSets()) {
+        TiledMapTileSet other = binary.getTileSets().getTileSet(tileSets++);
+        assertEquals(tileSet.getName(), other.getName(), file.name());
+        assertEquals(tileSet.size(), other.size(), file.name() + " tileset " + tileSet.getName());
+        assertSameProperties(tileSet.getProperties(), other.getProperties(), file.name() + " tileset " + tileSet.getName());
+      }
+      int binaryTileSets = 0;
+      for (TiledMapTileSet ignored : binary.getTileSets()) {
+        binaryTileSets++;
+      }
+      assertEquals(tileSets, binaryTileSets, file.name() + " tileset count");
+
+      assertEquals(tmx.getLayers().getCount(), binary.getLayers().getCount(), file.name());
+      for (int i = 0; i < tmx.getLayers().getCount(); i++) {
+        MapLayer layer = tmx.getLayers().get(i);
+        assertEquals(layer.getName(), binary.getLayers().get(i).getName());
+        assertSameLayer(layer, binary.getLayers().get(i), file.name() + " layer " + layer.getName());
+      }
+
+      CollisionGrid expected = new CollisionGrid(tmx);
+      CollisionGrid actual = CollisionGrid.forMap(binary);
+      assertEquals(expected.getWidth(), actual.getWidth(), file.name());
+      assertEquals(expected.getHeight(), actual.getHeight(), file.name());
+      for (int y = 0; y < expected.getHeight(); y++) {
+        for (int x = 0; x < expected.getWidth(); x++) {
+          assertEquals(expected.isBlocked(x, y), actual.isBlocked(x, y), file.name() + " at tile " + x + "," + y);
+        }
+      }
+
+      tmx.dispose();
+      binary.dispose();
+    }
+  }
+
+  @Test
+  void loadsThroughAssetManager() throws IOException {
+    String tmxPath = "Tile Maps/Final Game Map - Maze.tmx";
+    Path compiled = tempDir.resolve("maze" + CompiledMapLoader.EXTENSION);
+    Files.write(compiled, new TmxCompiler(Paths.get("")).compile(Paths.get(tmxPath)));
+
+    // absolute paths for the map, while its relative image paths resolve against the assets folder
+    AssetManager manager = new AssetManager(new AbsoluteFileHandleResolver());
+    manager.setLoader(TiledMap.class, CompiledMapLoader.EXTENSION, new CompiledMapLoader(manager.getFileHandleResolver()));
+    manager.load(compiled.toString(), TiledMap.class);
+    manager.finishLoading();
+
+    TiledMap map = manager.get(compiled.toString(), TiledMap.class);
+    TiledMap tmx = new TmxMapLoader().load(tmxPath);
+    assertEquals(tmx.getLayers().getCount(), map.getLayers().getCount());
+    assertNotNull(map.getProperties().get(CompiledMapLoader.COLLISION_GRID));
+    assertSame(map.getProperties().get(CompiledMapLoader.COLLISION_GRID), CollisionGrid.forMap(map));
+
+    int textures = 0;
+    for (TiledMapTileSet tileSet : map.getTileSets()) {
+      Texture texture = tileSet.getTile(tileSet.iterator().next().getId()).getTextureRegion().getTexture();
+      assertTrue(manager.isLoaded(manager.getAssetFileName(texture)), tileSet.getName());
+      textures++;
+    }
+    assertTrue(textures > 0);
+
+    tmx.dispose();
+    manager.dispose();
+    assertFalse(manager.isLoaded(compiled.toString()));
+  }
+
+  @Test
+  void rejectsFilesThatAreNotCompiledMaps() {
+    assertThrows(GdxRuntimeException.class,
+      () -> new CompiledMapLoader().load("Tile Maps/Final Game Map - Maze.tmx"));
+  }
+
+  @Test
+  void compiledPathReplacesExtension() {
+    assertEquals("Tile Maps/Final Game Map - Maze.tmb", CompiledMapLoader.compiledPath("Tile Maps/Final Game Map - Maze.tmx"));
+    assertEquals("maps.v2/level.tmb", CompiledMapLoader.compiledPath("maps.v2/level"));
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prints how many chasers a <code> Crowd </code> moves per millisecond on the maze
+ * map, for hordes of 1,000 to 100,000, with the player standing still so only the
+ * crowd's own update is timed. Run with ./gradlew :core:benchmark
+ */
+@Tag("benchmark")
+class CrowdBenchmarkTest {
+  private static final int[] AGENT_COUNTS = { 1000, 10000, 100000 };
+  private static final int WARMUP = 60;
+  private static final int FRAMES = 120;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  @Test
+  void agentsPerMillisecond() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    CollisionGrid grid = new CollisionGrid(map);
+    map.dispose();
+    FlowField field = new FlowField(grid);
+    field.update(145, 70);
+
+    System.out.printf("%-8s %14s %14s%n", "agents", "frame (ms)", "agents per ms");
+    for (int agents : AGENT_COUNTS) {
+      Crowd crowd = new Crowd(grid, agents);
+      Random rng = new Random(9);
+      while (crowd.size() < agents) {
+        int tileX = rng.nextInt(grid.getWidth());
+        int tileY = rng.nextInt(grid.getHeight());
+        if (!grid.isBlocked(tileX, tileY)) {
+          crowd.add(tileX * 16, tileY * 16);
+        }
+      }
+      long[] samples = new long[FRAMES];
+      for (int frame = -WARMUP; frame < FRAMES; frame++) {
+        long start = System.nanoTime();
+        crowd.update(1 / 60f, field, 145, 70);
+        if (frame >= 0) {
+          samples[frame] = System.nanoTime() - start;
+        }
+      }
+      Arrays.sort(samples);
+      double millis = samples[FRAMES / 2] / 1e6;
+      System.out.printf("%-8d %14.3f %14.0f%n", agents, millis, agents / millis);
+    }
+  }
+}
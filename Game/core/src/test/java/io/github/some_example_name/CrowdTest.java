@@ -0,0 +1,70 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CrowdTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  @Test
+  void hordeReachesPlayerThroughMaze() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    CollisionGrid grid = new CollisionGrid(map);
+    map.dispose();
+    FlowField field = new FlowField(grid);
+    field.update(145, 70);
+
+    Crowd crowd = new Crowd(grid, 16);
+    Random rng = new Random(5);
+    int reachable = 0;
+    while (crowd.size() < 300) {
+      int tileX = rng.nextInt(grid.getWidth());
+      int tileY = rng.nextInt(grid.getHeight());
+      if (!grid.isBlocked(tileX, tileY)) {
+        crowd.add(tileX * 16, tileY * 16);
+        if (field.getDistance(tileX, tileY) != FlowField.UNREACHABLE) {
+          reachable++;
+        }
+      }
+    }
+
+    int reached = 0;
+    for (int frame = 0; frame < 60 * 90 && reached < reachable; frame++) {
+      reached = crowd.update(1 / 60f, field, 145, 70);
+      for (int i = 0; i < crowd.size(); i++) {
+        assertFalse(grid.isBlockedAt(crowd.getX(i), crowd.getY(i)), "chaser " + i + " walked into a wall");
+      }
+    }
+    assertEquals(reachable, reached);
+    for (int i = 0; i < crowd.size(); i++) {
+      assertNotEquals(Crowd.CHASING, crowd.getState(i), "chaser " + i + " still chasing");
+    }
+  }
+
+  @Test
+  void drawsOnlyChasersInView() {
+    Crowd crowd = new Crowd(new CollisionGrid(40, 40, 16, 16), 2);
+    crowd.add(10, 10);
+    crowd.add(100, 100);
+    crowd.add(400, 400);
+    SpriteBatch batch = mock(SpriteBatch.class);
+    TextureRegion region = mock(TextureRegion.class);
+
+    crowd.render(batch, region, new Rectangle(0, 0, 320, 320));
+    verify(batch).draw(region, 10f, 10f, 16f, 16f);
+    verify(batch).draw(region, 100f, 100f, 16f, 16f);
+    verify(batch, times(2)).draw(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+  }
+}
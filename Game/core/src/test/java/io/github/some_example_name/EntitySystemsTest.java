@@ -0,0 +1,184 @@
+package io.github.some_example_name;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.*;
+
+class EntitySystemsTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  private static Entity entity(Vector2 position) {
+    Entity entity = new Entity();
+    entity.add(new PositionComponent(position, 16, 16));
+    return entity;
+  }
+
+  @Test
+  void chaseSystemSchedulesChasersAndReportsCatches() {
+    CollisionGrid grid = new CollisionGrid(20, 20, 16, 16);
+    GameWorld world = mock(GameWorld.class);
+    when(world.getCollisionGrid()).thenReturn(grid);
+    when(world.isCellBlocked(anyFloat(), anyFloat()))
+      .thenAnswer(call -> grid.isBlockedAt(call.<Float>getArgument(0), call.<Float>getArgument(1)));
+    TextureRegion region = new TextureRegion(mock(Texture.class));
+    Player player = new Player(100, 100, region, region, region);
+    SpatialHash<Object> entities = new SpatialHash<>();
+    entities.add(player, 100, 100, 16, 16);
+
+    // a clock that never moves runs every chaser each frame, however busy the machine
+    AIScheduler scheduler = new AIScheduler(2f, () -> 0L);
+    List<Entity> caught = new ArrayList<>();
+    Engine engine = new Engine();
+    engine.addSystem(new ChaseSystem(scheduler, entities, player, new Vector3(), caught::add));
+
+    Entity[] chasers = new Entity[3];
+    for (int i = 0; i < chasers.length; i++) {
+      Dean dean = new Dean(40 + i * 40, 40, region, player, world);
+      chasers[i] = entity(dean.getPosition());
+      chasers[i].getComponent(PositionComponent.class).handle = entities.add(dean, 40 + i * 40, 40, 16, 16);
+      chasers[i].add(new ChaserComponent(dean));
+      engine.addEntity(chasers[i]);
+    }
+    assertEquals(3, scheduler.getAgentCount());
+
+    for (int frame = 0; frame < 600 && caught.size() < chasers.length; frame++) {
+      engine.update(1 / 60f);
+    }
+    assertEquals(chasers.length, caught.size(), "every chaser reaches the player");
+
+    engine.removeEntity(chasers[0]);
+    assertEquals(2, scheduler.getAgentCount());
+  }
+
+  @Test
+  void renderSystemDrawsLayersInOrderOnlyWhenAsked() {
+    SpriteBatch batch = mock(SpriteBatch.class);
+    TextureRegion player = new TextureRegion(mock(Texture.class));
+    TextureRegion item = new TextureRegion(mock(Texture.class));
+    TextureRegion locker = new TextureRegion(mock(Texture.class));
+    SpriteComponent.Renderer npc = mock(SpriteComponent.Renderer.class);
+
+    Engine engine = new Engine();
+    RenderSystem renderSystem = new RenderSystem(batch);
+    engine.addSystem(renderSystem);
+    engine.addEntity(entity(new Vector2(1, 1)).add(new SpriteComponent(player, 16, 16, SpriteComponent.LAYER_PLAYER)));
+    engine.addEntity(entity(new Vector2(2, 2)).add(new SpriteComponent(locker, 16, 32, SpriteComponent.LAYER_CHARACTERS)));
+    engine.addEntity(entity(new Vector2(3, 3)).add(new SpriteComponent(npc, SpriteComponent.LAYER_CHARACTERS)));
+    engine.addEntity(entity(new Vector2(4, 4)).add(new SpriteComponent(item, 16, 16, SpriteComponent.LAYER_ITEMS)));
+    // an entity with no sprite is not drawn
+    engine.addEntity(entity(new Vector2()));
+
+    engine.update(1 / 60f);
+    verifyNoInteractions(batch, npc);
+
+    renderSystem.update(1 / 60f);
+    InOrder order = inOrder(batch, npc);
+    order.verify(batch).draw(item, 4f, 4f, 16f, 16f);
+    order.verify(batch).draw(locker, 2f, 2f, 16f, 32f);
+    order.verify(npc).render(batch, 3f, 3f);
+    order.verify(batch).draw(player, 1f, 1f, 16f, 16f);
+    order.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void renderSystemInterpolatesBetweenSteps() {
+    SpriteBatch batch = mock(SpriteBatch.class);
+    TextureRegion region = new TextureRegion(mock(Texture.class));
+    Vector2 position = new Vector2(10, 20);
+    Vector2 drawnAt = new Vector2();
+    Engine engine = new Engine();
+    RenderSystem renderSystem = new RenderSystem(batch);
+    engine.addSystem(renderSystem);
+    Entity sprite = entity(position).add(new SpriteComponent(region, 16, 16, SpriteComponent.LAYER_ITEMS));
+    engine.addEntity(sprite);
+    engine.addEntity(entity(position).add(new SpriteComponent((b, x, y) -> drawnAt.set(x, y), SpriteComponent.LAYER_PLAYER)));
+    engine.update(0);
+
+    position.set(20, 40);
+    renderSystem.setAlpha(0.5f);
+    renderSystem.update(0);
+    verify(batch).draw(region, 15f, 30f, 16f, 16f);
+    assertEquals(new Vector2(15, 30), drawnAt);
+    assertEquals(new Vector2(20, 40), position, "drawing does not move the entity");
+  }
+
+  @Test
+  void timerSystemCallsBackOnceWhenTimeRunsOut() {
+    Skin skin = new Skin(Gdx.files.internal(GameAssets.UI_SKIN));
+    Sound ding = mock(Sound.class);
+    GameTimer timer = new GameTimer(skin, new Table(), ding, 1f);
+    Runnable onTimeUp = mock(Runnable.class);
+
+    Engine engine = new Engine();
+    engine.addSystem(new TimerSystem());
+    engine.addEntity(new Entity().add(new TimerComponent(timer, onTimeUp)));
+    for (int frame = 0; frame < 120; frame++) {
+      engine.update(1 / 60f);
+    }
+
+    assertEquals(0f, timer.getTimeLeft());
+    verify(onTimeUp).run();
+    // the ding is left to the callback, which runs it on the render thread
+    verify(ding, never()).play(anyFloat());
+    skin.dispose();
+  }
+
+  @Test
+  void gameScreenRunsItsEntitiesThroughTheEngine() {
+    HeadlessGame game = new HeadlessGame();
+    game.create();
+    game.getAssets().finishLoading();
+    game.getScreens().startGame();
+    GameScreen screen = (GameScreen) game.getScreen();
+    Engine engine = screen.getEngine();
+
+    assertEquals(1, engine.getEntitiesFor(Family.all(ChaserComponent.class).get()).size());
+    assertEquals(1, engine.getEntitiesFor(Family.all(TimerComponent.class).get()).size());
+    assertEquals(1, screen.getAIScheduler().getAgentCount());
+    // NPC, locker and, on a map that has them, the ticket and the bus
+    assertTrue(engine.getEntitiesFor(Family.all(InteractableComponent.class).get()).size() >= 2);
+
+    // the dean waits until it sees the player, so stand in view a few tiles away
+    Vector2 dean = screen.getDean().getPosition().cpy();
+    CollisionGrid grid = screen.getCollisionGrid();
+    LineOfSight sight = new LineOfSight(grid);
+    Vector2 inView = null;
+    for (int dx = -5; dx <= 5 && inView == null; dx++) {
+      for (int dy = -5; dy <= 5 && inView == null; dy++) {
+        Vector2 spot = new Vector2(dean.x + dx * 16, dean.y + dy * 16);
+        if (spot.dst(dean) > 32 && !grid.isBlockedAt(spot.x, spot.y) && sight.canSee(dean.x, dean.y, spot.x, spot.y)) {
+          inView = spot;
+        }
+      }
+    }
+    assertNotNull(inView);
+    engine.update(1 / 60f);
+    assertEquals(dean, screen.getDean().getPosition(), "the dean cannot see the player at the start");
+    screen.getPlayer().getPosition().set(inView);
+    engine.update(1 / 60f);
+    assertNotEquals(dean, screen.getDean().getPosition());
+    assertEquals(300f - 2 / 60f, screen.getGameTimer().getTimeLeft(), 1e-4f);
+    game.dispose();
+  }
+}
@@ -0,0 +1,198 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prints the time per frame of 1, 100 and 10,000 chasers following a player
+ * around the maze map, sharing one flow field against each searching for its
+ * own A* path whenever the player changes tile. Also prints how long moving the
+ * field's goal one tile takes when repaired and when rebuilt, on the maze and on
+ * a random 1000x1000 grid. Run with ./gradlew :core:benchmark
+ */
+@Tag("benchmark")
+class FlowFieldBenchmarkTest {
+  private static final int[] AGENT_COUNTS = { 1, 100, 10000 };
+  /** Frames the player takes to walk one tile, at the player's speed. */
+  private static final int FRAMES_PER_TILE = 8;
+  private static final int FRAMES = 480;
+  private static final float SPEED = 0.7f;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** Tiles visited by a player wandering the free tiles of a grid, one neighbouring tile at a time. */
+  private static IntArray playerWalk(CollisionGrid grid, int startX, int startY, int tiles, long seed) {
+    Random rng = new Random(seed);
+    IntArray walk = new IntArray();
+    int x = startX;
+    int y = startY;
+    int dx = 1;
+    int dy = 0;
+    while (walk.size < tiles * 2) {
+      // keep walking the same way until a wall is hit, so the walk covers the map
+      if (!grid.inBounds(x + dx, y + dy) || grid.isBlocked(x + dx, y + dy) || rng.nextInt(6) == 0) {
+        int turn = rng.nextInt(4);
+        dx = turn == 0 ? 1 : (turn == 1 ? -1 : 0);
+        dy = turn == 2 ? 1 : (turn == 3 ? -1 : 0);
+        continue;
+      }
+      x += dx;
+      y += dy;
+      walk.add(x);
+      walk.add(y);
+    }
+    return walk;
+  }
+
+  private static float[] spawnAgents(CollisionGrid grid, int count, long seed) {
+    Random rng = new Random(seed);
+    float[] positions = new float[count * 2];
+    for (int i = 0; i < count; i++) {
+      int x;
+      int y;
+      do {
+        x = rng.nextInt(grid.getWidth());
+        y = rng.nextInt(grid.getHeight());
+      } while (grid.isBlocked(x, y));
+      positions[i * 2] = x * grid.getTileWidth();
+      positions[i * 2 + 1] = y * grid.getTileHeight();
+    }
+    return positions;
+  }
+
+  private static void step(float[] positions, int agent, Vector2 target) {
+    float dx = target.x - positions[agent * 2];
+    float dy = target.y - positions[agent * 2 + 1];
+    float length = (float) Math.sqrt(dx * dx + dy * dy);
+    if (length > SPEED) {
+      positions[agent * 2] += dx / length * SPEED;
+      positions[agent * 2 + 1] += dy / length * SPEED;
+    }
+  }
+
+  /** Average milliseconds per frame of every agent following one shared flow field. */
+  private static double flowFieldFrame(CollisionGrid grid, IntArray walk, float[] positions) {
+    FlowField field = new FlowField(grid);
+    Vector2 waypoint = new Vector2();
+    int agents = positions.length / 2;
+    long start = System.nanoTime();
+    for (int frame = 0; frame < FRAMES; frame++) {
+      int tile = frame / FRAMES_PER_TILE;
+      field.setGoal(walk.get(tile * 2), walk.get(tile * 2 + 1));
+      for (int i = 0; i < agents; i++) {
+        if (field.getNextWaypoint(positions[i * 2], positions[i * 2 + 1], waypoint)) {
+          step(positions, i, waypoint);
+        }
+      }
+    }
+    return (System.nanoTime() - start) / 1e6 / FRAMES;
+  }
+
+  /** Average milliseconds per frame of every agent searching for its own path each time the player changes tile. */
+  private static double aStarFrame(CollisionGrid grid, IntArray walk, float[] positions, int frames) {
+    TileGraph graph = new TileGraph(grid);
+    IndexedAStarPathFinder<TileGraph.Node> pathFinder = new IndexedAStarPathFinder<>(graph);
+    int agents = positions.length / 2;
+    TilePath[] paths = new TilePath[agents];
+    for (int i = 0; i < agents; i++) {
+      paths[i] = new TilePath();
+    }
+    Vector2 waypoint = new Vector2();
+    long start = System.nanoTime();
+    for (int frame = 0; frame < frames; frame++) {
+      int tile = frame / FRAMES_PER_TILE;
+      TileGraph.Node goal = graph.getNode(walk.get(tile * 2), walk.get(tile * 2 + 1));
+      for (int i = 0; i < agents; i++) {
+        if (frame % FRAMES_PER_TILE == 0) {
+          graph.beginSearch();
+          paths[i].clear();
+          pathFinder.searchNodePath(graph.getNodeAt(positions[i * 2], positions[i * 2 + 1]), goal, TileGraph.HEURISTIC, paths[i]);
+        }
+        if (paths[i].getCount() > 1) {
+          TileGraph.Node next = paths[i].get(1);
+          waypoint.set(next.x * grid.getTileWidth(), next.y * grid.getTileHeight());
+          step(positions, i, waypoint);
+        }
+      }
+    }
+    return (System.nanoTime() - start) / 1e6 / frames;
+  }
+
+  /** Average milliseconds and tiles settled for each move of the goal along a walk, as a row of the table. */
+  private static String repairAgainstRebuild(String name, CollisionGrid grid, IntArray walk) {
+    FlowField repaired = new FlowField(grid);
+    FlowField rebuilt = new FlowField(grid);
+    repaired.setGoal(walk.get(0), walk.get(1));
+    rebuilt.setGoal(walk.get(0), walk.get(1));
+    long repairTime = 0;
+    long rebuildTime = 0;
+    long repairTiles = 0;
+    long rebuildTiles = 0;
+    int moves = walk.size / 2 - 1;
+    for (int i = 1; i <= moves; i++) {
+      int x = walk.get(i * 2);
+      int y = walk.get(i * 2 + 1);
+      long start = System.nanoTime();
+      repaired.setGoal(x, y);
+      long repairedAt = System.nanoTime();
+      rebuilt.setGoal(x, y);
+      rebuilt.rebuild();
+      long rebuiltAt = System.nanoTime();
+      repairTime += repairedAt - start;
+      rebuildTime += rebuiltAt - repairedAt;
+      repairTiles += repaired.getTilesSettled();
+      rebuildTiles += rebuilt.getTilesSettled();
+    }
+    return String.format("%-24s %12.3f %12.3f %14d %14d", name, repairTime / 1e6 / moves, rebuildTime / 1e6 / moves,
+      repairTiles / moves, rebuildTiles / moves);
+  }
+
+  @Test
+  void chaserScaling() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    CollisionGrid maze = new CollisionGrid(map);
+    map.dispose();
+    // the player's spawn tile
+    IntArray walk = playerWalk(maze, 9, 4, FRAMES / FRAMES_PER_TILE, 1);
+
+    System.out.printf("%-8s %16s %16s%n", "agents", "flow field (ms)", "A* (ms)");
+    for (int agents : AGENT_COUNTS) {
+      // warm up both before timing
+      flowFieldFrame(maze, walk, spawnAgents(maze, agents, 2));
+      aStarFrame(maze, walk, spawnAgents(maze, agents, 2), FRAMES_PER_TILE);
+      double flow = flowFieldFrame(maze, walk, spawnAgents(maze, agents, 2));
+      // 10,000 searches per tile take long enough that a few tiles give a steady average
+      int aStarFrames = agents > 1000 ? FRAMES_PER_TILE * 4 : FRAMES;
+      double aStar = aStarFrame(maze, walk, spawnAgents(maze, agents, 2), aStarFrames);
+      System.out.printf("%-8d %16.4f %16.4f%n", agents, flow, aStar);
+    }
+
+    CollisionGrid random = new CollisionGrid(1000, 1000, 16, 16);
+    Random rng = new Random(42);
+    for (int y = 0; y < 1000; y++) {
+      for (int x = 0; x < 1000; x++) {
+        random.setBlocked(x, y, rng.nextFloat() < 0.25f);
+      }
+    }
+    random.setBlocked(500, 500, false);
+
+    System.out.printf("%n%-24s %12s %12s %14s %14s%n", "goal moves one tile", "repair (ms)", "rebuild (ms)",
+      "repair tiles", "rebuild tiles");
+    IntArray randomWalk = playerWalk(random, 500, 500, 20, 3);
+    // the first run of each only warms up
+    repairAgainstRebuild("maze 40x40", maze, walk);
+    System.out.println(repairAgainstRebuild("maze 40x40", maze, walk));
+    repairAgainstRebuild("random 1000x1000", random, randomWalk);
+    System.out.println(repairAgainstRebuild("random 1000x1000", random, randomWalk));
+  }
+}
@@ -0,0 +1,137 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.*;
+
+class FlowFieldTest {
+  private static final int[] STEP_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+  private static final int[] STEP_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  private static CollisionGrid randomGrid(Random rng, int size, float blocked) {
+    CollisionGrid grid = new CollisionGrid(size, size, 16, 16);
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        grid.setBlocked(x, y, rng.nextFloat() < blocked);
+      }
+    }
+    return grid;
+  }
+
+  private static void assertSameDistances(CollisionGrid grid, FlowField repaired, int goalX, int goalY, String message) {
+    FlowField rebuilt = new FlowField(grid);
+    rebuilt.setGoal(goalX, goalY);
+    for (int y = 0; y < grid.getHeight(); y++) {
+      for (int x = 0; x < grid.getWidth(); x++) {
+        assertEquals(rebuilt.getDistance(x, y), repaired.getDistance(x, y), message + ", tile " + x + "," + y);
+      }
+    }
+  }
+
+  /** Walks the goal around a grid one neighbouring tile at a time, checking the field after every step. */
+  private static void walkGoal(CollisionGrid grid, Random rng, int steps, String name) {
+    FlowField field = new FlowField(grid);
+    int x = rng.nextInt(grid.getWidth());
+    int y = rng.nextInt(grid.getHeight());
+    field.setGoal(x, y);
+    for (int step = 0; step < steps; step++) {
+      int direction = rng.nextInt(STEP_X.length);
+      int nextX = x + STEP_X[direction];
+      int nextY = y + STEP_Y[direction];
+      if (!grid.inBounds(nextX, nextY)) {
+        continue;
+      }
+      x = nextX;
+      y = nextY;
+      field.setGoal(x, y);
+      assertSameDistances(grid, field, x, y, name + " after step " + step + " to " + x + "," + y);
+    }
+  }
+
+  @Test
+  void distancesCountStraightAndDiagonalMoves() {
+    CollisionGrid grid = new CollisionGrid(5, 5, 16, 16);
+    grid.setBlocked(3, 0, true);
+    FlowField field = new FlowField(grid);
+    field.setGoal(0, 0);
+
+    assertEquals(0, field.getDistance(0, 0));
+    assertEquals(4 * FlowField.STRAIGHT_COST, field.getDistance(0, 4));
+    assertEquals(4 * FlowField.DIAGONAL_COST, field.getDistance(4, 4));
+    // a wall tile is given the distance of walking out of it
+    assertEquals(3 * FlowField.STRAIGHT_COST, field.getDistance(3, 0));
+    // the wall's corner cannot be cut, so (4, 0) is reached round the tile above it
+    assertEquals(FlowField.DIAGONAL_COST + 4 * FlowField.STRAIGHT_COST, field.getDistance(4, 0));
+    assertEquals(FlowField.UNREACHABLE, new FlowField(grid).getDistance(0, 0));
+  }
+
+  @Test
+  void repairMatchesRebuildOnRandomGrids() {
+    Random rng = new Random(7);
+    for (int i = 0; i < 10; i++) {
+      walkGoal(randomGrid(rng, 24, 0.3f), rng, 60, "random grid " + i);
+    }
+  }
+
+  @Test
+  void repairMatchesRebuildOnMaze() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    walkGoal(new CollisionGrid(map), new Random(3), 200, "maze");
+    map.dispose();
+  }
+
+  @Test
+  void waypointLeadsDownhill() {
+    CollisionGrid grid = new CollisionGrid(5, 5, 16, 16);
+    FlowField field = new FlowField(grid);
+    field.update(0, 0);
+    Vector2 waypoint = new Vector2();
+
+    assertTrue(field.getNextWaypoint(64, 64, waypoint));
+    assertEquals(new Vector2(48, 48), waypoint);
+    assertFalse(field.getNextWaypoint(3, -2, waypoint), "already on the goal's tile");
+  }
+
+  @Test
+  void deansSharingFieldReachPlayerThroughMaze() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    CollisionGrid grid = new CollisionGrid(map);
+    GameWorld world = mock(GameWorld.class);
+    when(world.getCollisionGrid()).thenReturn(grid);
+    when(world.isCellBlocked(anyFloat(), anyFloat()))
+      .thenAnswer(call -> grid.isBlockedAt(call.<Float>getArgument(0), call.<Float>getArgument(1)));
+
+    TextureRegion region = new TextureRegion(mock(Texture.class));
+    Player player = new Player(145, 70, region, region, region);
+    FlowField field = new FlowField(grid);
+    Dean[] deans = { new Dean(90, 450, region, player, world), new Dean(390, 400, region, player, world) };
+    for (Dean dean : deans) {
+      dean.setFlowField(field);
+    }
+
+    for (Dean dean : deans) {
+      int frames = 0;
+      while (dean.getPosition().dst(player.getPosition()) > 16 && frames < 60 * 60) {
+        field.update(player.getPosition().x, player.getPosition().y);
+        dean.update(1 / 60f);
+        assertFalse(grid.isBlockedAt(dean.getPosition().x, dean.getPosition().y), "dean walked into a wall");
+        frames++;
+      }
+      assertTrue(dean.getPosition().dst(player.getPosition()) <= 16, "dean stuck at " + dean.getPosition());
+    }
+    map.dispose();
+  }
+}
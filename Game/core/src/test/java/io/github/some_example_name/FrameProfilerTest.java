@@ -0,0 +1,58 @@
+package io.github.some_example_name;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+  /** Spin until some time has passed, so a phase takes at least that long. */
+  private static void spin(long nanos) {
+    long start = System.nanoTime();
+    while (System.nanoTime() - start < nanos) {
+      // busy wait
+    }
+  }
+
+  @Test
+  void percentilesOfPhases() {
+    FrameProfiler profiler = new FrameProfiler();
+    assertEquals(0, profiler.getPercentile(FrameProfiler.MAP, 50));
+    for (int frame = 0; frame < 100; frame++) {
+      profiler.beginFrame();
+      profiler.mark(FrameProfiler.INPUT);
+      // one frame in ten has a slow map
+      spin(frame % 10 == 0 ? 2000000 : 0);
+      profiler.mark(FrameProfiler.MAP);
+      profiler.endFrame();
+    }
+    assertEquals(100, profiler.getFrames());
+    assertTrue(profiler.getPercentile(FrameProfiler.MAP, 50) < 1000000);
+    assertTrue(profiler.getPercentile(FrameProfiler.MAP, 95) >= 2000000);
+    assertTrue(profiler.getPercentile(FrameProfiler.MAP, 99) >= 2000000);
+    assertEquals(0, profiler.getPercentile(FrameProfiler.SPRITES, 99), "never marked");
+
+    long[] out = new long[3];
+    profiler.getPercentiles(FrameProfiler.MAP, new float[] { 50, 95, 99 }, out);
+    assertEquals(profiler.getPercentile(FrameProfiler.MAP, 50), out[0]);
+    assertEquals(profiler.getPercentile(FrameProfiler.MAP, 95), out[1]);
+  }
+
+  @Test
+  void keepsOnlyTheLastFrames() {
+    FrameProfiler profiler = new FrameProfiler();
+    for (int frame = 0; frame < FrameProfiler.HISTORY; frame++) {
+      profiler.beginFrame();
+      spin(1000000);
+      profiler.mark(FrameProfiler.UPDATE);
+      profiler.endFrame();
+    }
+    assertTrue(profiler.getPercentile(FrameProfiler.UPDATE, 50) >= 1000000);
+    for (int frame = 0; frame < FrameProfiler.HISTORY; frame++) {
+      profiler.beginFrame();
+      profiler.mark(FrameProfiler.INPUT);
+      profiler.endFrame();
+    }
+    assertEquals(FrameProfiler.HISTORY, profiler.getFrames());
+    assertEquals(0, profiler.getPercentile(FrameProfiler.UPDATE, 99), "slow frames overwritten");
+    assertEquals(0, profiler.getLast(FrameProfiler.UPDATE));
+  }
+}
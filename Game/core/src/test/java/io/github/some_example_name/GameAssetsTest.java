@@ -0,0 +1,76 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameAssetsTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  @Test
+  void nothingLoadsUntilQueued() {
+    GameAssets assets = new GameAssets();
+    assertTrue(assets.isFinished());
+    assertThrows(GdxRuntimeException.class, assets::getSkin);
+    assets.dispose();
+  }
+
+  @Test
+  void loadsEverythingGameScreenNeeds() {
+    GameAssets assets = new GameAssets();
+    assets.queueGameAssets();
+    assertFalse(assets.isFinished());
+    assets.finishLoading();
+
+    assertTrue(assets.isFinished());
+    assertEquals(1f, assets.getProgress());
+    for (String file : new String[] {GameAssets.PLAYER_FRONT, GameAssets.PLAYER_BACK, GameAssets.PLAYER_SIDE,
+        GameAssets.DEAN, GameAssets.NPC, GameAssets.LOCKER, GameAssets.BUS_TICKET}) {
+      TextureRegion region = assets.getRegion(file);
+      assertSame(assets.getAtlas().getTextures().first(), region.getTexture(), file);
+    }
+    assertNotNull(assets.getTimerDing());
+    assertNotNull(assets.getSkin());
+    assertNotNull(assets.getDefaultFont());
+    Texture atlas = assets.getAtlas().getTextures().first();
+    assertEquals(1, assets.getAtlas().getTextures().size);
+    assertSame(atlas, assets.getDefaultFont().getRegion().getTexture());
+    assertSame(atlas, assets.getSkin().getFont("PIXELFONT").getRegion().getTexture());
+    BitmapFont copy = assets.newDefaultFont();
+    copy.getData().setScale(2f);
+    assertEquals(1f, assets.getDefaultFont().getData().scaleX);
+    assertSame(atlas, copy.getRegion().getTexture());
+    copy.dispose();
+
+    TiledMap map = assets.getMap();
+    assertNotNull(map.getLayers().get("Events"));
+    CollisionGrid grid = CollisionGrid.forMap(map);
+    assertEquals(40, grid.getWidth());
+    assertSame(grid, CollisionGrid.forMap(map));
+
+    assets.dispose();
+    assertFalse(assets.getManager().isLoaded(GameAssets.UI_SKIN));
+  }
+
+  @Test
+  void updateFinishesLoadingOverSeveralFrames() {
+    GameAssets assets = new GameAssets();
+    assets.queueGameAssets();
+    int frames = 0;
+    while (!assets.update()) {
+      frames++;
+      assertTrue(frames < 10000, "loading never finished");
+    }
+    assertTrue(frames > 0);
+    assertNotNull(assets.getMap());
+    assets.dispose();
+  }
+}
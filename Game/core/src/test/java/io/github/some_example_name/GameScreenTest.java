@@ -0,0 +1,273 @@
+package io.github.some_example_name;
+
+import java.lang.management.ManagementFactory;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameScreenTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** A new round, with the player standing where the dean can see them. */
+  private static GameScreen startRound(HeadlessGame game) {
+    game.create();
+    game.getAssets().finishLoading();
+    game.getScreens().startGame();
+    GameScreen screen = (GameScreen) game.getScreen();
+    Vector2 dean = screen.getDean().getPosition();
+    LineOfSight sight = new LineOfSight(screen.getCollisionGrid());
+    for (int dx = 5; dx >= -5; dx--) {
+      for (int dy = 5; dy >= -5; dy--) {
+        Vector2 spot = new Vector2(dean.x + dx * 16, dean.y + dy * 16);
+        if (spot.dst(dean) > 48 && !screen.isCellBlocked(spot.x, spot.y) && sight.canSee(dean.x, dean.y, spot.x, spot.y)) {
+          screen.getPlayer().getPosition().set(spot);
+          return screen;
+        }
+      }
+    }
+    throw new AssertionError("no spot in view of the dean");
+  }
+
+  @Test
+  void gameRunsAtTheSameSpeedAtAnyFrameRate() {
+    HeadlessGame slow = new HeadlessGame();
+    HeadlessGame fast = new HeadlessGame();
+    GameScreen at60 = startRound(slow);
+    GameScreen at144 = startRound(fast);
+    Vector2 start = at60.getDean().getPosition().cpy();
+
+    for (int frame = 0; frame < 60; frame++) {
+      at60.render(1 / 60f);
+    }
+    for (int frame = 0; frame < 144; frame++) {
+      at144.render(1 / 144f);
+    }
+
+    assertNotEquals(start, at60.getDean().getPosition());
+    // the accumulators may be a step apart after a second of rounding
+    assertEquals(at60.getDean().getPosition().x, at144.getDean().getPosition().x, 0.8f);
+    assertEquals(at60.getDean().getPosition().y, at144.getDean().getPosition().y, 0.8f);
+    assertEquals(299f, at60.getGameTimer().getTimeLeft(), GameScreen.TIME_STEP + 1e-3f);
+    assertEquals(at60.getGameTimer().getTimeLeft(), at144.getGameTimer().getTimeLeft(), GameScreen.TIME_STEP + 1e-3f);
+    slow.dispose();
+    fast.dispose();
+  }
+
+  @Test
+  void longFramesAreCappedInsteadOfCaughtUp() {
+    HeadlessGame game = new HeadlessGame();
+    GameScreen screen = startRound(game);
+    screen.render(5f);
+    // a five second hitch only simulates a quarter of a second
+    assertEquals(300f - 0.25f, screen.getGameTimer().getTimeLeft(), GameScreen.TIME_STEP + 1e-3f);
+    game.dispose();
+  }
+
+  @Test
+  void threadedSimulationHandsOverWholeSnapshots() throws InterruptedException {
+    HeadlessGame game = new HeadlessGame();
+    GameScreen screen = startRound(game);
+    screen.setThreaded(true);
+    long last = -1;
+    long start = System.nanoTime();
+    while (System.nanoTime() - start < 500000000L) {
+      screen.render(1 / 60f);
+      WorldSnapshot snapshot = screen.getDrawnSnapshot();
+      assertTrue(snapshot.step >= last, "went back from step " + last + " to " + snapshot.step);
+      // the timer is counted down once a step, so a torn snapshot would not match its step
+      assertEquals(300f - snapshot.step * GameScreen.TIME_STEP, snapshot.timeLeft, 1e-2f);
+      last = snapshot.step;
+      Thread.sleep(4);
+    }
+    screen.hide();
+
+    assertTrue(last > 10, "only " + last + " steps were simulated in half a second");
+    game.dispose();
+  }
+
+  @Test
+  void bestRunIsReplayedAsAGhost() {
+    HeadlessGame game = new HeadlessGame();
+    GameScreen screen = startRound(game);
+    InputRecording run = new InputRecording(GameAssets.MAP, 0);
+    for (int step = 0; step < 120; step++) {
+      run.record(GameWorld.RIGHT);
+    }
+    screen.setGhost(run);
+
+    for (int frame = 0; frame < 60; frame++) {
+      screen.render(1 / 60f);
+    }
+    WorldSnapshot snapshot = screen.getDrawnSnapshot();
+    assertTrue(snapshot.ghost);
+    assertEquals(screen.getGhost().getPlayer().getPosition().x, snapshot.ghostX);
+    assertTrue(snapshot.ghostX > GameWorld.PLAYER_X + 30, "ghost at " + snapshot.ghostX);
+    assertEquals(screen.getWorld().getSteps(), screen.getRecording().getSteps(), 1);
+    game.dispose();
+  }
+
+  @Test
+  void autoplayStartsAnotherRoundWhenOneEnds() {
+    HeadlessGame game = new HeadlessGame();
+    GameScreen screen = startRound(game);
+    screen.setAutoplay(new AutoplayBot(true));
+
+    long last = 0;
+    int frame = 0;
+    for (; frame < 5000 && screen.getWorld().getSteps() >= last; frame++) {
+      last = screen.getWorld().getSteps();
+      screen.render(0.25f);
+    }
+    assertTrue(frame < 5000, "round never ended");
+    assertSame(screen, game.getScreen(), "stayed on the game screen");
+    assertEquals(GameWorld.PLAYING, screen.getWorld().getOutcome());
+    game.dispose();
+  }
+
+  /** Bytes allocated by the current thread doing some work, less those of counting them. */
+  private static long allocatedBy(Runnable work) {
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long id = Thread.currentThread().getId();
+    long overhead = -threads.getThreadAllocatedBytes(id) + threads.getThreadAllocatedBytes(id);
+    long before = threads.getThreadAllocatedBytes(id);
+    work.run();
+    return threads.getThreadAllocatedBytes(id) - before - overhead;
+  }
+
+  /** A sprite batch that drops what is drawn with it, as the mocked GL records every call made to it. */
+  private static SpriteBatch droppingBatch() {
+    return new SpriteBatch(1, Mockito.mock(ShaderProgram.class)) {
+      @Override
+      public void draw(Texture texture, float[] vertices, int offset, int count) {}
+    };
+  }
+
+  @Test
+  void profilerOverlayShowsPhasesWithoutAllocating() {
+    HeadlessGame game = new HeadlessGame();
+    GameScreen screen = startRound(game);
+    ProfilerOverlay overlay = screen.getProfilerOverlay();
+    assertFalse(overlay.isVisible());
+    screen.setProfilerShown(true);
+    for (int frame = 0; frame < 30; frame++) {
+      screen.render(1 / 60f);
+    }
+    assertTrue(overlay.isVisible());
+    assertEquals(30, screen.getProfiler().getFrames());
+    assertTrue(overlay.getShownPercentile(FrameProfiler.UPDATE, 2) > 0);
+    assertTrue(overlay.getShownPercentile(FrameProfiler.MAP, 0) <= overlay.getShownPercentile(FrameProfiler.MAP, 2));
+    assertTrue(overlay.getRenderCalls() > 0);
+
+    // timing, sampling and drawing the overlay create nothing once warmed up
+    FrameProfiler profiler = screen.getProfiler();
+    SpriteBatch batch = droppingBatch();
+    Runnable frames = () -> {
+      for (int frame = 0; frame < 2 * FrameProfiler.HISTORY; frame++) {
+        profiler.beginFrame();
+        for (int phase = 0; phase < FrameProfiler.PHASES; phase++) {
+          profiler.mark(phase);
+        }
+        overlay.sample();
+        overlay.draw(batch, 1f);
+        profiler.endFrame();
+      }
+    };
+    frames.run();
+    long bytes = allocatedBy(frames);
+    assertTrue(bytes < 1024, bytes + " bytes allocated");
+
+    screen.setProfilerShown(false);
+    assertFalse(overlay.isVisible());
+    game.dispose();
+  }
+
+  @Test
+  void hudIsOnlyLaidOutWhenItChanges() {
+    HeadlessGame game = new HeadlessGame();
+    GameScreen screen = startRound(game);
+    for (int frame = 0; frame < 150; frame++) {
+      screen.render(1 / 60f);
+    }
+    HudText hidden = screen.getHiddenEventText();
+    assertEquals(1, hidden.getLayouts());
+    assertEquals("Hidden Event Encountered = 0/1", hidden.getText().toString());
+    GameTimer timer = screen.getGameTimer();
+    assertEquals(timer.toString(), timer.getTimerLabel().getText().toString());
+    assertTrue(timer.toString().startsWith("04 : 5"), timer.toString());
+
+    // drawing an unchanged line creates nothing
+    SpriteBatch batch = droppingBatch();
+    hidden.show(1);
+    assertEquals(2, hidden.getLayouts());
+    assertEquals("Hidden Event Encountered = 1/1", hidden.getText().toString());
+    long bytes = allocatedBy(() -> {
+      for (int frame = 0; frame < 1000; frame++) {
+        hidden.show(1);
+        hidden.draw(batch);
+      }
+    });
+    assertTrue(bytes < 1024, bytes + " bytes allocated");
+    assertEquals(2, hidden.getLayouts());
+
+    // the timer's label is only laid out again when the second shown changes,
+    // and never sizes the table it is in again
+    Label label = timer.getTimerLabel();
+    Table table = (Table) label.getParent();
+    table.validate();
+    float secondLeft = timer.getTimeLeft() % 1;
+    timer.decrementTimer(secondLeft / 2);
+    label.act(1 / 60f);
+    assertFalse(label.needsLayout());
+    timer.decrementTimer(secondLeft);
+    label.act(1 / 60f);
+    assertTrue(label.needsLayout());
+    assertFalse(table.needsLayout());
+    assertEquals(timer.toString(), label.getText().toString());
+
+    // and counting it down creates nothing, whether the second changes or not
+    bytes = allocatedBy(() -> {
+      for (int frame = 0; frame < 600; frame++) {
+        timer.decrementTimer(1 / 60f);
+        label.act(1 / 60f);
+      }
+    });
+    assertTrue(bytes < 1024, bytes + " bytes allocated");
+    assertEquals(timer.toString(), label.getText().toString());
+    game.dispose();
+  }
+
+  @Test
+  void hordeIsSetLooseInTheRenderThreadsRound() {
+    HeadlessGame game = new HeadlessGame();
+    GameScreen screen = startRound(game);
+    screen.setThreaded(true);
+    screen.setHorde(200);
+    assertFalse(screen.isThreaded());
+    screen.setThreaded(true);
+    assertFalse(screen.isThreaded(), "the horde is drawn straight from the world");
+
+    Crowd horde = screen.getWorld().getHorde();
+    float x = horde.getX(0);
+    float y = horde.getY(0);
+    for (int frame = 0; frame < 60; frame++) {
+      screen.render(1 / 60f);
+    }
+    assertEquals(200, horde.size());
+    assertNotEquals(new Vector2(x, y), new Vector2(horde.getX(0), horde.getY(0)));
+
+    screen.setHorde(0);
+    assertNull(screen.getWorld().getHorde());
+    game.dispose();
+  }
+}
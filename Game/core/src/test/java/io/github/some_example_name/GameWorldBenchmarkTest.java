@@ -0,0 +1,55 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prints how fast whole rounds are simulated headless on the game's map, with the
+ * player wandering at random until the time runs out. Run with ./gradlew :core:benchmark
+ */
+@Tag("benchmark")
+class GameWorldBenchmarkTest {
+  private static final int ROUNDS = 20;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** Steps taken playing rounds to the end. */
+  private static long playRounds(GameWorld world, int rounds, long seed) {
+    Random rng = new Random(seed);
+    long steps = 0;
+    for (int round = 0; round < rounds; round++) {
+      world.reset();
+      int keys = 0;
+      while (world.getOutcome() == GameWorld.PLAYING) {
+        if (world.getSteps() % 20 == 0) {
+          keys = rng.nextInt(GameWorld.INTERACT << 1);
+        }
+        world.step(keys);
+      }
+      steps += world.getSteps();
+    }
+    return steps;
+  }
+
+  @Test
+  void headlessRounds() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    GameWorld world = GameWorld.headless(map);
+    map.dispose();
+
+    // warm up before timing
+    playRounds(world, ROUNDS / 4, 1);
+    long start = System.nanoTime();
+    long steps = playRounds(world, ROUNDS, 2);
+    double millis = (System.nanoTime() - start) / 1e6;
+    System.out.printf("%d rounds, %d steps in %.1f ms: %.1f steps/ms, %.1f rounds/s%n",
+      ROUNDS, steps, millis, steps / millis, ROUNDS / millis * 1000);
+  }
+}
@@ -0,0 +1,210 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameWorldTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  private static void steps(GameWorld world, int keys, int count) {
+    for (int i = 0; i < count; i++) {
+      world.step(keys);
+    }
+  }
+
+  @Test
+  void playerWalksUntilAWall() {
+    CollisionGrid grid = new CollisionGrid(40, 40, 16, 16);
+    for (int y = 0; y < 40; y++) {
+      grid.setBlocked(12, y, true);
+    }
+    GameWorld world = GameWorld.headless(grid, null, null);
+    steps(world, GameWorld.RIGHT, 100);
+
+    Vector2 player = world.getPlayer().getPosition();
+    assertEquals(GameWorld.PLAYER_Y, player.y);
+    // flush against the wall
+    assertEquals(12 * 16 - 16, player.x, "stopped at " + player);
+    assertEquals(100, world.getSteps());
+  }
+
+  @Test
+  void ticketTakenToTheBusWinsTheRound() {
+    CollisionGrid grid = new CollisionGrid(40, 40, 16, 16);
+    GameWorld world = GameWorld.headless(grid, new Rectangle(150, 70, 16, 16), new Rectangle(200, 60, 40, 40));
+    world.step(0);
+    assertTrue(world.canPickUpTicket());
+    world.step(GameWorld.INTERACT);
+    assertTrue(world.getBusTicket().isCollected());
+
+    steps(world, GameWorld.RIGHT, 70);
+    world.step(0);
+    assertTrue(world.canEndGame());
+    assertEquals(GameWorld.PLAYING, world.getOutcome());
+    world.step(GameWorld.INTERACT);
+    assertEquals(GameWorld.WON, world.getOutcome());
+
+    // 73 steps leave 298 whole seconds, 4:58
+    assertEquals(458, world.calculateFinalScore());
+    long steps = world.getSteps();
+    steps(world, GameWorld.LEFT, 10);
+    assertEquals(steps, world.getSteps(), "nothing moves once the round is over");
+  }
+
+  @Test
+  void roundIsLostWhenTimeRunsOut() {
+    GameWorld world = GameWorld.headless(new CollisionGrid(40, 40, 16, 16), null, null);
+    int roundSteps = Math.round(GameWorld.ROUND_SECONDS / GameWorld.TIME_STEP);
+    steps(world, 0, roundSteps + 60);
+
+    assertEquals(GameWorld.LOST, world.getOutcome());
+    assertEquals(roundSteps, world.getSteps(), 2);
+    assertEquals(0f, world.getTimer().getTimeLeft());
+    // the player stood still in the open, so the dean kept catching them
+    assertTrue(world.getTimesCaught() > 1);
+    assertEquals(0, world.calculateFinalScore());
+
+    world.reset();
+    assertEquals(GameWorld.PLAYING, world.getOutcome());
+    assertEquals(0, world.getTimesCaught());
+    assertEquals(GameWorld.ROUND_SECONDS, world.getTimer().getTimeLeft());
+  }
+
+  @Test
+  void pauseKeyTogglesOnEachPress() {
+    GameWorld world = GameWorld.headless(new CollisionGrid(40, 40, 16, 16), null, null);
+    world.step(GameWorld.PAUSE | GameWorld.RIGHT);
+    steps(world, GameWorld.PAUSE | GameWorld.RIGHT, 10);
+    assertTrue(world.isPaused());
+    assertEquals(0, world.getSteps());
+    assertEquals(GameWorld.PLAYER_X, world.getPlayer().getPosition().x);
+
+    world.step(0);
+    world.step(GameWorld.PAUSE);
+    assertFalse(world.isPaused());
+    assertEquals(1, world.getSteps());
+  }
+
+  @Test
+  void sameKeysPlayTheSameRound() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    GameWorld first = GameWorld.headless(map);
+    GameWorld second = GameWorld.headless(map);
+    map.dispose();
+
+    Random rng = new Random(7);
+    int keys = 0;
+    for (int step = 0; step < 5000; step++) {
+      if (step % 30 == 0) {
+        keys = rng.nextInt(GameWorld.INTERACT << 1);
+      }
+      first.step(keys);
+      second.step(keys);
+    }
+    assertEquals(first.getPlayer().getPosition(), second.getPlayer().getPosition());
+    assertEquals(first.getTimesCaught(), second.getTimesCaught());
+    assertEquals(first.getTimer().getTimeLeft(), second.getTimer().getTimeLeft());
+    assertNotEquals(new Vector2(GameWorld.PLAYER_X, GameWorld.PLAYER_Y), first.getPlayer().getPosition());
+  }
+
+  @Test
+  void busyMachineDoesNotChangeATwoChaserRound() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    GameWorld quiet = GameWorld.headless(map);
+    GameWorld busy = GameWorld.headless(map);
+    map.dispose();
+    // a second chaser a few tiles from the player, where it can see them
+    CollisionGrid grid = quiet.getCollisionGrid();
+    LineOfSight sight = new LineOfSight(grid);
+    Vector2 start = null;
+    for (int dx = -8; dx <= 8 && start == null; dx++) {
+      for (int dy = -8; dy <= 8 && start == null; dy++) {
+        float x = GameWorld.PLAYER_X + dx * 16;
+        float y = GameWorld.PLAYER_Y + dy * 16;
+        if (Math.abs(dx) + Math.abs(dy) >= 4 && !MoveResolver.CHARACTER.overlaps(grid, x, y)
+          && sight.canSee(x, y, GameWorld.PLAYER_X, GameWorld.PLAYER_Y)) {
+          start = new Vector2(x, y);
+        }
+      }
+    }
+    assertNotNull(start);
+    quiet.addChaser(new Dean(start.x, start.y, null, quiet.getPlayer(), quiet));
+    busy.addChaser(new Dean(start.x, start.y, null, busy.getPlayer(), busy));
+    // an agent that takes the whole budget, as agents would on a slow machine
+    busy.getAIScheduler().register(delta -> {
+      long began = System.nanoTime();
+      while (System.nanoTime() - began < 3000000L) {
+        // spend the budget
+      }
+    }, busy.getPlayer().getPosition(), AIScheduler.PRIORITY_HIGH, AIScheduler.EVERY_FRAME);
+
+    for (int step = 0; step < 60; step++) {
+      quiet.step(0);
+      busy.step(0);
+      for (int i = 0; i < quiet.getChasers().size(); i++) {
+        assertEquals(quiet.getChasers().get(i).getComponent(PositionComponent.class).position,
+          busy.getChasers().get(i).getComponent(PositionComponent.class).position, "chaser " + i + " on step " + step);
+      }
+    }
+    assertEquals(2, quiet.getChasers().size());
+    assertNotEquals(start, quiet.getChasers().get(1).getComponent(PositionComponent.class).position, "the second chaser gives chase");
+    assertEquals(quiet.getTimesCaught(), busy.getTimesCaught());
+  }
+
+  @Test
+  void hordeCatchesThePlayerAndGoesBackWhereItSpawned() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    GameWorld world = GameWorld.headless(map);
+    map.dispose();
+    world.setHorde(500);
+    Crowd horde = world.getHorde();
+    assertEquals(500, horde.size());
+    Vector2 start = new Vector2(GameWorld.PLAYER_X, GameWorld.PLAYER_Y);
+    FlowField fromStart = new FlowField(world.getCollisionGrid());
+    fromStart.update(start.x, start.y);
+    float[] spawns = new float[horde.size() * 2];
+    for (int i = 0; i < horde.size(); i++) {
+      spawns[i * 2] = horde.getX(i);
+      spawns[i * 2 + 1] = horde.getY(i);
+      assertFalse(MoveResolver.CHARACTER.overlaps(world.getCollisionGrid(), horde.getX(i), horde.getY(i)));
+      int walk = fromStart.getDistance((int) horde.getX(i) / 16, (int) horde.getY(i) / 16);
+      assertTrue(walk >= GameWorld.HORDE_SPAWN_DISTANCE && walk != FlowField.UNREACHABLE, "chaser " + i + " is " + walk + " away");
+    }
+
+    Vector2 dean = world.getChasers().get(0).getComponent(PositionComponent.class).position.cpy();
+    int step = 0;
+    for (; step < 3600 && world.getTimesCaught() == 0; step++) {
+      world.step(0);
+    }
+    assertEquals(1, world.getTimesCaught(), "the horde reaches the player");
+    assertEquals(dean, world.getChasers().get(0).getComponent(PositionComponent.class).position, "the dean never saw the player");
+    assertEquals(start, world.getPlayer().getPosition());
+    int home = 0;
+    int moved = 0;
+    for (int i = 0; i < horde.size(); i++) {
+      if (horde.getX(i) == spawns[i * 2] && horde.getY(i) == spawns[i * 2 + 1]) {
+        home++;
+      } else {
+        moved++;
+      }
+    }
+    assertTrue(home > 0, "the chasers that caught the player went back");
+    assertTrue(moved > 0, "the rest are still chasing");
+
+    world.reset();
+    assertEquals(0, world.getTimesCaught());
+    for (int i = 0; i < horde.size(); i++) {
+      assertEquals(spawns[i * 2], horde.getX(i));
+      assertEquals(spawns[i * 2 + 1], horde.getY(i));
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import org.mockito.Mockito;
+
+/**
+ * <code> MyGame </code> for tests, whose render context draws through a mocked
+ * shader, so screens can be created under {@link HeadlessGdx}.
+ */
+class HeadlessGame extends MyGame {
+  @Override
+  protected RenderContext createRenderContext(GameAssets assets) {
+    ShaderProgram shader = Mockito.mock(ShaderProgram.class);
+    return new RenderContext(assets, new SpriteBatch(1000, shader), new ShapeRenderer(5000, shader), shader);
+  }
+}
@@ -0,0 +1,32 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import org.mockito.Mockito;
+
+/**
+ * Starts a single headless libGDX application for tests that need Gdx.files or
+ * need to load textures and maps. GL calls go to a Mockito mock so textures can
+ * be created without a window, and sprite batches given a mocked shader.
+ */
+final class HeadlessGdx {
+  private static HeadlessApplication application;
+
+  private HeadlessGdx() {}
+
+  static synchronized void init() {
+    if (application != null) {
+      return;
+    }
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    config.updatesPerSecond = -1;
+    application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+    Gdx.gl = Mockito.mock(GL20.class);
+    // buffers with a zero handle count as unallocated, which SpriteBatch rejects
+    Mockito.when(Gdx.gl.glGenBuffer()).thenReturn(1);
+    Gdx.gl20 = Gdx.gl;
+  }
+}
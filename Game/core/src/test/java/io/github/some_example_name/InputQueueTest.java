@@ -0,0 +1,84 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InputQueueTest {
+  @Test
+  void holdsEventsInOrderUntilFull() {
+    InputQueue queue = new InputQueue(3);
+    for (int i = 0; i < 4; i++) {
+      assertTrue(queue.offer(i));
+    }
+    assertFalse(queue.offer(4), "capacity is rounded up to 4");
+    assertEquals(4, queue.size());
+    for (int i = 0; i < 4; i++) {
+      assertEquals(i, queue.poll());
+    }
+    assertEquals(InputQueue.EMPTY, queue.poll());
+  }
+
+  @Test
+  void passesEveryEventBetweenThreadsInOrder() throws InterruptedException {
+    int events = 200000;
+    InputQueue queue = new InputQueue(64);
+    Thread producer = new Thread(() -> {
+      for (int i = 0; i < events; i++) {
+        while (!queue.offer(i)) {
+          Thread.yield();
+        }
+      }
+    });
+    producer.start();
+
+    int expected = 0;
+    while (expected < events) {
+      int event = queue.poll();
+      if (event != InputQueue.EMPTY) {
+        assertEquals(expected++, event);
+      } else {
+        Thread.yield();
+      }
+    }
+    producer.join();
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  void queuedInputKeepsATapForOneStep() {
+    Input previous = Gdx.input;
+    Gdx.input = mock(Input.class);
+    try {
+      QueuedInput input = new QueuedInput();
+      // E is tapped and let go within one frame
+      when(Gdx.input.isKeyJustPressed(Input.Keys.E)).thenReturn(true);
+      input.record();
+      when(Gdx.input.isKeyJustPressed(Input.Keys.E)).thenReturn(false);
+      input.record();
+      assertFalse(input.isKeyJustPressed(Input.Keys.E), "not seen until the next step");
+
+      input.update();
+      assertTrue(input.isKeyJustPressed(Input.Keys.E));
+      input.update();
+      assertFalse(input.isKeyJustPressed(Input.Keys.E), "only for one step");
+      assertFalse(input.isKeyPressed(Input.Keys.E));
+
+      // W is held across steps
+      when(Gdx.input.isKeyPressed(Input.Keys.W)).thenReturn(true);
+      input.record();
+      input.update();
+      input.update();
+      assertTrue(input.isKeyPressed(Input.Keys.W));
+      assertFalse(input.isKeyJustPressed(Input.Keys.W));
+      when(Gdx.input.isKeyPressed(Input.Keys.W)).thenReturn(false);
+      input.record();
+      input.update();
+      assertFalse(input.isKeyPressed(Input.Keys.W));
+    } finally {
+      Gdx.input = previous;
+    }
+  }
+}
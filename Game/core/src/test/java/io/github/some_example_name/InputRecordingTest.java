@@ -0,0 +1,142 @@
+package io.github.some_example_name;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputRecordingTest {
+  private static final int HOUR = 60 * 60 * 60;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** Keys a player might hold, changing a few times a second. */
+  private static IntArray playerKeys(int steps, long seed) {
+    Random rng = new Random(seed);
+    IntArray keys = new IntArray(steps);
+    int held = 0;
+    for (int step = 0; step < steps; step++) {
+      if (rng.nextInt(20) == 0) {
+        held = rng.nextInt(GameWorld.PAUSE);
+      }
+      keys.add(held);
+    }
+    return keys;
+  }
+
+  @Test
+  void readsBackEveryStep() {
+    IntArray keys = playerKeys(5000, 1);
+    // long runs, and every key at once
+    for (int i = 0; i < 1000; i++) {
+      keys.add(GameWorld.UP | GameWorld.PAUSE);
+    }
+    keys.add(0x3F);
+
+    InputRecording recording = new InputRecording(GameAssets.MAP, 9);
+    for (int i = 0; i < keys.size; i++) {
+      recording.record(keys.get(i));
+    }
+    InputReplay replay = new InputReplay(recording);
+    for (int i = 0; i < keys.size; i++) {
+      assertTrue(replay.hasNext());
+      assertEquals(keys.get(i), replay.next(), "step " + i);
+    }
+    assertFalse(replay.hasNext());
+    assertEquals(keys.size, recording.getSteps());
+  }
+
+  @Test
+  void anHourOfPlayTakesKilobytes() {
+    IntArray keys = playerKeys(HOUR, 2);
+    InputRecording recording = new InputRecording(GameAssets.MAP, 0);
+    for (int i = 0; i < keys.size; i++) {
+      recording.record(keys.get(i));
+    }
+    assertTrue(recording.getSizeInBytes() < 32 * 1024, recording.getSizeInBytes() + " bytes");
+  }
+
+  @Test
+  void savedRecordingCarriesOn() throws IOException {
+    IntArray keys = playerKeys(3000, 3);
+    InputRecording recording = new InputRecording(GameAssets.MAP, 42);
+    for (int i = 0; i < 2000; i++) {
+      recording.record(keys.get(i));
+    }
+    recording.setScore(321);
+    File file = File.createTempFile("round", InputRecording.EXTENSION);
+    file.deleteOnExit();
+    recording.save(new FileHandle(file));
+
+    InputRecording loaded = InputRecording.load(new FileHandle(file));
+    assertEquals(GameAssets.MAP, loaded.getMapId());
+    assertEquals(42, loaded.getSeed());
+    assertEquals(321, loaded.getScore());
+    for (int i = 2000; i < keys.size; i++) {
+      loaded.record(keys.get(i));
+    }
+    InputReplay replay = new InputReplay(loaded);
+    for (int i = 0; i < keys.size; i++) {
+      assertEquals(keys.get(i), replay.next(), "step " + i);
+    }
+    assertFalse(replay.hasNext());
+  }
+
+  @Test
+  void cutShortRecordingIsRejected() throws IOException {
+    IntArray keys = playerKeys(3000, 5);
+    InputRecording recording = new InputRecording(GameAssets.MAP, 7);
+    for (int i = 0; i < keys.size; i++) {
+      recording.record(keys.get(i));
+    }
+    File file = File.createTempFile("round", InputRecording.EXTENSION);
+    file.deleteOnExit();
+    FileHandle handle = new FileHandle(file);
+    recording.save(handle);
+    assertFalse(handle.sibling(handle.name() + ".partial").exists());
+
+    byte[] whole = handle.readBytes();
+    for (int length : new int[] {10, 20, whole.length - 3}) {
+      handle.writeBytes(Arrays.copyOf(whole, length), false);
+      assertThrows(GdxRuntimeException.class, () -> InputRecording.load(handle), length + " bytes");
+    }
+    // map id length after the magic and version
+    byte[] garbage = whole.clone();
+    ByteBuffer.wrap(garbage).putInt(6, -1);
+    handle.writeBytes(garbage, false);
+    assertThrows(GdxRuntimeException.class, () -> InputRecording.load(handle));
+  }
+
+  @Test
+  void replayPlaysTheSameRoundAsFastAsItCan() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    GameWorld played = GameWorld.headless(map);
+    GameWorld replayed = GameWorld.headless(map);
+    map.dispose();
+
+    IntArray keys = playerKeys(8000, 4);
+    InputRecording recording = new InputRecording(GameAssets.MAP, 0);
+    for (int i = 0; i < keys.size; i++) {
+      recording.record(keys.get(i));
+      played.step(keys.get(i));
+    }
+
+    assertEquals(keys.size, new InputReplay(recording).playToEnd(replayed));
+    assertEquals(played.getPlayer().getPosition(), replayed.getPlayer().getPosition());
+    assertEquals(played.getTimesCaught(), replayed.getTimesCaught());
+    assertEquals(played.getSteps(), replayed.getSteps());
+    assertEquals(played.calculateFinalScore(), replayed.calculateFinalScore());
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prints the time per frame of 100 and 10,000 chasers on the maze map each
+ * checking if they can see a wandering player with one batch query, with the
+ * pair cache and with a cache too small to hit. Chasers drift a little each
+ * frame, so most stay on their tile from one frame to the next. Run with
+ * ./gradlew :core:benchmark
+ */
+@Tag("benchmark")
+class LineOfSightBenchmarkTest {
+  private static final int[] AGENT_COUNTS = { 100, 10000 };
+  private static final int FRAMES = 600;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** Average milliseconds per frame, and the share of queries answered from the cache. */
+  private static String run(CollisionGrid grid, int agents, int cacheSize) {
+    Random rng = new Random(1);
+    float[] x = new float[agents];
+    float[] y = new float[agents];
+    for (int i = 0; i < agents; i++) {
+      do {
+        x[i] = rng.nextFloat() * grid.getWidth() * grid.getTileWidth();
+        y[i] = rng.nextFloat() * grid.getHeight() * grid.getTileHeight();
+      } while (grid.isBlockedAt(x[i], y[i]));
+    }
+    boolean[] out = new boolean[agents];
+    LineOfSight sight = new LineOfSight(grid, cacheSize);
+    float playerX = 145;
+    float playerY = 70;
+    long start = System.nanoTime();
+    for (int frame = 0; frame < FRAMES; frame++) {
+      // the player crosses a tile every 16 frames, chasers drift at the same speed
+      playerX = 145 + (frame % 240);
+      for (int i = 0; i < agents; i++) {
+        x[i] += rng.nextFloat() * 2 - 1;
+        y[i] += rng.nextFloat() * 2 - 1;
+      }
+      sight.canSee(x, y, agents, playerX, playerY, out);
+    }
+    double ms = (System.nanoTime() - start) / 1e6 / FRAMES;
+    double hitRate = sight.getHits() / (double) (sight.getHits() + sight.getMisses());
+    return String.format("%10.4f %8.1f%%", ms, hitRate * 100);
+  }
+
+  @Test
+  void batchQueries() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    CollisionGrid maze = new CollisionGrid(map);
+    map.dispose();
+
+    System.out.printf("%-8s %20s %20s%n", "agents", "cached (ms, hits)", "uncached (ms, hits)");
+    for (int agents : AGENT_COUNTS) {
+      // warm up both before timing
+      run(maze, agents, LineOfSight.DEFAULT_CACHE_SIZE * 4);
+      run(maze, agents, 1);
+      System.out.printf("%-8d %20s %20s%n", agents, run(maze, agents, LineOfSight.DEFAULT_CACHE_SIZE * 4), run(maze, agents, 1));
+    }
+  }
+}
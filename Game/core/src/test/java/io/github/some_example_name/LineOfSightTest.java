@@ -0,0 +1,162 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.*;
+
+class LineOfSightTest {
+  /** Sight checked by sampling the line between tile centres finely, blocked if any sample is on a blocked tile. */
+  private static boolean sampled(CollisionGrid grid, int x0, int y0, int x1, int y1) {
+    int samples = 400;
+    for (int i = 1; i < samples; i++) {
+      float t = i / (float) samples;
+      int x = (int) Math.floor(x0 + 0.5f + (x1 - x0) * t);
+      int y = (int) Math.floor(y0 + 0.5f + (y1 - y0) * t);
+      if ((x != x0 || y != y0) && (x != x1 || y != y1) && grid.isBlocked(x, y)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Test
+  void wallsBlockSightAndCornersCannotBeSeenPast() {
+    CollisionGrid grid = new CollisionGrid(10, 10, 16, 16);
+    for (int y = 0; y < 6; y++) {
+      grid.setBlocked(5, y, true);
+    }
+    LineOfSight sight = new LineOfSight(grid);
+
+    assertTrue(sight.canSeeTile(0, 0, 4, 9));
+    assertFalse(sight.canSeeTile(0, 0, 9, 0));
+    assertTrue(sight.canSeeTile(0, 8, 9, 8), "over the top of the wall");
+    // the line from (4, 4) to (6, 6) passes exactly through the wall's top corner
+    assertFalse(sight.canSeeTile(4, 4, 6, 6));
+    // the tiles at either end are not checked
+    assertTrue(sight.canSeeTile(5, 5, 5, 9));
+    // world positions use the tile under a 16x16 entity's centre
+    assertEquals(sight.canSeeTile(0, 0, 9, 0), sight.canSee(0, 0, 9 * 16, 0));
+  }
+
+  @Test
+  void agreesWithSamplingBothWaysOnRandomGrids() {
+    Random rng = new Random(11);
+    CollisionGrid grid = new CollisionGrid(30, 30, 16, 16);
+    for (int y = 0; y < 30; y++) {
+      for (int x = 0; x < 30; x++) {
+        grid.setBlocked(x, y, rng.nextFloat() < 0.2f);
+      }
+    }
+    LineOfSight sight = new LineOfSight(grid, 64);
+    for (int i = 0; i < 2000; i++) {
+      int x0 = rng.nextInt(30);
+      int y0 = rng.nextInt(30);
+      int x1 = rng.nextInt(30);
+      int y1 = rng.nextInt(30);
+      boolean seen = sight.canSeeTile(x0, y0, x1, y1);
+      assertEquals(seen, sight.canSeeTile(x1, y1, x0, y0), "sight differs each way");
+      // sampling can slip past a corner, but never sees through a tile the line crosses
+      if (seen) {
+        assertTrue(sampled(grid, x0, y0, x1, y1), x0 + "," + y0 + " to " + x1 + "," + y1);
+      }
+    }
+  }
+
+  @Test
+  void cachesPairsUntilAnEndMovesOrTheGridChanges() {
+    CollisionGrid grid = new CollisionGrid(10, 10, 16, 16);
+    LineOfSight sight = new LineOfSight(grid);
+
+    assertTrue(sight.canSeeTile(0, 0, 9, 0));
+    assertTrue(sight.canSeeTile(9, 0, 0, 0));
+    assertEquals(1, sight.getMisses());
+    assertEquals(1, sight.getHits());
+
+    // moving within a tile is still the same pair
+    assertTrue(sight.canSee(1, 2, 144, 3));
+    assertEquals(2, sight.getHits());
+    assertTrue(sight.canSeeTile(0, 1, 9, 0));
+    assertEquals(2, sight.getMisses());
+
+    grid.setBlocked(5, 0, true);
+    assertTrue(sight.canSeeTile(0, 0, 9, 0), "stale until invalidated");
+    sight.invalidate();
+    assertFalse(sight.canSeeTile(0, 0, 9, 0));
+  }
+
+  @Test
+  void batchMatchesSingleQueries() {
+    Random rng = new Random(5);
+    CollisionGrid grid = new CollisionGrid(40, 40, 16, 16);
+    for (int y = 0; y < 40; y++) {
+      for (int x = 0; x < 40; x++) {
+        grid.setBlocked(x, y, rng.nextFloat() < 0.15f);
+      }
+    }
+    int count = 200;
+    float[] x = new float[count];
+    float[] y = new float[count];
+    for (int i = 0; i < count; i++) {
+      x[i] = rng.nextFloat() * 640;
+      y[i] = rng.nextFloat() * 640;
+    }
+    boolean[] out = new boolean[count];
+    LineOfSight sight = new LineOfSight(grid);
+    int seen = sight.canSee(x, y, count, 320, 320, out);
+
+    LineOfSight single = new LineOfSight(grid);
+    int expected = 0;
+    for (int i = 0; i < count; i++) {
+      assertEquals(single.canSee(x[i], y[i], 320, 320), out[i]);
+      if (out[i]) {
+        expected++;
+      }
+    }
+    assertEquals(expected, seen);
+    assertTrue(seen > 0 && seen < count);
+  }
+
+  @Test
+  void deanOnlyChasesOnceItSeesThePlayer() {
+    CollisionGrid grid = new CollisionGrid(20, 20, 16, 16);
+    for (int y = 0; y < 15; y++) {
+      grid.setBlocked(10, y, true);
+    }
+    GameWorld world = mock(GameWorld.class);
+    when(world.getCollisionGrid()).thenReturn(grid);
+    when(world.isCellBlocked(anyFloat(), anyFloat()))
+      .thenAnswer(call -> grid.isBlockedAt(call.<Float>getArgument(0), call.<Float>getArgument(1)));
+    TextureRegion region = new TextureRegion(mock(Texture.class));
+    Player player = new Player(15 * 16, 2 * 16, region, region, region);
+    Dean dean = new Dean(2 * 16, 2 * 16, region, player, world);
+    dean.setLineOfSight(new LineOfSight(grid));
+
+    Vector2 start = dean.getPosition().cpy();
+    for (int frame = 0; frame < 60; frame++) {
+      dean.update(1 / 60f);
+    }
+    assertFalse(dean.isChasing());
+    assertEquals(start, dean.getPosition());
+
+    // stepping out from behind the wall
+    player.getPosition().set(5 * 16, 17 * 16);
+    dean.update(1 / 60f);
+    assertTrue(dean.isChasing());
+    assertNotEquals(start, dean.getPosition());
+
+    // once seen, the player is chased even after ducking back behind the wall
+    player.getPosition().set(15 * 16, 2 * 16);
+    for (int frame = 0; frame < 60 * 60 && dean.getPosition().dst(player.getPosition()) > 16; frame++) {
+      dean.update(1 / 60f);
+    }
+    assertTrue(dean.getPosition().dst(player.getPosition()) <= 16, "dean stuck at " + dean.getPosition());
+    dean.resetToStart(0);
+    assertFalse(dean.isChasing());
+  }
+}
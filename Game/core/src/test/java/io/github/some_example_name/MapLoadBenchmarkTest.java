@@ -0,0 +1,101 @@
+package io.github.some_example_name;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.ObjectMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Prints how long each map takes to load from TMX and from its compiled form, the
+ * way GameScreen loads them: the TMX path also builds the collision grid, while
+ * the compiled map brings its grid with it. Decoding the tileset PNGs costs the
+ * same either way, so times are given both with it and with the textures already
+ * loaded. Run with ./gradlew :core:benchmark
+ */
+@Tag("benchmark")
+class MapLoadBenchmarkTest {
+  private static final int WARMUP = 10;
+  private static final int RUNS = 30;
+
+  @TempDir
+  Path tempDir;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  private interface MapLoad {
+    TiledMap load();
+  }
+
+  /** Median load time in milliseconds. */
+  private static double time(MapLoad load) {
+    for (int i = 0; i < WARMUP; i++) {
+      load.load().dispose();
+    }
+    long[] samples = new long[RUNS];
+    for (int i = 0; i < RUNS; i++) {
+      long start = System.nanoTime();
+      TiledMap map = load.load();
+      samples[i] = System.nanoTime() - start;
+      map.dispose();
+    }
+    Arrays.sort(samples);
+    return samples[RUNS / 2] / 1e6;
+  }
+
+  private static double tmxTime(TmxMapLoader loader, String fileName) {
+    return time(() -> {
+      TiledMap map = loader.load(fileName);
+      new CollisionGrid(map);
+      return map;
+    });
+  }
+
+  @Test
+  void tmxAgainstCompiledLoadTimes() throws IOException {
+    TmxCompiler compiler = new TmxCompiler(Paths.get(""));
+    System.out.printf("%-52s %21s %21s %19s%n", "", "with png decode (ms)", "textures loaded (ms)", "size (bytes)");
+    System.out.printf("%-52s %6s %6s %7s %6s %6s %7s %9s %9s%n",
+      "map", "tmx", "tmb", "speedup", "tmx", "tmb", "speedup", "tmx", "tmb");
+
+    for (FileHandle file : Gdx.files.internal("Tile Maps").list(".tmx")) {
+      Path compiled = tempDir.resolve(CompiledMapLoader.compiledPath(file.name()));
+      Files.write(compiled, compiler.compile(Paths.get(file.path())));
+      FileHandle compiledFile = Gdx.files.absolute(compiled.toString());
+
+      double tmx = tmxTime(new PlaceholderTmxMapLoader(), file.path());
+      CompiledMapLoader binaryLoader = new PlaceholderCompiledMapLoader();
+      double binary = time(() -> binaryLoader.load(compiledFile));
+
+      ObjectMap<String, Texture> tmxTextures = new ObjectMap<>();
+      ObjectMap<String, Texture> binaryTextures = new ObjectMap<>();
+      double tmxParse = tmxTime(new PlaceholderTmxMapLoader(tmxTextures), file.path());
+      CompiledMapLoader sharedLoader = new PlaceholderCompiledMapLoader(binaryTextures);
+      double binaryParse = time(() -> sharedLoader.load(compiledFile));
+      for (Texture texture : tmxTextures.values()) {
+        texture.dispose();
+      }
+      for (Texture texture : binaryTextures.values()) {
+        texture.dispose();
+      }
+
+      System.out.printf("%-52s %6.2f %6.2f %6.1fx %6.2f %6.2f %6.1fx %9d %9d%n",
+        file.name(), tmx, binary, tmx / binary, tmxParse, binaryParse, tmxParse / binaryParse,
+        file.length(), compiledFile.length());
+    }
+  }
+}
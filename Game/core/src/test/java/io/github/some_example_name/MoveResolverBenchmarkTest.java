@@ -0,0 +1,73 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prints how many moves a second the character resolver settles on the maze map,
+ * for walking, boosted and very fast moves in random directions from open tiles.
+ * Run with ./gradlew :core:benchmark
+ */
+@Tag("benchmark")
+class MoveResolverBenchmarkTest {
+  private static final int BODIES = 1000;
+  private static final int MOVES = 20000000;
+  private static final float[] SPEEDS = { 1, 2, 40 };
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** Moves resolved a second, and the share cut short by a wall. */
+  private static String run(CollisionGrid grid, float speed) {
+    Random rng = new Random(1);
+    Vector2[] bodies = new Vector2[BODIES];
+    for (int i = 0; i < BODIES; i++) {
+      int tileX;
+      int tileY;
+      do {
+        tileX = rng.nextInt(grid.getWidth());
+        tileY = rng.nextInt(grid.getHeight());
+      } while (grid.isBlocked(tileX, tileY));
+      bodies[i] = new Vector2(tileX * grid.getTileWidth(), tileY * grid.getTileHeight());
+    }
+    float[] dx = new float[256];
+    float[] dy = new float[256];
+    for (int i = 0; i < dx.length; i++) {
+      double angle = rng.nextDouble() * Math.PI * 2;
+      dx[i] = (float) Math.cos(angle) * speed;
+      dy[i] = (float) Math.sin(angle) * speed;
+    }
+    MoveResolver resolver = MoveResolver.CHARACTER;
+    long hits = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < MOVES; i++) {
+      int direction = (i / BODIES + i * 7) & 255;
+      if (resolver.move(grid, bodies[i % BODIES], dx[direction], dy[direction]) != 0) {
+        hits++;
+      }
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+    return String.format("%14.0f %8.1f%%", MOVES / seconds, hits * 100.0 / MOVES);
+  }
+
+  @Test
+  void resolvesPerSecond() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    CollisionGrid maze = new CollisionGrid(map);
+    map.dispose();
+
+    System.out.printf("%-8s %14s %9s%n", "speed", "moves/s", "blocked");
+    for (float speed : SPEEDS) {
+      // warm up before timing
+      run(maze, speed);
+      System.out.printf("%-8.0f %s%n", speed, run(maze, speed));
+    }
+  }
+}
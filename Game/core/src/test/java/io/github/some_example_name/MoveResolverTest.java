@@ -0,0 +1,96 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveResolverTest {
+  private static final MoveResolver resolver = MoveResolver.CHARACTER;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** An open 10x10 grid with a wall down column 5. */
+  private static CollisionGrid wall() {
+    CollisionGrid grid = new CollisionGrid(10, 10, 16, 16);
+    for (int y = 0; y < 10; y++) {
+      grid.setBlocked(5, y, true);
+    }
+    return grid;
+  }
+
+  @Test
+  void stopsFlushAgainstWall() {
+    CollisionGrid grid = wall();
+    Vector2 position = new Vector2(60, 40);
+    assertEquals(MoveResolver.HIT_X, resolver.move(grid, position, 10, 0));
+    assertEquals(new Vector2(64, 40), position);
+    assertEquals(MoveResolver.HIT_X, resolver.move(grid, position, 1, 0));
+    assertEquals(new Vector2(64, 40), position);
+    assertEquals(0, resolver.move(grid, position, -3, 0));
+    assertEquals(new Vector2(61, 40), position);
+  }
+
+  @Test
+  void slidesAlongWall() {
+    CollisionGrid grid = wall();
+    Vector2 position = new Vector2(63, 40);
+    assertEquals(MoveResolver.HIT_X, resolver.move(grid, position, 2, 2));
+    assertEquals(new Vector2(64, 42), position);
+    assertEquals(MoveResolver.HIT_X, resolver.move(grid, position, 2, -2));
+    assertEquals(new Vector2(64, 40), position);
+  }
+
+  @Test
+  void neverPassesThroughWallAtAnySpeed() {
+    CollisionGrid grid = wall();
+    Vector2 position = new Vector2(20, 40);
+    resolver.move(grid, position, 500, 37);
+    assertEquals(new Vector2(64, 77), position);
+    position.set(120, 40);
+    resolver.move(grid, position, -500, 0);
+    assertEquals(96, position.x);
+  }
+
+  @Test
+  void isNudgedAroundCornerIntoCorridor() {
+    // a wall along row 4 with a gap at column 3
+    CollisionGrid grid = new CollisionGrid(10, 10, 16, 16);
+    for (int x = 0; x < 10; x++) {
+      grid.setBlocked(x, 4, x != 3);
+    }
+    Vector2 position = new Vector2(44, 48);
+    resolver.move(grid, position, 0, 1);
+    assertEquals(new Vector2(45, 48), position);
+    for (int i = 0; i < 10; i++) {
+      resolver.move(grid, position, 0, 1);
+    }
+    assertEquals(48, position.x);
+    assertTrue(position.y > 48, "went up the gap to " + position);
+
+    // too far off the gap to be nudged
+    position.set(38, 48);
+    assertEquals(MoveResolver.HIT_Y, resolver.move(grid, position, 0, 1));
+    assertEquals(new Vector2(38, 48), position);
+  }
+
+  @Test
+  void randomWalkNeverOverlapsWalls() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    CollisionGrid grid = new CollisionGrid(map);
+    map.dispose();
+    Random rng = new Random(3);
+    Vector2 position = new Vector2(GameWorld.PLAYER_X, GameWorld.PLAYER_Y);
+    assertFalse(resolver.overlaps(grid, position.x, position.y));
+    for (int i = 0; i < 20000; i++) {
+      resolver.move(grid, position, rng.nextFloat() * 40 - 20, rng.nextFloat() * 40 - 20);
+      assertFalse(resolver.overlaps(grid, position.x, position.y), "step " + i + " at " + position);
+    }
+  }
+}
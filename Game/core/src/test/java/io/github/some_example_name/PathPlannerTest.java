@@ -0,0 +1,128 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.ai.utils.Ray;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.*;
+
+class PathPlannerTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** 10x10 grid with a wall along x = 5, open only at the top row. */
+  private static CollisionGrid wallGrid() {
+    CollisionGrid grid = new CollisionGrid(10, 10, 16, 16);
+    for (int y = 0; y < 9; y++) {
+      grid.setBlocked(5, y, true);
+    }
+    return grid;
+  }
+
+  /** World position of a 16x16 entity standing in the middle of a tile. */
+  private static float world(int tile) {
+    return tile * 16f;
+  }
+
+  private static void assertClear(CollisionGrid grid, TilePath path) {
+    GridRaycastCollisionDetector raycaster = new GridRaycastCollisionDetector(grid);
+    for (int i = 1; i < path.getCount(); i++) {
+      Ray<Vector2> segment = new Ray<>(path.getNodePosition(i - 1).cpy(), path.getNodePosition(i).cpy());
+      assertFalse(raycaster.collides(segment), "segment " + i + " of the path crosses a wall");
+    }
+  }
+
+  @Test
+  void findsSmoothedPathAroundWall() {
+    CollisionGrid grid = wallGrid();
+    PathPlanner planner = new PathPlanner(grid, Long.MAX_VALUE);
+    planner.update(world(1), world(1), world(8), world(1));
+
+    TilePath path = planner.getPath();
+    assertFalse(planner.isSearching());
+    assertEquals(1, path.get(0).x);
+    assertEquals(8, path.get(path.getCount() - 1).x);
+    assertEquals(1, path.get(path.getCount() - 1).y);
+    // around the top of the wall takes more than a straight line but far fewer tiles than the raw path
+    assertTrue(path.getCount() >= 3 && path.getCount() <= 5, "smoothed path has " + path.getCount() + " tiles");
+    for (TileGraph.Node node : path) {
+      assertFalse(grid.isBlocked(node.x, node.y));
+    }
+    assertClear(grid, path);
+  }
+
+  @Test
+  void searchesAgainOnlyWhenTargetChangesTile() {
+    PathPlanner planner = new PathPlanner(wallGrid(), Long.MAX_VALUE);
+    planner.update(world(1), world(1), world(8), world(1));
+    planner.update(world(1), world(1), world(8) + 5, world(1) - 5);
+    planner.update(world(1), world(1), world(8) - 7, world(1) + 7);
+    assertEquals(1, planner.getSearchCount());
+
+    planner.update(world(1), world(1), world(8), world(2));
+    assertEquals(2, planner.getSearchCount());
+    assertEquals(2, planner.getPath().get(planner.getPath().getCount() - 1).y);
+  }
+
+  @Test
+  void unreachableTargetLeavesNoPath() {
+    CollisionGrid grid = wallGrid();
+    grid.setBlocked(5, 9, true);
+    PathPlanner planner = new PathPlanner(grid, Long.MAX_VALUE);
+    planner.update(world(1), world(1), world(8), world(1));
+
+    assertEquals(0, planner.getPath().getCount());
+    assertFalse(planner.nextWaypoint(new Vector2(world(1), world(1)), 1f, new Vector2()));
+    planner.update(world(1), world(1), world(8), world(1));
+    assertEquals(1, planner.getSearchCount());
+  }
+
+  @Test
+  void searchOverBudgetCarriesOnNextFrame() {
+    CollisionGrid grid = new CollisionGrid(200, 200, 16, 16);
+    for (int x = 0; x < 199; x++) {
+      grid.setBlocked(x, 100, true);
+    }
+    PathPlanner planner = new PathPlanner(grid, 2000L);
+    int frames = 0;
+    do {
+      planner.update(world(0), world(0), world(0), world(199));
+      frames++;
+    } while (planner.isSearching() && frames < 1000000);
+
+    assertTrue(frames > 1, "search finished in one frame");
+    assertEquals(1, planner.getSearchCount());
+    assertEquals(199, planner.getPath().get(planner.getPath().getCount() - 1).y);
+    assertClear(grid, planner.getPath());
+  }
+
+  @Test
+  void deanReachesPlayerThroughMaze() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    CollisionGrid grid = new CollisionGrid(map);
+    GameWorld world = mock(GameWorld.class);
+    when(world.getCollisionGrid()).thenReturn(grid);
+    when(world.isCellBlocked(anyFloat(), anyFloat()))
+      .thenAnswer(call -> grid.isBlockedAt(call.<Float>getArgument(0), call.<Float>getArgument(1)));
+
+    TextureRegion region = new TextureRegion(mock(Texture.class));
+    Player player = new Player(145, 70, region, region, region);
+    Dean dean = new Dean(90, 450, region, player, world);
+
+    int frames = 0;
+    while (dean.getPosition().dst(player.getPosition()) > 16 && frames < 60 * 60) {
+      dean.update(1 / 60f);
+      assertFalse(grid.isBlockedAt(dean.getPosition().x, dean.getPosition().y), "dean walked into a wall");
+      frames++;
+    }
+    assertTrue(dean.getPosition().dst(player.getPosition()) <= 16, "dean stuck at " + dean.getPosition());
+    map.dispose();
+  }
+}
@@ -0,0 +1,86 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.badlogic.gdx.ai.pfa.PathSmoother;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prints how long one A* search of the dean's path takes, with and without
+ * smoothing, on the maze map between the dean's and the player's spawn tiles,
+ * and across a synthetic 1000x1000 grid with a quarter of its tiles blocked.
+ * Run with ./gradlew :core:benchmark
+ */
+@Tag("benchmark")
+class PathfindingBenchmarkTest {
+  private static final int WARMUP = 20;
+  private static final int RUNS = 50;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  /** Prints the median time of a search from one tile to another, in milliseconds. */
+  private static void time(String name, CollisionGrid grid, int startX, int startY, int endX, int endY) {
+    TileGraph graph = new TileGraph(grid);
+    IndexedAStarPathFinder<TileGraph.Node> pathFinder = new IndexedAStarPathFinder<>(graph, true);
+    PathSmoother<TileGraph.Node, Vector2> smoother =
+      new PathSmoother<>(new GridRaycastCollisionDetector(grid));
+    TileGraph.Node start = graph.getNode(startX, startY);
+    TileGraph.Node end = graph.getNode(endX, endY);
+    TilePath path = new TilePath();
+
+    long[] search = new long[RUNS];
+    long[] smoothed = new long[RUNS];
+    int rawLength = 0;
+    for (int i = -WARMUP; i < RUNS; i++) {
+      graph.beginSearch();
+      path.clear();
+      long begin = System.nanoTime();
+      assertTrue(pathFinder.searchNodePath(start, end, TileGraph.HEURISTIC, path), "no path on " + name);
+      long searched = System.nanoTime();
+      rawLength = path.getCount();
+      smoother.smoothPath(path);
+      long done = System.nanoTime();
+      if (i >= 0) {
+        search[i] = searched - begin;
+        smoothed[i] = done - begin;
+      }
+    }
+    Arrays.sort(search);
+    Arrays.sort(smoothed);
+    System.out.printf("%-24s %10d %10d %8d %8d %12.3f %12.3f%n", name, grid.getWidth() * grid.getHeight(),
+      pathFinder.metrics.visitedNodes, rawLength, path.getCount(), search[RUNS / 2] / 1e6, smoothed[RUNS / 2] / 1e6);
+  }
+
+  @Test
+  void searchTimes() {
+    System.out.printf("%-24s %10s %10s %8s %8s %12s %12s%n",
+      "grid", "tiles", "visited", "path", "smoothed", "search (ms)", "+smooth (ms)");
+
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    CollisionGrid maze = new CollisionGrid(map);
+    // tiles under the centres of the dean's and the player's spawn points
+    time("maze 40x40", maze, (90 + 8) / 16, (450 + 8) / 16, (145 + 8) / 16, (70 + 8) / 16);
+    map.dispose();
+
+    CollisionGrid random = new CollisionGrid(1000, 1000, 16, 16);
+    Random rng = new Random(42);
+    for (int y = 0; y < 1000; y++) {
+      for (int x = 0; x < 1000; x++) {
+        random.setBlocked(x, y, rng.nextFloat() < 0.25f);
+      }
+    }
+    random.setBlocked(0, 0, false);
+    random.setBlocked(999, 999, false);
+    time("random 1000x1000", random, 0, 0, 999, 999);
+  }
+}
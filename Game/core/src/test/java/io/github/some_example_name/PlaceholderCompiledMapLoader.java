@@ -0,0 +1,57 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Compiled map loader for tests, replacing tileset images that are missing from
+ * the repo with a blank texture the same size as the region
+ * {@link PlaceholderTmxMapLoader} uses, so both loaders cut the same tiles.
+ */
+class PlaceholderCompiledMapLoader extends CompiledMapLoader {
+  private final ObjectMap<String, Texture> sharedTextures;
+
+  PlaceholderCompiledMapLoader() {
+    this(null);
+  }
+
+  /**
+   * @param sharedTextures Textures kept between loads, so only the first load of
+   *     each image decodes it. Maps do not own these textures. May be null.
+   */
+  PlaceholderCompiledMapLoader(ObjectMap<String, Texture> sharedTextures) {
+    this.sharedTextures = sharedTextures;
+  }
+
+  @Override
+  public TiledMap load(FileHandle file) {
+    TiledMap map = super.load(file);
+    if (sharedTextures != null) {
+      map.setOwnedResources(null);
+    }
+    return map;
+  }
+
+  @Override
+  protected Texture loadTexture(FileHandle file) {
+    Texture texture = sharedTextures != null ? sharedTextures.get(file.path()) : null;
+    if (texture != null) {
+      return texture;
+    }
+    if (file.exists()) {
+      texture = super.loadTexture(file);
+    } else {
+      int size = PlaceholderTmxMapLoader.PLACEHOLDER_SIZE;
+      Pixmap pixmap = new Pixmap(size, size, Pixmap.Format.Alpha);
+      texture = new Texture(pixmap);
+      pixmap.dispose();
+    }
+    if (sharedTextures != null) {
+      sharedTextures.put(file.path(), texture);
+    }
+    return texture;
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * TMX loader for tests that only care about layers, properties and objects. Some
+ * of the maps in assets/Tile Maps point at tileset images that were never copied
+ * into the repo, so tileset images that do not exist are replaced with a large
+ * placeholder region instead of failing the load.
+ */
+class PlaceholderTmxMapLoader extends TmxMapLoader {
+  static final int PLACEHOLDER_SIZE = 640;
+
+  private final ObjectMap<String, Texture> sharedTextures;
+
+  PlaceholderTmxMapLoader() {
+    this(null);
+  }
+
+  /**
+   * @param sharedTextures Textures kept between loads, so only the first load of
+   *     each image decodes it. Maps do not own these textures. May be null.
+   */
+  PlaceholderTmxMapLoader(ObjectMap<String, Texture> sharedTextures) {
+    this.sharedTextures = sharedTextures;
+  }
+
+  @Override
+  public TiledMap load(String fileName, TmxMapLoader.Parameters parameter) {
+    FileHandle tmxFile = resolve(fileName);
+    this.root = xml.parse(tmxFile);
+
+    ObjectMap<String, Texture> textures = sharedTextures != null ? sharedTextures : new ObjectMap<>();
+    for (FileHandle textureFile : getDependencyFileHandles(tmxFile)) {
+      if (textureFile.exists() && !textures.containsKey(textureFile.path())) {
+        textures.put(textureFile.path(), new Texture(textureFile));
+      }
+    }
+
+    if (!textures.containsKey("")) {
+      Pixmap pixel = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+      textures.put("", new Texture(pixel));
+      pixel.dispose();
+    }
+    Texture placeholder = textures.get("");
+
+    TiledMap map = loadTiledMap(tmxFile, parameter, name -> {
+      Texture texture = textures.get(name);
+      if (texture != null) {
+        return new TextureRegion(texture);
+      }
+      return new TextureRegion(placeholder, 0, 0, PLACEHOLDER_SIZE, PLACEHOLDER_SIZE);
+    });
+    if (sharedTextures == null) {
+      map.setOwnedResources(textures.values().toArray());
+    }
+    return map;
+  }
+}
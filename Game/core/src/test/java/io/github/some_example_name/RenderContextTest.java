@@ -0,0 +1,66 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RenderContextTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  @Test
+  void fontsAreScaledCopiesOfTheAtlasFont() {
+    HeadlessGame game = new HeadlessGame();
+    game.create();
+    RenderContext context = game.getRenderContext();
+    Texture atlas = game.getAssets().getAtlas().getTextures().first();
+
+    assertSame(game.getAssets().getDefaultFont(), context.getFont());
+    assertEquals(1f, context.getFont().getData().scaleX);
+    assertEquals(RenderContext.MENU_FONT_SCALE, context.getMenuFont().getData().scaleX);
+    assertEquals(RenderContext.TITLE_FONT_SCALE, context.getTitleFont().getData().scaleX);
+    assertSame(atlas, context.getMenuFont().getRegion().getTexture());
+    assertSame(atlas, context.getTitleFont().getRegion().getTexture());
+    assertSame(game.getAssets().getSkin(), context.getSkin());
+    game.dispose();
+  }
+
+  @Test
+  void changingScreenAllocatesNoGlResources() {
+    HeadlessGame game = new HeadlessGame();
+    game.create();
+    game.getAssets().finishLoading();
+    GL20 gl = Gdx.gl;
+    Mockito.clearInvocations(gl);
+    int textures = Texture.getNumManagedTextures();
+
+    Screen[] screens = {
+      new MenuScreen(game), new LoadingScreen(game), new GameScreen(game),
+      new WinScreen(game, 300, 300, 0, null), new GameOverScreen(game), new LeaderBoard(game, null)
+    };
+    for (Screen screen : screens) {
+      game.setScreen(screen);
+    }
+
+    verify(gl, never()).glGenBuffer();
+    verify(gl, never()).glGenTexture();
+    verify(gl, never()).glCreateProgram();
+    verify(gl, never()).glCreateShader(anyInt());
+    assertEquals(textures, Texture.getNumManagedTextures());
+
+    for (Screen screen : screens) {
+      screen.dispose();
+    }
+    game.dispose();
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.some_example_name;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prints how long a batch of 10,000 won rounds takes to verify on every core.
+ * Run with ./gradlew :core:benchmark
+ */
+@Tag("benchmark")
+class ScoreVerifierBenchmarkTest {
+  private static final int SUBMISSIONS = 10000;
+  private static final int DISTINCT_ROUNDS = 50;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  @Test
+  void verifyTenThousandReplays() {
+    TiledMap map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+    ScoreVerifier verifier = ScoreVerifier.forMap(GameAssets.MAP, map, ForkJoinPool.commonPool());
+    Array<InputRecording> rounds = new Array<>();
+    long bytes = 0;
+    for (int i = 0; i < DISTINCT_ROUNDS; i++) {
+      InputRecording run = ScoreVerifierTest.wonRound(map, i);
+      rounds.add(run);
+      bytes += run.getSizeInBytes();
+    }
+    map.dispose();
+    Array<InputRecording> batch = new Array<>(SUBMISSIONS);
+    long steps = 0;
+    for (int i = 0; i < SUBMISSIONS; i++) {
+      batch.add(rounds.get(i % DISTINCT_ROUNDS));
+      steps += batch.peek().getSteps();
+    }
+
+    // warm up before timing
+    verifier.verifyAll(rounds);
+    long start = System.nanoTime();
+    int[] scores = verifier.verifyAll(batch);
+    double seconds = (System.nanoTime() - start) / 1e9;
+    int accepted = 0;
+    for (int score : scores) {
+      if (score != ScoreVerifier.REJECTED) {
+        accepted++;
+      }
+    }
+    System.out.printf("%d replays (%d steps, %d bytes a replay) verified in %.2f s on %d threads: %.0f replays/s, %d accepted%n",
+      SUBMISSIONS, steps, bytes / DISTINCT_ROUNDS, seconds, ForkJoinPool.commonPool().getParallelism(),
+      SUBMISSIONS / seconds, accepted);
+  }
+}
@@ -0,0 +1,95 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreVerifierTest {
+  private static TiledMap map;
+
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+    map = new PlaceholderTmxMapLoader().load(GameAssets.MAP);
+  }
+
+  /** A round won by the bot, wandering at random now and then, recorded with its score. */
+  static InputRecording wonRound(TiledMap map, long seed) {
+    GameWorld world = GameWorld.headless(map);
+    AutoplayBot bot = new AutoplayBot(true);
+    Random random = new Random(seed);
+    InputRecording run = new InputRecording(GameAssets.MAP, seed);
+    int keys = 0;
+    while (world.getOutcome() == GameWorld.PLAYING) {
+      if (world.getSteps() % 30 == 0) {
+        keys = random.nextFloat() < 0.2f ? random.nextInt(GameWorld.INTERACT << 1) : -1;
+      }
+      int step = keys >= 0 ? keys : bot.nextKeys(world);
+      run.record(step);
+      world.step(step);
+    }
+    assertEquals(GameWorld.WON, world.getOutcome());
+    run.setScore(world.calculateFinalScore());
+    return run;
+  }
+
+  @Test
+  void earnedScoreIsAccepted() {
+    InputRecording run = wonRound(map, 1);
+    ScoreVerifier verifier = ScoreVerifier.forMap(GameAssets.MAP, map, ForkJoinPool.commonPool());
+    assertEquals(run.getScore(), verifier.verify(run));
+    assertTrue(run.getScore() > 0);
+  }
+
+  @Test
+  void editedOrUnplayedScoresAreRejected() {
+    ScoreVerifier verifier = ScoreVerifier.forMap(GameAssets.MAP, map, ForkJoinPool.commonPool());
+    InputRecording run = wonRound(map, 2);
+    int earned = run.getScore();
+
+    run.setScore(459);
+    assertEquals(ScoreVerifier.REJECTED, verifier.verify(run), "raised score");
+    run.setScore(earned - 1);
+    assertEquals(ScoreVerifier.REJECTED, verifier.verify(run), "lowered score");
+
+    InputRecording idle = new InputRecording(GameAssets.MAP, 0);
+    idle.record(0);
+    idle.setScore(0);
+    assertEquals(ScoreVerifier.REJECTED, verifier.verify(idle), "round not won");
+
+    run.setScore(earned);
+    run.record(GameWorld.LEFT);
+    assertEquals(ScoreVerifier.REJECTED, verifier.verify(run), "steps after the win");
+
+    InputRecording otherMap = new InputRecording("Tile Maps/Game Map.tmx", 0);
+    otherMap.setScore(earned);
+    assertEquals(ScoreVerifier.REJECTED, verifier.verify(otherMap));
+    assertEquals(ScoreVerifier.REJECTED, verifier.verify(null));
+  }
+
+  @Test
+  void batchMatchesOneAtATime() {
+    ScoreVerifier verifier = ScoreVerifier.forMap(GameAssets.MAP, map, new ForkJoinPool(4));
+    Array<InputRecording> runs = new Array<>();
+    for (int i = 0; i < 6; i++) {
+      runs.add(wonRound(map, 10 + i));
+    }
+    runs.get(3).setScore(runs.get(3).getScore() + 10);
+    // the same recording may be submitted more than once
+    for (int i = 0; i < 40; i++) {
+      runs.add(runs.get(i % 6));
+    }
+
+    int[] scores = verifier.verifyAll(runs);
+    assertEquals(runs.size, scores.length);
+    for (int i = 0; i < runs.size; i++) {
+      assertEquals(verifier.verify(runs.get(i)), scores[i], "recording " + i);
+      assertEquals(i % 6 == 3 ? ScoreVerifier.REJECTED : runs.get(i).getScore(), scores[i]);
+    }
+  }
+}
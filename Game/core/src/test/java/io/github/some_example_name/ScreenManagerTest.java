@@ -0,0 +1,99 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+class ScreenManagerTest {
+  private HeadlessGame game;
+
+  @BeforeAll
+  static void setUpGdx() {
+    HeadlessGdx.init();
+  }
+
+  @BeforeEach
+  void setUp() {
+    game = new HeadlessGame();
+    game.create();
+  }
+
+  @AfterEach
+  void tearDown() {
+    game.dispose();
+  }
+
+  @Test
+  void longLivedScreensAreKept() {
+    Screen menu = game.getScreen();
+    assertTrue(menu instanceof MenuScreen);
+    game.getScreens().showLeaderBoard(null);
+    game.getScreens().showMenu();
+    assertSame(menu, game.getScreen());
+  }
+
+  @Test
+  void replacedRoundScreensAreDisposed() {
+    Screen round = Mockito.mock(Screen.class);
+    game.getScreens().show(round);
+    game.getScreens().showMenu();
+    verify(round).dispose();
+
+    // the round screen is not disposed again when it is not the one being replaced
+    game.getScreens().showGameOver();
+    verify(round).dispose();
+  }
+
+  @Test
+  void startGameWaitsForLoading() {
+    game.getScreens().startGame();
+    if (!game.getAssets().isFinished()) {
+      assertTrue(game.getScreen() instanceof LoadingScreen);
+    }
+    game.getAssets().finishLoading();
+    game.getScreens().startGame();
+    assertTrue(game.getScreen() instanceof GameScreen);
+  }
+
+  @Test
+  void playAgainResetsRoundWithoutReloading() {
+    game.getAssets().finishLoading();
+    game.getScreens().startGame();
+    GameScreen screen = (GameScreen) game.getScreen();
+    TiledMap map = screen.tiledMap;
+    StaticTiledMapRenderer renderer = screen.mapRenderer;
+
+    // play part of a round
+    screen.getPlayer().getPosition().set(300, 300);
+    screen.getPlayer().setDirection(Player.Direction.RIGHT);
+    screen.getDean().resetToStart(1);
+    screen.getBusTicket().discover();
+    screen.getBusTicket().collect();
+    screen.getGameTimer().decrementTimer(100f);
+    game.getScreens().showWin(100, 200, 0, null);
+    game.getScreens().showMenu();
+
+    long start = System.nanoTime();
+    game.getScreens().startGame();
+    long elapsed = System.nanoTime() - start;
+
+    assertSame(screen, game.getScreen());
+    assertSame(map, screen.tiledMap);
+    assertSame(renderer, screen.mapRenderer);
+    assertEquals(GameWorld.PLAYER_X, screen.getPlayer().getPosition().x);
+    assertEquals(GameWorld.PLAYER_Y, screen.getPlayer().getPosition().y);
+    assertEquals(96, screen.getDean().getPosition().x);
+    assertEquals(450, screen.getDean().getPosition().y);
+    assertFalse(screen.getBusTicket().isCollected());
+    assertFalse(screen.getLocker().isBoostActive());
+    assertEquals(300f, screen.getGameTimer().getTimeLeft());
+    assertEquals(0, screen.getTimesCaughtByDean());
+    assertTrue(elapsed < 50_000_000L, "reset took " + elapsed / 1e6 + " ms");
+  }
+}
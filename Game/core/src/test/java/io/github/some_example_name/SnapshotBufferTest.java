@@ -0,0 +1,94 @@
+package io.github.some_example_name;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotBufferTest {
+  private static final int STEPS = 1000000;
+  private static final int ENTITIES = 8;
+
+  /** Fills every field of a snapshot from its step, so a torn one does not add up. */
+  private static void fill(WorldSnapshot snapshot, long step) {
+    snapshot.step = step;
+    snapshot.timeNanos = step * 7;
+    for (int i = 0; i < ENTITIES; i++) {
+      snapshot.x[i] = step + i;
+      snapshot.y[i] = -step;
+      snapshot.previousX[i] = step - 1 + i;
+      snapshot.previousY[i] = 1 - step;
+    }
+    snapshot.timeLeft = step % 1000;
+    snapshot.timesCaught = (int) step;
+    snapshot.paused = step % 2 == 0;
+    snapshot.canPickUpTicket = step % 3 == 0;
+    snapshot.ticketCollected = step % 5 == 0;
+  }
+
+  private static void assertWhole(WorldSnapshot snapshot) {
+    long step = snapshot.step;
+    assertEquals(step * 7, snapshot.timeNanos);
+    for (int i = 0; i < ENTITIES; i++) {
+      assertEquals((float) (step + i), snapshot.x[i]);
+      assertEquals((float) -step, snapshot.y[i]);
+      assertEquals((float) (step - 1 + i), snapshot.previousX[i]);
+      assertEquals((float) (1 - step), snapshot.previousY[i]);
+    }
+    assertEquals((float) (step % 1000), snapshot.timeLeft);
+    assertEquals((int) step, snapshot.timesCaught);
+    assertEquals(step % 2 == 0, snapshot.paused);
+    assertEquals(step % 3 == 0, snapshot.canPickUpTicket);
+    assertEquals(step % 5 == 0, snapshot.ticketCollected);
+  }
+
+  @Test
+  void readerOnlySeesLatestAndWhole() {
+    SnapshotBuffer<WorldSnapshot> buffer = new SnapshotBuffer<>(() -> new WorldSnapshot(ENTITIES));
+    WorldSnapshot first = buffer.acquire();
+    assertSame(first, buffer.acquire(), "nothing published");
+
+    fill(buffer.getWriteBuffer(), 1);
+    buffer.publish();
+    fill(buffer.getWriteBuffer(), 2);
+    buffer.publish();
+    WorldSnapshot latest = buffer.acquire();
+    assertEquals(2, latest.step, "older snapshots are skipped");
+    assertSame(latest, buffer.acquire(), "kept until the next is published");
+    assertNotSame(latest, buffer.getWriteBuffer());
+  }
+
+  @Test
+  void snapshotsAreNeverTornUnderContention() throws InterruptedException {
+    SnapshotBuffer<WorldSnapshot> buffer = new SnapshotBuffer<>(() -> new WorldSnapshot(ENTITIES));
+    for (int i = 0; i < 3; i++) {
+      fill(buffer.getWriteBuffer(), 0);
+      buffer.publish();
+    }
+    AtomicBoolean done = new AtomicBoolean();
+    Thread writer = new Thread(() -> {
+      for (long step = 1; step <= STEPS; step++) {
+        fill(buffer.getWriteBuffer(), step);
+        buffer.publish();
+      }
+      done.set(true);
+    });
+    writer.start();
+
+    long last = 0;
+    int changes = 0;
+    while (!done.get()) {
+      WorldSnapshot snapshot = buffer.acquire();
+      assertWhole(snapshot);
+      assertTrue(snapshot.step >= last, "went back from step " + last + " to " + snapshot.step);
+      if (snapshot.step != last) {
+        changes++;
+      }
+      last = snapshot.step;
+    }
+    writer.join();
+
+    assertEquals(STEPS, buffer.acquire().step);
+    assertTrue(changes > 1, "reader only saw " + changes + " snapshots");
+  }
+}
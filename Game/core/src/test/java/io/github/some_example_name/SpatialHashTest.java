@@ -0,0 +1,56 @@
+package io.github.some_example_name;
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashTest {
+  @Test
+  void queriesMatchBruteForce() {
+    Random random = new Random(42);
+    SpatialHash<Integer> hash = new SpatialHash<>(16f, 64);
+    int count = 500;
+    float[] x = new float[count];
+    float[] y = new float[count];
+    float[] size = new float[count];
+    int[] handles = new int[count];
+    for (int i = 0; i < count; i++) {
+      x[i] = random.nextFloat() * 1000 - 200;
+      y[i] = random.nextFloat() * 1000 - 200;
+      size[i] = 8 + random.nextInt(3) * 8;
+      handles[i] = hash.add(i, x[i], y[i], size[i], size[i]);
+    }
+    // move half of them so cells change after registration
+    for (int i = 0; i < count; i += 2) {
+      x[i] += random.nextFloat() * 100 - 50;
+      y[i] += random.nextFloat() * 100 - 50;
+      hash.move(handles[i], x[i], y[i]);
+    }
+    hash.remove(handles[1]);
+
+    Array<Integer> found = new Array<>();
+    for (int q = 0; q < 200; q++) {
+      float px = random.nextFloat() * 1000 - 200;
+      float py = random.nextFloat() * 1000 - 200;
+      float radius = random.nextFloat() * 80;
+      hash.queryRadius(px, py, radius, found);
+      for (int i = 0; i < count; i++) {
+        float dx = x[i] - px;
+        float dy = y[i] - py;
+        boolean expected = i != 1 && Math.sqrt(dx * dx + dy * dy) < radius;
+        assertEquals(expected, found.contains(i, false), "radius query entity " + i);
+      }
+
+      Rectangle rect = new Rectangle(px, py, random.nextFloat() * 100, random.nextFloat() * 100);
+      hash.queryRect(rect, found);
+      for (int i = 0; i < count; i++) {
+        boolean expected = i != 1 && rect.overlaps(new Rectangle(x[i], y[i], size[i], size[i]));
+        assertEquals(expected, found.contains(i, false), "rect query entity " + i);
+      }
+    }
+    assertEquals(count - 1, hash.size());
+  }
+}
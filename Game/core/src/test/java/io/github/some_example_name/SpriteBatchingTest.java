@@ -0,0 +1,120 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts sprite batch flushes for the sprites and HUD text <code> GameScreen </code>
+ * draws each frame, with a texture per sprite as the game used to load them and
+ * with everything drawn from the packed atlas.
+ */
+class SpriteBatchingTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  private static SpriteBatch newBatch() {
+    return new SpriteBatch(1000, Mockito.mock(ShaderProgram.class));
+  }
+
+  private static TextureRegion load(String file, Array<Texture> textures) {
+    Texture texture = new Texture(file);
+    textures.add(texture);
+    return new TextureRegion(texture);
+  }
+
+  /** Draws the world sprites, then the HUD text and timer label in screen coordinates. */
+  private static void drawFrame(SpriteBatch batch, OrthographicCamera camera, OrthographicCamera ui, BitmapFont font,
+      Label timer, Player player, Dean dean, NPC friend, Locker locker, BusTicket ticket) {
+    batch.setProjectionMatrix(camera.combined);
+    batch.begin();
+    ticket.render(batch);
+    font.draw(batch, "Press E to pick up", 95, 100);
+    locker.render(batch);
+    dean.render(batch);
+    friend.render(batch);
+    player.render(batch);
+    batch.setProjectionMatrix(ui.combined);
+    font.draw(batch, "Positive Event Encountered = 0/1", 35, 630);
+    font.draw(batch, "Negative Event Encountered = 0/1", 35, 610);
+    font.draw(batch, "Hidden Event Encountered = 0/1", 35, 590);
+    timer.draw(batch, 1f);
+    batch.end();
+  }
+
+  @Test
+  void atlasDrawsFrameInOneFlushPerProjection() {
+    OrthographicCamera camera = new OrthographicCamera(640, 640);
+    OrthographicCamera ui = new OrthographicCamera(640, 640);
+
+    // before: a texture per sprite, the default font's own page and the skin's own atlas
+    Array<Texture> textures = new Array<>();
+    BitmapFont ownFont = new BitmapFont();
+    Skin ownSkin = new Skin(Gdx.files.internal(GameAssets.UI_SKIN));
+    Player player = new Player(GameWorld.PLAYER_X, GameWorld.PLAYER_Y, load("Player-front.png", textures), load("Player-back.png", textures),
+      load("Player-side.png", textures));
+    BusTicket ticket = new BusTicket(120, 80, load("bus-ticket.png", textures));
+    ticket.discover();
+    SpriteBatch before = newBatch();
+    drawFrame(before, camera, ui, ownFont, new Label("5:00", ownSkin), player,
+      new Dean(96, 450, load("Dean-front.png", textures), player, null),
+      new NPC(560, 300, load("NPC.png", textures), ownFont),
+      new Locker(495, 575, load("locker.png", textures), ownFont), ticket);
+
+    // after: everything from the atlas
+    GameAssets assets = new GameAssets();
+    assets.queueGameAssets();
+    assets.finishLoading();
+    BitmapFont font = assets.getDefaultFont();
+    player = new Player(GameWorld.PLAYER_X, GameWorld.PLAYER_Y, assets.getRegion(GameAssets.PLAYER_FRONT), assets.getRegion(GameAssets.PLAYER_BACK),
+      assets.getRegion(GameAssets.PLAYER_SIDE));
+    ticket = new BusTicket(120, 80, assets.getRegion(GameAssets.BUS_TICKET));
+    ticket.discover();
+    SpriteBatch after = newBatch();
+    drawFrame(after, camera, ui, font, new Label("5:00", assets.getSkin()), player,
+      new Dean(96, 450, assets.getRegion(GameAssets.DEAN), player, null),
+      new NPC(560, 300, assets.getRegion(GameAssets.NPC), font),
+      new Locker(495, 575, assets.getRegion(GameAssets.LOCKER), font), ticket);
+
+    assertTrue(before.totalRenderCalls > 2);
+    // one flush for the world and one for the HUD, which only differ in projection
+    assertEquals(2, after.totalRenderCalls);
+
+    before.dispose();
+    after.dispose();
+    ownFont.dispose();
+    ownSkin.dispose();
+    for (Texture texture : textures) {
+      texture.dispose();
+    }
+    assets.dispose();
+  }
+
+  @Test
+  void playerFlipsItsOwnCopyOfSharedRegions() {
+    GameAssets assets = new GameAssets();
+    assets.queueGameAssets();
+    assets.finishLoading();
+    TextureRegion side = assets.getRegion(GameAssets.PLAYER_SIDE);
+    boolean flipped = side.isFlipX();
+    Player player = new Player(0, 0, assets.getRegion(GameAssets.PLAYER_FRONT), assets.getRegion(GameAssets.PLAYER_BACK), side);
+    player.setDirection(Player.Direction.RIGHT);
+    player.setDirection(Player.Direction.LEFT);
+    player.setDirection(Player.Direction.RIGHT);
+    assertEquals(flipped, side.isFlipX());
+    assets.dispose();
+  }
+}
@@ -0,0 +1,57 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.ObjectSet;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticTiledMapRendererTest {
+  @BeforeAll
+  static void setUp() {
+    HeadlessGdx.init();
+  }
+
+  @Test
+  void drawCallsPerLayerNotPerTile() {
+    TiledMap map = new TmxMapLoader().load("Tile Maps/Final Game Map - Maze.tmx");
+    StaticTiledMapRenderer renderer = new StaticTiledMapRenderer(map, 1f, Mockito.mock(ShaderProgram.class));
+
+    int fewest = 0;
+    int perTexture = 0;
+    ObjectSet<Texture> textures = new ObjectSet<>();
+    for (MapLayer mapLayer : map.getLayers()) {
+      if (!(mapLayer instanceof TiledMapTileLayer) || !mapLayer.isVisible()) {
+        continue;
+      }
+      TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+      textures.clear();
+      for (int y = 0; y < layer.getHeight(); y++) {
+        for (int x = 0; x < layer.getWidth(); x++) {
+          TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+          if (cell != null && cell.getTile() != null) {
+            textures.add(cell.getTile().getTextureRegion().getTexture());
+          }
+        }
+      }
+      // a layer needs another draw call for every MAX_TEXTURES tilesets it mixes
+      fewest += (textures.size + StaticTiledMapRenderer.MAX_TEXTURES - 1) / StaticTiledMapRenderer.MAX_TEXTURES;
+      perTexture += textures.size;
+    }
+
+    int drawCalls = renderer.getDrawCallCount();
+    assertTrue(fewest > 0);
+    assertTrue(drawCalls >= fewest && drawCalls < perTexture, drawCalls + " draw calls");
+
+    map.getLayers().get("maze walls").setVisible(false);
+    assertTrue(renderer.getDrawCallCount() < drawCalls);
+    renderer.dispose();
+    map.dispose();
+  }
+}
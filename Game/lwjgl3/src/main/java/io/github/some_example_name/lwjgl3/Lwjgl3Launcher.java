@@ -2,6 +2,8 @@ package io.github.some_example_name.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import io.github.some_example_name.AutoplayBot;
+import io.github.some_example_name.GameScreen;
 import io.github.some_example_name.Main;
 
 /** Launches the desktop (LWJGL3) application. */
@@ -9,10 +11,18 @@ public class Lwjgl3Launcher {
     
     /**   
      * Create application.
-     * @param args Arguments for app.
+     * @param args Arguments for app; --threaded-simulation runs the game world on a thread of its own,
+     * and --autoplay lets the bot play round after round to soak the game.
      */  
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
+        for (String arg : args) {
+            if (arg.equals("--threaded-simulation")) {
+                System.setProperty(GameScreen.THREADED_SIMULATION, "true");
+            } else if (arg.equals("--autoplay")) {
+                System.setProperty(AutoplayBot.AUTOPLAY, "true");
+            }
+        }
         createApplication();
     }
 